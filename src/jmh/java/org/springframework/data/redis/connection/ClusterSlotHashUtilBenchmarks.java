@@ -0,0 +1,67 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import java.nio.charset.StandardCharsets;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.redis.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmarks for {@link ClusterSlotHashUtil} slot calculation with plain and hash-tagged keys.
+ *
+ * @author Mark Paluch
+ */
+public class ClusterSlotHashUtilBenchmarks extends AbstractMicrobenchmark {
+
+	@Param({ "16", "64", "256" })
+	int keyLength;
+
+	String key;
+	byte[] rawKey;
+	byte[] hashTaggedKey;
+
+	@Setup
+	public void setUp() {
+
+		StringBuilder builder = new StringBuilder("user:");
+
+		while (builder.length() < keyLength) {
+			builder.append((char) ('a' + builder.length() % 26));
+		}
+
+		key = builder.toString();
+		rawKey = key.getBytes(StandardCharsets.UTF_8);
+		hashTaggedKey = ("{user:4711}:" + key).getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public int calculateSlot() {
+		return ClusterSlotHashUtil.calculateSlot(rawKey);
+	}
+
+	@Benchmark
+	public int calculateSlotForHashTag() {
+		return ClusterSlotHashUtil.calculateSlot(hashTaggedKey);
+	}
+
+	@Benchmark
+	public int calculateSlotForString() {
+		return ClusterSlotHashUtil.calculateSlot(key);
+	}
+}
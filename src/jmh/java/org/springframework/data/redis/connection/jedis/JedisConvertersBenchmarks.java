@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.jedis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.redis.connection.RedisZSetCommands.Tuple;
+import org.springframework.data.redis.core.types.RedisClientInfo;
+import org.springframework.data.redis.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmarks for {@link JedisConverters} converting command results.
+ *
+ * @author Mark Paluch
+ */
+public class JedisConvertersBenchmarks extends AbstractMicrobenchmark {
+
+	static final int SIZE = 100;
+
+	Set<redis.clients.jedis.Tuple> tuples = new LinkedHashSet<>(SIZE);
+	Map<String, String> stringMap = new HashMap<>(SIZE);
+	List<String> strings = new ArrayList<>(SIZE);
+	List<byte[]> bytes = new ArrayList<>(SIZE);
+	String clientList;
+
+	@Setup
+	public void setUp() {
+
+		StringBuilder clients = new StringBuilder();
+
+		for (int i = 0; i < SIZE; i++) {
+
+			byte[] value = ("value-" + i).getBytes(StandardCharsets.UTF_8);
+
+			tuples.add(new redis.clients.jedis.Tuple(value, i * 1.5));
+			stringMap.put("field-" + i, "value-" + i);
+			strings.add("value-" + i);
+			bytes.add(value);
+
+			clients.append("id=").append(i).append(" addr=127.0.0.1:").append(50000 + i)
+					.append(" fd=8 name= age=855 idle=0 flags=N db=0 sub=0 psub=0 multi=-1 qbuf=0 qbuf-free=32768")
+					.append(" obl=0 oll=0 omem=0 events=r cmd=client\n");
+		}
+
+		clientList = clients.toString();
+	}
+
+	@Benchmark
+	public Set<Tuple> toTupleSet() {
+		return JedisConverters.toTupleSet(tuples);
+	}
+
+	@Benchmark
+	public Map<byte[], byte[]> stringMapToByteMap() {
+		return JedisConverters.stringMapToByteMap().convert(stringMap);
+	}
+
+	@Benchmark
+	public List<byte[]> stringListToByteList() {
+		return JedisConverters.stringListToByteList().convert(strings);
+	}
+
+	@Benchmark
+	public List<String> toStrings() {
+		return JedisConverters.toStrings(bytes);
+	}
+
+	@Benchmark
+	public List<RedisClientInfo> toListOfRedisClientInformation() {
+		return JedisConverters.toListOfRedisClientInformation(clientList);
+	}
+
+	@Benchmark
+	public byte[] toBytes() {
+		return JedisConverters.toBytes(4711.25);
+	}
+}
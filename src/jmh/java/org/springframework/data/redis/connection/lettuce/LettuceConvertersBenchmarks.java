@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import io.lettuce.core.ScoredValue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.redis.connection.RedisZSetCommands.Tuple;
+import org.springframework.data.redis.core.types.RedisClientInfo;
+import org.springframework.data.redis.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmarks for {@link LettuceConverters} converting command results.
+ *
+ * @author Mark Paluch
+ */
+public class LettuceConvertersBenchmarks extends AbstractMicrobenchmark {
+
+	static final int SIZE = 100;
+
+	List<ScoredValue<byte[]>> scoredValues = new ArrayList<>(SIZE);
+	List<byte[]> valuesWithScores = new ArrayList<>(SIZE * 2);
+	List<byte[]> keysAndValues = new ArrayList<>(SIZE * 2);
+	String clientList;
+	String info;
+
+	@Setup
+	public void setUp() {
+
+		StringBuilder clients = new StringBuilder();
+		StringBuilder properties = new StringBuilder("# Server\r\n");
+
+		for (int i = 0; i < SIZE; i++) {
+
+			byte[] value = ("value-" + i).getBytes(StandardCharsets.UTF_8);
+
+			scoredValues.add(ScoredValue.fromNullable(i * 1.5, value));
+			valuesWithScores.add(value);
+			valuesWithScores.add(Double.toString(i * 1.5).getBytes(StandardCharsets.UTF_8));
+			keysAndValues.add(("field-" + i).getBytes(StandardCharsets.UTF_8));
+			keysAndValues.add(value);
+
+			clients.append("id=").append(i).append(" addr=127.0.0.1:").append(50000 + i)
+					.append(" fd=8 name= age=855 idle=0 flags=N db=0 sub=0 psub=0 multi=-1 qbuf=0 qbuf-free=32768")
+					.append(" obl=0 oll=0 omem=0 events=r cmd=client\n");
+			properties.append("property_").append(i).append(':').append(i).append("\r\n");
+		}
+
+		clientList = clients.toString();
+		info = properties.toString();
+	}
+
+	@Benchmark
+	public Set<Tuple> toTupleSet() {
+		return LettuceConverters.toTupleSet(scoredValues);
+	}
+
+	@Benchmark
+	public List<Tuple> toTupleList() {
+		return LettuceConverters.toTuple(valuesWithScores);
+	}
+
+	@Benchmark
+	public Map<byte[], byte[]> toMap() {
+		return LettuceConverters.toMap(keysAndValues);
+	}
+
+	@Benchmark
+	public Set<byte[]> toBytesSet() {
+		return LettuceConverters.toBytesSet(valuesWithScores);
+	}
+
+	@Benchmark
+	public List<RedisClientInfo> toListOfRedisClientInformation() {
+		return LettuceConverters.toListOfRedisClientInformation(clientList);
+	}
+
+	@Benchmark
+	public Properties toProperties() {
+		return LettuceConverters.toProperties(info);
+	}
+
+	@Benchmark
+	public byte[] toBytes() {
+		return LettuceConverters.toBytes(4711.25);
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.convert;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmarks for {@link MappingRedisConverter} and {@link Bucket} using flat entities and entities with nested
+ * objects, collections and maps.
+ *
+ * @author Mark Paluch
+ */
+public class MappingRedisConverterBenchmarks extends AbstractMicrobenchmark {
+
+	@Param({ "flat", "nested", "collection", "map" })
+	String shape;
+
+	MappingRedisConverter converter;
+	Person person;
+	RedisData written;
+	Bucket bucket;
+
+	@Setup
+	public void setUp() {
+
+		converter = new MappingRedisConverter(new RedisMappingContext(), null, null);
+		converter.afterPropertiesSet();
+
+		person = createPerson(shape);
+		written = write();
+		bucket = written.getBucket();
+	}
+
+	@Benchmark
+	public RedisData write() {
+
+		RedisData sink = new RedisData();
+		converter.write(person, sink);
+
+		return sink;
+	}
+
+	@Benchmark
+	public Person read() {
+		return converter.read(Person.class, written);
+	}
+
+	@Benchmark
+	public Map<byte[], byte[]> rawMap() {
+		return bucket.rawMap();
+	}
+
+	private static Person createPerson(String shape) {
+
+		Person person = new Person();
+		person.setId("4711");
+		person.setFirstname("Walter");
+		person.setLastname("White");
+		person.setAge(50);
+		person.setActive(true);
+
+		switch (shape) {
+			case "nested":
+				person.setAddress(createAddress(0));
+				break;
+			case "collection":
+
+				List<String> nicknames = new ArrayList<>();
+				List<Address> addresses = new ArrayList<>();
+
+				for (int i = 0; i < 10; i++) {
+					nicknames.add("nickname-" + i);
+				}
+
+				for (int i = 0; i < 3; i++) {
+					addresses.add(createAddress(i));
+				}
+
+				person.setNicknames(nicknames);
+				person.setAddresses(addresses);
+				break;
+			case "map":
+
+				Map<String, String> attributes = new LinkedHashMap<>();
+				Map<String, Address> addressesByType = new LinkedHashMap<>();
+
+				for (int i = 0; i < 10; i++) {
+					attributes.put("attribute-" + i, "value-" + i);
+				}
+
+				for (int i = 0; i < 3; i++) {
+					addressesByType.put("type-" + i, createAddress(i));
+				}
+
+				person.setAttributes(attributes);
+				person.setAddressesByType(addressesByType);
+				break;
+		}
+
+		return person;
+	}
+
+	private static Address createAddress(int number) {
+
+		Address address = new Address();
+		address.setStreet("Negra Arroyo Lane " + number);
+		address.setCity("Albuquerque");
+		address.setZip("87111");
+
+		return address;
+	}
+
+	@Data
+	@RedisHash("persons")
+	public static class Person {
+
+		@Id String id;
+		String firstname;
+		String lastname;
+		int age;
+		boolean active;
+		Address address;
+		List<String> nicknames;
+		List<Address> addresses;
+		Map<String, String> attributes;
+		Map<String, Address> addressesByType;
+	}
+
+	@Data
+	public static class Address {
+
+		String street;
+		String city;
+		String zip;
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.redis.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmarks comparing {@link GenericToStringSerializer} with {@link LongRedisSerializer} and
+ * {@link DoubleRedisSerializer}.
+ *
+ * @author Mark Paluch
+ */
+public class NumberSerializerBenchmarks extends AbstractMicrobenchmark {
+
+	GenericToStringSerializer<Long> genericLongSerializer = new GenericToStringSerializer<>(Long.class);
+	GenericToStringSerializer<Double> genericDoubleSerializer = new GenericToStringSerializer<>(Double.class);
+	LongRedisSerializer longSerializer = LongRedisSerializer.INSTANCE;
+	DoubleRedisSerializer doubleSerializer = DoubleRedisSerializer.INSTANCE;
+
+	long longValue = 1546300800123L;
+	double doubleValue = 4711.25;
+
+	byte[] serializedLong;
+	byte[] serializedDouble;
+
+	@Setup
+	public void setUp() {
+
+		serializedLong = longSerializer.serializeLong(longValue);
+		serializedDouble = doubleSerializer.serializeDouble(doubleValue);
+	}
+
+	@Benchmark
+	public byte[] serializeLongGeneric() {
+		return genericLongSerializer.serialize(longValue);
+	}
+
+	@Benchmark
+	public byte[] serializeLong() {
+		return longSerializer.serializeLong(longValue);
+	}
+
+	@Benchmark
+	public Long deserializeLongGeneric() {
+		return genericLongSerializer.deserialize(serializedLong);
+	}
+
+	@Benchmark
+	public long deserializeLong() {
+		return longSerializer.deserializeLong(serializedLong);
+	}
+
+	@Benchmark
+	public byte[] serializeDoubleGeneric() {
+		return genericDoubleSerializer.serialize(doubleValue);
+	}
+
+	@Benchmark
+	public byte[] serializeDouble() {
+		return doubleSerializer.serializeDouble(doubleValue);
+	}
+
+	@Benchmark
+	public Double deserializeDoubleGeneric() {
+		return genericDoubleSerializer.deserialize(serializedDouble);
+	}
+
+	@Benchmark
+	public double deserializeDouble() {
+		return doubleSerializer.deserializeDouble(serializedDouble);
+	}
+}
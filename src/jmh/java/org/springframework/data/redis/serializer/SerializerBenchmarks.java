@@ -0,0 +1,143 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import lombok.Data;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.microbenchmark.AbstractMicrobenchmark;
+import org.springframework.oxm.xstream.XStreamMarshaller;
+
+/**
+ * Benchmarks for {@link RedisSerializer}s writing and reading objects with a varying number of nested elements.
+ *
+ * @author Mark Paluch
+ */
+public class SerializerBenchmarks extends AbstractMicrobenchmark {
+
+	@Param({ "jdk", "jackson", "generic-jackson", "generic-jackson-aliases", "oxm", "mapping-binary", "compressing" })
+	String serializer;
+
+	@Param({ "1", "10", "100" })
+	int items;
+
+	RedisSerializer<Object> redisSerializer;
+	Order order;
+	byte[] serialized;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setUp() throws Exception {
+
+		redisSerializer = (RedisSerializer<Object>) createSerializer(serializer);
+		order = createOrder(items);
+		serialized = redisSerializer.serialize(order);
+	}
+
+	@Benchmark
+	public byte[] serialize() {
+		return redisSerializer.serialize(order);
+	}
+
+	@Benchmark
+	public Object deserialize() {
+		return redisSerializer.deserialize(serialized);
+	}
+
+	private static RedisSerializer<?> createSerializer(String name) throws Exception {
+
+		switch (name) {
+			case "jdk":
+				return new JdkSerializationRedisSerializer();
+			case "jackson":
+				return new Jackson2JsonRedisSerializer<>(Order.class);
+			case "generic-jackson":
+				return new GenericJackson2JsonRedisSerializer();
+			case "generic-jackson-aliases":
+				return new GenericJackson2JsonRedisSerializer(
+						new SimpleTypeAliasRegistry().register(Order.class, "order").register(Item.class, "item"));
+			case "oxm":
+
+				XStreamMarshaller marshaller = new XStreamMarshaller();
+				marshaller.afterPropertiesSet();
+
+				return new OxmSerializer(marshaller, marshaller);
+			case "mapping-binary":
+				return new MappingBinaryRedisSerializer<>(Order.class);
+			case "compressing":
+				return new CompressingRedisSerializer<>(new GenericJackson2JsonRedisSerializer());
+		}
+
+		throw new IllegalArgumentException("Unknown serializer " + name);
+	}
+
+	static Order createOrder(int items) {
+
+		Order order = new Order();
+		order.setId("order-4711");
+		order.setCustomer("Walter White");
+		order.setCreated(1546300800000L);
+		order.setExpress(true);
+		order.setStatus(Status.SHIPPED);
+		order.setItems(new ArrayList<>(items));
+
+		for (int i = 0; i < items; i++) {
+
+			Item item = new Item();
+			item.setSku("sku-" + i);
+			item.setDescription("Item description number " + i);
+			item.setQuantity(i % 5 + 1);
+			item.setPrice(9.99 + i);
+
+			order.getItems().add(item);
+			order.setTotal(order.getTotal() + item.getQuantity() * item.getPrice());
+		}
+
+		return order;
+	}
+
+	public enum Status {
+		NEW, SHIPPED, DELIVERED
+	}
+
+	@Data
+	public static class Order implements Serializable {
+
+		@Id String id;
+		String customer;
+		long created;
+		double total;
+		boolean express;
+		Status status;
+		List<Item> items;
+	}
+
+	@Data
+	public static class Item implements Serializable {
+
+		String sku;
+		String description;
+		int quantity;
+		double price;
+	}
+}
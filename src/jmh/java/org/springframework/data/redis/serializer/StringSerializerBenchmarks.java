@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.util.Arrays;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.redis.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmarks for {@link StringRedisSerializer} and the {@code byte[]} pass-through {@link RedisSerializer} across value
+ * sizes.
+ *
+ * @author Mark Paluch
+ */
+public class StringSerializerBenchmarks extends AbstractMicrobenchmark {
+
+	@Param({ "16", "1024", "65536" })
+	int length;
+
+	RedisSerializer<String> stringSerializer = StringRedisSerializer.UTF_8;
+	RedisSerializer<byte[]> byteArraySerializer = RedisSerializer.byteArray();
+
+	String value;
+	byte[] serialized;
+
+	@Setup
+	public void setUp() {
+
+		char[] chars = new char[length];
+		Arrays.fill(chars, 'x');
+
+		value = new String(chars);
+		serialized = stringSerializer.serialize(value);
+	}
+
+	@Benchmark
+	public byte[] serializeString() {
+		return stringSerializer.serialize(value);
+	}
+
+	@Benchmark
+	public String deserializeString() {
+		return stringSerializer.deserialize(serialized);
+	}
+
+	@Benchmark
+	public byte[] serializeByteArray() {
+		return byteArraySerializer.serialize(serialized);
+	}
+
+	@Benchmark
+	public byte[] deserializeByteArray() {
+		return byteArraySerializer.deserialize(serialized);
+	}
+}
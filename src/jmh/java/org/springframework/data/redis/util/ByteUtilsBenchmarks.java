@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.redis.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmarks for {@link ByteUtils} helpers.
+ *
+ * @author Mark Paluch
+ */
+public class ByteUtilsBenchmarks extends AbstractMicrobenchmark {
+
+	byte[] prefix = "spring:session:sessions:".getBytes(StandardCharsets.UTF_8);
+	byte[] key = "spring:session:sessions:expires:4711-0815".getBytes(StandardCharsets.UTF_8);
+	byte[] path = "address.city.zip.street.number".getBytes(StandardCharsets.UTF_8);
+
+	ByteBuffer heapBuffer;
+	ByteBuffer directBuffer;
+
+	@Setup
+	public void setUp() {
+
+		heapBuffer = ByteBuffer.wrap(key);
+		directBuffer = ByteBuffer.allocateDirect(key.length);
+		directBuffer.put(key).flip();
+	}
+
+	@Benchmark
+	public byte[] concat() {
+		return ByteUtils.concat(prefix, key);
+	}
+
+	@Benchmark
+	public byte[] concatAll() {
+		return ByteUtils.concatAll(prefix, key, path);
+	}
+
+	@Benchmark
+	public byte[][] split() {
+		return ByteUtils.split(path, '.');
+	}
+
+	@Benchmark
+	public byte[][] mergeArrays() {
+		return ByteUtils.mergeArrays(prefix, key, path);
+	}
+
+	@Benchmark
+	public boolean startsWith() {
+		return ByteUtils.startsWith(key, prefix);
+	}
+
+	@Benchmark
+	public int indexOf() {
+		return ByteUtils.indexOf(key, (byte) '-');
+	}
+
+	@Benchmark
+	public byte[] getBytesFromHeapBuffer() {
+		return ByteUtils.getBytes(heapBuffer);
+	}
+
+	@Benchmark
+	public byte[] getBytesFromDirectBuffer() {
+		return ByteUtils.getBytes(directBuffer);
+	}
+
+	@Benchmark
+	public byte[] extractBytes() {
+		return ByteUtils.extractBytes(heapBuffer);
+	}
+
+	@Benchmark
+	public ByteBuffer getByteBuffer() {
+		return ByteUtils.getByteBuffer("spring:session:sessions:4711");
+	}
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * A collection of predefined {@link BatchStrategy} implementations using {@code KEYS} or {@code SCAN} commands.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+public abstract class BatchStrategies {
+
+	private BatchStrategies() {}
+
+	/**
+	 * A {@link BatchStrategy} using a single {@code KEYS} and {@code DEL} command to remove all matching keys.
+	 * {@code KEYS} scans the entire keyspace of the Redis database and can block the Redis worker thread for a long time
+	 * on large keyspaces.
+	 *
+	 * @return a {@link BatchStrategy} using {@code KEYS}.
+	 */
+	public static BatchStrategy keys() {
+		return Keys.INSTANCE;
+	}
+
+	/**
+	 * A {@link BatchStrategy} using {@code SCAN} to incrementally iterate over matching keys and removing them in chunks
+	 * of {@code batchSize} using non-blocking {@code UNLINK}. Matching keys are never materialized as a whole. On
+	 * {@link RedisClusterConnection cluster connections} master nodes are scanned in parallel through the cluster
+	 * connection using a bounded default {@link Executor} shared by all strategies. Nodes exceeding its capacity are
+	 * scanned by the calling thread. Keys are removed using {@code DEL} if the server does not support {@code UNLINK}
+	 * (Redis before 4.0).
+	 *
+	 * @param batchSize {@code COUNT} hint for {@code SCAN} and maximum number of keys per {@code UNLINK}. Must be greater
+	 *          than zero.
+	 * @return a {@link BatchStrategy} using {@code SCAN}.
+	 */
+	public static BatchStrategy scan(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+
+		return new Scan(batchSize, null, ClusterScanExecutorHolder.EXECUTOR);
+	}
+
+	/**
+	 * A {@link BatchStrategy} using {@code SCAN} to incrementally iterate over matching keys and removing them in chunks
+	 * of {@code batchSize} using non-blocking {@code UNLINK}. Matching keys are never materialized as a whole. On
+	 * {@link RedisClusterConnection cluster connections} master nodes are scanned in parallel using the given
+	 * {@link Executor}, each node through its own connection obtained from {@code connectionFactory}. The
+	 * {@link Executor} bounds the number of nodes scanned concurrently. Keys are removed using {@code DEL} if the server
+	 * does not support {@code UNLINK} (Redis before 4.0).
+	 *
+	 * @param batchSize {@code COUNT} hint for {@code SCAN} and maximum number of keys per {@code UNLINK}. Must be greater
+	 *          than zero.
+	 * @param connectionFactory {@link RedisConnectionFactory} to obtain a {@link RedisClusterConnection} per scanned
+	 *          node from. Must not be {@literal null}.
+	 * @param clusterExecutor {@link Executor} used to scan cluster nodes in parallel. Must not be {@literal null}.
+	 * @return a {@link BatchStrategy} using {@code SCAN}.
+	 */
+	public static BatchStrategy scan(int batchSize, RedisConnectionFactory connectionFactory, Executor clusterExecutor) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+		Assert.notNull(connectionFactory, "ConnectionFactory must not be null!");
+		Assert.notNull(clusterExecutor, "Executor must not be null!");
+
+		return new Scan(batchSize, connectionFactory, clusterExecutor);
+	}
+
+	/**
+	 * {@link BatchStrategy} using {@code KEYS}.
+	 */
+	static class Keys implements BatchStrategy {
+
+		static final Keys INSTANCE = new Keys();
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.redis.cache.BatchStrategy#cleanCache(org.springframework.data.redis.connection.RedisConnection, java.lang.String, byte[])
+		 */
+		@Override
+		public long cleanCache(RedisConnection connection, String name, byte[] pattern) {
+
+			byte[][] keys = Optional.ofNullable(connection.keys(pattern)).orElse(Collections.emptySet())
+					.toArray(new byte[0][]);
+
+			if (keys.length > 0) {
+				connection.del(keys);
+			}
+
+			return keys.length;
+		}
+	}
+
+	/**
+	 * {@link BatchStrategy} using {@code SCAN} and {@code UNLINK}.
+	 */
+	static class Scan implements BatchStrategy {
+
+		private final int batchSize;
+		private final @Nullable RedisConnectionFactory connectionFactory;
+		private final Executor clusterExecutor;
+		private volatile boolean unlinkSupported = true;
+
+		Scan(int batchSize, @Nullable RedisConnectionFactory connectionFactory, Executor clusterExecutor) {
+
+			this.batchSize = batchSize;
+			this.connectionFactory = connectionFactory;
+			this.clusterExecutor = clusterExecutor;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.redis.cache.BatchStrategy#cleanCache(org.springframework.data.redis.connection.RedisConnection, java.lang.String, byte[])
+		 */
+		@Override
+		public long cleanCache(RedisConnection connection, String name, byte[] pattern) {
+
+			ScanOptions options = ScanOptions.scanOptions().count(batchSize)
+					.match(new String(pattern, StandardCharsets.UTF_8)).build();
+
+			if (!(connection instanceof RedisClusterConnection)) {
+				return unlinkAll(connection, connection.scan(options));
+			}
+
+			RedisClusterConnection clusterConnection = (RedisClusterConnection) connection;
+			List<RedisClusterNode> masters = new ArrayList<>();
+
+			for (RedisClusterNode node : clusterConnection.clusterGetNodes()) {
+				if (node.isMaster()) {
+					masters.add(node);
+				}
+			}
+
+			List<CompletableFuture<Long>> futures = new ArrayList<>(masters.size());
+
+			for (RedisClusterNode node : masters) {
+				futures.add(CompletableFuture.supplyAsync(() -> cleanNode(clusterConnection, node, options), clusterExecutor));
+			}
+
+			try {
+				return futures.stream().mapToLong(CompletableFuture::join).sum();
+			} catch (CompletionException e) {
+
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+
+				throw e;
+			}
+		}
+
+		/**
+		 * Scan {@code node} through a dedicated connection if a {@link RedisConnectionFactory} is configured. Otherwise,
+		 * the shared cluster connection is used as it dispatches node commands to per-node connections.
+		 */
+		private long cleanNode(RedisClusterConnection clusterConnection, RedisClusterNode node, ScanOptions options) {
+
+			if (connectionFactory == null) {
+				return unlinkAll(clusterConnection, clusterConnection.scan(node, options));
+			}
+
+			RedisClusterConnection connection = connectionFactory.getClusterConnection();
+
+			try {
+				return unlinkAll(connection, connection.scan(node, options));
+			} finally {
+				connection.close();
+			}
+		}
+
+		private long unlinkAll(RedisConnection connection, Cursor<byte[]> cursor) {
+
+			long count = 0;
+			List<byte[]> chunk = new ArrayList<>(batchSize);
+
+			try {
+
+				while (cursor.hasNext()) {
+
+					chunk.add(cursor.next());
+
+					if (chunk.size() == batchSize) {
+						count += unlink(connection, chunk);
+					}
+				}
+
+				count += unlink(connection, chunk);
+			} finally {
+				close(cursor);
+			}
+
+			return count;
+		}
+
+		private long unlink(RedisConnection connection, List<byte[]> keys) {
+
+			if (keys.isEmpty()) {
+				return 0;
+			}
+
+			byte[][] keysToRemove = keys.toArray(new byte[0][]);
+			keys.clear();
+
+			Long removed = null;
+
+			if (unlinkSupported) {
+				try {
+					removed = connection.unlink(keysToRemove);
+				} catch (RuntimeException e) {
+
+					if (!DefaultRedisCacheWriter.exceptionIndicatesUnsupportedCommand(e)) {
+						throw e;
+					}
+
+					// UNLINK requires Redis 4.0. Fall back to DEL from now on.
+					unlinkSupported = false;
+				}
+			}
+
+			if (!unlinkSupported) {
+				removed = connection.del(keysToRemove);
+			}
+
+			return removed != null ? removed : 0;
+		}
+
+		private static void close(Cursor<byte[]> cursor) {
+
+			try {
+				cursor.close();
+			} catch (IOException e) {
+				throw new DataAccessResourceFailureException("Cannot close cursor", e);
+			}
+		}
+	}
+
+	/**
+	 * Lazily created default {@link Executor} for scanning cluster nodes in parallel shared by all {@link Scan}
+	 * strategies. Tasks exceeding the maximum pool size run in the calling thread.
+	 */
+	private static class ClusterScanExecutorHolder {
+
+		static final Executor EXECUTOR;
+
+		static {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("redis-cache-scan-");
+			threadFactory.setDaemon(true);
+
+			EXECUTOR = new ThreadPoolExecutor(0, 4, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory,
+					new ThreadPoolExecutor.CallerRunsPolicy());
+		}
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.springframework.cache.interceptor.SimpleKey;
+
+/**
+ * Encodes cache keys of common types directly into a right-sized {@code byte[]} using UTF-8, bypassing
+ * {@link org.springframework.core.convert.ConversionService} and {@link String} concatenation. The encoded form is
+ * identical to serializing the {@link String} representation of the key with
+ * {@link org.springframework.data.redis.serializer.StringRedisSerializer#UTF_8}. Keys exceeding a configurable length
+ * are replaced by their {@literal SHA-256} digest encoded as URL-safe Base64.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+final class CacheKeyEncoder {
+
+	/**
+	 * Length of a hashed key: 32 bytes of {@literal SHA-256} encoded as URL-safe Base64 without padding.
+	 */
+	static final int DIGEST_LENGTH = 43;
+
+	private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+	private static final int UUID_LENGTH = 36;
+	private static final Base64.Encoder DIGEST_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	private CacheKeyEncoder() {}
+
+	/**
+	 * @param key must not be {@literal null}.
+	 * @param defaultConversion whether keys are converted using the default conversion which resolves to
+	 *          {@link Object#toString()} for {@link Number}s, {@link UUID}s and {@link SimpleKey}s.
+	 * @return {@literal true} if {@code key} can be encoded by {@link #encode(byte[], long, Object, int)}.
+	 */
+	static boolean canEncode(Object key, boolean defaultConversion) {
+		return key instanceof String
+				|| (defaultConversion && (key instanceof Number || key instanceof UUID || key instanceof SimpleKey));
+	}
+
+	/**
+	 * Encode the cache key consisting of {@code prefix}, an optional {@code generation} and {@code key}.
+	 *
+	 * @param prefix the already encoded key prefix. Must not be {@literal null}.
+	 * @param generation the cache generation or a negative value if the cache does not use generational keys.
+	 * @param key the key to encode. Must be {@link #canEncode(Object, boolean) supported}.
+	 * @param hashingThreshold the maximum length of {@code key} that is stored as-is. {@literal 0} to disable hashing.
+	 * @return the encoded cache key.
+	 */
+	static byte[] encode(byte[] prefix, long generation, Object key, int hashingThreshold) {
+
+		int generationLength = generation >= 0 ? digits(generation) + 1 : 0;
+		int offset = prefix.length + generationLength;
+
+		if (isIntegral(key)) {
+
+			long value = ((Number) key).longValue();
+			int length = digits(value);
+
+			if (hashingThreshold <= 0 || length <= hashingThreshold) {
+
+				byte[] target = allocate(prefix, generation, generationLength, length);
+				writeDigits(value, target, offset + length);
+				return target;
+			}
+		} else if (key instanceof UUID && (hashingThreshold <= 0 || UUID_LENGTH <= hashingThreshold)) {
+
+			byte[] target = allocate(prefix, generation, generationLength, UUID_LENGTH);
+			writeUuid((UUID) key, target, offset);
+			return target;
+		}
+
+		String value = key instanceof String ? (String) key : key.toString();
+
+		if (hashingThreshold > 0 && value.length() > hashingThreshold) {
+
+			byte[] target = allocate(prefix, generation, generationLength, DIGEST_LENGTH);
+			System.arraycopy(digest(value), 0, target, offset, DIGEST_LENGTH);
+			return target;
+		}
+
+		if (isAscii(value)) {
+
+			byte[] target = allocate(prefix, generation, generationLength, value.length());
+
+			for (int i = 0; i < value.length(); i++) {
+				target[offset + i] = (byte) value.charAt(i);
+			}
+
+			return target;
+		}
+
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		byte[] target = allocate(prefix, generation, generationLength, bytes.length);
+		System.arraycopy(bytes, 0, target, offset, bytes.length);
+
+		return target;
+	}
+
+	/**
+	 * Replace {@code key} by its digest if it exceeds {@code hashingThreshold}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param hashingThreshold the maximum length of {@code key} that is stored as-is. {@literal 0} to disable hashing.
+	 * @return the {@code key} itself or its digest.
+	 */
+	static String hashIfNecessary(String key, int hashingThreshold) {
+
+		if (hashingThreshold <= 0 || key.length() <= hashingThreshold) {
+			return key;
+		}
+
+		return new String(digest(key), StandardCharsets.US_ASCII);
+	}
+
+	private static byte[] digest(String key) {
+
+		try {
+
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return DIGEST_ENCODER.encode(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not supported", e);
+		}
+	}
+
+	private static byte[] allocate(byte[] prefix, long generation, int generationLength, int keyLength) {
+
+		byte[] target = new byte[prefix.length + generationLength + keyLength];
+		System.arraycopy(prefix, 0, target, 0, prefix.length);
+
+		if (generationLength > 0) {
+
+			writeDigits(generation, target, prefix.length + generationLength - 1);
+			target[prefix.length + generationLength - 1] = ':';
+		}
+
+		return target;
+	}
+
+	private static boolean isIntegral(Object key) {
+		return key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte;
+	}
+
+	private static boolean isAscii(String value) {
+
+		for (int i = 0; i < value.length(); i++) {
+			if (value.charAt(i) >= 0x80) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Compute the number of characters of the decimal representation of {@code value} including the sign.
+	 */
+	static int digits(long value) {
+
+		// use negative values to cover Long.MIN_VALUE
+		int digits = value < 0 ? 2 : 1;
+		long remainder = value < 0 ? value : -value;
+
+		while (remainder <= -10) {
+			remainder /= 10;
+			digits++;
+		}
+
+		return digits;
+	}
+
+	/**
+	 * Write the decimal representation of {@code value} into {@code target} ending before {@code end}.
+	 */
+	private static void writeDigits(long value, byte[] target, int end) {
+
+		boolean negative = value < 0;
+		long remainder = negative ? value : -value;
+		int position = end;
+
+		do {
+			target[--position] = (byte) ('0' - (remainder % 10));
+			remainder /= 10;
+		} while (remainder != 0);
+
+		if (negative) {
+			target[--position] = '-';
+		}
+	}
+
+	/**
+	 * Write {@code uuid} in its {@link UUID#toString()} representation into {@code target} starting at {@code offset}.
+	 */
+	private static void writeUuid(UUID uuid, byte[] target, int offset) {
+
+		long msb = uuid.getMostSignificantBits();
+		long lsb = uuid.getLeastSignificantBits();
+
+		writeHex(msb >>> 32, 8, target, offset);
+		target[offset + 8] = '-';
+		writeHex(msb >>> 16, 4, target, offset + 9);
+		target[offset + 13] = '-';
+		writeHex(msb, 4, target, offset + 14);
+		target[offset + 18] = '-';
+		writeHex(lsb >>> 48, 4, target, offset + 19);
+		target[offset + 23] = '-';
+		writeHex(lsb, 12, target, offset + 24);
+	}
+
+	private static void writeHex(long value, int digits, byte[] target, int offset) {
+
+		for (int i = digits - 1; i >= 0; i--) {
+			target[offset + i] = HEX_DIGITS[(int) (value & 0xF)];
+			value >>>= 4;
+		}
+	}
+}
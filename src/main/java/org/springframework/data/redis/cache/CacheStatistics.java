@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache statistics for a {@link RedisCache}. Values are a snapshot taken when obtaining the {@link CacheStatistics}
+ * and counted since the {@link #getLastReset() last reset}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ * @see CacheStatisticsCollector
+ */
+public interface CacheStatistics {
+
+	/**
+	 * @return the name of the {@link RedisCache}.
+	 */
+	String getCacheName();
+
+	/**
+	 * @return number of put operations on the cache.
+	 */
+	long getStores();
+
+	/**
+	 * @return the total number of get operations including both {@link #getHits() hits} and {@link #getMisses() misses}.
+	 */
+	long getRetrievals();
+
+	/**
+	 * @return the number of cache hits.
+	 */
+	long getHits();
+
+	/**
+	 * @return the number of cache misses.
+	 */
+	long getMisses();
+
+	/**
+	 * @return the ratio of {@link #getHits() hits} to {@link #getRetrievals() retrievals}. {@literal 0} if there were no
+	 *         retrievals.
+	 */
+	default double getHitRatio() {
+
+		long retrievals = getRetrievals();
+		return retrievals == 0 ? 0 : (double) getHits() / retrievals;
+	}
+
+	/**
+	 * @return the number of removals including entries removed by cleaning the cache.
+	 */
+	long getDeletes();
+
+	/**
+	 * @param unit the time unit to report the lock wait duration.
+	 * @return lock duration using the given {@link TimeUnit} if the cache is configured to use locking.
+	 */
+	long getLockWaitDuration(TimeUnit unit);
+
+	/**
+	 * Obtain the latency distribution of the given {@link Operation}.
+	 *
+	 * @param operation must not be {@literal null}.
+	 * @return the {@link LatencyHistogram} for {@code operation}. Never {@literal null}.
+	 */
+	LatencyHistogram getLatency(Operation operation);
+
+	/**
+	 * @return initial point in time when started statistics capturing.
+	 */
+	Instant getSince();
+
+	/**
+	 * @return instantaneous point in time of last statistics counter reset. Equals {@link #getSince()} if never reset.
+	 */
+	Instant getLastReset();
+
+	/**
+	 * Cache operations with a recorded {@link #getLatency(Operation) latency distribution}.
+	 *
+	 * @author Mark Paluch
+	 * @since 2.2
+	 */
+	enum Operation {
+
+		/**
+		 * Reading a single or multiple entries.
+		 */
+		GET,
+
+		/**
+		 * Writing a single or multiple entries, including {@code putIfAbsent}.
+		 */
+		PUT,
+
+		/**
+		 * Removing a single entry.
+		 */
+		REMOVE,
+
+		/**
+		 * Removing all entries matching a pattern.
+		 */
+		CLEAN,
+
+		/**
+		 * Computing a value through a value loader after a cache miss.
+		 */
+		LOAD
+	}
+}
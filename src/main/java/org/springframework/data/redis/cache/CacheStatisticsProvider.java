@@ -0,0 +1,33 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+/**
+ * Interface to be implemented by objects that expose {@link CacheStatistics} identified by {@code cacheName}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+public interface CacheStatisticsProvider {
+
+	/**
+	 * Obtain snapshot of the captured statistics. Creating a statistics snapshot does not reset the underlying counters.
+	 *
+	 * @param cacheName must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	CacheStatistics getCacheStatistics(String cacheName);
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+/**
+ * Immutable snapshot of {@link CacheStatistics}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+class DefaultCacheStatistics implements CacheStatistics {
+
+	private final String cacheName;
+	private final long stores;
+	private final long hits;
+	private final long misses;
+	private final long retrievals;
+	private final long deletes;
+	private final long lockWaitTimeNanos;
+	private final Map<Operation, LatencyHistogram> latencies;
+	private final Instant since;
+	private final Instant lastReset;
+
+	DefaultCacheStatistics(String cacheName, long stores, long hits, long misses, long retrievals, long deletes,
+			long lockWaitTimeNanos, Map<Operation, LatencyHistogram> latencies, Instant since, Instant lastReset) {
+
+		this.cacheName = cacheName;
+		this.stores = stores;
+		this.hits = hits;
+		this.misses = misses;
+		this.retrievals = retrievals;
+		this.deletes = deletes;
+		this.lockWaitTimeNanos = lockWaitTimeNanos;
+		this.latencies = latencies;
+		this.since = since;
+		this.lastReset = lastReset;
+	}
+
+	/**
+	 * Create empty {@link CacheStatistics} for the given {@code cacheName}.
+	 */
+	static DefaultCacheStatistics empty(String cacheName) {
+
+		Map<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+
+		for (Operation operation : Operation.values()) {
+			latencies.put(operation, new LatencyHistogram());
+		}
+
+		Instant now = Instant.now();
+		return new DefaultCacheStatistics(cacheName, 0, 0, 0, 0, 0, 0, latencies, now, now);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatistics#getCacheName()
+	 */
+	@Override
+	public String getCacheName() {
+		return cacheName;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatistics#getStores()
+	 */
+	@Override
+	public long getStores() {
+		return stores;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatistics#getRetrievals()
+	 */
+	@Override
+	public long getRetrievals() {
+		return retrievals;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatistics#getHits()
+	 */
+	@Override
+	public long getHits() {
+		return hits;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatistics#getMisses()
+	 */
+	@Override
+	public long getMisses() {
+		return misses;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatistics#getDeletes()
+	 */
+	@Override
+	public long getDeletes() {
+		return deletes;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatistics#getLockWaitDuration(java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public long getLockWaitDuration(TimeUnit unit) {
+		return unit.convert(lockWaitTimeNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatistics#getLatency(org.springframework.data.redis.cache.CacheStatistics.Operation)
+	 */
+	@Override
+	public LatencyHistogram getLatency(Operation operation) {
+
+		Assert.notNull(operation, "Operation must not be null!");
+
+		return latencies.get(operation);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatistics#getSince()
+	 */
+	@Override
+	public Instant getSince() {
+		return since;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatistics#getLastReset()
+	 */
+	@Override
+	public Instant getLastReset() {
+		return lastReset;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("CacheStatistics [cacheName=%s, stores=%d, retrievals=%d, hits=%d, misses=%d, deletes=%d]",
+				cacheName, stores, retrievals, hits, misses, deletes);
+	}
+}
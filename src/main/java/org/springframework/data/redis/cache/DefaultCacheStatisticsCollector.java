@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.redis.cache.CacheStatistics.Operation;
+
+/**
+ * Default {@link CacheStatisticsCollector} implementation holding {@link LongAdder} counters and
+ * {@link LatencyHistogram latency histograms} per cache name. Recording does not lock or allocate once the statistics
+ * holder for a cache has been created.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+class DefaultCacheStatisticsCollector implements CacheStatisticsCollector {
+
+	private static final Operation[] OPERATIONS = Operation.values();
+
+	private final Map<String, MutableCacheStatistics> stats = new ConcurrentHashMap<>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatisticsCollector#incPuts(java.lang.String)
+	 */
+	@Override
+	public void incPuts(String cacheName) {
+		statsFor(cacheName).puts.increment();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatisticsCollector#incGets(java.lang.String)
+	 */
+	@Override
+	public void incGets(String cacheName) {
+		statsFor(cacheName).gets.increment();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatisticsCollector#incHits(java.lang.String)
+	 */
+	@Override
+	public void incHits(String cacheName) {
+		statsFor(cacheName).hits.increment();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatisticsCollector#incMisses(java.lang.String)
+	 */
+	@Override
+	public void incMisses(String cacheName) {
+		statsFor(cacheName).misses.increment();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatisticsCollector#incDeletesBy(java.lang.String, long)
+	 */
+	@Override
+	public void incDeletesBy(String cacheName, long value) {
+		statsFor(cacheName).deletes.add(value);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatisticsCollector#incLockTime(java.lang.String, long)
+	 */
+	@Override
+	public void incLockTime(String cacheName, long durationNanos) {
+		statsFor(cacheName).lockWaitTimeNanos.add(durationNanos);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatisticsCollector#recordLatency(java.lang.String, org.springframework.data.redis.cache.CacheStatistics.Operation, long)
+	 */
+	@Override
+	public void recordLatency(String cacheName, Operation operation, long durationNanos) {
+		statsFor(cacheName).latencies[operation.ordinal()].record(durationNanos);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatisticsCollector#reset(java.lang.String)
+	 */
+	@Override
+	public void reset(String cacheName) {
+		stats.computeIfPresent(cacheName, (key, statistics) -> new MutableCacheStatistics(statistics.since));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatisticsProvider#getCacheStatistics(java.lang.String)
+	 */
+	@Override
+	public CacheStatistics getCacheStatistics(String cacheName) {
+
+		MutableCacheStatistics statistics = stats.get(cacheName);
+
+		if (statistics == null) {
+			return DefaultCacheStatistics.empty(cacheName);
+		}
+
+		Map<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+
+		for (Operation operation : OPERATIONS) {
+			latencies.put(operation, statistics.latencies[operation.ordinal()].snapshot());
+		}
+
+		return new DefaultCacheStatistics(cacheName, statistics.puts.sum(), statistics.hits.sum(),
+				statistics.misses.sum(), statistics.gets.sum(), statistics.deletes.sum(),
+				statistics.lockWaitTimeNanos.sum(), latencies, statistics.since, statistics.lastReset);
+	}
+
+	private MutableCacheStatistics statsFor(String cacheName) {
+
+		MutableCacheStatistics statistics = stats.get(cacheName);
+
+		if (statistics != null) {
+			return statistics;
+		}
+
+		// only lock the bin of computeIfAbsent when creating the statistics holder
+		return stats.computeIfAbsent(cacheName, key -> new MutableCacheStatistics(Instant.now()));
+	}
+
+	private static class MutableCacheStatistics {
+
+		final Instant since;
+		final Instant lastReset = Instant.now();
+		final LongAdder puts = new LongAdder();
+		final LongAdder gets = new LongAdder();
+		final LongAdder hits = new LongAdder();
+		final LongAdder misses = new LongAdder();
+		final LongAdder deletes = new LongAdder();
+		final LongAdder lockWaitTimeNanos = new LongAdder();
+		final LatencyHistogram[] latencies = new LatencyHistogram[OPERATIONS.length];
+
+		MutableCacheStatistics(Instant since) {
+
+			this.since = since;
+
+			for (int i = 0; i < latencies.length; i++) {
+				latencies[i] = new LatencyHistogram();
+			}
+		}
+	}
+}
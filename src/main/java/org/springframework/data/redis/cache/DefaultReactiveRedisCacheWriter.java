@@ -0,0 +1,271 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ReactiveRedisCacheWriter} implementation capable of reading/writing binary data from/to Redis in
+ * {@literal standalone} and {@literal cluster} environments. Works upon a given {@link ReactiveRedisConnectionFactory}
+ * to obtain the actual {@link ReactiveRedisConnection}. <br />
+ * {@code putIfAbsent} is atomic using the same Lua script as {@link DefaultRedisCacheWriter}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+class DefaultReactiveRedisCacheWriter implements ReactiveRedisCacheWriter {
+
+	private static final ByteBuffer PUT_IF_ABSENT_SCRIPT = ByteUtils
+			.getByteBuffer(DefaultRedisCacheWriter.PUT_IF_ABSENT_SCRIPT);
+
+	private final ReactiveRedisConnectionFactory connectionFactory;
+	private final int scanBatchSize;
+	private volatile boolean unlinkSupported = true;
+
+	/**
+	 * @param connectionFactory must not be {@literal null}.
+	 */
+	DefaultReactiveRedisCacheWriter(ReactiveRedisConnectionFactory connectionFactory) {
+		this(connectionFactory, DefaultRedisCacheWriter.DEFAULT_SCAN_BATCH_SIZE);
+	}
+
+	/**
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param scanBatchSize number of keys to scan and remove per batch when cleaning the cache.
+	 */
+	DefaultReactiveRedisCacheWriter(ReactiveRedisConnectionFactory connectionFactory, int scanBatchSize) {
+
+		Assert.notNull(connectionFactory, "ConnectionFactory must not be null!");
+		Assert.isTrue(scanBatchSize > 0, "Scan batch size must be greater than zero!");
+
+		this.connectionFactory = connectionFactory;
+		this.scanBatchSize = scanBatchSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.ReactiveRedisCacheWriter#put(java.lang.String, java.nio.ByteBuffer, java.nio.ByteBuffer, java.time.Duration)
+	 */
+	@Override
+	public Mono<Void> put(String name, ByteBuffer key, ByteBuffer value, @Nullable Duration ttl) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		return execute(connection -> doPut(connection, key, value, ttl)).then();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.ReactiveRedisCacheWriter#put(java.lang.String, java.util.Map, java.time.Duration)
+	 */
+	@Override
+	public Mono<Void> put(String name, Map<ByteBuffer, ByteBuffer> values, @Nullable Duration ttl) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(values, "Values must not be null!");
+
+		if (values.isEmpty()) {
+			return Mono.empty();
+		}
+
+		// flatMap subscribes to all commands at once so that they are sent without awaiting individual responses.
+		return execute(connection -> Flux.fromIterable(values.entrySet())
+				.flatMap(entry -> doPut(connection, entry.getKey(), entry.getValue(), ttl)).then());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.ReactiveRedisCacheWriter#get(java.lang.String, java.nio.ByteBuffer)
+	 */
+	@Override
+	public Mono<ByteBuffer> get(String name, ByteBuffer key) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+
+		return execute(connection -> connection.stringCommands().get(key));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.ReactiveRedisCacheWriter#get(java.lang.String, java.util.List)
+	 */
+	@Override
+	public Mono<List<ByteBuffer>> get(String name, List<ByteBuffer> keys) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(keys, "Keys must not be null!");
+
+		if (keys.isEmpty()) {
+			return Mono.just(Collections.emptyList());
+		}
+
+		return execute(connection -> connection.stringCommands().mGet(keys).map(values -> {
+
+			List<ByteBuffer> result = new ArrayList<>(values.size());
+
+			for (ByteBuffer value : values) {
+
+				// absent keys are reported as empty buffers
+				result.add(value != null && value.hasRemaining() ? value : null);
+			}
+
+			return result;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.ReactiveRedisCacheWriter#putIfAbsent(java.lang.String, java.nio.ByteBuffer, java.nio.ByteBuffer, java.time.Duration)
+	 */
+	@Override
+	public Mono<ByteBuffer> putIfAbsent(String name, ByteBuffer key, ByteBuffer value, @Nullable Duration ttl) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		ByteBuffer ttlMillis = ByteUtils.getByteBuffer(Long.toString(shouldExpireWithin(ttl) ? ttl.toMillis() : 0));
+
+		return execute(connection -> connection.scriptingCommands() //
+				.<ByteBuffer> evalSha(DefaultRedisCacheWriter.PUT_IF_ABSENT_SCRIPT_SHA1, ReturnType.VALUE, 1,
+						key.duplicate(), value.duplicate(), ttlMillis.duplicate()) //
+				.onErrorResume(
+						e -> e instanceof DataAccessException && DefaultRedisCacheWriter.exceptionContainsNoScriptError(e),
+						e -> connection.scriptingCommands().<ByteBuffer> eval(PUT_IF_ABSENT_SCRIPT.duplicate(),
+								ReturnType.VALUE, 1, key.duplicate(), value.duplicate(), ttlMillis.duplicate())) //
+				.next());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.ReactiveRedisCacheWriter#increment(java.lang.String, java.nio.ByteBuffer)
+	 */
+	@Override
+	public Mono<Long> increment(String name, ByteBuffer key) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+
+		return execute(connection -> connection.numberCommands().incr(key));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.ReactiveRedisCacheWriter#remove(java.lang.String, java.nio.ByteBuffer)
+	 */
+	@Override
+	public Mono<Void> remove(String name, ByteBuffer key) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+
+		return execute(connection -> connection.keyCommands().del(key)).then();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.ReactiveRedisCacheWriter#clean(java.lang.String, java.nio.ByteBuffer)
+	 */
+	@Override
+	public Mono<Void> clean(String name, ByteBuffer pattern) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(pattern, "Pattern must not be null!");
+
+		ScanOptions options = ScanOptions.scanOptions().count(scanBatchSize)
+				.match(StandardCharsets.UTF_8.decode(pattern.duplicate()).toString()).build();
+
+		return execute(connection -> connection.keyCommands().scan(options) //
+				.buffer(scanBatchSize) //
+				.concatMap(keys -> unlink(connection, keys)) //
+				.then());
+	}
+
+	private Mono<Long> unlink(ReactiveRedisConnection connection, List<ByteBuffer> keys) {
+
+		if (!unlinkSupported) {
+			return connection.keyCommands().mDel(keys);
+		}
+
+		List<ByteBuffer> keysToUnlink = new ArrayList<>(keys.size());
+		keys.forEach(key -> keysToUnlink.add(key.duplicate()));
+
+		return connection.keyCommands().mUnlink(keysToUnlink)
+				.onErrorResume(DefaultRedisCacheWriter::exceptionIndicatesUnsupportedCommand, e -> {
+
+					// UNLINK requires Redis 4.0. Fall back to DEL from now on.
+					unlinkSupported = false;
+					return connection.keyCommands().mDel(keys);
+				});
+	}
+
+	private static Mono<Boolean> doPut(ReactiveRedisConnection connection, ByteBuffer key, ByteBuffer value,
+			@Nullable Duration ttl) {
+
+		if (shouldExpireWithin(ttl)) {
+			return connection.stringCommands().set(key, value, Expiration.from(ttl.toMillis(), TimeUnit.MILLISECONDS),
+					SetOption.upsert());
+		}
+
+		return connection.stringCommands().set(key, value);
+	}
+
+	private <T> Mono<T> execute(Function<ReactiveRedisConnection, Publisher<T>> callback) {
+
+		return Mono.defer(() -> {
+
+			ReactiveRedisConnection connection = connectionFactory.getReactiveConnection();
+
+			try {
+				return Mono.from(callback.apply(connection)).doFinally(signal -> connection.closeLater().subscribe());
+			} catch (RuntimeException e) {
+
+				connection.closeLater().subscribe();
+				throw e;
+			}
+		});
+	}
+
+	private static boolean shouldExpireWithin(@Nullable Duration ttl) {
+		return ttl != null && !ttl.isZero() && !ttl.isNegative();
+	}
+}
@@ -17,16 +17,22 @@ package org.springframework.data.redis.cache;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
 import java.util.function.Function;
 
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.redis.cache.CacheStatistics.Operation;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.script.DigestUtils;
 import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -38,10 +44,13 @@ import org.springframework.util.Assert;
  * {@link DefaultRedisCacheWriter} can be used in
  * {@link RedisCacheWriter#lockingRedisCacheWriter(RedisConnectionFactory) locking} or
  * {@link RedisCacheWriter#nonLockingRedisCacheWriter(RedisConnectionFactory) non-locking} mode. While
- * {@literal non-locking} aims for maximum performance it may result in overlapping, non atomic, command execution for
- * operations spanning multiple Redis interactions like {@code putIfAbsent}. The {@literal locking} counterpart prevents
- * command overlap by setting an explicit lock key and checking against presence of this key which leads to additional
- * requests and potential command wait times.
+ * {@literal non-locking} aims for maximum performance it may result in overlapping command execution with operations
+ * spanning multiple Redis interactions like {@code clean}. The {@literal locking} counterpart prevents command overlap
+ * by setting an explicit lock key and checking against presence of this key which leads to additional requests and
+ * potential command wait times. Waiting for a lock to be released backs off exponentially up to the configured sleep
+ * time. <br />
+ * {@code putIfAbsent} is atomic in both modes using a Lua script that is invoked via {@code EVALSHA}, or
+ * {@code SET NX PX} if scripting is not available.
  *
  * @author Christoph Strobl
  * @author Mark Paluch
@@ -49,8 +58,38 @@ import org.springframework.util.Assert;
  */
 class DefaultRedisCacheWriter implements RedisCacheWriter {
 
+	static final int DEFAULT_SCAN_BATCH_SIZE = 1000;
+
+	private static final long LOCK_BACKOFF_INITIAL_MILLIS = 1;
+
+	/**
+	 * Returns the existing value for {@code KEYS[1]} or sets it to {@code ARGV[1]} expiring after {@code ARGV[2]}
+	 * milliseconds ({@literal 0} for no expiration).
+	 */
+	static final String PUT_IF_ABSENT_SCRIPT = "local current = redis.call('GET', KEYS[1]) " //
+			+ "if current then return current end " //
+			+ "if tonumber(ARGV[2]) > 0 then redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " //
+			+ "else redis.call('SET', KEYS[1], ARGV[1]) end " //
+			+ "return false";
+
+	private static final byte[] BINARY_PUT_IF_ABSENT_SCRIPT = PUT_IF_ABSENT_SCRIPT.getBytes(StandardCharsets.UTF_8);
+	static final String PUT_IF_ABSENT_SCRIPT_SHA1 = DigestUtils.sha1DigestAsHex(PUT_IF_ABSENT_SCRIPT);
+
+	/**
+	 * Removes {@code KEYS[1]} if it holds {@code ARGV[1]} and returns the number of removed keys.
+	 */
+	static final String RELEASE_LOCK_SCRIPT = "if redis.call('GET', KEYS[1]) == ARGV[1] then " //
+			+ "return redis.call('DEL', KEYS[1]) end " //
+			+ "return 0";
+
+	private static final byte[] BINARY_RELEASE_LOCK_SCRIPT = RELEASE_LOCK_SCRIPT.getBytes(StandardCharsets.UTF_8);
+	static final String RELEASE_LOCK_SCRIPT_SHA1 = DigestUtils.sha1DigestAsHex(RELEASE_LOCK_SCRIPT);
+
 	private final RedisConnectionFactory connectionFactory;
 	private final Duration sleepTime;
+	private final BatchStrategy batchStrategy;
+	private final CacheStatisticsCollector statistics;
+	private volatile boolean scriptingSupported = true;
 
 	/**
 	 * @param connectionFactory must not be {@literal null}.
@@ -61,16 +100,44 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 
 	/**
 	 * @param connectionFactory must not be {@literal null}.
-	 * @param sleepTime sleep time between lock request attempts. Must not be {@literal null}. Use {@link Duration#ZERO}
-	 *          to disable locking.
+	 * @param sleepTime maximum sleep time between lock request attempts. Must not be {@literal null}. Use
+	 *          {@link Duration#ZERO} to disable locking.
 	 */
 	DefaultRedisCacheWriter(RedisConnectionFactory connectionFactory, Duration sleepTime) {
+		this(connectionFactory, sleepTime, BatchStrategies.keys());
+	}
+
+	/**
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param sleepTime maximum sleep time between lock request attempts. Must not be {@literal null}. Use
+	 *          {@link Duration#ZERO} to disable locking.
+	 * @param batchStrategy strategy to remove keys when cleaning the cache. Must not be {@literal null}.
+	 * @since 2.2
+	 */
+	DefaultRedisCacheWriter(RedisConnectionFactory connectionFactory, Duration sleepTime, BatchStrategy batchStrategy) {
+		this(connectionFactory, sleepTime, batchStrategy, CacheStatisticsCollector.none());
+	}
+
+	/**
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param sleepTime maximum sleep time between lock request attempts. Must not be {@literal null}. Use
+	 *          {@link Duration#ZERO} to disable locking.
+	 * @param batchStrategy strategy to remove keys when cleaning the cache. Must not be {@literal null}.
+	 * @param statistics collector for cache statistics. Must not be {@literal null}.
+	 * @since 2.2
+	 */
+	DefaultRedisCacheWriter(RedisConnectionFactory connectionFactory, Duration sleepTime, BatchStrategy batchStrategy,
+			CacheStatisticsCollector statistics) {
 
 		Assert.notNull(connectionFactory, "ConnectionFactory must not be null!");
 		Assert.notNull(sleepTime, "SleepTime must not be null!");
+		Assert.notNull(batchStrategy, "BatchStrategy must not be null!");
+		Assert.notNull(statistics, "CacheStatisticsCollector must not be null!");
 
 		this.connectionFactory = connectionFactory;
 		this.sleepTime = sleepTime;
+		this.batchStrategy = batchStrategy;
+		this.statistics = statistics;
 	}
 
 	/*
@@ -84,16 +151,16 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 		Assert.notNull(key, "Key must not be null!");
 		Assert.notNull(value, "Value must not be null!");
 
-		execute(name, connection -> {
+		long start = System.nanoTime();
 
-			if (shouldExpireWithin(ttl)) {
-				connection.set(key, value, Expiration.from(ttl.toMillis(), TimeUnit.MILLISECONDS), SetOption.upsert());
-			} else {
-				connection.set(key, value);
-			}
+		execute(name, connection -> {
 
+			doPut(connection, key, value, ttl);
 			return "OK";
 		});
+
+		statistics.incPuts(name);
+		statistics.recordLatency(name, Operation.PUT, System.nanoTime() - start);
 	}
 
 	/*
@@ -106,43 +173,189 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 		Assert.notNull(name, "Name must not be null!");
 		Assert.notNull(key, "Key must not be null!");
 
-		return execute(name, connection -> connection.get(key));
+		long start = System.nanoTime();
+		byte[] value = execute(name, connection -> connection.get(key));
+
+		recordRetrieval(name, value != null, start);
+
+		return value;
 	}
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.data.redis.cache.RedisCacheWriter#putIfAbsent(java.lang.String, byte[], byte[], java.time.Duration)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#getWithTtl(java.lang.String, byte[])
 	 */
 	@Override
-	public byte[] putIfAbsent(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+	public ExpiringValue getWithTtl(String name, byte[] key) {
 
 		Assert.notNull(name, "Name must not be null!");
 		Assert.notNull(key, "Key must not be null!");
-		Assert.notNull(value, "Value must not be null!");
 
-		return execute(name, connection -> {
+		long start = System.nanoTime();
+		ExpiringValue expiringValue = execute(name, connection -> {
 
-			if (isLockingCacheWriter()) {
-				doLock(name, connection);
-			}
+			byte[] value;
+			Long ttl;
 
-			try {
-				if (connection.setNX(key, value)) {
+			if (openPipeline(connection, 2)) {
 
-					if (shouldExpireWithin(ttl)) {
-						connection.pExpire(key, ttl.toMillis());
-					}
-					return null;
+				List<Object> results;
+
+				try {
+					connection.get(key);
+					connection.pTtl(key);
+				} finally {
+					results = connection.closePipeline();
 				}
 
-				return connection.get(key);
+				value = (byte[]) results.get(0);
+				ttl = (Long) results.get(1);
+			} else {
+
+				value = connection.get(key);
+				ttl = value != null ? connection.pTtl(key) : null;
+			}
+
+			if (value == null) {
+				return null;
+			}
+
+			return new ExpiringValue(value, ttl != null && ttl > 0 ? Duration.ofMillis(ttl) : null);
+		});
+
+		recordRetrieval(name, expiringValue != null, start);
+
+		return expiringValue;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#put(java.lang.String, java.util.Map, java.time.Duration)
+	 */
+	@Override
+	public void put(String name, Map<byte[], byte[]> values, @Nullable Duration ttl) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(values, "Values must not be null!");
+
+		if (values.isEmpty()) {
+			return;
+		}
+
+		long start = System.nanoTime();
+
+		execute(name, connection -> {
+
+			boolean pipelined = openPipeline(connection, values.size());
+
+			try {
+				values.forEach((key, value) -> doPut(connection, key, value, ttl));
 			} finally {
 
-				if (isLockingCacheWriter()) {
-					doUnlock(name, connection);
+				if (pipelined) {
+					connection.closePipeline();
 				}
 			}
+
+			return "OK";
 		});
+
+		for (int i = 0; i < values.size(); i++) {
+			statistics.incPuts(name);
+		}
+
+		statistics.recordLatency(name, Operation.PUT, System.nanoTime() - start);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#get(java.lang.String, byte[][])
+	 */
+	@Override
+	public List<byte[]> get(String name, byte[][] keys) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(keys, "Keys must not be null!");
+
+		if (keys.length == 0) {
+			return Collections.emptyList();
+		}
+
+		long start = System.nanoTime();
+		List<byte[]> values = execute(name, connection -> connection.mGet(keys));
+
+		if (values == null) {
+			values = Arrays.asList(new byte[keys.length][]);
+		}
+
+		for (byte[] value : values) {
+
+			statistics.incGets(name);
+
+			if (value != null) {
+				statistics.incHits(name);
+			} else {
+				statistics.incMisses(name);
+			}
+		}
+
+		statistics.recordLatency(name, Operation.GET, System.nanoTime() - start);
+
+		return values;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#putIfAbsent(java.lang.String, byte[], byte[], java.time.Duration)
+	 */
+	@Override
+	public byte[] putIfAbsent(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		long start = System.nanoTime();
+		byte[] existing = execute(name, connection -> doPutIfAbsent(connection, key, value, ttl));
+
+		if (existing == null) {
+			statistics.incPuts(name);
+		}
+
+		statistics.recordLatency(name, Operation.PUT, System.nanoTime() - start);
+
+		return existing;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#increment(java.lang.String, byte[])
+	 */
+	@Override
+	public long increment(String name, byte[] key) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+
+		Long value = execute(name, connection -> connection.incr(key));
+
+		return value != null ? value : 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#getCounter(java.lang.String, byte[])
+	 */
+	@Override
+	public long getCounter(String name, byte[] key) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+
+		// counters are not subject to the cache lock, no need to check for it.
+		byte[] value = executeLockFree(connection -> connection.get(key));
+
+		return value != null ? Long.parseLong(new String(value, StandardCharsets.US_ASCII)) : 0;
 	}
 
 	/*
@@ -155,7 +368,61 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 		Assert.notNull(name, "Name must not be null!");
 		Assert.notNull(key, "Key must not be null!");
 
+		long start = System.nanoTime();
+
 		execute(name, connection -> connection.del(key));
+
+		statistics.incDeletes(name);
+		statistics.recordLatency(name, Operation.REMOVE, System.nanoTime() - start);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#acquireLock(java.lang.String, byte[], byte[], java.time.Duration)
+	 */
+	@Override
+	public boolean acquireLock(String name, byte[] key, byte[] token, @Nullable Duration ttl) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(token, "Token must not be null!");
+
+		Boolean acquired = execute(name, connection -> shouldExpireWithin(ttl)
+				? connection.set(key, token, Expiration.from(ttl.toMillis(), TimeUnit.MILLISECONDS),
+						SetOption.ifAbsent())
+				: connection.setNX(key, token));
+
+		return Boolean.TRUE.equals(acquired);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#releaseLock(java.lang.String, byte[], byte[])
+	 */
+	@Override
+	public boolean releaseLock(String name, byte[] key, byte[] token) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(token, "Token must not be null!");
+
+		Long removed = execute(name, connection -> {
+
+			if (isScriptingAvailable(connection)) {
+
+				try {
+					return evalScript(connection, RELEASE_LOCK_SCRIPT_SHA1, BINARY_RELEASE_LOCK_SCRIPT,
+							ReturnType.INTEGER, key, token);
+				} catch (DataAccessException | UnsupportedOperationException e) {
+					disableScriptingIfUnsupported(e);
+				}
+			}
+
+			// not atomic without scripting: the lock may expire and get acquired by another owner in between.
+			return Arrays.equals(connection.get(key), token) ? connection.del(key) : Long.valueOf(0);
+		});
+
+		return removed != null && removed > 0;
 	}
 
 	/*
@@ -168,7 +435,9 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 		Assert.notNull(name, "Name must not be null!");
 		Assert.notNull(pattern, "Pattern must not be null!");
 
-		execute(name, connection -> {
+		long start = System.nanoTime();
+
+		Long removed = execute(name, connection -> {
 
 			boolean wasLocked = false;
 
@@ -179,21 +448,53 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 					wasLocked = true;
 				}
 
-				byte[][] keys = Optional.ofNullable(connection.keys(pattern)).orElse(Collections.emptySet())
-						.toArray(new byte[0][]);
-
-				if (keys.length > 0) {
-					connection.del(keys);
-				}
+				return batchStrategy.cleanCache(connection, name, pattern);
 			} finally {
 
 				if (wasLocked && isLockingCacheWriter()) {
 					doUnlock(name, connection);
 				}
 			}
-
-			return "OK";
 		});
+
+		statistics.incDeletesBy(name, removed != null ? removed : 0);
+		statistics.recordLatency(name, Operation.CLEAN, System.nanoTime() - start);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatisticsProvider#getCacheStatistics(java.lang.String)
+	 */
+	@Override
+	public CacheStatistics getCacheStatistics(String cacheName) {
+		return statistics.getCacheStatistics(cacheName);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#clearStatistics(java.lang.String)
+	 */
+	@Override
+	public void clearStatistics(String name) {
+		statistics.reset(name);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#recordLoadTime(java.lang.String, long)
+	 */
+	@Override
+	public void recordLoadTime(String name, long durationNanos) {
+		statistics.recordLatency(name, Operation.LOAD, durationNanos);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#withStatisticsCollector(org.springframework.data.redis.cache.CacheStatisticsCollector)
+	 */
+	@Override
+	public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+		return new DefaultRedisCacheWriter(connectionFactory, sleepTime, batchStrategy, cacheStatisticsCollector);
 	}
 
 	/**
@@ -245,12 +546,12 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 		}
 	}
 
-	private void executeLockFree(Consumer<RedisConnection> callback) {
+	private <T> T executeLockFree(Function<RedisConnection, T> callback) {
 
 		RedisConnection connection = connectionFactory.getConnection();
 
 		try {
-			callback.accept(connection);
+			return callback.apply(connection);
 		} finally {
 			connection.close();
 		}
@@ -262,10 +563,18 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 			return;
 		}
 
+		long start = System.nanoTime();
+
 		try {
 
+			long maxBackoff = Math.max(LOCK_BACKOFF_INITIAL_MILLIS, sleepTime.toMillis());
+			long backoff = LOCK_BACKOFF_INITIAL_MILLIS;
+
 			while (doCheckLock(name, connection)) {
-				Thread.sleep(sleepTime.toMillis());
+
+				// sleep a random amount between half and the full backoff to avoid waiters polling in lockstep.
+				Thread.sleep(ThreadLocalRandom.current().nextLong(backoff / 2, backoff + 1));
+				backoff = Math.min(backoff * 2, maxBackoff);
 			}
 		} catch (InterruptedException ex) {
 
@@ -274,6 +583,168 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 
 			throw new PessimisticLockingFailureException(String.format("Interrupted while waiting to unlock cache %s", name),
 					ex);
+		} finally {
+			statistics.incLockTime(name, System.nanoTime() - start);
+		}
+	}
+
+	private void recordRetrieval(String name, boolean hit, long start) {
+
+		statistics.incGets(name);
+
+		if (hit) {
+			statistics.incHits(name);
+		} else {
+			statistics.incMisses(name);
+		}
+
+		statistics.recordLatency(name, Operation.GET, System.nanoTime() - start);
+	}
+
+	/**
+	 * Atomically store {@code value} unless {@code key} exists. Runs {@link #PUT_IF_ABSENT_SCRIPT} returning the existing
+	 * value within a single round trip. Falls back to {@code SET NX PX} followed by {@code GET} if the connection is
+	 * known to not support scripting (e.g. Jedis cluster connections or servers having {@code EVAL} disabled).
+	 */
+	@Nullable
+	private byte[] doPutIfAbsent(RedisConnection connection, byte[] key, byte[] value, @Nullable Duration ttl) {
+
+		byte[] ttlMillis = Long.toString(shouldExpireWithin(ttl) ? ttl.toMillis() : 0)
+				.getBytes(StandardCharsets.US_ASCII);
+
+		if (isScriptingAvailable(connection)) {
+
+			try {
+				return evalScript(connection, PUT_IF_ABSENT_SCRIPT_SHA1, BINARY_PUT_IF_ABSENT_SCRIPT, ReturnType.VALUE,
+						key, value, ttlMillis);
+			} catch (DataAccessException | UnsupportedOperationException e) {
+				disableScriptingIfUnsupported(e);
+			}
+		}
+
+		while (true) {
+
+			Boolean set = shouldExpireWithin(ttl)
+					? connection.set(key, value, Expiration.from(ttl.toMillis(), TimeUnit.MILLISECONDS),
+							SetOption.ifAbsent())
+					: connection.setNX(key, value);
+
+			if (Boolean.TRUE.equals(set)) {
+				return null;
+			}
+
+			byte[] existing = connection.get(key);
+
+			// retry if the existing entry expired or got removed in between.
+			if (existing != null || set == null) {
+				return existing;
+			}
+		}
+	}
+
+	private boolean isScriptingAvailable(RedisConnection connection) {
+		return scriptingSupported && !connection.isPipelined() && !connection.isQueueing();
+	}
+
+	/**
+	 * Disable scripting if {@code e} signals that scripting is not supported, rethrow {@code e} otherwise.
+	 */
+	private void disableScriptingIfUnsupported(RuntimeException e) {
+
+		if (!exceptionIndicatesUnsupportedCommand(e)) {
+			throw e;
+		}
+
+		// Scripting not supported by the driver (cluster) or the server. Fall back to plain commands from now on.
+		scriptingSupported = false;
+	}
+
+	/**
+	 * Run a script with a single key via {@code EVALSHA} falling back to {@code EVAL} if the script is not cached.
+	 */
+	@Nullable
+	private static <T> T evalScript(RedisConnection connection, String scriptSha1, byte[] script, ReturnType returnType,
+			byte[]... keyAndArgs) {
+
+		try {
+			return connection.evalSha(scriptSha1, returnType, 1, keyAndArgs);
+		} catch (DataAccessException e) {
+
+			if (!exceptionContainsNoScriptError(e)) {
+				throw e;
+			}
+
+			return connection.eval(script, returnType, 1, keyAndArgs);
+		}
+	}
+
+	static boolean exceptionContainsNoScriptError(Throwable e) {
+		return exceptionContainsMessage(e, "NOSCRIPT");
+	}
+
+	/**
+	 * @return {@literal true} if {@code e} signals that the driver does not support a command, such as scripting on
+	 *         cluster connections, or the server does not know it, such as {@code UNLINK} before Redis 4.0.
+	 */
+	static boolean exceptionIndicatesUnsupportedCommand(Throwable e) {
+
+		Throwable current = e;
+		while (current != null) {
+
+			if (current instanceof UnsupportedOperationException) {
+				return true;
+			}
+
+			current = current.getCause();
+		}
+
+		return exceptionContainsMessage(e, "not supported") || exceptionContainsMessage(e, "unknown command");
+	}
+
+	private static boolean exceptionContainsMessage(Throwable e, String text) {
+
+		Throwable current = e;
+		while (current != null) {
+
+			String message = current.getMessage();
+			if (message != null && message.contains(text)) {
+				return true;
+			}
+
+			current = current.getCause();
+		}
+
+		return false;
+	}
+
+	private static void doPut(RedisConnection connection, byte[] key, byte[] value, @Nullable Duration ttl) {
+
+		if (shouldExpireWithin(ttl)) {
+			connection.set(key, value, Expiration.from(ttl.toMillis(), TimeUnit.MILLISECONDS), SetOption.upsert());
+		} else {
+			connection.set(key, value);
+		}
+	}
+
+	/**
+	 * Open a pipeline on the given {@link RedisConnection} if it is worth it and supported by the connection.
+	 *
+	 * @return {@literal true} if the pipeline was opened.
+	 */
+	private static boolean openPipeline(RedisConnection connection, int commandCount) {
+
+		if (commandCount < 2 || connection.isPipelined()) {
+			return false;
+		}
+
+		try {
+
+			connection.openPipeline();
+			return true;
+		} catch (UnsupportedOperationException e) {
+
+			// eg. cluster connections not capable of pipelining. Fall back to sequential execution.
+			return false;
 		}
 	}
 
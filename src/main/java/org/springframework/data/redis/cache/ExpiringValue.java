@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Binary cache value along with its remaining time to live as read by
+ * {@link RedisCacheWriter#getWithTtl(String, byte[])}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+public final class ExpiringValue {
+
+	private final byte[] value;
+	private final @Nullable Duration remainingTtl;
+
+	/**
+	 * Create a new {@link ExpiringValue}.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param remainingTtl can be {@literal null} if the value does not expire or the remaining ttl is unknown.
+	 */
+	public ExpiringValue(byte[] value, @Nullable Duration remainingTtl) {
+
+		Assert.notNull(value, "Value must not be null!");
+
+		this.value = value;
+		this.remainingTtl = remainingTtl;
+	}
+
+	/**
+	 * @return the binary value. Never {@literal null}.
+	 */
+	public byte[] getValue() {
+		return value;
+	}
+
+	/**
+	 * @return the remaining time to live or {@literal null} if the value does not expire or the remaining ttl is
+	 *         unknown.
+	 */
+	@Nullable
+	public Duration getRemainingTtl() {
+		return remainingTtl;
+	}
+}
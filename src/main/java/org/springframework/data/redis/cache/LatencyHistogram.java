@@ -0,0 +1,222 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+
+/**
+ * Lock-free histogram of latencies recorded in nanoseconds. Values are counted in logarithmic buckets: each power of two
+ * is divided into {@literal 8} linear sub-buckets so that reported percentiles are accurate to within
+ * {@literal 12.5%} across the full {@code long} range using a fixed amount of memory. Recording a value does not
+ * allocate. <br />
+ * Reading percentiles while values are being recorded may observe a partially updated histogram.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ * @see CacheStatistics#getLatency(CacheStatistics.Operation)
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray buckets;
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Create a new, empty {@link LatencyHistogram}.
+	 */
+	public LatencyHistogram() {
+		this.buckets = new AtomicLongArray(BUCKET_COUNT);
+	}
+
+	private LatencyHistogram(LatencyHistogram source) {
+
+		this.buckets = new AtomicLongArray(BUCKET_COUNT);
+
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			this.buckets.set(i, source.buckets.get(i));
+		}
+
+		this.count.add(source.count.sum());
+		this.total.add(source.total.sum());
+		this.max.set(source.max.get());
+	}
+
+	/**
+	 * Record a latency.
+	 *
+	 * @param nanos the latency in nanoseconds. Negative values are recorded as zero.
+	 */
+	public void record(long nanos) {
+
+		long value = Math.max(0, nanos);
+
+		buckets.incrementAndGet(bucketIndex(value));
+		count.increment();
+		total.add(value);
+		updateMax(value);
+	}
+
+	/**
+	 * Add all values recorded by {@code other} to this histogram, e.g. to combine histograms recorded by multiple
+	 * workers.
+	 *
+	 * @param other must not be {@literal null}.
+	 */
+	public void add(LatencyHistogram other) {
+
+		Assert.notNull(other, "LatencyHistogram must not be null!");
+
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+
+			long bucket = other.buckets.get(i);
+
+			if (bucket != 0) {
+				buckets.addAndGet(i, bucket);
+			}
+		}
+
+		count.add(other.count.sum());
+		total.add(other.total.sum());
+		updateMax(other.max.get());
+	}
+
+	/**
+	 * @return the number of recorded values.
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * @return the mean of all recorded values. {@link Duration#ZERO} if no values were recorded.
+	 */
+	public Duration getMean() {
+
+		long count = this.count.sum();
+		return count == 0 ? Duration.ZERO : Duration.ofNanos(total.sum() / count);
+	}
+
+	/**
+	 * @return the largest recorded value. {@link Duration#ZERO} if no values were recorded.
+	 */
+	public Duration getMax() {
+		return Duration.ofNanos(max.get());
+	}
+
+	/**
+	 * Obtain the value at the given {@code percentile}. The reported value is the upper bound of the bucket holding the
+	 * percentile, capped by the {@link #getMax() largest recorded value}.
+	 *
+	 * @param percentile between {@literal 0} and {@literal 100}.
+	 * @return the value at the given {@code percentile}. {@link Duration#ZERO} if no values were recorded.
+	 */
+	public Duration getPercentile(double percentile) {
+
+		Assert.isTrue(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100!");
+
+		long count = this.count.sum();
+
+		if (count == 0) {
+			return Duration.ZERO;
+		}
+
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long seen = 0;
+
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+
+			seen += buckets.get(i);
+
+			if (seen >= rank) {
+				return Duration.ofNanos(Math.min(bucketUpperBound(i), max.get()));
+			}
+		}
+
+		return getMax();
+	}
+
+	/**
+	 * @return a copy of this {@link LatencyHistogram} that is not affected by subsequently recorded values.
+	 */
+	public LatencyHistogram snapshot() {
+		return new LatencyHistogram(this);
+	}
+
+	/**
+	 * Remove all recorded values.
+	 */
+	public void reset() {
+
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			buckets.set(i, 0);
+		}
+
+		count.reset();
+		total.reset();
+		max.set(0);
+	}
+
+	private void updateMax(long value) {
+
+		long currentMax;
+		while (value > (currentMax = max.get())) {
+			if (max.compareAndSet(currentMax, value)) {
+				break;
+			}
+		}
+	}
+
+	static int bucketIndex(long value) {
+
+		if (value < 2 * SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+
+		return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	static long bucketUpperBound(int index) {
+
+		if (index < 2 * SUB_BUCKET_COUNT) {
+			return index;
+		}
+
+		int shift = index / SUB_BUCKET_COUNT - 1;
+		long lowerBound = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+
+		return lowerBound + (1L << shift) - 1;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("LatencyHistogram [count=%d, mean=%s, p50=%s, p99=%s, max=%s]", getCount(), getMean(),
+				getPercentile(50), getPercentile(99), getMax());
+	}
+}
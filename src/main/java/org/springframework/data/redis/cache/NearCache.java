@@ -0,0 +1,257 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.cache.NearCacheConfiguration.EvictionPolicy;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.lang.Nullable;
+
+/**
+ * Size bounded, in-process store for values of a single {@link RedisCache}, keyed by the binary Redis {@literal key}.
+ * Entries are distributed across independently locked segments to reduce contention between concurrent readers.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ * @see NearCacheConfiguration
+ */
+class NearCache {
+
+	private static final int MAX_SEGMENTS = 16;
+	private static final int MIN_ENTRIES_PER_SEGMENT = 16;
+	private static final int LFU_SAMPLE_SIZE = 8;
+
+	private final Segment[] segments;
+	private final long ttlNanos;
+
+	/**
+	 * @param configuration must not be {@literal null}.
+	 * @param cacheTtl the ttl of the actual cache entries. Must not be {@literal null}.
+	 */
+	NearCache(NearCacheConfiguration configuration, Duration cacheTtl) {
+
+		Duration ttl = configuration.getTtl();
+
+		if (!cacheTtl.isZero() && !cacheTtl.isNegative() && cacheTtl.compareTo(ttl) < 0) {
+			ttl = cacheTtl;
+		}
+
+		int segmentCount = Math.max(1,
+				Math.min(MAX_SEGMENTS, configuration.getMaxEntries() / MIN_ENTRIES_PER_SEGMENT));
+		int segmentCapacity = (configuration.getMaxEntries() + segmentCount - 1) / segmentCount;
+
+		this.ttlNanos = ttl.toNanos();
+		this.segments = new Segment[segmentCount];
+
+		for (int i = 0; i < segmentCount; i++) {
+			segments[i] = new Segment(segmentCapacity, configuration.getEvictionPolicy());
+		}
+	}
+
+	/**
+	 * Get the value held for {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return {@literal null} if absent or expired.
+	 */
+	@Nullable
+	Object get(byte[] key) {
+
+		ByteArrayWrapper wrapper = new ByteArrayWrapper(key);
+		return segmentFor(wrapper).get(wrapper, System.nanoTime());
+	}
+
+	/**
+	 * Store {@code value} for {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 */
+	void put(byte[] key, Object value) {
+
+		ByteArrayWrapper wrapper = new ByteArrayWrapper(key);
+		segmentFor(wrapper).put(wrapper, new Entry(value, System.nanoTime() + ttlNanos));
+	}
+
+	/**
+	 * Remove the value held for {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 */
+	void remove(byte[] key) {
+
+		ByteArrayWrapper wrapper = new ByteArrayWrapper(key);
+		segmentFor(wrapper).remove(wrapper);
+	}
+
+	/**
+	 * Remove all values.
+	 */
+	void clear() {
+
+		for (Segment segment : segments) {
+			segment.clear();
+		}
+	}
+
+	/**
+	 * @return the number of values currently held, including expired ones not yet removed.
+	 */
+	int size() {
+
+		int size = 0;
+		for (Segment segment : segments) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	private Segment segmentFor(ByteArrayWrapper key) {
+
+		int hash = key.hashCode();
+		return segments[((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % segments.length];
+	}
+
+	private static class Entry {
+
+		final Object value;
+		final long expiresAt;
+		int frequency;
+
+		Entry(Object value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired(long now) {
+			return now - expiresAt >= 0;
+		}
+	}
+
+	private static class Segment {
+
+		private final LinkedHashMap<ByteArrayWrapper, Entry> entries;
+		private final int capacity;
+		private final EvictionPolicy evictionPolicy;
+
+		Segment(int capacity, EvictionPolicy evictionPolicy) {
+
+			this.entries = new LinkedHashMap<>(16, 0.75f, evictionPolicy == EvictionPolicy.LRU);
+			this.capacity = capacity;
+			this.evictionPolicy = evictionPolicy;
+		}
+
+		@Nullable
+		synchronized Object get(ByteArrayWrapper key, long now) {
+
+			Entry entry = entries.get(key);
+
+			if (entry == null) {
+				return null;
+			}
+
+			if (entry.isExpired(now)) {
+
+				entries.remove(key);
+				return null;
+			}
+
+			if (entry.frequency < Integer.MAX_VALUE) {
+				entry.frequency++;
+			}
+
+			return entry.value;
+		}
+
+		synchronized void put(ByteArrayWrapper key, Entry entry) {
+
+			if (entries.put(key, entry) == null && entries.size() > capacity) {
+				evict(key);
+			}
+		}
+
+		synchronized void remove(ByteArrayWrapper key) {
+			entries.remove(key);
+		}
+
+		synchronized void clear() {
+			entries.clear();
+		}
+
+		synchronized int size() {
+			return entries.size();
+		}
+
+		private void evict(ByteArrayWrapper retain) {
+
+			Iterator<Map.Entry<ByteArrayWrapper, Entry>> iterator = entries.entrySet().iterator();
+
+			if (evictionPolicy == EvictionPolicy.LRU) {
+
+				iterator.next();
+				iterator.remove();
+				return;
+			}
+
+			List<Map.Entry<ByteArrayWrapper, Entry>> sample = new ArrayList<>(LFU_SAMPLE_SIZE);
+			long now = System.nanoTime();
+
+			while (iterator.hasNext() && sample.size() < LFU_SAMPLE_SIZE) {
+
+				Map.Entry<ByteArrayWrapper, Entry> candidate = iterator.next();
+
+				if (candidate.getKey().equals(retain)) {
+					continue;
+				}
+
+				if (candidate.getValue().isExpired(now)) {
+
+					iterator.remove();
+					return;
+				}
+
+				sample.add(candidate);
+			}
+
+			Map.Entry<ByteArrayWrapper, Entry> victim = sample.get(0);
+
+			for (Map.Entry<ByteArrayWrapper, Entry> candidate : sample) {
+				if (candidate.getValue().frequency < victim.getValue().frequency) {
+					victim = candidate;
+				}
+			}
+
+			entries.remove(victim.getKey());
+
+			// age surviving candidates and move them to the tail so that other entries get sampled next time.
+			for (Map.Entry<ByteArrayWrapper, Entry> candidate : sample) {
+
+				if (candidate != victim) {
+
+					Entry survivor = entries.remove(candidate.getKey());
+					survivor.frequency >>>= 1;
+					entries.put(candidate.getKey(), survivor);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Immutable {@link NearCacheConfiguration} describing the size bounded, in-process tier kept in front of a
+ * {@link RedisCache}. Entries held in the near cache are served without a round trip to Redis. <br />
+ * Near caches are local to a single JVM. Use
+ * {@link RedisCacheManager.RedisCacheManagerBuilder#enableNearCacheInvalidation(org.springframework.data.redis.listener.RedisMessageListenerContainer)}
+ * to propagate {@code put}, {@code evict} and {@code clear} operations to near caches of other instances. Without
+ * invalidation messages, entries may be served stale for up to the configured {@link #getTtl() time to live}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ * @see RedisCacheConfiguration#enableNearCache(NearCacheConfiguration)
+ */
+public class NearCacheConfiguration {
+
+	private static final Duration DEFAULT_TTL = Duration.ofMinutes(1);
+
+	private final int maxEntries;
+	private final Duration ttl;
+	private final EvictionPolicy evictionPolicy;
+
+	private NearCacheConfiguration(int maxEntries, Duration ttl, EvictionPolicy evictionPolicy) {
+
+		this.maxEntries = maxEntries;
+		this.ttl = ttl;
+		this.evictionPolicy = evictionPolicy;
+	}
+
+	/**
+	 * Create a new {@link NearCacheConfiguration} holding at most {@literal maxEntries} and evicting the least recently
+	 * used entries first. Entries expire after one minute.
+	 *
+	 * @param maxEntries must be greater than zero.
+	 * @return new {@link NearCacheConfiguration}.
+	 */
+	public static NearCacheConfiguration lru(int maxEntries) {
+
+		Assert.isTrue(maxEntries > 0, "Max entries must be greater than zero!");
+
+		return new NearCacheConfiguration(maxEntries, DEFAULT_TTL, EvictionPolicy.LRU);
+	}
+
+	/**
+	 * Create a new {@link NearCacheConfiguration} holding at most {@literal maxEntries} and evicting the least frequently
+	 * used entries first. Entries expire after one minute.
+	 *
+	 * @param maxEntries must be greater than zero.
+	 * @return new {@link NearCacheConfiguration}.
+	 */
+	public static NearCacheConfiguration lfu(int maxEntries) {
+
+		Assert.isTrue(maxEntries > 0, "Max entries must be greater than zero!");
+
+		return new NearCacheConfiguration(maxEntries, DEFAULT_TTL, EvictionPolicy.LFU);
+	}
+
+	/**
+	 * Set the time to live for near cache entries. Entries never outlive the {@link RedisCacheConfiguration#getTtl() ttl}
+	 * of the actual cache entry written through the same {@link RedisCache}.
+	 *
+	 * @param ttl must not be {@literal null} and must be positive.
+	 * @return new {@link NearCacheConfiguration}.
+	 */
+	public NearCacheConfiguration entryTtl(Duration ttl) {
+
+		Assert.notNull(ttl, "TTL duration must not be null!");
+		Assert.isTrue(!ttl.isZero() && !ttl.isNegative(), "TTL duration must be positive!");
+
+		return new NearCacheConfiguration(maxEntries, ttl, evictionPolicy);
+	}
+
+	/**
+	 * @return the maximum number of entries held in the near cache.
+	 */
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	/**
+	 * @return the time to live for near cache entries. Never {@literal null}.
+	 */
+	public Duration getTtl() {
+		return ttl;
+	}
+
+	/**
+	 * @return the {@link EvictionPolicy} applied when the near cache is full. Never {@literal null}.
+	 */
+	public EvictionPolicy getEvictionPolicy() {
+		return evictionPolicy;
+	}
+
+	/**
+	 * Policy to select entries to remove once a near cache reaches its {@link #getMaxEntries() size limit}.
+	 *
+	 * @author Mark Paluch
+	 * @since 2.2
+	 */
+	public enum EvictionPolicy {
+
+		/**
+		 * Evict the least recently used entry.
+		 */
+		LRU,
+
+		/**
+		 * Evict the least frequently used entry among a sample of the oldest entries. Usage counters of sampled entries
+		 * that survive eviction are halved so that formerly hot entries age out eventually.
+		 */
+		LFU
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Keeps {@link NearCache near caches} of multiple instances coherent by broadcasting {@code put}, {@code evict} and
+ * {@code clear} operations through a Redis Pub/Sub channel. Messages published by this instance are ignored on
+ * receipt. <br />
+ * The message format is {@code [16 bytes sender id][1 byte operation][2 bytes cache name length][cache name][key]}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+class NearCacheSynchronizer implements MessageListener {
+
+	static final String DEFAULT_CHANNEL = "spring-data-redis:cache:near-cache-invalidation";
+
+	private static final Log LOGGER = LogFactory.getLog(NearCacheSynchronizer.class);
+
+	private static final byte OP_INVALIDATE = 1;
+	private static final byte OP_CLEAR = 2;
+	private static final int HEADER_LENGTH = 16 + 1 + 2;
+
+	private final RedisConnectionFactory connectionFactory;
+	private final byte[] channel;
+	private final long senderIdMsb;
+	private final long senderIdLsb;
+	private final Map<String, NearCache> nearCaches = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link NearCacheSynchronizer} and register it with the given {@link RedisMessageListenerContainer}.
+	 *
+	 * @param listenerContainer must not be {@literal null}.
+	 * @param channel must not be {@literal null}.
+	 */
+	NearCacheSynchronizer(RedisMessageListenerContainer listenerContainer, String channel) {
+
+		Assert.notNull(listenerContainer, "RedisMessageListenerContainer must not be null!");
+		Assert.notNull(listenerContainer.getConnectionFactory(),
+				"RedisMessageListenerContainer must be configured with a RedisConnectionFactory!");
+		Assert.hasText(channel, "Channel must not be null or empty!");
+
+		UUID senderId = UUID.randomUUID();
+
+		this.connectionFactory = listenerContainer.getConnectionFactory();
+		this.channel = channel.getBytes(StandardCharsets.UTF_8);
+		this.senderIdMsb = senderId.getMostSignificantBits();
+		this.senderIdLsb = senderId.getLeastSignificantBits();
+
+		listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+	}
+
+	/**
+	 * Register the {@link NearCache} for {@code cacheName} to receive invalidations from other instances.
+	 *
+	 * @param cacheName must not be {@literal null}.
+	 * @param nearCache must not be {@literal null}.
+	 */
+	void register(String cacheName, NearCache nearCache) {
+		nearCaches.put(cacheName, nearCache);
+	}
+
+	/**
+	 * Notify other instances that the entry for {@code key} of cache {@code cacheName} changed.
+	 *
+	 * @param cacheName must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 */
+	void invalidate(String cacheName, byte[] key) {
+		publish(OP_INVALIDATE, cacheName, key);
+	}
+
+	/**
+	 * Notify other instances that cache {@code cacheName} has been cleared.
+	 *
+	 * @param cacheName must not be {@literal null}.
+	 */
+	void clear(String cacheName) {
+		publish(OP_CLEAR, cacheName, new byte[0]);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.MessageListener#onMessage(org.springframework.data.redis.connection.Message, byte[])
+	 */
+	@Override
+	public void onMessage(Message message, @Nullable byte[] pattern) {
+
+		ByteBuffer buffer = ByteBuffer.wrap(message.getBody());
+
+		if (buffer.remaining() < HEADER_LENGTH) {
+
+			LOGGER.debug("Ignoring malformed near cache invalidation message.");
+			return;
+		}
+
+		if (buffer.getLong() == senderIdMsb && buffer.getLong() == senderIdLsb) {
+			return;
+		}
+
+		buffer.position(16);
+
+		byte operation = buffer.get();
+		byte[] cacheName = new byte[buffer.getShort() & 0xFFFF];
+		buffer.get(cacheName);
+
+		NearCache nearCache = nearCaches.get(new String(cacheName, StandardCharsets.UTF_8));
+
+		if (nearCache == null) {
+			return;
+		}
+
+		if (operation == OP_CLEAR) {
+
+			nearCache.clear();
+			return;
+		}
+
+		byte[] key = new byte[buffer.remaining()];
+		buffer.get(key);
+		nearCache.remove(key);
+	}
+
+	private void publish(byte operation, String cacheName, byte[] key) {
+
+		byte[] binaryCacheName = cacheName.getBytes(StandardCharsets.UTF_8);
+
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + binaryCacheName.length + key.length);
+		buffer.putLong(senderIdMsb).putLong(senderIdLsb).put(operation).putShort((short) binaryCacheName.length)
+				.put(binaryCacheName).put(key);
+
+		RedisConnection connection = connectionFactory.getConnection();
+
+		try {
+			connection.publish(channel, buffer.array());
+		} finally {
+			connection.close();
+		}
+	}
+}
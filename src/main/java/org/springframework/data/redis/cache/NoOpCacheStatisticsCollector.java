@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import org.springframework.data.redis.cache.CacheStatistics.Operation;
+
+/**
+ * {@link CacheStatisticsCollector} implementation that does not capture anything and reports empty statistics.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+enum NoOpCacheStatisticsCollector implements CacheStatisticsCollector {
+
+	INSTANCE;
+
+	@Override
+	public void incPuts(String cacheName) {}
+
+	@Override
+	public void incGets(String cacheName) {}
+
+	@Override
+	public void incHits(String cacheName) {}
+
+	@Override
+	public void incMisses(String cacheName) {}
+
+	@Override
+	public void incDeletesBy(String cacheName, long value) {}
+
+	@Override
+	public void incLockTime(String cacheName, long durationNanos) {}
+
+	@Override
+	public void recordLatency(String cacheName, Operation operation, long durationNanos) {}
+
+	@Override
+	public void reset(String cacheName) {}
+
+	@Override
+	public CacheStatistics getCacheStatistics(String cacheName) {
+		return DefaultCacheStatistics.empty(cacheName);
+	}
+}
@@ -0,0 +1,448 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Non-blocking cache facade using Redis as underlying store through a {@link ReactiveRedisCacheWriter}. Keys and values
+ * are created and serialized according to the given {@link RedisCacheConfiguration} so that entries can be shared with
+ * a {@link RedisCache} using the same configuration. <br />
+ * The {@link RedisCacheConfiguration#getTtl() ttl} including {@link RedisCacheConfiguration#getTtlJitter() jitter}, key
+ * prefixes, {@literal null} values and {@link RedisCacheConfiguration#useGenerationalKeyPrefix() generational key
+ * prefixes} are applied. Near caching, early refresh and value loader locking are specific to {@link RedisCache} and
+ * not considered.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ * @see ReactiveRedisCacheWriter
+ */
+public class ReactiveRedisCache {
+
+	private static final ByteBuffer BINARY_NULL_VALUE = ByteBuffer.wrap(RedisCache.BINARY_NULL_VALUE);
+
+	private final String name;
+	private final ReactiveRedisCacheWriter cacheWriter;
+	private final RedisCacheConfiguration cacheConfig;
+	private final RedisCacheSupport support;
+	private final boolean compactKeyEncoding;
+
+	/**
+	 * Create new {@link ReactiveRedisCache}.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param cacheWriter must not be {@literal null}.
+	 * @param cacheConfig must not be {@literal null}.
+	 */
+	public ReactiveRedisCache(String name, ReactiveRedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfig) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(cacheWriter, "CacheWriter must not be null!");
+		Assert.notNull(cacheConfig, "CacheConfig must not be null!");
+
+		this.name = name;
+		this.cacheWriter = cacheWriter;
+		this.cacheConfig = cacheConfig;
+		this.support = new RedisCacheSupport(name, cacheConfig);
+		this.compactKeyEncoding = cacheConfig.usesDefaultKeySerialization() && !isOverridden("convertKey", Object.class)
+				&& !isOverridden("serializeCacheKey", String.class);
+	}
+
+	/**
+	 * @return the cache name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the underlying {@link ReactiveRedisCacheWriter}.
+	 */
+	public ReactiveRedisCacheWriter getNativeCache() {
+		return cacheWriter;
+	}
+
+	/**
+	 * Get {@link RedisCacheConfiguration} used.
+	 *
+	 * @return immutable {@link RedisCacheConfiguration}. Never {@literal null}.
+	 */
+	public RedisCacheConfiguration getCacheConfiguration() {
+		return cacheConfig;
+	}
+
+	/**
+	 * Get the value stored for {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return {@link Mono} emitting the {@link ValueWrapper} holding the value, which may be {@literal null} if
+	 *         {@literal null} values are allowed, or completing without value if there is no entry for {@code key}.
+	 */
+	public Mono<ValueWrapper> get(Object key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return createAndConvertCacheKey(key).flatMap(cacheKey -> cacheWriter.get(name, cacheKey))
+				.map(value -> new SimpleValueWrapper(fromStoreValue(deserializeCacheValue(value))));
+	}
+
+	/**
+	 * Get the value stored for {@code key} as {@code type}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return {@link Mono} emitting the value or completing without value if there is no entry for {@code key} or the
+	 *         entry holds {@literal null}.
+	 * @throws IllegalStateException if the cached value is not of {@code type}.
+	 */
+	public <T> Mono<T> get(Object key, Class<T> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		return get(key).filter(wrapper -> wrapper.get() != null).map(wrapper -> {
+
+			Object value = wrapper.get();
+
+			if (!type.isInstance(value)) {
+				throw new IllegalStateException(
+						String.format("Cached value is not of required type [%s]: %s", type.getName(), value));
+			}
+
+			return type.cast(value);
+		});
+	}
+
+	/**
+	 * Get the value stored for {@code key} or obtain it from {@code valueLoader} and store it if there is no entry for
+	 * {@code key}. A {@code valueLoader} completing without value is stored as {@literal null} if {@literal null}
+	 * values are allowed.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param valueLoader must not be {@literal null}.
+	 * @return {@link Mono} emitting the cached or loaded value or completing without value if the value is
+	 *         {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Mono<T> get(Object key, Supplier<? extends Mono<T>> valueLoader) {
+
+		Assert.notNull(valueLoader, "Value loader must not be null!");
+
+		// branch on the presence of the entry as a cached null value must not invoke the value loader.
+		return get(key).map(wrapper -> Optional.ofNullable((T) wrapper.get())) //
+				.switchIfEmpty(Mono.defer(() -> load(key, valueLoader))) //
+				.filter(Optional::isPresent).map(Optional::get);
+	}
+
+	/**
+	 * Get the values stored for the given {@code keys} using a single bulk read.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @return {@link Mono} emitting a {@link Map} of keys along with their {@link ValueWrapper} containing only keys
+	 *         present in the cache.
+	 */
+	public Mono<Map<Object, ValueWrapper>> getAll(Collection<?> keys) {
+
+		Assert.notNull(keys, "Keys must not be null!");
+
+		List<Object> cacheKeys = new ArrayList<>(keys);
+
+		return currentGeneration().flatMap(generation -> {
+
+			List<ByteBuffer> binaryKeys = new ArrayList<>(cacheKeys.size());
+
+			for (Object key : cacheKeys) {
+				binaryKeys.add(createAndConvertCacheKey(key, generation));
+			}
+
+			return cacheWriter.get(name, binaryKeys);
+		}).map(values -> {
+
+			Map<Object, ValueWrapper> result = new LinkedHashMap<>(cacheKeys.size());
+
+			for (int i = 0; i < cacheKeys.size(); i++) {
+
+				ByteBuffer value = values.get(i);
+
+				if (value != null) {
+					result.put(cacheKeys.get(i), new SimpleValueWrapper(fromStoreValue(deserializeCacheValue(value))));
+				}
+			}
+
+			return result;
+		});
+	}
+
+	/**
+	 * Store {@code value} for {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value can be {@literal null} if {@literal null} values are allowed.
+	 * @return {@link Mono} signaling completion.
+	 */
+	public Mono<Void> put(Object key, @Nullable Object value) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		Object cacheValue = preProcessCacheValue(value);
+
+		if (cacheValue == null) {
+			return Mono.error(nullValuesNotAllowed());
+		}
+
+		return createAndConvertCacheKey(key)
+				.flatMap(cacheKey -> cacheWriter.put(name, cacheKey, serializeCacheValue(cacheValue),
+						support.entryTtl(RedisCache.TTL_JITTER_STEPS)));
+	}
+
+	/**
+	 * Store all given {@code entries} using bulk writes, one per distinct ttl if a
+	 * {@link RedisCacheConfiguration#getTtlJitter() ttl jitter} is configured.
+	 *
+	 * @param entries must not be {@literal null}.
+	 * @return {@link Mono} signaling completion.
+	 */
+	public Mono<Void> putAll(Map<?, ?> entries) {
+
+		Assert.notNull(entries, "Entries must not be null!");
+
+		return currentGeneration().flatMap(generation -> {
+
+			// spread expiration times across a limited number of distinct ttls to retain bulk writes
+			Map<Duration, Map<ByteBuffer, ByteBuffer>> valuesByTtl = new LinkedHashMap<>();
+
+			for (Map.Entry<?, ?> entry : entries.entrySet()) {
+
+				Object cacheValue = preProcessCacheValue(entry.getValue());
+
+				if (cacheValue == null) {
+					return Mono.<Void> error(nullValuesNotAllowed());
+				}
+
+				valuesByTtl.computeIfAbsent(support.entryTtl(RedisCache.TTL_JITTER_STEPS), it -> new LinkedHashMap<>())
+						.put(createAndConvertCacheKey(entry.getKey(), generation), serializeCacheValue(cacheValue));
+			}
+
+			return Flux.fromIterable(valuesByTtl.entrySet())
+					.concatMap(ttlValues -> cacheWriter.put(name, ttlValues.getValue(), ttlValues.getKey())).then();
+		});
+	}
+
+	/**
+	 * Store {@code value} for {@code key} unless there is an entry for {@code key} already.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value can be {@literal null} if {@literal null} values are allowed.
+	 * @return {@link Mono} emitting the {@link ValueWrapper} of the existing value or completing without value if
+	 *         {@code value} has been stored.
+	 */
+	public Mono<ValueWrapper> putIfAbsent(Object key, @Nullable Object value) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		Object cacheValue = preProcessCacheValue(value);
+
+		if (cacheValue == null) {
+			return get(key);
+		}
+
+		return createAndConvertCacheKey(key)
+				.flatMap(cacheKey -> cacheWriter.putIfAbsent(name, cacheKey, serializeCacheValue(cacheValue),
+						support.entryTtl(RedisCache.TTL_JITTER_STEPS)))
+				.map(existing -> new SimpleValueWrapper(fromStoreValue(deserializeCacheValue(existing))));
+	}
+
+	/**
+	 * Remove the entry for {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return {@link Mono} signaling completion.
+	 */
+	public Mono<Void> evict(Object key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return createAndConvertCacheKey(key).flatMap(cacheKey -> cacheWriter.remove(name, cacheKey));
+	}
+
+	/**
+	 * Remove all entries of this cache.
+	 *
+	 * @return {@link Mono} signaling completion.
+	 */
+	public Mono<Void> clear() {
+
+		if (cacheConfig.useGenerationalKeyPrefix()) {
+			return cacheWriter.increment(name, createGenerationKey()).doOnNext(support::updateGeneration).then();
+		}
+
+		return cacheWriter.clean(name, ByteUtils.getByteBuffer(support.createCacheKey("*", 0)));
+	}
+
+	/**
+	 * Customization hook called before passing object to {@link org.springframework.data.redis.serializer.RedisSerializer}.
+	 *
+	 * @param value can be {@literal null}.
+	 * @return preprocessed value. Can be {@literal null}.
+	 */
+	@Nullable
+	protected Object preProcessCacheValue(@Nullable Object value) {
+
+		if (value != null) {
+			return value;
+		}
+
+		return cacheConfig.getAllowCacheNullValues() ? NullValue.INSTANCE : null;
+	}
+
+	/**
+	 * Serialize the key.
+	 *
+	 * @param cacheKey must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	protected ByteBuffer serializeCacheKey(String cacheKey) {
+		return cacheConfig.getKeySerializationPair().write(cacheKey);
+	}
+
+	/**
+	 * Serialize the value to cache.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	protected ByteBuffer serializeCacheValue(Object value) {
+
+		if (cacheConfig.getAllowCacheNullValues() && value instanceof NullValue) {
+			return BINARY_NULL_VALUE.duplicate();
+		}
+
+		return cacheConfig.getValueSerializationPair().write(value);
+	}
+
+	/**
+	 * Deserialize the given value to the actual cache value.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	@Nullable
+	protected Object deserializeCacheValue(ByteBuffer value) {
+
+		if (cacheConfig.getAllowCacheNullValues() && BINARY_NULL_VALUE.equals(value)) {
+			return NullValue.INSTANCE;
+		}
+
+		return cacheConfig.getValueSerializationPair().read(value);
+	}
+
+	/**
+	 * Convert {@code key} to a {@link String} representation used for cache key creation.
+	 *
+	 * @param key will never be {@literal null}.
+	 * @return never {@literal null}.
+	 * @throws IllegalStateException if {@code key} cannot be converted to {@link String}.
+	 */
+	protected String convertKey(Object key) {
+		return support.convertKey(key);
+	}
+
+	private <T> Mono<Optional<T>> load(Object key, Supplier<? extends Mono<T>> valueLoader) {
+
+		return valueLoader.get().map(Optional::of).defaultIfEmpty(Optional.empty()).flatMap(value -> {
+
+			if (!value.isPresent() && !cacheConfig.getAllowCacheNullValues()) {
+				return Mono.just(value);
+			}
+
+			return put(key, value.orElse(null)).thenReturn(value);
+		});
+	}
+
+	@Nullable
+	private Object fromStoreValue(@Nullable Object storeValue) {
+
+		if (cacheConfig.getAllowCacheNullValues() && storeValue == NullValue.INSTANCE) {
+			return null;
+		}
+
+		return storeValue;
+	}
+
+	private boolean isOverridden(String methodName, Class<?>... parameterTypes) {
+		return RedisCacheSupport.isOverridden(getClass(), ReactiveRedisCache.class, methodName, parameterTypes);
+	}
+
+	private Mono<ByteBuffer> createAndConvertCacheKey(Object key) {
+		return currentGeneration().map(generation -> createAndConvertCacheKey(key, generation));
+	}
+
+	private ByteBuffer createAndConvertCacheKey(Object key, long generation) {
+
+		if (compactKeyEncoding && support.canEncode(key)) {
+			return ByteBuffer.wrap(support.encodeCacheKey(key, generation));
+		}
+
+		return serializeCacheKey(support.createCacheKey(convertKey(key), generation));
+	}
+
+	/**
+	 * Obtain the current cache generation, reading it from Redis if the locally cached generation is older than the
+	 * configured refresh interval. Emits {@literal 0} if generational key prefixes are not used.
+	 */
+	private Mono<Long> currentGeneration() {
+
+		if (!cacheConfig.useGenerationalKeyPrefix()) {
+			return Mono.just(0L);
+		}
+
+		if (support.isGenerationFresh()) {
+			return Mono.just(support.getGeneration());
+		}
+
+		return cacheWriter.get(name, createGenerationKey())
+				.map(value -> Long.parseLong(StandardCharsets.US_ASCII.decode(value).toString()))
+				.defaultIfEmpty(0L).doOnNext(support::updateGeneration);
+	}
+
+	private ByteBuffer createGenerationKey() {
+		return serializeCacheKey(support.getGenerationKey());
+	}
+
+	private IllegalArgumentException nullValuesNotAllowed() {
+		return new IllegalArgumentException(String.format(
+				"Cache '%s' does not allow 'null' values. Avoid storing null or configure ReactiveRedisCache to allow 'null' via RedisCacheConfiguration.",
+				name));
+	}
+}
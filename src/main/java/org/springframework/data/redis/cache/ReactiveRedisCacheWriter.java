@@ -0,0 +1,149 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ReactiveRedisCacheWriter} provides low level, non-blocking access to Redis commands used for caching. It is the
+ * reactive counterpart of {@link RedisCacheWriter} and is responsible for writing / reading binary data to / from Redis
+ * without blocking the calling thread. <br />
+ * The {@link ReactiveRedisCacheWriter} may be shared by multiple cache implementations.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ * @see ReactiveRedisCache
+ */
+public interface ReactiveRedisCacheWriter {
+
+	/**
+	 * Create new {@link ReactiveRedisCacheWriter}.
+	 *
+	 * @param connectionFactory must not be {@literal null}.
+	 * @return new instance of {@link DefaultReactiveRedisCacheWriter}.
+	 */
+	static ReactiveRedisCacheWriter create(ReactiveRedisConnectionFactory connectionFactory) {
+
+		Assert.notNull(connectionFactory, "ConnectionFactory must not be null!");
+
+		return new DefaultReactiveRedisCacheWriter(connectionFactory);
+	}
+
+	/**
+	 * Create new {@link ReactiveRedisCacheWriter} removing keys in batches of {@code scanBatchSize} when cleaning a cache.
+	 *
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param scanBatchSize must be greater than zero.
+	 * @return new instance of {@link DefaultReactiveRedisCacheWriter}.
+	 */
+	static ReactiveRedisCacheWriter create(ReactiveRedisConnectionFactory connectionFactory, int scanBatchSize) {
+
+		Assert.notNull(connectionFactory, "ConnectionFactory must not be null!");
+		Assert.isTrue(scanBatchSize > 0, "Scan batch size must be greater than zero!");
+
+		return new DefaultReactiveRedisCacheWriter(connectionFactory, scanBatchSize);
+	}
+
+	/**
+	 * Write the given key/value pair to Redis an set the expiration time if defined.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param key The key for the cache entry. Must not be {@literal null}.
+	 * @param value The value stored for the key. Must not be {@literal null}.
+	 * @param ttl Optional expiration time. Can be {@literal null}.
+	 * @return {@link Mono} signaling completion.
+	 */
+	Mono<Void> put(String name, ByteBuffer key, ByteBuffer value, @Nullable Duration ttl);
+
+	/**
+	 * Write the given key/value pairs to Redis and set the expiration time if defined. All pairs are sent without waiting
+	 * for individual responses.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param values The key/value pairs to store. Must not be {@literal null}.
+	 * @param ttl Optional expiration time. Can be {@literal null}.
+	 * @return {@link Mono} signaling completion.
+	 */
+	Mono<Void> put(String name, Map<ByteBuffer, ByteBuffer> values, @Nullable Duration ttl);
+
+	/**
+	 * Get the binary value representation from Redis stored for the given key.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 * @return {@link Mono} emitting the value or completing without value if the key does not exist.
+	 */
+	Mono<ByteBuffer> get(String name, ByteBuffer key);
+
+	/**
+	 * Get the binary value representations from Redis stored for the given keys using a single round trip.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param keys must not be {@literal null}.
+	 * @return {@link Mono} emitting a {@link List} of values in the order of the given {@code keys} containing
+	 *         {@literal null} for keys that do not exist.
+	 */
+	Mono<List<ByteBuffer>> get(String name, List<ByteBuffer> keys);
+
+	/**
+	 * Write the given value to Redis if the key does not already exist.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param key The key for the cache entry. Must not be {@literal null}.
+	 * @param value The value stored for the key. Must not be {@literal null}.
+	 * @param ttl Optional expiration time. Can be {@literal null}.
+	 * @return {@link Mono} completing without value if the value has been written, emitting the value stored for the key
+	 *         if it already exists.
+	 */
+	Mono<ByteBuffer> putIfAbsent(String name, ByteBuffer key, ByteBuffer value, @Nullable Duration ttl);
+
+	/**
+	 * Increment the numeric value stored for the given key by one. A key that does not exist is set to {@literal 0}
+	 * before incrementing.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param key The key holding the counter. Must not be {@literal null}.
+	 * @return {@link Mono} emitting the value after the increment.
+	 */
+	Mono<Long> increment(String name, ByteBuffer key);
+
+	/**
+	 * Remove the given key from Redis.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param key The key for the cache entry. Must not be {@literal null}.
+	 * @return {@link Mono} signaling completion.
+	 */
+	Mono<Void> remove(String name, ByteBuffer key);
+
+	/**
+	 * Remove all keys following the given pattern using {@code SCAN} and {@code UNLINK}.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param pattern The pattern for the keys to remove. Must not be {@literal null}.
+	 * @return {@link Mono} signaling completion.
+	 */
+	Mono<Void> clean(String name, ByteBuffer pattern);
+}
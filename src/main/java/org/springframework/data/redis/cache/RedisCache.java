@@ -15,21 +15,32 @@
  */
 package org.springframework.data.redis.cache;
 
-import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.springframework.cache.support.AbstractValueAdaptingCache;
 import org.springframework.cache.support.NullValue;
 import org.springframework.cache.support.SimpleValueWrapper;
 import org.springframework.core.convert.ConversionService;
-import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.util.ByteUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
-import org.springframework.util.ReflectionUtils;
 
 /**
  * {@link org.springframework.cache.Cache} implementation using for Redis as underlying store.
@@ -44,12 +55,21 @@ import org.springframework.util.ReflectionUtils;
  */
 public class RedisCache extends AbstractValueAdaptingCache {
 
-	private static final byte[] BINARY_NULL_VALUE = RedisSerializer.java().serialize(NullValue.INSTANCE);
+	static final byte[] BINARY_NULL_VALUE = RedisSerializer.java().serialize(NullValue.INSTANCE);
+	private static final long LOCK_BACKOFF_MIN_MILLIS = 10;
+	private static final long LOCK_BACKOFF_MAX_MILLIS = 200;
+	static final int TTL_JITTER_STEPS = 16;
 
 	private final String name;
 	private final RedisCacheWriter cacheWriter;
 	private final RedisCacheConfiguration cacheConfig;
 	private final ConversionService conversionService;
+	private final Map<Object, InFlightLoad> inFlightLoads = new ConcurrentHashMap<>();
+	private final @Nullable NearCache nearCache;
+	private final @Nullable NearCacheSynchronizer nearCacheSynchronizer;
+	private final RedisCacheSupport support;
+	private final boolean compactKeyEncoding;
+	private volatile long averageLoadTimeNanos;
 
 	/**
 	 * Create new {@link RedisCache}.
@@ -59,6 +79,21 @@ public class RedisCache extends AbstractValueAdaptingCache {
 	 * @param cacheConfig must not be {@literal null}.
 	 */
 	protected RedisCache(String name, RedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfig) {
+		this(name, cacheWriter, cacheConfig, null);
+	}
+
+	/**
+	 * Create new {@link RedisCache} propagating changes to near caches of other instances through the given
+	 * {@link NearCacheSynchronizer}.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param cacheWriter must not be {@literal null}.
+	 * @param cacheConfig must not be {@literal null}.
+	 * @param nearCacheSynchronizer can be {@literal null}.
+	 * @since 2.2
+	 */
+	RedisCache(String name, RedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfig,
+			@Nullable NearCacheSynchronizer nearCacheSynchronizer) {
 
 		super(cacheConfig.getAllowCacheNullValues());
 
@@ -70,6 +105,19 @@ public class RedisCache extends AbstractValueAdaptingCache {
 		this.cacheWriter = cacheWriter;
 		this.cacheConfig = cacheConfig;
 		this.conversionService = cacheConfig.getConversionService();
+		this.support = new RedisCacheSupport(name, cacheConfig);
+		this.compactKeyEncoding = cacheConfig.usesDefaultKeySerialization()
+				&& !isOverridden("createCacheKey", Object.class) && !isOverridden("convertKey", Object.class)
+				&& !isOverridden("serializeCacheKey", String.class);
+
+		NearCacheConfiguration nearCacheConfig = cacheConfig.getNearCacheConfiguration();
+
+		this.nearCache = nearCacheConfig != null ? new NearCache(nearCacheConfig, cacheConfig.getTtl()) : null;
+		this.nearCacheSynchronizer = this.nearCache != null ? nearCacheSynchronizer : null;
+
+		if (this.nearCache != null && this.nearCacheSynchronizer != null) {
+			this.nearCacheSynchronizer.register(name, this.nearCache);
+		}
 	}
 
 	/*
@@ -79,13 +127,30 @@ public class RedisCache extends AbstractValueAdaptingCache {
 	@Override
 	protected Object lookup(Object key) {
 
-		byte[] value = cacheWriter.get(name, createAndConvertCacheKey(key));
+		byte[] cacheKey = createAndConvertCacheKey(key);
+
+		if (nearCache != null) {
+
+			Object nearValue = nearCache.get(cacheKey);
+
+			if (nearValue != null) {
+				return nearValue;
+			}
+		}
+
+		byte[] value = cacheWriter.get(name, cacheKey);
 
 		if (value == null) {
 			return null;
 		}
 
-		return deserializeCacheValue(value);
+		Object cacheValue = deserializeCacheValue(value);
+
+		if (nearCache != null && cacheValue != null) {
+			nearCache.put(cacheKey, cacheValue);
+		}
+
+		return cacheValue;
 	}
 
 	/*
@@ -112,17 +177,40 @@ public class RedisCache extends AbstractValueAdaptingCache {
 	 */
 	@Override
 	@SuppressWarnings("unchecked")
-	public synchronized <T> T get(Object key, Callable<T> valueLoader) {
+	public <T> T get(Object key, Callable<T> valueLoader) {
 
-		ValueWrapper result = get(key);
+		ValueWrapper result = cacheConfig.useEarlyRefresh() ? getAndRefreshEarly(key, valueLoader) : get(key);
 
 		if (result != null) {
 			return (T) result.get();
 		}
 
-		T value = valueFromLoader(key, valueLoader);
-		put(key, value);
-		return value;
+		InFlightLoad loading = new InFlightLoad(Thread.currentThread());
+		InFlightLoad inFlight = inFlightLoads.putIfAbsent(key, loading);
+
+		if (inFlight != null) {
+
+			if (inFlight.isLoadedBy(Thread.currentThread())) {
+
+				// reentrant call from within the value loader, waiting for the in-flight load would never return.
+				return loadAndPut(key, valueLoader);
+			}
+
+			return (T) awaitInFlightLoad(key, valueLoader, inFlight);
+		}
+
+		try {
+
+			T value = cacheConfig.isLockValueLoading() ? loadWithLock(key, valueLoader) : loadAndPut(key, valueLoader);
+			loading.complete(value);
+			return value;
+		} catch (Throwable ex) {
+
+			loading.completeExceptionally(ex);
+			throw ex;
+		} finally {
+			inFlightLoads.remove(key, loading);
+		}
 	}
 
 	/*
@@ -141,7 +229,132 @@ public class RedisCache extends AbstractValueAdaptingCache {
 					name));
 		}
 
-		cacheWriter.put(name, createAndConvertCacheKey(key), serializeCacheValue(cacheValue), cacheConfig.getTtl());
+		byte[] cacheKey = createAndConvertCacheKey(key);
+
+		cacheWriter.put(name, cacheKey, serializeCacheValue(cacheValue), support.entryTtl(TTL_JITTER_STEPS));
+
+		if (nearCache != null) {
+
+			nearCache.put(cacheKey, cacheValue);
+			invalidateRemoteNearCaches(cacheKey);
+		}
+	}
+
+	/**
+	 * Get the values stored for the given {@code keys} using a single bulk read for all entries not held in the near
+	 * cache.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @return {@link Map} of keys along with their {@link ValueWrapper} containing only keys present in the cache. Never
+	 *         {@literal null}.
+	 * @since 2.2
+	 */
+	public Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+
+		Assert.notNull(keys, "Keys must not be null!");
+
+		Map<Object, ValueWrapper> result = new LinkedHashMap<>(keys.size());
+		List<Object> pendingKeys = new ArrayList<>(keys.size());
+		List<byte[]> pendingCacheKeys = new ArrayList<>(keys.size());
+
+		for (Object key : keys) {
+
+			byte[] cacheKey = createAndConvertCacheKey(key);
+			Object nearValue = nearCache != null ? nearCache.get(cacheKey) : null;
+
+			if (nearValue != null) {
+				result.put(key, toValueWrapper(nearValue));
+			} else {
+
+				pendingKeys.add(key);
+				pendingCacheKeys.add(cacheKey);
+			}
+		}
+
+		if (pendingKeys.isEmpty()) {
+			return result;
+		}
+
+		List<byte[]> values = cacheWriter.get(name, pendingCacheKeys.toArray(new byte[0][]));
+
+		for (int i = 0; i < pendingKeys.size(); i++) {
+
+			byte[] value = values.get(i);
+
+			if (value == null) {
+				continue;
+			}
+
+			Object cacheValue = deserializeCacheValue(value);
+
+			if (nearCache != null && cacheValue != null) {
+				nearCache.put(pendingCacheKeys.get(i), cacheValue);
+			}
+
+			ValueWrapper wrapper = toValueWrapper(cacheValue);
+
+			if (wrapper != null) {
+				result.put(pendingKeys.get(i), wrapper);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Store all given {@code entries} using a single bulk write.
+	 *
+	 * @param entries must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@literal null} values are not allowed and {@code entries} contains a
+	 *           {@literal null} value.
+	 * @since 2.2
+	 */
+	public void putAll(Map<?, ?> entries) {
+
+		Assert.notNull(entries, "Entries must not be null!");
+
+		Map<byte[], byte[]> values = new LinkedHashMap<>(entries.size());
+		Map<byte[], Object> cacheValues = nearCache != null ? new LinkedHashMap<>(entries.size()) : null;
+
+		entries.forEach((key, value) -> {
+
+			Object cacheValue = preProcessCacheValue(value);
+
+			if (!isAllowNullValues() && cacheValue == null) {
+
+				throw new IllegalArgumentException(String.format(
+						"Cache '%s' does not allow 'null' values. Avoid storing null via '@Cacheable(unless=\"#result == null\")' or configure RedisCache to allow 'null' via RedisCacheConfiguration.",
+						name));
+			}
+
+			byte[] cacheKey = createAndConvertCacheKey(key);
+			values.put(cacheKey, serializeCacheValue(cacheValue));
+
+			if (cacheValues != null) {
+				cacheValues.put(cacheKey, cacheValue);
+			}
+		});
+
+		if (cacheConfig.getTtlJitter().isZero()) {
+			cacheWriter.put(name, values, cacheConfig.getTtl());
+		} else {
+
+			// spread expiration times across a limited number of distinct ttls to retain bulk writes
+			Map<Duration, Map<byte[], byte[]>> valuesByTtl = new HashMap<>();
+			values.forEach((cacheKey, value) -> valuesByTtl
+					.computeIfAbsent(support.entryTtl(TTL_JITTER_STEPS), it -> new LinkedHashMap<>())
+					.put(cacheKey, value));
+			valuesByTtl.forEach((ttl, ttlValues) -> cacheWriter.put(name, ttlValues, ttl));
+		}
+
+		if (nearCache != null && cacheValues != null) {
+
+			cacheValues.forEach((cacheKey, cacheValue) -> {
+
+				nearCache.put(cacheKey, cacheValue);
+				invalidateRemoteNearCaches(cacheKey);
+			});
+		}
 	}
 
 	/*
@@ -157,8 +370,18 @@ public class RedisCache extends AbstractValueAdaptingCache {
 			return get(key);
 		}
 
-		byte[] result = cacheWriter.putIfAbsent(name, createAndConvertCacheKey(key), serializeCacheValue(cacheValue),
-				cacheConfig.getTtl());
+		byte[] cacheKey = createAndConvertCacheKey(key);
+		byte[] result = cacheWriter.putIfAbsent(name, cacheKey, serializeCacheValue(cacheValue),
+				support.entryTtl(TTL_JITTER_STEPS));
+
+		if (nearCache != null) {
+
+			nearCache.remove(cacheKey);
+
+			if (result == null) {
+				invalidateRemoteNearCaches(cacheKey);
+			}
+		}
 
 		if (result == null) {
 			return null;
@@ -173,7 +396,16 @@ public class RedisCache extends AbstractValueAdaptingCache {
 	 */
 	@Override
 	public void evict(Object key) {
-		cacheWriter.remove(name, createAndConvertCacheKey(key));
+
+		byte[] cacheKey = createAndConvertCacheKey(key);
+
+		cacheWriter.remove(name, cacheKey);
+
+		if (nearCache != null) {
+
+			nearCache.remove(cacheKey);
+			invalidateRemoteNearCaches(cacheKey);
+		}
 	}
 
 	/*
@@ -183,8 +415,44 @@ public class RedisCache extends AbstractValueAdaptingCache {
 	@Override
 	public void clear() {
 
-		byte[] pattern = conversionService.convert(createCacheKey("*"), byte[].class);
-		cacheWriter.clean(name, pattern);
+		if (cacheConfig.useGenerationalKeyPrefix()) {
+			support.updateGeneration(cacheWriter.increment(name, createGenerationKey()));
+		} else {
+
+			byte[] pattern = conversionService.convert(createCacheKey("*"), byte[].class);
+			cacheWriter.clean(name, pattern);
+		}
+
+		if (nearCache != null) {
+
+			nearCache.clear();
+
+			if (nearCacheSynchronizer != null) {
+				nearCacheSynchronizer.clear(name);
+			}
+		}
+	}
+
+	/**
+	 * Obtain snapshot of the statistics captured by the {@link RedisCacheWriter} for this cache. Lookups served by the
+	 * {@link RedisCacheConfiguration#useNearCache() near cache} do not reach the {@link RedisCacheWriter} and are
+	 * therefore not counted.
+	 *
+	 * @return never {@literal null}.
+	 * @since 2.2
+	 * @see RedisCacheWriter#withStatisticsCollector(CacheStatisticsCollector)
+	 */
+	public CacheStatistics getStatistics() {
+		return cacheWriter.getCacheStatistics(name);
+	}
+
+	/**
+	 * Reset all statistics counters and gauges for this cache.
+	 *
+	 * @since 2.2
+	 */
+	public void clearStatistics() {
+		cacheWriter.clearStatistics(name);
 	}
 
 	/**
@@ -261,14 +529,7 @@ public class RedisCache extends AbstractValueAdaptingCache {
 	 * @return never {@literal null}.
 	 */
 	protected String createCacheKey(Object key) {
-
-		String convertedKey = convertKey(key);
-
-		if (!cacheConfig.usePrefix()) {
-			return convertedKey;
-		}
-
-		return prefixCacheKey(convertedKey);
+		return support.createCacheKey(convertKey(key), cacheConfig.useGenerationalKeyPrefix() ? currentGeneration() : 0);
 	}
 
 	/**
@@ -279,30 +540,243 @@ public class RedisCache extends AbstractValueAdaptingCache {
 	 * @throws IllegalStateException if {@code key} cannot be converted to {@link String}.
 	 */
 	protected String convertKey(Object key) {
+		return support.convertKey(key);
+	}
 
-		TypeDescriptor source = TypeDescriptor.forObject(key);
-		if (conversionService.canConvert(source, TypeDescriptor.valueOf(String.class))) {
-			return conversionService.convert(key, String.class);
+	/**
+	 * Obtain the current cache generation, reading it from Redis if the locally cached generation is older than the
+	 * configured refresh interval.
+	 */
+	private long currentGeneration() {
+
+		if (support.isGenerationFresh()) {
+			return support.getGeneration();
 		}
 
-		Method toString = ReflectionUtils.findMethod(key.getClass(), "toString");
+		long current = cacheWriter.getCounter(name, createGenerationKey());
 
-		if (toString != null && !Object.class.equals(toString.getDeclaringClass())) {
-			return key.toString();
-		}
+		support.updateGeneration(current);
+
+		return current;
+	}
+
+	private byte[] createGenerationKey() {
+		return serializeCacheKey(support.getGenerationKey());
+	}
 
-		throw new IllegalStateException(
-				String.format("Cannot convert %s to String. Register a Converter or override toString().", source));
+	private boolean isOverridden(String methodName, Class<?>... parameterTypes) {
+		return RedisCacheSupport.isOverridden(getClass(), RedisCache.class, methodName, parameterTypes);
+	}
+
+	private void invalidateRemoteNearCaches(byte[] cacheKey) {
+
+		if (nearCacheSynchronizer != null) {
+			nearCacheSynchronizer.invalidate(name, cacheKey);
+		}
 	}
 
 	private byte[] createAndConvertCacheKey(Object key) {
+
+		if (compactKeyEncoding && support.canEncode(key)) {
+			return support.encodeCacheKey(key, cacheConfig.useGenerationalKeyPrefix() ? currentGeneration() : -1);
+		}
+
 		return serializeCacheKey(createCacheKey(key));
 	}
 
-	private String prefixCacheKey(String key) {
+	/**
+	 * Load the value unless another caller has stored it in the meantime and write it to the cache.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> T loadAndPut(Object key, Callable<T> valueLoader) {
+
+		ValueWrapper result = get(key);
+
+		if (result != null) {
+			return (T) result.get();
+		}
+
+		return doLoadAndPut(key, valueLoader);
+	}
+
+	private <T> T doLoadAndPut(Object key, Callable<T> valueLoader) {
+
+		long start = System.nanoTime();
+		T value = valueFromLoader(key, valueLoader);
+		long loadTime = System.nanoTime() - start;
+		cacheWriter.recordLoadTime(name, loadTime);
+
+		// exponentially weighted moving average, races are benign.
+		long previousLoadTime = averageLoadTimeNanos;
+		averageLoadTimeNanos = previousLoadTime == 0 ? loadTime : (previousLoadTime * 7 + loadTime) / 8;
+
+		put(key, value);
+		return value;
+	}
+
+	/**
+	 * Look up the cache entry along with its remaining ttl and trigger an asynchronous refresh if the entry is
+	 * probabilistically considered close to expiry.
+	 */
+	@Nullable
+	private ValueWrapper getAndRefreshEarly(Object key, Callable<?> valueLoader) {
+
+		byte[] cacheKey = createAndConvertCacheKey(key);
+
+		if (nearCache != null) {
+
+			Object nearValue = nearCache.get(cacheKey);
+
+			if (nearValue != null) {
+				return toValueWrapper(nearValue);
+			}
+		}
+
+		ExpiringValue entry = cacheWriter.getWithTtl(name, cacheKey);
+
+		if (entry == null) {
+			return null;
+		}
+
+		Object cacheValue = deserializeCacheValue(entry.getValue());
+
+		if (nearCache != null && cacheValue != null) {
+			nearCache.put(cacheKey, cacheValue);
+		}
+
+		if (shouldRefreshEarly(entry.getRemainingTtl())) {
+			refreshAsync(key, valueLoader, fromStoreValue(cacheValue));
+		}
+
+		return toValueWrapper(cacheValue);
+	}
+
+	/**
+	 * Decide whether to recompute a value before it expires using {@literal XFetch}:
+	 * {@code -loadTime * beta * ln(random()) >= remainingTtl}. {@code loadTime} approximates the per-entry recompute
+	 * time of {@literal XFetch} with the moving average of all loads observed by this cache instance.
+	 */
+	private boolean shouldRefreshEarly(@Nullable Duration remainingTtl) {
+
+		long loadTime = averageLoadTimeNanos;
+
+		if (remainingTtl == null || loadTime == 0) {
+			return false;
+		}
+
+		double threshold = -loadTime * cacheConfig.getEarlyRefreshBeta()
+				* Math.log(ThreadLocalRandom.current().nextDouble());
+
+		return threshold >= remainingTtl.toNanos();
+	}
+
+	private void refreshAsync(Object key, Callable<?> valueLoader, @Nullable Object currentValue) {
+
+		Executor executor = cacheConfig.getEarlyRefreshExecutor();
+		InFlightLoad loading = new InFlightLoad(null);
+
+		if (executor == null || inFlightLoads.putIfAbsent(key, loading) != null) {
+			return;
+		}
+
+		try {
+			executor.execute(() -> {
+
+				loading.setLoadingThread(Thread.currentThread());
+
+				try {
+					loading.complete(doLoadAndPut(key, valueLoader));
+				} catch (Throwable ex) {
+
+					loading.completeExceptionally(ex);
+
+					if (ex instanceof Error) {
+						throw (Error) ex;
+					}
+				} finally {
+					inFlightLoads.remove(key, loading);
+				}
+			});
+		} catch (RuntimeException ex) {
 
-		// allow contextual cache names by computing the key prefix on every call.
-		return cacheConfig.getKeyPrefixFor(name) + key;
+			// refresh skipped (e.g. rejected), callers that started waiting in the meantime receive the current value.
+			inFlightLoads.remove(key, loading);
+			loading.complete(currentValue);
+		}
+	}
+
+	/**
+	 * Load the value while holding a lock {@literal key} in Redis so that only a single instance sharing the cache
+	 * invokes the {@link Callable value loader} for a cold entry. Callers not holding the lock wait for the value to
+	 * show up or for the lock to expire.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> T loadWithLock(Object key, Callable<T> valueLoader) {
+
+		byte[] lockKey = createValueLoaderLockKey(key);
+		byte[] token = UUID.randomUUID().toString().getBytes(StandardCharsets.US_ASCII);
+		long backOff = LOCK_BACKOFF_MIN_MILLIS;
+
+		while (true) {
+
+			if (cacheWriter.acquireLock(name, lockKey, token, cacheConfig.getValueLoaderLockTtl())) {
+
+				try {
+					return loadAndPut(key, valueLoader);
+				} finally {
+
+					// a load outliving the lock ttl must not remove the lock of another instance.
+					cacheWriter.releaseLock(name, lockKey, token);
+				}
+			}
+
+			try {
+				Thread.sleep(backOff);
+			} catch (InterruptedException ex) {
+
+				// Re-interrupt current thread, to allow other participants to react.
+				Thread.currentThread().interrupt();
+
+				throw new ValueRetrievalException(key, valueLoader, ex);
+			}
+
+			backOff = Math.min(backOff * 2, LOCK_BACKOFF_MAX_MILLIS);
+
+			ValueWrapper result = get(key);
+
+			if (result != null) {
+				return (T) result.get();
+			}
+		}
+	}
+
+	@Nullable
+	private static Object awaitInFlightLoad(Object key, Callable<?> valueLoader, CompletableFuture<Object> inFlight) {
+
+		try {
+			return inFlight.get();
+		} catch (InterruptedException ex) {
+
+			// Re-interrupt current thread, to allow other participants to react.
+			Thread.currentThread().interrupt();
+
+			throw new ValueRetrievalException(key, valueLoader, ex);
+		} catch (ExecutionException ex) {
+
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+
+			if (ex.getCause() instanceof Error) {
+				throw (Error) ex.getCause();
+			}
+
+			throw new ValueRetrievalException(key, valueLoader, ex.getCause());
+		}
+	}
+
+	private byte[] createValueLoaderLockKey(Object key) {
+		return serializeCacheKey(createCacheKey(key) + "~loading");
 	}
 
 	private static <T> T valueFromLoader(Object key, Callable<T> valueLoader) {
@@ -313,4 +787,24 @@ public class RedisCache extends AbstractValueAdaptingCache {
 			throw new ValueRetrievalException(key, valueLoader, e);
 		}
 	}
+
+	/**
+	 * Value load in progress along with the {@link Thread} invoking the value loader.
+	 */
+	private static class InFlightLoad extends CompletableFuture<Object> {
+
+		private volatile @Nullable Thread loadingThread;
+
+		InFlightLoad(@Nullable Thread loadingThread) {
+			this.loadingThread = loadingThread;
+		}
+
+		void setLoadingThread(Thread loadingThread) {
+			this.loadingThread = loadingThread;
+		}
+
+		boolean isLoadedBy(Thread thread) {
+			return loadingThread == thread;
+		}
+	}
 }
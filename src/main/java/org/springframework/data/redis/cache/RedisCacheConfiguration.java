@@ -18,15 +18,21 @@ package org.springframework.data.redis.cache;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.cache.Cache;
 import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.converter.ConverterRegistry;
+import org.springframework.core.convert.converter.GenericConverter;
 import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.format.support.DefaultFormattingConversionService;
 import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 
 /**
@@ -41,6 +47,9 @@ import org.springframework.util.Assert;
  */
 public class RedisCacheConfiguration {
 
+	private static final SerializationPair<String> DEFAULT_KEY_SERIALIZATION_PAIR = SerializationPair
+			.fromSerializer(RedisSerializer.string());
+
 	private final Duration ttl;
 	private final boolean cacheNullValues;
 	private final CacheKeyPrefix keyPrefix;
@@ -51,10 +60,22 @@ public class RedisCacheConfiguration {
 
 	private final ConversionService conversionService;
 
+	private final Duration valueLoaderLockTtl;
+	private final @Nullable NearCacheConfiguration nearCacheConfiguration;
+	private final @Nullable Duration generationRefreshInterval;
+
+	private final Duration ttlJitter;
+	private final double earlyRefreshBeta;
+	private final @Nullable Executor earlyRefreshExecutor;
+
+	private final int keyHashingThreshold;
+
 	@SuppressWarnings("unchecked")
 	private RedisCacheConfiguration(Duration ttl, Boolean cacheNullValues, Boolean usePrefix, CacheKeyPrefix keyPrefix,
 			SerializationPair<String> keySerializationPair, SerializationPair<?> valueSerializationPair,
-			ConversionService conversionService) {
+			ConversionService conversionService, Duration valueLoaderLockTtl,
+			@Nullable NearCacheConfiguration nearCacheConfiguration, @Nullable Duration generationRefreshInterval,
+			Duration ttlJitter, double earlyRefreshBeta, @Nullable Executor earlyRefreshExecutor, int keyHashingThreshold) {
 
 		this.ttl = ttl;
 		this.cacheNullValues = cacheNullValues;
@@ -63,6 +84,13 @@ public class RedisCacheConfiguration {
 		this.keySerializationPair = keySerializationPair;
 		this.valueSerializationPair = (SerializationPair<Object>) valueSerializationPair;
 		this.conversionService = conversionService;
+		this.valueLoaderLockTtl = valueLoaderLockTtl;
+		this.nearCacheConfiguration = nearCacheConfiguration;
+		this.generationRefreshInterval = generationRefreshInterval;
+		this.ttlJitter = ttlJitter;
+		this.earlyRefreshBeta = earlyRefreshBeta;
+		this.earlyRefreshExecutor = earlyRefreshExecutor;
+		this.keyHashingThreshold = keyHashingThreshold;
 	}
 
 	/**
@@ -118,13 +146,9 @@ public class RedisCacheConfiguration {
 	 */
 	public static RedisCacheConfiguration defaultCacheConfig(@Nullable ClassLoader classLoader) {
 
-		DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
-
-		registerDefaultConverters(conversionService);
-
 		return new RedisCacheConfiguration(Duration.ZERO, true, true, CacheKeyPrefix.simple(),
-				SerializationPair.fromSerializer(RedisSerializer.string()),
-				SerializationPair.fromSerializer(RedisSerializer.java(classLoader)), conversionService);
+				DEFAULT_KEY_SERIALIZATION_PAIR, SerializationPair.fromSerializer(RedisSerializer.java(classLoader)),
+				new DefaultKeyConversionService(), Duration.ZERO, null, null, Duration.ZERO, 0, null, 0);
 	}
 
 	/**
@@ -138,7 +162,78 @@ public class RedisCacheConfiguration {
 		Assert.notNull(ttl, "TTL duration must not be null!");
 
 		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
-				valueSerializationPair, conversionService);
+				valueSerializationPair, conversionService, valueLoaderLockTtl, nearCacheConfiguration,
+				generationRefreshInterval, ttlJitter,
+				earlyRefreshBeta, earlyRefreshExecutor, keyHashingThreshold);
+	}
+
+	/**
+	 * Randomize the ttl of each cache entry by adding a random amount between zero and {@literal jitter} to the
+	 * {@link #entryTtl(Duration) entry ttl}. Spreading expiration times prevents entries written at the same time from
+	 * expiring all at once. The random amount is rounded down to one of a few distinct values so that entries written
+	 * together can still be grouped into bulk writes. Has no effect on eternal caches.
+	 *
+	 * @param jitter must not be {@literal null}. Use {@link Duration#ZERO} to disable ttl randomization.
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 2.2
+	 */
+	public RedisCacheConfiguration entryTtlJitter(Duration jitter) {
+
+		Assert.notNull(jitter, "TTL jitter must not be null!");
+		Assert.isTrue(!jitter.isNegative(), "TTL jitter must not be negative!");
+
+		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
+				valueSerializationPair, conversionService, valueLoaderLockTtl, nearCacheConfiguration,
+				generationRefreshInterval, jitter, earlyRefreshBeta, earlyRefreshExecutor, keyHashingThreshold);
+	}
+
+	/**
+	 * Probabilistically refresh cache entries before they expire. When
+	 * {@link RedisCache#get(Object, java.util.concurrent.Callable)} reads an entry, it decides whether to recompute the
+	 * value early with a probability rising the closer the entry is to expiry and the longer the value loader takes to
+	 * compute the value ({@literal XFetch}). The load time is approximated by a moving average of the value loader
+	 * durations observed by the cache in this JVM instead of being stored per entry, so early refresh applies only after
+	 * the cache has loaded a value at least once. The current value is
+	 * returned while the value loader refreshes the entry asynchronously on a bounded default {@link Executor} that
+	 * discards refreshes once saturated. <br />
+	 * Requires an {@link #entryTtl(Duration) entry ttl}.
+	 *
+	 * @param beta scales early recomputation. Values greater than {@literal 1.0} favor earlier recomputation, values
+	 *          less than {@literal 1.0} favor later recomputation. {@literal 1.0} is a sensible default. Must be greater
+	 *          than zero.
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 2.2
+	 */
+	public RedisCacheConfiguration enableEarlyRefresh(double beta) {
+		return enableEarlyRefresh(beta, EarlyRefreshExecutorHolder.EXECUTOR);
+	}
+
+	/**
+	 * Probabilistically refresh cache entries before they expire. When
+	 * {@link RedisCache#get(Object, java.util.concurrent.Callable)} reads an entry, it decides whether to recompute the
+	 * value early with a probability rising the closer the entry is to expiry and the longer the value loader takes to
+	 * compute the value ({@literal XFetch}). The load time is approximated by a moving average of the value loader
+	 * durations observed by the cache in this JVM instead of being stored per entry, so early refresh applies only after
+	 * the cache has loaded a value at least once. The current value is
+	 * returned while the value loader refreshes the entry asynchronously on the given {@link Executor}. Refreshes
+	 * rejected by the {@link Executor} are skipped. <br />
+	 * Requires an {@link #entryTtl(Duration) entry ttl}.
+	 *
+	 * @param beta scales early recomputation. Values greater than {@literal 1.0} favor earlier recomputation, values
+	 *          less than {@literal 1.0} favor later recomputation. {@literal 1.0} is a sensible default. Must be greater
+	 *          than zero.
+	 * @param executor the {@link Executor} running refreshes. Should be bounded. Must not be {@literal null}.
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 2.2
+	 */
+	public RedisCacheConfiguration enableEarlyRefresh(double beta, Executor executor) {
+
+		Assert.isTrue(beta > 0, "Beta must be greater than zero!");
+		Assert.notNull(executor, "Executor must not be null!");
+
+		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
+				valueSerializationPair, conversionService, valueLoaderLockTtl, nearCacheConfiguration,
+				generationRefreshInterval, ttlJitter, beta, executor, keyHashingThreshold);
 	}
 
 	/**
@@ -167,7 +262,9 @@ public class RedisCacheConfiguration {
 		Assert.notNull(cacheKeyPrefix, "Function for computing prefix must not be null!");
 
 		return new RedisCacheConfiguration(ttl, cacheNullValues, true, cacheKeyPrefix, keySerializationPair,
-				valueSerializationPair, conversionService);
+				valueSerializationPair, conversionService, valueLoaderLockTtl, nearCacheConfiguration,
+				generationRefreshInterval, ttlJitter,
+				earlyRefreshBeta, earlyRefreshExecutor, keyHashingThreshold);
 	}
 
 	/**
@@ -180,7 +277,8 @@ public class RedisCacheConfiguration {
 	 */
 	public RedisCacheConfiguration disableCachingNullValues() {
 		return new RedisCacheConfiguration(ttl, false, usePrefix, keyPrefix, keySerializationPair, valueSerializationPair,
-				conversionService);
+				conversionService, valueLoaderLockTtl, nearCacheConfiguration, generationRefreshInterval, ttlJitter,
+				earlyRefreshBeta, earlyRefreshExecutor, keyHashingThreshold);
 	}
 
 	/**
@@ -193,7 +291,9 @@ public class RedisCacheConfiguration {
 	public RedisCacheConfiguration disableKeyPrefix() {
 
 		return new RedisCacheConfiguration(ttl, cacheNullValues, false, keyPrefix, keySerializationPair,
-				valueSerializationPair, conversionService);
+				valueSerializationPair, conversionService, valueLoaderLockTtl, nearCacheConfiguration,
+				generationRefreshInterval, ttlJitter,
+				earlyRefreshBeta, earlyRefreshExecutor, keyHashingThreshold);
 	}
 
 	/**
@@ -207,7 +307,9 @@ public class RedisCacheConfiguration {
 		Assert.notNull(conversionService, "ConversionService must not be null!");
 
 		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
-				valueSerializationPair, conversionService);
+				valueSerializationPair, conversionService, valueLoaderLockTtl, nearCacheConfiguration,
+				generationRefreshInterval, ttlJitter,
+				earlyRefreshBeta, earlyRefreshExecutor, keyHashingThreshold);
 	}
 
 	/**
@@ -221,7 +323,9 @@ public class RedisCacheConfiguration {
 		Assert.notNull(keySerializationPair, "KeySerializationPair must not be null!");
 
 		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
-				valueSerializationPair, conversionService);
+				valueSerializationPair, conversionService, valueLoaderLockTtl, nearCacheConfiguration,
+				generationRefreshInterval, ttlJitter,
+				earlyRefreshBeta, earlyRefreshExecutor, keyHashingThreshold);
 	}
 
 	/**
@@ -235,7 +339,121 @@ public class RedisCacheConfiguration {
 		Assert.notNull(valueSerializationPair, "ValueSerializationPair must not be null!");
 
 		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
-				valueSerializationPair, conversionService);
+				valueSerializationPair, conversionService, valueLoaderLockTtl, nearCacheConfiguration,
+				generationRefreshInterval, ttlJitter,
+				earlyRefreshBeta, earlyRefreshExecutor, keyHashingThreshold);
+	}
+
+	/**
+	 * Coordinate {@link RedisCache#get(Object, java.util.concurrent.Callable) value loading} across all instances sharing
+	 * the cache by acquiring a short-lived lock {@literal key} per cache entry in Redis. Only the lock holder invokes the
+	 * value loader, other callers wait for the value to become available. The lock expires after the given
+	 * {@literal lockTtl} so a crashed lock holder cannot block loading forever. <br />
+	 * Concurrent loads for the same key within a single {@link RedisCache} instance are always deduplicated, regardless
+	 * of this setting.
+	 *
+	 * @param lockTtl must not be {@literal null}. Use {@link Duration#ZERO} to disable locking.
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 2.2
+	 */
+	public RedisCacheConfiguration lockValueLoading(Duration lockTtl) {
+
+		Assert.notNull(lockTtl, "Lock TTL must not be null!");
+		Assert.isTrue(!lockTtl.isNegative(), "Lock TTL must not be negative!");
+
+		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
+				valueSerializationPair, conversionService, lockTtl, nearCacheConfiguration,
+				generationRefreshInterval, ttlJitter,
+				earlyRefreshBeta, earlyRefreshExecutor, keyHashingThreshold);
+	}
+
+	/**
+	 * Keep recently used cache entries in a size bounded, in-process near cache in front of Redis. Lookups served from
+	 * the near cache do not require a round trip to Redis.
+	 *
+	 * @param nearCacheConfiguration must not be {@literal null}.
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 2.2
+	 * @see RedisCacheManager.RedisCacheManagerBuilder#enableNearCacheInvalidation(org.springframework.data.redis.listener.RedisMessageListenerContainer)
+	 */
+	public RedisCacheConfiguration enableNearCache(NearCacheConfiguration nearCacheConfiguration) {
+
+		Assert.notNull(nearCacheConfiguration, "NearCacheConfiguration must not be null!");
+
+		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
+				valueSerializationPair, conversionService, valueLoaderLockTtl, nearCacheConfiguration,
+				generationRefreshInterval, ttlJitter,
+				earlyRefreshBeta, earlyRefreshExecutor, keyHashingThreshold);
+	}
+
+	/**
+	 * Disable the in-process near cache.
+	 *
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 2.2
+	 */
+	public RedisCacheConfiguration disableNearCache() {
+
+		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
+				valueSerializationPair, conversionService, valueLoaderLockTtl, null, generationRefreshInterval, ttlJitter,
+				earlyRefreshBeta, earlyRefreshExecutor, keyHashingThreshold);
+	}
+
+	/**
+	 * Embed a per-cache generation counter into cache keys, so that {@link Cache#clear()} increments the generation
+	 * with a single {@code INCR} instead of removing all cache entries. Entries of previous generations are no longer
+	 * visible and are removed by Redis once they expire. <br />
+	 * The current generation is read from Redis and cached locally for the given {@literal refreshInterval}. Other
+	 * instances sharing the cache observe a {@link Cache#clear()} once their locally cached generation gets refreshed.
+	 * <br />
+	 * <strong>NOTE</strong>: Make sure to configure an {@link #entryTtl(Duration) entry ttl}. Entries of previous
+	 * generations of eternal caches are never removed.
+	 *
+	 * @param refreshInterval must not be {@literal null}. Use {@link Duration#ZERO} to read the generation on every
+	 *          cache operation.
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 2.2
+	 */
+	public RedisCacheConfiguration enableGenerationalKeyPrefix(Duration refreshInterval) {
+
+		Assert.notNull(refreshInterval, "Refresh interval must not be null!");
+		Assert.isTrue(!refreshInterval.isNegative(), "Refresh interval must not be negative!");
+
+		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
+				valueSerializationPair, conversionService, valueLoaderLockTtl, nearCacheConfiguration, refreshInterval,
+				ttlJitter, earlyRefreshBeta, earlyRefreshExecutor, keyHashingThreshold);
+	}
+
+	/**
+	 * Replace cache keys longer than {@literal maxKeyLength} characters by their {@literal SHA-256} digest encoded as
+	 * 43 characters of URL-safe Base64. The cache key prefix is retained so that {@link Cache#clear()} continues to
+	 * remove hashed entries. Hashing reduces the memory required for long, composite cache keys in Redis. <br />
+	 * <strong>NOTE</strong>: Hashed keys cannot be converted back into the original cache key.
+	 *
+	 * @param maxKeyLength the maximum length of a cache key that is stored as-is. Must be greater than zero.
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 2.2
+	 */
+	public RedisCacheConfiguration hashKeysLongerThan(int maxKeyLength) {
+
+		Assert.isTrue(maxKeyLength > 0, "Max key length must be greater than zero!");
+
+		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
+				valueSerializationPair, conversionService, valueLoaderLockTtl, nearCacheConfiguration,
+				generationRefreshInterval, ttlJitter, earlyRefreshBeta, earlyRefreshExecutor, maxKeyLength);
+	}
+
+	/**
+	 * Disable hashing of long cache keys.
+	 *
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 2.2
+	 */
+	public RedisCacheConfiguration disableKeyHashing() {
+
+		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
+				valueSerializationPair, conversionService, valueLoaderLockTtl, nearCacheConfiguration,
+				generationRefreshInterval, ttlJitter, earlyRefreshBeta, earlyRefreshExecutor, 0);
 	}
 
 	/**
@@ -303,6 +521,126 @@ public class RedisCacheConfiguration {
 		return conversionService;
 	}
 
+	/**
+	 * @return {@literal true} if value loading is coordinated across instances via a lock {@literal key} in Redis.
+	 * @since 2.2
+	 */
+	public boolean isLockValueLoading() {
+		return !valueLoaderLockTtl.isZero();
+	}
+
+	/**
+	 * @return The expiration time for value loader lock {@literal key}s. {@link Duration#ZERO} if value loading is not
+	 *         coordinated across instances. Never {@literal null}.
+	 * @since 2.2
+	 */
+	public Duration getValueLoaderLockTtl() {
+		return valueLoaderLockTtl;
+	}
+
+	/**
+	 * @return {@literal true} if cache entries are kept in an in-process near cache.
+	 * @since 2.2
+	 */
+	public boolean useNearCache() {
+		return nearCacheConfiguration != null;
+	}
+
+	/**
+	 * @return the {@link NearCacheConfiguration} or {@literal null} if near caching is disabled.
+	 * @since 2.2
+	 */
+	@Nullable
+	public NearCacheConfiguration getNearCacheConfiguration() {
+		return nearCacheConfiguration;
+	}
+
+	/**
+	 * @return {@literal true} if cache keys embed a generation counter that is incremented on {@link Cache#clear()}.
+	 * @since 2.2
+	 */
+	public boolean useGenerationalKeyPrefix() {
+		return generationRefreshInterval != null;
+	}
+
+	/**
+	 * @return the interval to refresh the locally cached generation or {@literal null} if generational key prefixes are
+	 *         disabled.
+	 * @since 2.2
+	 */
+	@Nullable
+	public Duration getGenerationRefreshInterval() {
+		return generationRefreshInterval;
+	}
+
+	/**
+	 * @return the maximum amount of time randomly added to the {@link #getTtl() ttl} of each entry. Never
+	 *         {@literal null}.
+	 * @since 2.2
+	 */
+	public Duration getTtlJitter() {
+		return ttlJitter;
+	}
+
+	/**
+	 * @return {@literal true} if entries are refreshed probabilistically before they expire.
+	 * @since 2.2
+	 */
+	public boolean useEarlyRefresh() {
+		return earlyRefreshExecutor != null;
+	}
+
+	/**
+	 * @return the {@literal beta} scaling early recomputation. {@literal 0} if early refresh is disabled.
+	 * @since 2.2
+	 */
+	public double getEarlyRefreshBeta() {
+		return earlyRefreshBeta;
+	}
+
+	/**
+	 * @return the {@link Executor} running early refreshes or {@literal null} if early refresh is disabled.
+	 * @since 2.2
+	 */
+	@Nullable
+	public Executor getEarlyRefreshExecutor() {
+		return earlyRefreshExecutor;
+	}
+
+	/**
+	 * @return {@literal true} if cache keys exceeding {@link #getKeyHashingThreshold()} are replaced by their digest.
+	 * @since 2.2
+	 */
+	public boolean useKeyHashing() {
+		return keyHashingThreshold > 0;
+	}
+
+	/**
+	 * @return the maximum length of a cache key that is stored as-is. {@literal 0} if key hashing is disabled.
+	 * @since 2.2
+	 */
+	public int getKeyHashingThreshold() {
+		return keyHashingThreshold;
+	}
+
+	/**
+	 * @return {@literal true} if cache keys are serialized using the default UTF-8 {@link String} serializer.
+	 */
+	boolean usesDefaultKeySerialization() {
+		return keySerializationPair == DEFAULT_KEY_SERIALIZATION_PAIR;
+	}
+
+	/**
+	 * @return {@literal true} if cache keys are converted by the default {@link ConversionService} without any
+	 *         converters registered in addition to the {@link #registerDefaultConverters(ConverterRegistry) default}
+	 *         ones. Converting {@link Number}s, {@link java.util.UUID}s and {@link SimpleKey}s resolves to their
+	 *         {@link Object#toString()} representation in that case.
+	 */
+	boolean usesDefaultKeyConversion() {
+		return conversionService instanceof DefaultKeyConversionService
+				&& !((DefaultKeyConversionService) conversionService).isCustomized();
+	}
+
 	/**
 	 * Registers default cache key converters. The following converters get registered:
 	 * <ul>
@@ -318,4 +656,70 @@ public class RedisCacheConfiguration {
 		registry.addConverter(String.class, byte[].class, source -> source.getBytes(StandardCharsets.UTF_8));
 		registry.addConverter(SimpleKey.class, String.class, SimpleKey::toString);
 	}
+
+	/**
+	 * {@link DefaultFormattingConversionService} with {@link #registerDefaultConverters(ConverterRegistry) default} cache
+	 * key converters tracking whether further converters have been registered.
+	 */
+	static class DefaultKeyConversionService extends DefaultFormattingConversionService {
+
+		private boolean initialized;
+		private volatile boolean customized;
+
+		DefaultKeyConversionService() {
+
+			registerDefaultConverters(this);
+			this.initialized = true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.core.convert.support.GenericConversionService#addConverter(org.springframework.core.convert.converter.GenericConverter)
+		 */
+		@Override
+		public void addConverter(GenericConverter converter) {
+
+			// invoked by the super constructor before field initialization.
+			if (initialized) {
+				customized = true;
+			}
+
+			super.addConverter(converter);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.core.convert.support.GenericConversionService#removeConvertible(java.lang.Class, java.lang.Class)
+		 */
+		@Override
+		public void removeConvertible(Class<?> sourceType, Class<?> targetType) {
+
+			customized = true;
+			super.removeConvertible(sourceType, targetType);
+		}
+
+		boolean isCustomized() {
+			return customized;
+		}
+	}
+
+	/**
+	 * Lazily created default {@link Executor} for early refreshes shared by all caches.
+	 */
+	private static class EarlyRefreshExecutorHolder {
+
+		static final Executor EXECUTOR;
+
+		static {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("redis-cache-refresh-");
+			threadFactory.setDaemon(true);
+
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(256),
+					threadFactory);
+			executor.allowCoreThreadTimeOut(true);
+
+			EXECUTOR = executor;
+		}
+	}
 }
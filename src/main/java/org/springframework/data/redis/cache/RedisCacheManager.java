@@ -26,6 +26,7 @@ import java.util.Set;
 
 import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -50,6 +51,7 @@ public class RedisCacheManager extends AbstractTransactionSupportingCacheManager
 	private final RedisCacheConfiguration defaultCacheConfig;
 	private final Map<String, RedisCacheConfiguration> initialCacheConfiguration;
 	private final boolean allowInFlightCacheCreation;
+	private @Nullable NearCacheSynchronizer nearCacheSynchronizer;
 
 	/**
 	 * Creates new {@link RedisCacheManager} using given {@link RedisCacheWriter} and default
@@ -264,11 +266,31 @@ public class RedisCacheManager extends AbstractTransactionSupportingCacheManager
 	 * @return never {@literal null}.
 	 */
 	protected RedisCache createRedisCache(String name, @Nullable RedisCacheConfiguration cacheConfig) {
-		return new RedisCache(name, cacheWriter, cacheConfig != null ? cacheConfig : defaultCacheConfig);
+		return new RedisCache(name, cacheWriter, cacheConfig != null ? cacheConfig : defaultCacheConfig,
+				nearCacheSynchronizer);
 	}
 
 	/**
-	 * Configurator for creating {@link RedisCacheManager}.
+	 * Set the {@link NearCacheSynchronizer} used to propagate near cache changes to other instances.
+	 *
+	 * @param nearCacheSynchronizer can be {@literal null}.
+	 * @since 2.2
+	 */
+	void setNearCacheSynchronizer(@Nullable NearCacheSynchronizer nearCacheSynchronizer) {
+		this.nearCacheSynchronizer = nearCacheSynchronizer;
+	}
+
+	/**
+	 * Configurator for creating {@link RedisCacheManager}. <br />
+	 * Caches created {@link #fromConnectionFactory(RedisConnectionFactory) from a connection factory} remove entries on
+	 * {@link org.springframework.cache.Cache#clear() clear} using {@link BatchStrategies#keys() KEYS}, which blocks
+	 * Redis while scanning the keyspace. Use {@link #fromCacheWriter(RedisCacheWriter)} with a writer configured for
+	 * {@link BatchStrategies#scan(int) SCAN} to clear large caches incrementally:
+	 *
+	 * <pre class="code">
+	 * RedisCacheWriter writer = RedisCacheWriter.nonLockingRedisCacheWriter(factory, BatchStrategies.scan(1000));
+	 * RedisCacheManager cacheManager = RedisCacheManager.builder(writer).build();
+	 * </pre>
 	 *
 	 * @author Christoph Strobl
 	 * @author Mark Strobl
@@ -277,18 +299,22 @@ public class RedisCacheManager extends AbstractTransactionSupportingCacheManager
 	 */
 	public static class RedisCacheManagerBuilder {
 
-		private final RedisCacheWriter cacheWriter;
+		private RedisCacheWriter cacheWriter;
 		private RedisCacheConfiguration defaultCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig();
 		private final Map<String, RedisCacheConfiguration> initialCaches = new LinkedHashMap<>();
 		private boolean enableTransactions;
 		boolean allowInFlightCacheCreation = true;
+		private @Nullable RedisMessageListenerContainer nearCacheListenerContainer;
+		private String nearCacheChannel = NearCacheSynchronizer.DEFAULT_CHANNEL;
 
 		private RedisCacheManagerBuilder(RedisCacheWriter cacheWriter) {
 			this.cacheWriter = cacheWriter;
 		}
 
 		/**
-		 * Entry point for builder style {@link RedisCacheManager} configuration.
+		 * Entry point for builder style {@link RedisCacheManager} configuration. Clearing a cache uses
+		 * {@link BatchStrategies#keys() KEYS}, use {@link #fromCacheWriter(RedisCacheWriter)} to configure a different
+		 * {@link BatchStrategy}.
 		 *
 		 * @param connectionFactory must not be {@literal null}.
 		 * @return new {@link RedisCacheManagerBuilder}.
@@ -392,6 +418,70 @@ public class RedisCacheManager extends AbstractTransactionSupportingCacheManager
 			return this;
 		}
 
+		/**
+		 * Propagate {@code put}, {@code evict} and {@code clear} operations to the {@link NearCacheConfiguration near
+		 * caches} of other instances using Redis Pub/Sub. Invalidation messages are published on and received from a
+		 * default channel through the given {@link RedisMessageListenerContainer}.
+		 *
+		 * @param listenerContainer must not be {@literal null}.
+		 * @return this {@link RedisCacheManagerBuilder}.
+		 * @since 2.2
+		 * @see RedisCacheConfiguration#enableNearCache(NearCacheConfiguration)
+		 */
+		public RedisCacheManagerBuilder enableNearCacheInvalidation(RedisMessageListenerContainer listenerContainer) {
+			return enableNearCacheInvalidation(listenerContainer, NearCacheSynchronizer.DEFAULT_CHANNEL);
+		}
+
+		/**
+		 * Propagate {@code put}, {@code evict} and {@code clear} operations to the {@link NearCacheConfiguration near
+		 * caches} of other instances using Redis Pub/Sub. Invalidation messages are published on and received from
+		 * {@code channel} through the given {@link RedisMessageListenerContainer}.
+		 *
+		 * @param listenerContainer must not be {@literal null}.
+		 * @param channel must not be {@literal null} or empty.
+		 * @return this {@link RedisCacheManagerBuilder}.
+		 * @since 2.2
+		 * @see RedisCacheConfiguration#enableNearCache(NearCacheConfiguration)
+		 */
+		public RedisCacheManagerBuilder enableNearCacheInvalidation(RedisMessageListenerContainer listenerContainer,
+				String channel) {
+
+			Assert.notNull(listenerContainer, "RedisMessageListenerContainer must not be null!");
+			Assert.hasText(channel, "Channel must not be null or empty!");
+
+			this.nearCacheListenerContainer = listenerContainer;
+			this.nearCacheChannel = channel;
+
+			return this;
+		}
+
+		/**
+		 * Collect {@link CacheStatistics} for all caches using the default {@link CacheStatisticsCollector}. Statistics are
+		 * exposed through {@link RedisCache#getStatistics()}.
+		 *
+		 * @return this {@link RedisCacheManagerBuilder}.
+		 * @since 2.2
+		 */
+		public RedisCacheManagerBuilder enableStatistics() {
+			return withStatisticsCollector(CacheStatisticsCollector.create());
+		}
+
+		/**
+		 * Collect {@link CacheStatistics} for all caches using the given {@link CacheStatisticsCollector}.
+		 *
+		 * @param cacheStatisticsCollector must not be {@literal null}.
+		 * @return this {@link RedisCacheManagerBuilder}.
+		 * @since 2.2
+		 * @see RedisCacheWriter#withStatisticsCollector(CacheStatisticsCollector)
+		 */
+		public RedisCacheManagerBuilder withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+
+			Assert.notNull(cacheStatisticsCollector, "CacheStatisticsCollector must not be null!");
+
+			this.cacheWriter = cacheWriter.withStatisticsCollector(cacheStatisticsCollector);
+			return this;
+		}
+
 		/**
 		 * Create new instance of {@link RedisCacheManager} with configuration options applied.
 		 *
@@ -404,6 +494,10 @@ public class RedisCacheManager extends AbstractTransactionSupportingCacheManager
 
 			cm.setTransactionAware(enableTransactions);
 
+			if (nearCacheListenerContainer != null) {
+				cm.setNearCacheSynchronizer(new NearCacheSynchronizer(nearCacheListenerContainer, nearCacheChannel));
+			}
+
 			return cm;
 		}
 	}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Key creation, generation tracking and ttl computation shared by {@link RedisCache} and {@link ReactiveRedisCache} so
+ * that both create the same keys and entries for the same {@link RedisCacheConfiguration}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+class RedisCacheSupport {
+
+	private final String name;
+	private final RedisCacheConfiguration cacheConfig;
+	private final ConversionService conversionService;
+	private volatile @Nullable EncodedPrefix encodedPrefix;
+	private volatile long generation;
+	private volatile long generationRefreshedAt;
+	private volatile boolean generationResolved;
+
+	RedisCacheSupport(String name, RedisCacheConfiguration cacheConfig) {
+
+		this.name = name;
+		this.cacheConfig = cacheConfig;
+		this.conversionService = cacheConfig.getConversionService();
+	}
+
+	/**
+	 * Convert {@code key} to a {@link String} using the configured {@link ConversionService} falling back to
+	 * {@link Object#toString()} if overridden.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @throws IllegalStateException if {@code key} cannot be converted to {@link String}.
+	 */
+	String convertKey(Object key) {
+
+		TypeDescriptor source = TypeDescriptor.forObject(key);
+		if (conversionService.canConvert(source, TypeDescriptor.valueOf(String.class))) {
+			return conversionService.convert(key, String.class);
+		}
+
+		Method toString = ReflectionUtils.findMethod(key.getClass(), "toString");
+
+		if (toString != null && !Object.class.equals(toString.getDeclaringClass())) {
+			return key.toString();
+		}
+
+		throw new IllegalStateException(
+				String.format("Cannot convert %s to String. Register a Converter or override toString().", source));
+	}
+
+	/**
+	 * Create the cache key for an already converted key applying hashing, the generation and the key prefix.
+	 *
+	 * @param convertedKey must not be {@literal null}.
+	 * @param generation the current generation. Ignored if generational key prefixes are not used.
+	 * @return never {@literal null}.
+	 */
+	String createCacheKey(String convertedKey, long generation) {
+
+		String cacheKey = CacheKeyEncoder.hashIfNecessary(convertedKey, cacheConfig.getKeyHashingThreshold());
+
+		if (cacheConfig.useGenerationalKeyPrefix()) {
+			cacheKey = generation + ":" + cacheKey;
+		}
+
+		if (!cacheConfig.usePrefix()) {
+			return cacheKey;
+		}
+
+		// allow contextual cache names by computing the key prefix on every call.
+		return cacheConfig.getKeyPrefixFor(name) + cacheKey;
+	}
+
+	/**
+	 * @param key must not be {@literal null}.
+	 * @return {@literal true} if {@code key} can be encoded by {@link #encodeCacheKey(Object, long)}.
+	 */
+	boolean canEncode(Object key) {
+		return CacheKeyEncoder.canEncode(key, cacheConfig.usesDefaultKeyConversion());
+	}
+
+	/**
+	 * Encode the cache key for {@code key} directly into its binary representation. Only applicable if keys are
+	 * serialized using the default key serializer and {@link #canEncode(Object) key} is supported.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param generation the current generation. Ignored if generational key prefixes are not used.
+	 * @return never {@literal null}.
+	 */
+	byte[] encodeCacheKey(Object key, long generation) {
+		return CacheKeyEncoder.encode(getEncodedPrefix(), cacheConfig.useGenerationalKeyPrefix() ? generation : -1, key,
+				cacheConfig.getKeyHashingThreshold());
+	}
+
+	/**
+	 * @return {@literal true} if the locally cached generation has been resolved within the refresh interval.
+	 */
+	boolean isGenerationFresh() {
+
+		Duration refreshInterval = cacheConfig.getGenerationRefreshInterval();
+
+		return generationResolved && refreshInterval != null
+				&& System.nanoTime() - generationRefreshedAt < refreshInterval.toNanos();
+	}
+
+	/**
+	 * @return the locally cached generation.
+	 */
+	long getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * Update the locally cached generation.
+	 *
+	 * @param generation the generation read from or written to Redis.
+	 */
+	void updateGeneration(long generation) {
+
+		this.generation = generation;
+		this.generationRefreshedAt = System.nanoTime();
+		this.generationResolved = true;
+	}
+
+	/**
+	 * @return the key holding the generation counter of the cache.
+	 */
+	String getGenerationKey() {
+		return name + "~generation";
+	}
+
+	/**
+	 * @return the ttl for an entry applying a random {@link RedisCacheConfiguration#getTtlJitter() jitter}.
+	 */
+	Duration entryTtl() {
+		return entryTtl(1);
+	}
+
+	/**
+	 * Compute the ttl for an entry applying a random {@link RedisCacheConfiguration#getTtlJitter() jitter} rounded down
+	 * to one of {@code steps} distinct values.
+	 */
+	Duration entryTtl(int steps) {
+
+		Duration ttl = cacheConfig.getTtl();
+		long jitter = cacheConfig.getTtlJitter().toMillis();
+
+		if (jitter == 0 || ttl.isZero() || ttl.isNegative()) {
+			return ttl;
+		}
+
+		long offset = ThreadLocalRandom.current().nextLong(jitter + 1);
+
+		if (steps > 1) {
+
+			long step = Math.max(1, jitter / steps);
+			offset = offset / step * step;
+		}
+
+		return ttl.plusMillis(offset);
+	}
+
+	/**
+	 * @return {@literal true} if {@code type} overrides the method declared by {@code declaringClass}.
+	 */
+	static boolean isOverridden(Class<?> type, Class<?> declaringClass, String methodName, Class<?>... parameterTypes) {
+
+		Method method = ReflectionUtils.findMethod(type, methodName, parameterTypes);
+		return method != null && !declaringClass.equals(method.getDeclaringClass());
+	}
+
+	/**
+	 * Obtain the UTF-8 encoded key prefix. The prefix is computed on every call to allow contextual cache names and
+	 * encoded only if it differs from the previously encoded one.
+	 */
+	private byte[] getEncodedPrefix() {
+
+		if (!cacheConfig.usePrefix()) {
+			return EncodedPrefix.EMPTY.bytes;
+		}
+
+		String prefix = cacheConfig.getKeyPrefixFor(name);
+		EncodedPrefix encodedPrefix = this.encodedPrefix;
+
+		if (encodedPrefix == null || !encodedPrefix.prefix.equals(prefix)) {
+
+			encodedPrefix = new EncodedPrefix(prefix);
+			this.encodedPrefix = encodedPrefix;
+		}
+
+		return encodedPrefix.bytes;
+	}
+
+	/**
+	 * Key prefix along with its UTF-8 encoded representation.
+	 */
+	private static class EncodedPrefix {
+
+		static final EncodedPrefix EMPTY = new EncodedPrefix("");
+
+		final String prefix;
+		final byte[] bytes;
+
+		EncodedPrefix(String prefix) {
+
+			this.prefix = prefix;
+			this.bytes = prefix.getBytes(StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -16,6 +16,9 @@
 package org.springframework.data.redis.cache;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.lang.Nullable;
@@ -31,7 +34,7 @@ import org.springframework.util.Assert;
  * @author Mark Paluch
  * @since 2.0
  */
-public interface RedisCacheWriter {
+public interface RedisCacheWriter extends CacheStatisticsProvider {
 
 	/**
 	 * Create new {@link RedisCacheWriter} without locking behavior.
@@ -46,6 +49,23 @@ public interface RedisCacheWriter {
 		return new DefaultRedisCacheWriter(connectionFactory);
 	}
 
+	/**
+	 * Create new {@link RedisCacheWriter} without locking behavior.
+	 *
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param batchStrategy must not be {@literal null}.
+	 * @return new instance of {@link DefaultRedisCacheWriter}.
+	 * @since 2.2
+	 */
+	static RedisCacheWriter nonLockingRedisCacheWriter(RedisConnectionFactory connectionFactory,
+			BatchStrategy batchStrategy) {
+
+		Assert.notNull(connectionFactory, "ConnectionFactory must not be null!");
+		Assert.notNull(batchStrategy, "BatchStrategy must not be null!");
+
+		return new DefaultRedisCacheWriter(connectionFactory, Duration.ZERO, batchStrategy);
+	}
+
 	/**
 	 * Create new {@link RedisCacheWriter} with locking behavior.
 	 *
@@ -59,6 +79,23 @@ public interface RedisCacheWriter {
 		return new DefaultRedisCacheWriter(connectionFactory, Duration.ofMillis(50));
 	}
 
+	/**
+	 * Create new {@link RedisCacheWriter} with locking behavior.
+	 *
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param batchStrategy must not be {@literal null}.
+	 * @return new instance of {@link DefaultRedisCacheWriter}.
+	 * @since 2.2
+	 */
+	static RedisCacheWriter lockingRedisCacheWriter(RedisConnectionFactory connectionFactory,
+			BatchStrategy batchStrategy) {
+
+		Assert.notNull(connectionFactory, "ConnectionFactory must not be null!");
+		Assert.notNull(batchStrategy, "BatchStrategy must not be null!");
+
+		return new DefaultRedisCacheWriter(connectionFactory, Duration.ofMillis(50), batchStrategy);
+	}
+
 	/**
 	 * Write the given key/value pair to Redis an set the expiration time if defined.
 	 *
@@ -79,6 +116,62 @@ public interface RedisCacheWriter {
 	@Nullable
 	byte[] get(String name, byte[] key);
 
+	/**
+	 * Write the given key/value pairs to Redis and set the expiration time if defined. Implementations should write all
+	 * pairs using as few round trips as possible. The default implementation writes pairs one by one.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param values The key/value pairs to store. Must not be {@literal null}.
+	 * @param ttl Optional expiration time. Can be {@literal null}.
+	 * @since 2.2
+	 */
+	default void put(String name, Map<byte[], byte[]> values, @Nullable Duration ttl) {
+
+		Assert.notNull(values, "Values must not be null!");
+
+		values.forEach((key, value) -> put(name, key, value, ttl));
+	}
+
+	/**
+	 * Get the binary value representations from Redis stored for the given keys. Implementations should read all values
+	 * using as few round trips as possible. The default implementation reads values one by one.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param keys must not be {@literal null}.
+	 * @return {@link List} of values in the order of the given {@code keys} containing {@literal null} for keys that do
+	 *         not exist. Never {@literal null}.
+	 * @since 2.2
+	 */
+	default List<byte[]> get(String name, byte[][] keys) {
+
+		Assert.notNull(keys, "Keys must not be null!");
+
+		List<byte[]> values = new ArrayList<>(keys.length);
+
+		for (byte[] key : keys) {
+			values.add(get(name, key));
+		}
+
+		return values;
+	}
+
+	/**
+	 * Get the binary value representation from Redis stored for the given key along with its remaining time to live
+	 * using a single round trip. The default implementation does not determine the remaining time to live.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 * @return {@literal null} if key does not exist.
+	 * @since 2.2
+	 */
+	@Nullable
+	default ExpiringValue getWithTtl(String name, byte[] key) {
+
+		byte[] value = get(name, key);
+
+		return value != null ? new ExpiringValue(value, null) : null;
+	}
+
 	/**
 	 * Write the given value to Redis if the key does not already exist.
 	 *
@@ -91,6 +184,39 @@ public interface RedisCacheWriter {
 	@Nullable
 	byte[] putIfAbsent(String name, byte[] key, byte[] value, @Nullable Duration ttl);
 
+	/**
+	 * Increment the numeric value stored for the given key by one. A key that does not exist is set to {@literal 0}
+	 * before incrementing. Counter operations are not recorded in the {@link #getCacheStatistics(String) statistics}.
+	 * The default implementation throws {@link UnsupportedOperationException}; implementations must override this
+	 * method to support {@link RedisCacheConfiguration#enableGenerationalKeyPrefix(Duration) generational keys}.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param key The key holding the counter. Must not be {@literal null}.
+	 * @return the value after the increment.
+	 * @since 2.2
+	 */
+	default long increment(String name, byte[] key) {
+		throw new UnsupportedOperationException(String.format(
+				"%s does not support counters required for generational cache keys", getClass().getName()));
+	}
+
+	/**
+	 * Get the numeric value stored for the given key. Counter operations are not recorded in the
+	 * {@link #getCacheStatistics(String) statistics}. The default implementation throws
+	 * {@link UnsupportedOperationException}; implementations must override this method to support
+	 * {@link RedisCacheConfiguration#enableGenerationalKeyPrefix(Duration) generational keys}.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param key The key holding the counter. Must not be {@literal null}.
+	 * @return the counter value or {@literal 0} if the key does not exist.
+	 * @since 2.2
+	 * @see #increment(String, byte[])
+	 */
+	default long getCounter(String name, byte[] key) {
+		throw new UnsupportedOperationException(String.format(
+				"%s does not support counters required for generational cache keys", getClass().getName()));
+	}
+
 	/**
 	 * Remove the given key from Redis.
 	 *
@@ -100,10 +226,95 @@ public interface RedisCacheWriter {
 	void remove(String name, byte[] key);
 
 	/**
-	 * Remove all keys following the given pattern.
+	 * Set the given lock key holding {@code token} unless the key already exists. Lock operations are not recorded in
+	 * the {@link #getCacheStatistics(String) statistics}. The default implementation does not lock and returns
+	 * {@literal true} so that value loading is only coordinated within the local {@link RedisCache}.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param key The lock key. Must not be {@literal null}.
+	 * @param token The value identifying the lock owner. Must not be {@literal null}.
+	 * @param ttl Optional expiration time of the lock. Can be {@literal null}.
+	 * @return {@literal true} if the lock has been acquired.
+	 * @since 2.2
+	 */
+	default boolean acquireLock(String name, byte[] key, byte[] token, @Nullable Duration ttl) {
+		return true;
+	}
+
+	/**
+	 * Remove the given lock key if it still holds {@code token} so that a lock that expired and has been acquired by
+	 * another owner in the meantime remains in place. The default implementation does nothing and returns
+	 * {@literal true}.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param key The lock key. Must not be {@literal null}.
+	 * @param token The value identifying the lock owner. Must not be {@literal null}.
+	 * @return {@literal true} if the lock has been released.
+	 * @since 2.2
+	 * @see #acquireLock(String, byte[], byte[], Duration)
+	 */
+	default boolean releaseLock(String name, byte[] key, byte[] token) {
+		return true;
+	}
+
+	/**
+	 * Remove all keys following the given pattern using the configured {@link BatchStrategy}.
 	 *
 	 * @param name The cache name must not be {@literal null}.
 	 * @param pattern The pattern for the keys to remove. Must not be {@literal null}.
 	 */
 	void clean(String name, byte[] pattern);
+
+	/**
+	 * Obtain snapshot of the captured statistics. The default implementation does not capture statistics and reports
+	 * empty statistics.
+	 *
+	 * @param cacheName must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 2.2
+	 */
+	@Override
+	default CacheStatistics getCacheStatistics(String cacheName) {
+		return CacheStatisticsCollector.none().getCacheStatistics(cacheName);
+	}
+
+	/**
+	 * Reset all statistics counters and gauges for the given cache. The default implementation does nothing.
+	 *
+	 * @param name the cache name. Must not be {@literal null}.
+	 * @since 2.2
+	 */
+	default void clearStatistics(String name) {}
+
+	/**
+	 * Record the time it took a value loader to compute a cache value. The default implementation does not capture
+	 * statistics and ignores the given duration.
+	 *
+	 * @param name the cache name. Must not be {@literal null}.
+	 * @param durationNanos load duration in nanoseconds.
+	 * @since 2.2
+	 */
+	default void recordLoadTime(String name, long durationNanos) {}
+
+	/**
+	 * Obtain a {@link RedisCacheWriter} using the given {@link CacheStatisticsCollector} to collect metrics. The default
+	 * implementation returns this instance if statistics are {@link CacheStatisticsCollector#none() disabled} and
+	 * rejects any other collector. Implementations capturing statistics must override this method.
+	 *
+	 * @param cacheStatisticsCollector must not be {@literal null}.
+	 * @return new instance of {@link RedisCacheWriter}.
+	 * @throws UnsupportedOperationException if the writer does not support collecting statistics.
+	 * @since 2.2
+	 */
+	default RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+
+		Assert.notNull(cacheStatisticsCollector, "CacheStatisticsCollector must not be null!");
+
+		if (cacheStatisticsCollector == CacheStatisticsCollector.none()) {
+			return this;
+		}
+
+		throw new UnsupportedOperationException(
+				String.format("%s does not support collecting cache statistics", getClass().getName()));
+	}
 }
@@ -0,0 +1,914 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.time.Duration;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisCacheWriter} decorator performing {@code put} and {@code remove} operations asynchronously. Operations
+ * are enqueued into a bounded queue and written to the delegate {@link RedisCacheWriter} in batches from a background
+ * thread that is started with the first enqueued operation. Repeated writes to the same key that have not been flushed yet are coalesced so only the latest operation is
+ * written. <br />
+ * Reads issued through this {@link RedisCacheWriter} observe pending operations. {@code putIfAbsent} and {@code clean}
+ * flush pending operations as required before calling the delegate. <br />
+ * Pending operations are lost if the JVM terminates without {@link #destroy() shutting down} the writer. Use
+ * {@link WriteBehindRedisCacheWriterBuilder#registerShutdownHook()} when the writer is not managed by a Spring
+ * container.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+public class WriteBehindRedisCacheWriter implements RedisCacheWriter, DisposableBean {
+
+	private final static Log log = LogFactory.getLog(WriteBehindRedisCacheWriter.class);
+
+	private final RedisCacheWriter delegate;
+	private final int capacity;
+	private final int batchSize;
+	private final long flushIntervalNanos;
+	private final Backpressure backpressure;
+	private final boolean registerShutdownHook;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notEmpty = lock.newCondition();
+	private final Condition notFull = lock.newCondition();
+	private final ReentrantLock flushLock = new ReentrantLock();
+	private final LinkedHashMap<PendingKey, PendingOperation> pending = new LinkedHashMap<>();
+	private final Map<PendingKey, PendingOperation> inFlight = new HashMap<>();
+
+	private final Thread flusher;
+	private boolean flusherStarted;
+	private volatile boolean running = true;
+
+	private WriteBehindRedisCacheWriter(RedisCacheWriter delegate, int capacity, int batchSize, Duration flushInterval,
+			Backpressure backpressure, boolean registerShutdownHook) {
+
+		this.delegate = delegate;
+		this.capacity = capacity;
+		this.batchSize = batchSize;
+		this.flushIntervalNanos = flushInterval.toNanos();
+		this.backpressure = backpressure;
+		this.registerShutdownHook = registerShutdownHook;
+
+		this.flusher = new Thread(this::runFlusher, "redis-cache-write-behind");
+		this.flusher.setDaemon(true);
+	}
+
+	private static WriteBehindRedisCacheWriter create(RedisCacheWriter delegate, int capacity, int batchSize,
+			Duration flushInterval, Backpressure backpressure, boolean registerShutdownHook) {
+
+		WriteBehindRedisCacheWriter writer = new WriteBehindRedisCacheWriter(delegate, capacity, batchSize, flushInterval,
+				backpressure, registerShutdownHook);
+
+		if (registerShutdownHook) {
+			Runtime.getRuntime().addShutdownHook(new Thread(writer::destroy, "redis-cache-write-behind-shutdown"));
+		}
+
+		return writer;
+	}
+
+	/**
+	 * Entry point for builder style {@link WriteBehindRedisCacheWriter} configuration.
+	 *
+	 * @param delegate the {@link RedisCacheWriter} to write to. Must not be {@literal null}.
+	 * @return new {@link WriteBehindRedisCacheWriterBuilder}.
+	 */
+	public static WriteBehindRedisCacheWriterBuilder builder(RedisCacheWriter delegate) {
+
+		Assert.notNull(delegate, "Delegate RedisCacheWriter must not be null!");
+
+		return new WriteBehindRedisCacheWriterBuilder(delegate);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#put(java.lang.String, byte[], byte[], java.time.Duration)
+	 */
+	@Override
+	public void put(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		enqueue(new PendingKey(name, key), PendingOperation.put(value, ttl));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#put(java.lang.String, java.util.Map, java.time.Duration)
+	 */
+	@Override
+	public void put(String name, Map<byte[], byte[]> values, @Nullable Duration ttl) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(values, "Values must not be null!");
+
+		values.forEach((key, value) -> put(name, key, value, ttl));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#get(java.lang.String, byte[])
+	 */
+	@Nullable
+	@Override
+	public byte[] get(String name, byte[] key) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+
+		PendingOperation operation = getPending(new PendingKey(name, key));
+
+		if (operation != null) {
+			return operation.value;
+		}
+
+		return delegate.get(name, key);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#get(java.lang.String, byte[][])
+	 */
+	@Override
+	public List<byte[]> get(String name, byte[][] keys) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(keys, "Keys must not be null!");
+
+		List<byte[]> values = new ArrayList<>(delegate.get(name, keys));
+
+		for (int i = 0; i < keys.length; i++) {
+
+			PendingOperation operation = getPending(new PendingKey(name, keys[i]));
+
+			if (operation != null) {
+				values.set(i, operation.value);
+			}
+		}
+
+		return values;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#getWithTtl(java.lang.String, byte[])
+	 */
+	@Nullable
+	@Override
+	public ExpiringValue getWithTtl(String name, byte[] key) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+
+		PendingOperation operation = getPending(new PendingKey(name, key));
+
+		if (operation != null) {
+			return operation.value != null ? new ExpiringValue(operation.value, operation.ttl) : null;
+		}
+
+		return delegate.getWithTtl(name, key);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#putIfAbsent(java.lang.String, byte[], byte[], java.time.Duration)
+	 */
+	@Nullable
+	@Override
+	public byte[] putIfAbsent(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		PendingKey pendingKey = new PendingKey(name, key);
+
+		flushLock.lock();
+		try {
+
+			PendingOperation operation = drain(pendingKey);
+
+			if (operation != null) {
+				writeInFlight(Collections.singletonList(new SimpleImmutableEntry<>(pendingKey, operation)));
+			}
+
+			return delegate.putIfAbsent(name, key, value, ttl);
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#increment(java.lang.String, byte[])
+	 */
+	@Override
+	public long increment(String name, byte[] key) {
+		return delegate.increment(name, key);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#getCounter(java.lang.String, byte[])
+	 */
+	@Override
+	public long getCounter(String name, byte[] key) {
+		return delegate.getCounter(name, key);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#remove(java.lang.String, byte[])
+	 */
+	@Override
+	public void remove(String name, byte[] key) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+
+		enqueue(new PendingKey(name, key), PendingOperation.REMOVE);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#clean(java.lang.String, byte[])
+	 */
+	@Override
+	public void clean(String name, byte[] pattern) {
+
+		flushLock.lock();
+		try {
+
+			flushPending(Integer.MAX_VALUE);
+			delegate.clean(name, pattern);
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#acquireLock(java.lang.String, byte[], byte[], java.time.Duration)
+	 */
+	@Override
+	public boolean acquireLock(String name, byte[] key, byte[] token, @Nullable Duration ttl) {
+		return delegate.acquireLock(name, key, token, ttl);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#releaseLock(java.lang.String, byte[], byte[])
+	 */
+	@Override
+	public boolean releaseLock(String name, byte[] key, byte[] token) {
+		return delegate.releaseLock(name, key, token);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#getCacheStatistics(java.lang.String)
+	 */
+	@Override
+	public CacheStatistics getCacheStatistics(String cacheName) {
+		return delegate.getCacheStatistics(cacheName);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#clearStatistics(java.lang.String)
+	 */
+	@Override
+	public void clearStatistics(String name) {
+		delegate.clearStatistics(name);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#recordLoadTime(java.lang.String, long)
+	 */
+	@Override
+	public void recordLoadTime(String name, long durationNanos) {
+		delegate.recordLoadTime(name, durationNanos);
+	}
+
+	/**
+	 * Obtain a {@link WriteBehindRedisCacheWriter} with the same settings decorating the delegate configured with the
+	 * given {@link CacheStatisticsCollector}. Operations pending in this writer are flushed first as the new writer does
+	 * not observe them.
+	 *
+	 * @param cacheStatisticsCollector must not be {@literal null}.
+	 * @return new instance of {@link WriteBehindRedisCacheWriter}.
+	 */
+	@Override
+	public WriteBehindRedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+
+		Assert.notNull(cacheStatisticsCollector, "CacheStatisticsCollector must not be null!");
+
+		flush();
+
+		return create(delegate.withStatisticsCollector(cacheStatisticsCollector), capacity, batchSize,
+				Duration.ofNanos(flushIntervalNanos), backpressure, registerShutdownHook);
+	}
+
+	/**
+	 * Write all pending operations to the delegate {@link RedisCacheWriter} using the calling thread. Operations of a
+	 * batch that fails to be written remain pending.
+	 */
+	public void flush() {
+
+		flushLock.lock();
+		try {
+			flushPending(Integer.MAX_VALUE);
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	 * @return the number of pending operations.
+	 */
+	public int getPendingCount() {
+
+		lock.lock();
+		try {
+			return pending.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Stop the background thread and write all pending operations to the delegate {@link RedisCacheWriter}. The
+	 * background thread completes a batch that is currently being written before it terminates.
+	 */
+	@Override
+	public void destroy() {
+
+		running = false;
+
+		lock.lock();
+		try {
+			notEmpty.signalAll();
+			notFull.signalAll();
+		} finally {
+			lock.unlock();
+		}
+
+		try {
+			flusher.join(TimeUnit.SECONDS.toMillis(5));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		flush();
+	}
+
+	private void enqueue(PendingKey key, PendingOperation operation) {
+
+		lock.lock();
+		try {
+
+			while (!pending.containsKey(key) && pending.size() >= capacity) {
+
+				if (!running) {
+					break;
+				}
+
+				if (backpressure == Backpressure.BLOCK) {
+
+					try {
+						notFull.await();
+					} catch (InterruptedException ex) {
+
+						// Re-interrupt current thread, to allow other participants to react.
+						Thread.currentThread().interrupt();
+
+						throw new PessimisticLockingFailureException("Interrupted while waiting for write-behind queue capacity",
+								ex);
+					}
+					continue;
+				}
+
+				if (backpressure == Backpressure.DROP && operation != PendingOperation.REMOVE) {
+
+					if (log.isDebugEnabled()) {
+						log.debug("Write-behind queue full. Dropping cache write.");
+					}
+					return;
+				}
+
+				// CALLER_RUNS, or removals that must not be dropped
+				lock.unlock();
+				try {
+					writeThrough(key, operation);
+				} finally {
+					lock.lock();
+				}
+				return;
+			}
+
+			if (!running) {
+
+				// writer is shut down, write synchronously.
+				lock.unlock();
+				try {
+					writeThrough(key, operation);
+				} finally {
+					lock.lock();
+				}
+				return;
+			}
+
+			pending.remove(key);
+			pending.put(key, operation);
+
+			if (!flusherStarted) {
+
+				flusherStarted = true;
+				flusher.start();
+			}
+
+			notEmpty.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Nullable
+	private PendingOperation getPending(PendingKey key) {
+
+		lock.lock();
+		try {
+
+			PendingOperation operation = pending.get(key);
+			return operation != null ? operation : inFlight.get(key);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void runFlusher() {
+
+		boolean failed = false;
+
+		while (running) {
+
+			try {
+
+				lock.lock();
+				try {
+
+					long remaining = flushIntervalNanos;
+
+					// back off for a full interval after a failed write instead of retrying a full queue immediately.
+					while (running && (failed || pending.size() < batchSize) && remaining > 0) {
+						remaining = notEmpty.awaitNanos(remaining);
+					}
+				} finally {
+					lock.unlock();
+				}
+
+				failed = false;
+
+				flushLock.lock();
+				try {
+					flushPending(batchSize);
+				} finally {
+					flushLock.unlock();
+				}
+			} catch (InterruptedException e) {
+				// interrupted externally, remaining operations are flushed by destroy().
+			} catch (RuntimeException e) {
+
+				failed = true;
+				log.warn("Failed to write pending cache operations. Retrying with the next flush.", e);
+			}
+		}
+	}
+
+	/**
+	 * Drain and write pending operations in batches of at most {@code limit} operations until the queue is empty. Must
+	 * be called while holding the {@link #flushLock}.
+	 */
+	private void flushPending(int limit) {
+
+		List<Map.Entry<PendingKey, PendingOperation>> batch;
+
+		while (!(batch = drain(Math.min(limit, batchSize))).isEmpty()) {
+
+			writeInFlight(batch);
+
+			if (limit != Integer.MAX_VALUE) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Move at most {@code max} pending operations to {@link #inFlight} where they remain visible to readers until
+	 * {@link #writeInFlight(List) written}. Must be called while holding the {@link #flushLock}.
+	 */
+	private List<Map.Entry<PendingKey, PendingOperation>> drain(int max) {
+
+		lock.lock();
+		try {
+
+			List<Map.Entry<PendingKey, PendingOperation>> batch = new ArrayList<>(Math.min(max, pending.size()));
+			Iterator<Map.Entry<PendingKey, PendingOperation>> iterator = pending.entrySet().iterator();
+
+			while (iterator.hasNext() && batch.size() < max) {
+
+				Map.Entry<PendingKey, PendingOperation> entry = iterator.next();
+				batch.add(new SimpleImmutableEntry<>(entry.getKey(), entry.getValue()));
+				inFlight.put(entry.getKey(), entry.getValue());
+				iterator.remove();
+			}
+
+			if (!batch.isEmpty()) {
+				notFull.signalAll();
+			}
+
+			return batch;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Move the pending operation for {@code key} to {@link #inFlight}. Must be called while holding the
+	 * {@link #flushLock}.
+	 */
+	@Nullable
+	private PendingOperation drain(PendingKey key) {
+
+		lock.lock();
+		try {
+
+			PendingOperation operation = pending.remove(key);
+
+			if (operation != null) {
+
+				inFlight.put(key, operation);
+				notFull.signalAll();
+			}
+
+			return operation;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Write drained operations and remove them from {@link #inFlight} once the delegate write completed. Operations of a
+	 * failed batch are {@link #requeue(List) requeued}. Must be called while holding the {@link #flushLock}.
+	 */
+	private void writeInFlight(List<Map.Entry<PendingKey, PendingOperation>> batch) {
+
+		try {
+			writeBatch(batch);
+		} catch (RuntimeException e) {
+
+			requeue(batch);
+			throw e;
+		} finally {
+			batch.forEach(entry -> completed(entry.getKey(), entry.getValue()));
+		}
+	}
+
+	/**
+	 * Move operations of a failed batch back to {@link #pending} unless they were superseded by a newer operation for the
+	 * same key. Put and remove operations are idempotent so rewriting operations that were already applied is safe.
+	 */
+	private void requeue(List<Map.Entry<PendingKey, PendingOperation>> batch) {
+
+		lock.lock();
+		try {
+
+			for (Map.Entry<PendingKey, PendingOperation> entry : batch) {
+
+				if (inFlight.remove(entry.getKey(), entry.getValue())) {
+					pending.putIfAbsent(entry.getKey(), entry.getValue());
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Write {@code operation} using the calling thread. Holds the {@link #flushLock} so that a batch drained earlier
+	 * cannot overwrite the operation, and discards a pending operation for the same key as it is superseded.
+	 */
+	private void writeThrough(PendingKey key, PendingOperation operation) {
+
+		flushLock.lock();
+		try {
+
+			lock.lock();
+			try {
+
+				if (pending.remove(key) != null) {
+					notFull.signalAll();
+				}
+
+				inFlight.put(key, operation);
+			} finally {
+				lock.unlock();
+			}
+
+			try {
+				write(key, operation);
+			} finally {
+				completed(key, operation);
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	private void completed(PendingKey key, PendingOperation operation) {
+
+		lock.lock();
+		try {
+			inFlight.remove(key, operation);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Write a batch of operations grouping {@code put} operations by cache name and ttl into bulk writes.
+	 */
+	private void writeBatch(List<Map.Entry<PendingKey, PendingOperation>> batch) {
+
+		Map<BulkKey, Map<byte[], byte[]>> puts = new LinkedHashMap<>();
+
+		for (Map.Entry<PendingKey, PendingOperation> entry : batch) {
+
+			PendingKey key = entry.getKey();
+			PendingOperation operation = entry.getValue();
+
+			if (operation.value == null) {
+				delegate.remove(key.name, key.key.getArray());
+			} else {
+				puts.computeIfAbsent(new BulkKey(key.name, operation.ttl), it -> new LinkedHashMap<>())
+						.put(key.key.getArray(), operation.value);
+			}
+		}
+
+		puts.forEach((bulkKey, values) -> delegate.put(bulkKey.name, values, bulkKey.ttl));
+	}
+
+	private void write(PendingKey key, PendingOperation operation) {
+
+		if (operation.value == null) {
+			delegate.remove(key.name, key.key.getArray());
+		} else {
+			delegate.put(key.name, key.key.getArray(), operation.value, operation.ttl);
+		}
+	}
+
+	/**
+	 * Strategy applied when a write is issued while the write-behind queue is full.
+	 *
+	 * @author Mark Paluch
+	 * @since 2.2
+	 */
+	public enum Backpressure {
+
+		/**
+		 * Block the calling thread until the queue has capacity.
+		 */
+		BLOCK,
+
+		/**
+		 * Discard the {@code put} operation. {@code remove} operations are never discarded but written synchronously.
+		 */
+		DROP,
+
+		/**
+		 * Write the operation synchronously using the calling thread.
+		 */
+		CALLER_RUNS
+	}
+
+	/**
+	 * Builder for {@link WriteBehindRedisCacheWriter}.
+	 *
+	 * @author Mark Paluch
+	 * @since 2.2
+	 */
+	public static class WriteBehindRedisCacheWriterBuilder {
+
+		private final RedisCacheWriter delegate;
+		private int capacity = 10_000;
+		private int batchSize = 100;
+		private Duration flushInterval = Duration.ofMillis(10);
+		private Backpressure backpressure = Backpressure.CALLER_RUNS;
+		private boolean registerShutdownHook;
+
+		private WriteBehindRedisCacheWriterBuilder(RedisCacheWriter delegate) {
+			this.delegate = delegate;
+		}
+
+		/**
+		 * Set the maximum number of pending operations for distinct keys. Defaults to {@literal 10000}.
+		 *
+		 * @param capacity must be greater than zero.
+		 * @return this {@link WriteBehindRedisCacheWriterBuilder}.
+		 */
+		public WriteBehindRedisCacheWriterBuilder capacity(int capacity) {
+
+			Assert.isTrue(capacity > 0, "Capacity must be greater than zero!");
+
+			this.capacity = capacity;
+			return this;
+		}
+
+		/**
+		 * Set the maximum number of operations written in a single batch. Defaults to {@literal 100}.
+		 *
+		 * @param batchSize must be greater than zero.
+		 * @return this {@link WriteBehindRedisCacheWriterBuilder}.
+		 */
+		public WriteBehindRedisCacheWriterBuilder batchSize(int batchSize) {
+
+			Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+
+			this.batchSize = batchSize;
+			return this;
+		}
+
+		/**
+		 * Set the maximum time pending operations wait for a batch to fill up before they are written. Defaults to
+		 * {@literal 10 milliseconds}.
+		 *
+		 * @param flushInterval must not be {@literal null} and must be positive.
+		 * @return this {@link WriteBehindRedisCacheWriterBuilder}.
+		 */
+		public WriteBehindRedisCacheWriterBuilder flushInterval(Duration flushInterval) {
+
+			Assert.notNull(flushInterval, "Flush interval must not be null!");
+			Assert.isTrue(!flushInterval.isZero() && !flushInterval.isNegative(), "Flush interval must be positive!");
+
+			this.flushInterval = flushInterval;
+			return this;
+		}
+
+		/**
+		 * Set the {@link Backpressure} strategy applied when the queue is full. Defaults to
+		 * {@link Backpressure#CALLER_RUNS}.
+		 *
+		 * @param backpressure must not be {@literal null}.
+		 * @return this {@link WriteBehindRedisCacheWriterBuilder}.
+		 */
+		public WriteBehindRedisCacheWriterBuilder backpressure(Backpressure backpressure) {
+
+			Assert.notNull(backpressure, "Backpressure must not be null!");
+
+			this.backpressure = backpressure;
+			return this;
+		}
+
+		/**
+		 * Register a JVM shutdown hook writing pending operations on shutdown.
+		 *
+		 * @return this {@link WriteBehindRedisCacheWriterBuilder}.
+		 */
+		public WriteBehindRedisCacheWriterBuilder registerShutdownHook() {
+
+			this.registerShutdownHook = true;
+			return this;
+		}
+
+		/**
+		 * Create new instance of {@link WriteBehindRedisCacheWriter} with configuration options applied.
+		 *
+		 * @return new instance of {@link WriteBehindRedisCacheWriter}.
+		 */
+		public WriteBehindRedisCacheWriter build() {
+
+			return create(delegate, capacity, batchSize, flushInterval, backpressure, registerShutdownHook);
+		}
+	}
+
+	private static class PendingKey {
+
+		final String name;
+		final ByteArrayWrapper key;
+
+		PendingKey(String name, byte[] key) {
+
+			this.name = name;
+			this.key = new ByteArrayWrapper(key);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof PendingKey)) {
+				return false;
+			}
+
+			PendingKey that = (PendingKey) o;
+			return name.equals(that.name) && key.equals(that.key);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * name.hashCode() + key.hashCode();
+		}
+	}
+
+	/**
+	 * Pending {@code put} ({@code value} set) or {@code remove} ({@code value} is {@literal null}).
+	 */
+	private static class PendingOperation {
+
+		static final PendingOperation REMOVE = new PendingOperation(null, null);
+
+		final @Nullable byte[] value;
+		final @Nullable Duration ttl;
+
+		private PendingOperation(@Nullable byte[] value, @Nullable Duration ttl) {
+
+			this.value = value;
+			this.ttl = ttl;
+		}
+
+		static PendingOperation put(byte[] value, @Nullable Duration ttl) {
+			return new PendingOperation(value, ttl);
+		}
+	}
+
+	private static class BulkKey {
+
+		final String name;
+		final @Nullable Duration ttl;
+
+		BulkKey(String name, @Nullable Duration ttl) {
+
+			this.name = name;
+			this.ttl = ttl;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof BulkKey)) {
+				return false;
+			}
+
+			BulkKey that = (BulkKey) o;
+			return name.equals(that.name) && Objects.equals(ttl, that.ttl);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * name.hashCode() + Objects.hashCode(ttl);
+		}
+	}
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.api.StatefulRedisConnection;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration.AutoBatchingOptions;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Batches commands issued concurrently on a shared {@link StatefulRedisConnection}. The connection is switched to
+ * manual flushing and buffered commands are written once {@link AutoBatchingOptions#getBatchSize() batch size} commands
+ * are pending or the {@link AutoBatchingOptions#getFlushInterval() flush interval} elapsed, whichever comes first.
+ * <p>
+ * Commands are tracked through a proxy of the connection. The synchronous API dispatches through the asynchronous API
+ * so that a command is accounted for before the caller awaits its result. The reactive API is not tracked and must not
+ * be used on a batched connection.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+class CommandBatcher {
+
+	private final StatefulRedisConnection<?, ?> connection;
+	private final ScheduledExecutorService executor;
+	private final int batchSize;
+	private final long flushIntervalNanos;
+
+	private final AtomicInteger pending = new AtomicInteger();
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+	private CommandBatcher(StatefulRedisConnection<?, ?> connection, ScheduledExecutorService executor,
+			AutoBatchingOptions options) {
+
+		this.connection = connection;
+		this.executor = executor;
+		this.batchSize = options.getBatchSize();
+		this.flushIntervalNanos = options.getFlushInterval().toNanos();
+	}
+
+	/**
+	 * Disable automatic flushing on {@code connection} and return a proxy that flushes commands in batches.
+	 *
+	 * @param connection the native connection.
+	 * @param executor executor used to schedule flushes.
+	 * @param options the batching options.
+	 * @return the batching connection proxy.
+	 */
+	@SuppressWarnings("unchecked")
+	static <K, V> StatefulRedisConnection<K, V> batching(StatefulRedisConnection<K, V> connection,
+			ScheduledExecutorService executor, AutoBatchingOptions options) {
+
+		connection.setAutoFlushCommands(false);
+
+		CommandBatcher batcher = new CommandBatcher(connection, executor, options);
+
+		ProxyFactory proxyFactory = new ProxyFactory(connection);
+		proxyFactory.addAdvice(batcher.new ConnectionInterceptor());
+
+		return (StatefulRedisConnection<K, V>) proxyFactory.getProxy();
+	}
+
+	/**
+	 * Return the native connection if {@code connection} is a batching proxy.
+	 *
+	 * @param connection the connection.
+	 * @return the native connection.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T getTargetConnection(T connection) {
+
+		Object target = AopProxyUtils.getSingletonTarget(connection);
+		return target != null ? (T) target : connection;
+	}
+
+	/**
+	 * Return the native connection if {@code connection} is a batching proxy and restore automatic flushing so that the
+	 * connection can be released, e.g. returned to a pool and handed out to another user. Pending commands are flushed.
+	 *
+	 * @param connection the connection.
+	 * @return the native connection.
+	 */
+	static <T> T detach(T connection) {
+
+		T target = getTargetConnection(connection);
+
+		if (target != connection && target instanceof StatefulRedisConnection) {
+
+			StatefulRedisConnection<?, ?> nativeConnection = (StatefulRedisConnection<?, ?>) target;
+			nativeConnection.setAutoFlushCommands(true);
+			nativeConnection.flushCommands();
+		}
+
+		return target;
+	}
+
+	/**
+	 * Account for a dispatched command and flush or schedule a flush.
+	 */
+	void commandDispatched() {
+
+		if (pending.incrementAndGet() >= batchSize) {
+			flush();
+			return;
+		}
+
+		if (flushScheduled.compareAndSet(false, true)) {
+			executor.schedule(this::scheduledFlush, flushIntervalNanos, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Flush pending commands.
+	 */
+	void flush() {
+
+		if (pending.getAndSet(0) > 0) {
+			connection.flushCommands();
+		}
+	}
+
+	private void scheduledFlush() {
+
+		// reset before flushing so that commands dispatched during the flush schedule another one
+		flushScheduled.set(false);
+		flush();
+	}
+
+	/**
+	 * Intercepts {@link StatefulRedisConnection} methods to hand out batching command APIs.
+	 */
+	class ConnectionInterceptor implements MethodInterceptor {
+
+		private volatile Object sync;
+		private volatile Object async;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.aopalliance.intercept.MethodInterceptor#invoke(org.aopalliance.intercept.MethodInvocation)
+		 */
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+
+			Method method = invocation.getMethod();
+
+			if (method.getParameterCount() == 0) {
+
+				switch (method.getName()) {
+					case "sync":
+						return getSync();
+					case "async":
+						return getAsync();
+					case "flushCommands":
+						flush();
+						return null;
+				}
+			}
+
+			if (method.getName().equals("setAutoFlushCommands")) {
+				return null;
+			}
+
+			Object result = invocation.proceed();
+
+			if (method.getName().equals("dispatch")) {
+				commandDispatched();
+			}
+
+			return result;
+		}
+
+		private Object getSync() {
+
+			if (sync == null) {
+
+				ProxyFactory proxyFactory = new ProxyFactory(connection.sync());
+				proxyFactory.addAdvice(new SyncInterceptor(connection.async()));
+				sync = proxyFactory.getProxy();
+			}
+
+			return sync;
+		}
+
+		private Object getAsync() {
+
+			if (async == null) {
+
+				ProxyFactory proxyFactory = new ProxyFactory(connection.async());
+				proxyFactory.addAdvice(new AsyncInterceptor());
+				async = proxyFactory.getProxy();
+			}
+
+			return async;
+		}
+	}
+
+	/**
+	 * Accounts for commands issued through the asynchronous API.
+	 */
+	class AsyncInterceptor implements MethodInterceptor {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.aopalliance.intercept.MethodInterceptor#invoke(org.aopalliance.intercept.MethodInvocation)
+		 */
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+
+			Object result = invocation.proceed();
+
+			if (result instanceof RedisFuture) {
+				commandDispatched();
+			}
+
+			return result;
+		}
+	}
+
+	/**
+	 * Issues commands of the synchronous API through the asynchronous API and awaits their result.
+	 */
+	class SyncInterceptor implements MethodInterceptor {
+
+		private final Object async;
+		private final Map<Method, Method> asyncMethods = new ConcurrentHashMap<>();
+
+		SyncInterceptor(Object async) {
+			this.async = async;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.aopalliance.intercept.MethodInterceptor#invoke(org.aopalliance.intercept.MethodInvocation)
+		 */
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+
+			Method asyncMethod = asyncMethods.computeIfAbsent(invocation.getMethod(),
+					method -> ReflectionUtils.findMethod(async.getClass(), method.getName(), method.getParameterTypes()));
+
+			if (asyncMethod == null) {
+				return invocation.proceed();
+			}
+
+			Object result;
+
+			try {
+				result = asyncMethod.invoke(async, invocation.getArguments());
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+
+			if (!(result instanceof RedisFuture)) {
+				return result;
+			}
+
+			commandDispatched();
+
+			return LettuceFutures.awaitOrCancel((RedisFuture<?>) result, connection.getTimeout().toNanos(),
+					TimeUnit.NANOSECONDS);
+		}
+	}
+}
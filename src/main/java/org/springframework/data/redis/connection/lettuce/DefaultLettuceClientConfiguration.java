@@ -44,10 +44,12 @@ class DefaultLettuceClientConfiguration implements LettuceClientConfiguration {
 	private final Duration timeout;
 	private final Duration shutdownTimeout;
 	private final Duration shutdownQuietPeriod;
+	private final Optional<AutoBatchingOptions> autoBatchingOptions;
 
 	DefaultLettuceClientConfiguration(boolean useSsl, boolean verifyPeer, boolean startTls,
 			@Nullable ClientResources clientResources, @Nullable ClientOptions clientOptions, @Nullable String clientName,
-			@Nullable ReadFrom readFrom, Duration timeout, Duration shutdownTimeout, @Nullable Duration shutdownQuietPeriod) {
+			@Nullable ReadFrom readFrom, Duration timeout, Duration shutdownTimeout, @Nullable Duration shutdownQuietPeriod,
+			@Nullable AutoBatchingOptions autoBatchingOptions) {
 
 		this.useSsl = useSsl;
 		this.verifyPeer = verifyPeer;
@@ -59,6 +61,7 @@ class DefaultLettuceClientConfiguration implements LettuceClientConfiguration {
 		this.timeout = timeout;
 		this.shutdownTimeout = shutdownTimeout;
 		this.shutdownQuietPeriod = shutdownQuietPeriod != null ? shutdownQuietPeriod : shutdownTimeout;
+		this.autoBatchingOptions = Optional.ofNullable(autoBatchingOptions);
 	}
 
 	/*
@@ -150,4 +153,13 @@ class DefaultLettuceClientConfiguration implements LettuceClientConfiguration {
 	public Duration getShutdownQuietPeriod() {
 		return shutdownQuietPeriod;
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration#getAutoBatchingOptions()
+	 */
+	@Override
+	public Optional<AutoBatchingOptions> getAutoBatchingOptions() {
+		return autoBatchingOptions;
+	}
 }
@@ -134,6 +134,15 @@ class DefaultLettucePoolingClientConfiguration implements LettucePoolingClientCo
 		return clientConfiguration.getShutdownQuietPeriod();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration#getAutoBatchingOptions()
+	 */
+	@Override
+	public Optional<AutoBatchingOptions> getAutoBatchingOptions() {
+		return clientConfiguration.getAutoBatchingOptions();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration.LettucePoolingClientConfiguration#getPoolConfig()
@@ -21,6 +21,7 @@ import io.lettuce.core.RedisURI;
 import io.lettuce.core.resource.ClientResources;
 
 import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -43,6 +44,7 @@ import org.springframework.util.Assert;
  * <li>Client {@link Duration timeout}</li>
  * <li>Shutdown {@link Duration timeout}</li>
  * <li>Shutdown quiet {@link Duration period}</li>
+ * <li>Optional {@link AutoBatchingOptions automatic command batching} on the shared native connection</li>
  * </ul>
  *
  * @author Mark Paluch
@@ -112,6 +114,14 @@ public interface LettuceClientConfiguration {
 	 */
 	Duration getShutdownQuietPeriod();
 
+	/**
+	 * @return the optional {@link AutoBatchingOptions}. Automatic batching is disabled if empty.
+	 * @since 2.2
+	 */
+	default Optional<AutoBatchingOptions> getAutoBatchingOptions() {
+		return Optional.empty();
+	}
+
 	/**
 	 * Creates a new {@link LettuceClientConfigurationBuilder} to build {@link LettuceClientConfiguration} to be used with
 	 * the Lettuce client.
@@ -145,6 +155,8 @@ public interface LettuceClientConfiguration {
 	 * <dd>100 Milliseconds</dd>
 	 * <dt>Shutdown Quiet Period</dt>
 	 * <dd>100 Milliseconds</dd>
+	 * <dt>Auto Batching</dt>
+	 * <dd>disabled</dd>
 	 * </dl>
 	 *
 	 * @return a {@link LettuceClientConfiguration} with defaults.
@@ -169,6 +181,7 @@ public interface LettuceClientConfiguration {
 		Duration timeout = Duration.ofSeconds(RedisURI.DEFAULT_TIMEOUT);
 		Duration shutdownTimeout = Duration.ofMillis(100);
 		@Nullable Duration shutdownQuietPeriod;
+		@Nullable AutoBatchingOptions autoBatchingOptions;
 
 		LettuceClientConfigurationBuilder() {}
 
@@ -292,6 +305,38 @@ public interface LettuceClientConfiguration {
 			return this;
 		}
 
+		/**
+		 * Enable automatic batching of commands issued concurrently on the shared native connection using
+		 * {@link AutoBatchingOptions#defaults() default options}.
+		 *
+		 * @return {@literal this} builder.
+		 * @since 2.2
+		 * @see #autoBatching(AutoBatchingOptions)
+		 */
+		public LettuceClientConfigurationBuilder autoBatching() {
+			return autoBatching(AutoBatchingOptions.defaults());
+		}
+
+		/**
+		 * Enable automatic batching of commands issued concurrently on the shared native connection. Commands are buffered
+		 * instead of being flushed individually and written once {@link AutoBatchingOptions#getBatchSize() batch size}
+		 * commands are pending or the {@link AutoBatchingOptions#getFlushInterval() flush interval} elapsed. Batching
+		 * applies to standalone, Sentinel and Master/Replica setups and requires
+		 * {@link LettuceConnectionFactory#setShareNativeConnection(boolean) native connection sharing}.
+		 *
+		 * @param autoBatchingOptions must not be {@literal null}.
+		 * @return {@literal this} builder.
+		 * @throws IllegalArgumentException if autoBatchingOptions is {@literal null}.
+		 * @since 2.2
+		 */
+		public LettuceClientConfigurationBuilder autoBatching(AutoBatchingOptions autoBatchingOptions) {
+
+			Assert.notNull(autoBatchingOptions, "AutoBatchingOptions must not be null!");
+
+			this.autoBatchingOptions = autoBatchingOptions;
+			return this;
+		}
+
 		/**
 		 * Build the {@link LettuceClientConfiguration} with the configuration applied from this builder.
 		 *
@@ -300,7 +345,7 @@ public interface LettuceClientConfiguration {
 		public LettuceClientConfiguration build() {
 
 			return new DefaultLettuceClientConfiguration(useSsl, verifyPeer, startTls, clientResources, clientOptions,
-					clientName, readFrom, timeout, shutdownTimeout, shutdownQuietPeriod);
+					clientName, readFrom, timeout, shutdownTimeout, shutdownQuietPeriod, autoBatchingOptions);
 		}
 	}
 
@@ -357,4 +402,65 @@ public interface LettuceClientConfiguration {
 			return delegate.build();
 		}
 	}
+
+	/**
+	 * Options for automatic batching of commands issued on the shared native connection. Larger batches and longer flush
+	 * intervals reduce the number of writes at the cost of latency for individual commands.
+	 *
+	 * @author Mark Paluch
+	 * @since 2.2
+	 */
+	final class AutoBatchingOptions {
+
+		private static final AutoBatchingOptions DEFAULT = new AutoBatchingOptions(64, Duration.of(50, ChronoUnit.MICROS));
+
+		private final int batchSize;
+		private final Duration flushInterval;
+
+		private AutoBatchingOptions(int batchSize, Duration flushInterval) {
+
+			this.batchSize = batchSize;
+			this.flushInterval = flushInterval;
+		}
+
+		/**
+		 * Create {@link AutoBatchingOptions} flushing at most every {@literal 50} microseconds or once {@literal 64}
+		 * commands are pending.
+		 *
+		 * @return the default {@link AutoBatchingOptions}.
+		 */
+		public static AutoBatchingOptions defaults() {
+			return DEFAULT;
+		}
+
+		/**
+		 * Create new {@link AutoBatchingOptions}.
+		 *
+		 * @param batchSize number of pending commands that triggers a flush. Must be greater than {@literal 0}.
+		 * @param flushInterval maximum time a command remains buffered. Must not be {@literal null} and must be positive.
+		 * @return new instance of {@link AutoBatchingOptions}.
+		 */
+		public static AutoBatchingOptions of(int batchSize, Duration flushInterval) {
+
+			Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+			Assert.notNull(flushInterval, "Flush interval must not be null!");
+			Assert.isTrue(!flushInterval.isNegative() && !flushInterval.isZero(), "Flush interval must be positive!");
+
+			return new AutoBatchingOptions(batchSize, flushInterval);
+		}
+
+		/**
+		 * @return the number of pending commands that triggers a flush.
+		 */
+		public int getBatchSize() {
+			return batchSize;
+		}
+
+		/**
+		 * @return the maximum time a command remains buffered before it is flushed.
+		 */
+		public Duration getFlushInterval() {
+			return flushInterval;
+		}
+	}
 }
@@ -33,9 +33,13 @@ import lombok.RequiredArgsConstructor;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
@@ -52,8 +56,9 @@ import org.springframework.data.redis.connection.RedisConfiguration.ClusterConfi
 import org.springframework.data.redis.connection.RedisConfiguration.DomainSocketConfiguration;
 import org.springframework.data.redis.connection.RedisConfiguration.WithDatabaseIndex;
 import org.springframework.data.redis.connection.RedisConfiguration.WithPassword;
-import org.springframework.data.util.Optionals;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration.AutoBatchingOptions;
 import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
@@ -61,7 +66,8 @@ import org.springframework.util.ClassUtils;
  * Connection factory creating <a href="http://github.com/mp911de/lettuce">Lettuce</a>-based connections.
  * <p>
  * This factory creates a new {@link LettuceConnection} on each call to {@link #getConnection()}. Multiple
- * {@link LettuceConnection}s share a single thread-safe native connection by default.
+ * {@link LettuceConnection}s share a single thread-safe native connection by default. Use
+ * {@link #setSharedConnectionCount(int)} to spread commands across multiple shared native connections.
  * <p>
  * The shared native connection is never closed by {@link LettuceConnection}, therefore it is not validated by default
  * on {@link #getConnection()}. Use {@link #setValidateConnection(boolean)} to change this behavior if necessary. Inject
@@ -69,6 +75,10 @@ import org.springframework.util.ClassUtils;
  * connection for blocking and tx operations only, which should not share a connection. If native connection sharing is
  * disabled, the selected connection will be used for all operations.
  * <p>
+ * Commands issued concurrently on the shared native connection are written and flushed individually. Enable
+ * {@link LettuceClientConfiguration.LettuceClientConfigurationBuilder#autoBatching() automatic batching} to buffer them
+ * and flush them in batches instead.
+ * <p>
  * {@link LettuceConnectionFactory} should be configured using an environmental configuration and the
  * {@link LettuceConnectionFactory client configuration}. Lettuce supports the following environmental configurations:
  * <ul>
@@ -101,8 +111,11 @@ public class LettuceConnectionFactory
 	private @Nullable LettuceConnectionProvider reactiveConnectionProvider;
 	private boolean validateConnection = false;
 	private boolean shareNativeConnection = true;
-	private @Nullable SharedConnection<byte[]> connection;
-	private @Nullable SharedConnection<ByteBuffer> reactiveConnection;
+	private int sharedConnectionCount = 1;
+	private int reactiveCommandConcurrency = 1;
+	private volatile @Nullable List<SharedConnection<byte[]>> connections;
+	private volatile @Nullable List<SharedConnection<ByteBuffer>> reactiveConnections;
+	private final AtomicInteger reactiveConnectionCounter = new AtomicInteger();
 	private @Nullable LettucePool pool;
 	/** Synchronization monitor for the shared Connection */
 	private final Object connectionMonitor = new Object();
@@ -113,6 +126,7 @@ public class LettuceConnectionFactory
 	private @Nullable RedisConfiguration configuration;
 
 	private @Nullable ClusterCommandExecutor clusterCommandExecutor;
+	private @Nullable ScheduledExecutorService batchFlushExecutor;
 
 	/**
 	 * Constructs a new {@link LettuceConnectionFactory} instance with default settings.
@@ -280,6 +294,14 @@ public class LettuceConnectionFactory
 					new LettuceClusterConnection.LettuceClusterNodeResourceProvider(this.connectionProvider),
 					EXCEPTION_TRANSLATION);
 		}
+
+		if (clientConfiguration.getAutoBatchingOptions().isPresent()) {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("lettuce-batch-flush-");
+			threadFactory.setDaemon(true);
+
+			this.batchFlushExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+		}
 	}
 
 	/*
@@ -321,6 +343,10 @@ public class LettuceConnectionFactory
 				log.warn("Cannot properly close cluster command executor", ex);
 			}
 		}
+
+		if (batchFlushExecutor != null) {
+			batchFlushExecutor.shutdownNow();
+		}
 	}
 
 	/*
@@ -373,9 +399,12 @@ public class LettuceConnectionFactory
 	@Override
 	public LettuceReactiveRedisConnection getReactiveConnection() {
 
-		return getShareNativeConnection()
+		LettuceReactiveRedisConnection connection = getShareNativeConnection()
 				? new LettuceReactiveRedisConnection(getSharedReactiveConnection(), reactiveConnectionProvider)
 				: new LettuceReactiveRedisConnection(reactiveConnectionProvider);
+		connection.setCommandConcurrency(reactiveCommandConcurrency);
+
+		return connection;
 	}
 
 	/*
@@ -391,35 +420,52 @@ public class LettuceConnectionFactory
 
 		RedisClusterClient client = (RedisClusterClient) this.client;
 
-		return getShareNativeConnection()
+		LettuceReactiveRedisClusterConnection connection = getShareNativeConnection()
 				? new LettuceReactiveRedisClusterConnection(getSharedReactiveConnection(), reactiveConnectionProvider, client)
 				: new LettuceReactiveRedisClusterConnection(reactiveConnectionProvider, client);
+		connection.setCommandConcurrency(reactiveCommandConcurrency);
+
+		return connection;
 	}
 
 	/**
-	 * Initialize the shared connection if {@link #getShareNativeConnection() native connection sharing} is enabled and
+	 * Initialize the shared connections if {@link #getShareNativeConnection() native connection sharing} is enabled and
 	 * reset any previously existing connection.
 	 */
 	public void initConnection() {
 
 		resetConnection();
 
-		getSharedConnection();
-		getSharedReactiveConnection();
+		if (shareNativeConnection) {
+
+			getOrCreateSharedConnections().forEach(SharedConnection::getConnection);
+			getOrCreateSharedReactiveConnections().forEach(SharedConnection::getConnection);
+		}
 	}
 
 	/**
-	 * Reset the underlying shared Connection, to be reinitialized on next access.
+	 * Reset the underlying shared Connections, to be reinitialized on next access.
 	 */
 	public void resetConnection() {
 
-		Optionals.toStream(Optional.ofNullable(connection), Optional.ofNullable(reactiveConnection))
-				.forEach(SharedConnection::resetConnection);
+		List<SharedConnection<byte[]>> connections;
+		List<SharedConnection<ByteBuffer>> reactiveConnections;
 
 		synchronized (this.connectionMonitor) {
 
-			this.connection = null;
-			this.reactiveConnection = null;
+			connections = this.connections;
+			reactiveConnections = this.reactiveConnections;
+
+			this.connections = null;
+			this.reactiveConnections = null;
+		}
+
+		if (connections != null) {
+			connections.forEach(SharedConnection::resetConnection);
+		}
+
+		if (reactiveConnections != null) {
+			reactiveConnections.forEach(SharedConnection::resetConnection);
 		}
 	}
 
@@ -428,31 +474,81 @@ public class LettuceConnectionFactory
 	 */
 	public void validateConnection() {
 
-		getOrCreateSharedConnection().validateConnection();
-		getOrCreateSharedReactiveConnection().validateConnection();
+		getOrCreateSharedConnections().forEach(SharedConnection::validateConnection);
+		getOrCreateSharedReactiveConnections().forEach(SharedConnection::validateConnection);
 	}
 
+	/**
+	 * Select the shared connection for the calling thread so that a thread keeps using the same native connection.
+	 */
 	private SharedConnection<byte[]> getOrCreateSharedConnection() {
 
+		List<SharedConnection<byte[]>> connections = getOrCreateSharedConnections();
+
+		return connections.size() == 1 ? connections.get(0)
+				: connections.get((int) (Thread.currentThread().getId() % connections.size()));
+	}
+
+	private List<SharedConnection<byte[]>> getOrCreateSharedConnections() {
+
+		List<SharedConnection<byte[]>> connections = this.connections;
+
+		if (connections != null) {
+			return connections;
+		}
+
 		synchronized (this.connectionMonitor) {
 
-			if (this.connection == null) {
-				this.connection = new SharedConnection<>(connectionProvider, false);
+			if (this.connections == null) {
+
+				List<SharedConnection<byte[]>> sharedConnections = new ArrayList<>(sharedConnectionCount);
+
+				for (int i = 0; i < sharedConnectionCount; i++) {
+					sharedConnections.add(new SharedConnection<>(connectionProvider, false,
+							clientConfiguration.getAutoBatchingOptions().orElse(null)));
+				}
+
+				this.connections = Collections.unmodifiableList(sharedConnections);
 			}
 
-			return this.connection;
+			return this.connections;
 		}
 	}
 
+	/**
+	 * Select the shared reactive connection in round-robin fashion as reactive connections are typically obtained from
+	 * a small number of event loop threads.
+	 */
 	private SharedConnection<ByteBuffer> getOrCreateSharedReactiveConnection() {
 
+		List<SharedConnection<ByteBuffer>> connections = getOrCreateSharedReactiveConnections();
+
+		return connections.size() == 1 ? connections.get(0)
+				: connections.get(Math.floorMod(reactiveConnectionCounter.getAndIncrement(), connections.size()));
+	}
+
+	private List<SharedConnection<ByteBuffer>> getOrCreateSharedReactiveConnections() {
+
+		List<SharedConnection<ByteBuffer>> connections = this.reactiveConnections;
+
+		if (connections != null) {
+			return connections;
+		}
+
 		synchronized (this.connectionMonitor) {
 
-			if (this.reactiveConnection == null) {
-				this.reactiveConnection = new SharedConnection<>(reactiveConnectionProvider, true);
+			if (this.reactiveConnections == null) {
+
+				List<SharedConnection<ByteBuffer>> sharedConnections = new ArrayList<>(sharedConnectionCount);
+
+				for (int i = 0; i < sharedConnectionCount; i++) {
+					sharedConnections.add(new SharedConnection<>(reactiveConnectionProvider, true, null));
+				}
+
+				this.reactiveConnections = Collections.unmodifiableList(sharedConnections);
 			}
 
-			return this.reactiveConnection;
+			return this.reactiveConnections;
 		}
 	}
 
@@ -629,6 +725,66 @@ public class LettuceConnectionFactory
 		this.shareNativeConnection = shareNativeConnection;
 	}
 
+	/**
+	 * Returns the number of shared native connections.
+	 *
+	 * @return the number of shared native connections.
+	 * @since 2.2
+	 */
+	public int getSharedConnectionCount() {
+		return sharedConnectionCount;
+	}
+
+	/**
+	 * Configure the number of shared native connections used if {@link #getShareNativeConnection() connection sharing}
+	 * is enabled. A single native connection is served by a single event loop thread which limits throughput on hosts
+	 * with many cores. Spreading commands across multiple native connections allows using multiple event loop threads.
+	 * {@link LettuceConnection}s select a native connection by their calling thread, reactive connections select native
+	 * connections in round-robin fashion. Each native connection selects the {@link #getDatabase() configured database}
+	 * when it is connected. Changes apply to shared connections initialized after {@link #resetConnection()}.
+	 *
+	 * @param sharedConnectionCount number of shared native connections. Must be greater than {@literal 0}. Defaults to
+	 *          {@literal 1}.
+	 * @since 2.2
+	 */
+	public void setSharedConnectionCount(int sharedConnectionCount) {
+
+		Assert.isTrue(sharedConnectionCount > 0, "Shared connection count must be greater than zero!");
+
+		this.sharedConnectionCount = sharedConnectionCount;
+	}
+
+	/**
+	 * Returns the maximum number of commands a reactive connection sends without awaiting their response.
+	 *
+	 * @return the maximum number of reactive commands in flight per command stream.
+	 * @since 2.2
+	 */
+	public int getReactiveCommandConcurrency() {
+		return reactiveCommandConcurrency;
+	}
+
+	/**
+	 * Configure the maximum number of commands a reactive connection sends without awaiting their response when
+	 * processing a {@link org.reactivestreams.Publisher} of commands (e.g.
+	 * {@link org.springframework.data.redis.connection.ReactiveStringCommands#set(org.reactivestreams.Publisher)}).
+	 * Responses are emitted in the order of the commands regardless of this setting. With the default of {@literal 1},
+	 * each command is sent after the response to the previous one arrived, so a failing command prevents subsequent
+	 * commands from being sent. Greater values pipeline commands and save a round trip per command; all commands are sent
+	 * even if a previous one fails and the error is emitted after the responses of the other commands. Blocking commands
+	 * are always sent one after another.
+	 *
+	 * @param reactiveCommandConcurrency the maximum number of commands in flight. Must be greater than {@literal 0}.
+	 *          Defaults to {@literal 1}.
+	 * @since 2.2
+	 */
+	public void setReactiveCommandConcurrency(int reactiveCommandConcurrency) {
+
+		Assert.isTrue(reactiveCommandConcurrency > 0, "Reactive command concurrency must be greater than zero!");
+
+		this.reactiveCommandConcurrency = reactiveCommandConcurrency;
+	}
+
 	/**
 	 * Returns the index of the database.
 	 *
@@ -1045,6 +1201,7 @@ public class LettuceConnectionFactory
 
 		private final LettuceConnectionProvider connectionProvider;
 		private final boolean shareNativeClusterConnection;
+		private final @Nullable AutoBatchingOptions autoBatchingOptions;
 
 		/** Synchronization monitor for the shared Connection */
 		private final Object connectionMonitor = new Object();
@@ -1088,6 +1245,12 @@ public class LettuceConnectionFactory
 					((StatefulRedisConnection) connection).sync().select(getDatabase());
 				}
 
+				if (connection instanceof StatefulRedisConnection && autoBatchingOptions != null
+						&& batchFlushExecutor != null) {
+					return CommandBatcher.batching((StatefulRedisConnection<E, E>) connection, batchFlushExecutor,
+							autoBatchingOptions);
+				}
+
 				return connection;
 			} catch (RedisException e) {
 				throw new RedisConnectionFailureException("Unable to connect to Redis", e);
@@ -1122,7 +1285,7 @@ public class LettuceConnectionFactory
 				if (!valid) {
 
 					if (connection != null) {
-						connectionProvider.release(connection);
+						connectionProvider.release(CommandBatcher.detach(connection));
 					}
 
 					log.warn("Validation of shared connection failed. Creating a new connection.");
@@ -1141,7 +1304,7 @@ public class LettuceConnectionFactory
 			synchronized (this.connectionMonitor) {
 
 				if (this.connection != null) {
-					this.connectionProvider.release(this.connection);
+					this.connectionProvider.release(CommandBatcher.detach(this.connection));
 				}
 
 				this.connection = null;
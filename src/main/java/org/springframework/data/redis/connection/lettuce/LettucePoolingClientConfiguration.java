@@ -156,6 +156,28 @@ public interface LettucePoolingClientConfiguration extends LettuceClientConfigur
 			return this;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration.LettuceClientConfigurationBuilder#autoBatching()
+		 */
+		@Override
+		public LettucePoolingClientConfigurationBuilder autoBatching() {
+
+			super.autoBatching();
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration.LettuceClientConfigurationBuilder#autoBatching(org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration.AutoBatchingOptions)
+		 */
+		@Override
+		public LettucePoolingClientConfigurationBuilder autoBatching(AutoBatchingOptions autoBatchingOptions) {
+
+			super.autoBatching(autoBatchingOptions);
+			return this;
+		}
+
 		/**
 		 * Set the {@link GenericObjectPoolConfig} used by the driver.
 		 *
@@ -25,6 +25,7 @@ import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
 
 import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
@@ -52,6 +53,8 @@ class LettuceReactiveRedisConnection implements ReactiveRedisConnection {
 
 	private @Nullable Mono<StatefulConnection<ByteBuffer, ByteBuffer>> sharedConnection;
 
+	private int commandConcurrency = 1;
+
 	/**
 	 * Creates new {@link LettuceReactiveRedisConnection}.
 	 *
@@ -223,6 +226,51 @@ class LettuceReactiveRedisConnection implements ReactiveRedisConnection {
 		return getDedicatedCommands().flatMapMany(callback::doWithCommands).onErrorMap(translateException());
 	}
 
+	/**
+	 * Apply {@code function} to each element of {@code commands} and emit the results in the order of the commands.
+	 * With a {@link #setCommandConcurrency(int) command concurrency} greater than {@literal 1}, subsequent commands are
+	 * sent before the response to the previous one has arrived so that commands are effectively pipelined. All commands
+	 * are sent in that case, and an error is propagated after the responses of all other commands have been emitted, so
+	 * responses of commands preceding a failed one are not lost. Otherwise, each command is sent after the previous one
+	 * completed and a failing command terminates the stream.
+	 *
+	 * @param commands must not be {@literal null}.
+	 * @param function the function mapping a command to its response.
+	 * @return the responses in the order of {@code commands}.
+	 * @since 2.2
+	 */
+	<C, R> Flux<R> mapCommands(Publisher<C> commands, Function<? super C, ? extends Publisher<? extends R>> function) {
+
+		Flux<C> source = Flux.from(commands);
+
+		return commandConcurrency > 1
+				? source.flatMapSequentialDelayError(function, commandConcurrency, Queues.XS_BUFFER_SIZE)
+				: source.concatMap(function);
+	}
+
+	/**
+	 * Set the maximum number of commands that are sent without awaiting their response when a {@link Publisher} of
+	 * commands is processed. Results retain the order of the commands. Blocking commands are always executed one after
+	 * another.
+	 *
+	 * @param commandConcurrency the maximum number of commands in flight. Must be greater than zero.
+	 * @since 2.2
+	 */
+	void setCommandConcurrency(int commandConcurrency) {
+
+		Assert.isTrue(commandConcurrency > 0, "Command concurrency must be greater than zero!");
+
+		this.commandConcurrency = commandConcurrency;
+	}
+
+	/**
+	 * @return the maximum number of commands in flight when processing a {@link Publisher} of commands.
+	 * @since 2.2
+	 */
+	int getCommandConcurrency() {
+		return commandConcurrency;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#closeLater()
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Asynchronous Redis operations for Hash Commands. Absent values complete with {@literal null}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ * @see ReactiveHashOperations
+ */
+public interface AsyncHashOperations<H, HK, HV> {
+
+	/**
+	 * Delete given hash {@code hashKeys} from the hash at {@literal key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param hashKeys must not be {@literal null}.
+	 * @return number of removed hash keys.
+	 */
+	CompletionStage<Long> remove(H key, Object... hashKeys);
+
+	/**
+	 * Determine if given hash {@code hashKey} exists.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param hashKey must not be {@literal null}.
+	 */
+	CompletionStage<Boolean> hasKey(H key, Object hashKey);
+
+	/**
+	 * Get value for given {@code hashKey} from hash at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param hashKey must not be {@literal null}.
+	 * @return the value or {@literal null} if the hash key is absent.
+	 */
+	CompletionStage<HV> get(H key, Object hashKey);
+
+	/**
+	 * Get values for given {@code hashKeys} from hash at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param hashKeys must not be {@literal null}.
+	 */
+	CompletionStage<List<HV>> multiGet(H key, Collection<HK> hashKeys);
+
+	/**
+	 * Increment {@code value} of a hash {@code hashKey} by the given {@code delta}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param hashKey must not be {@literal null}.
+	 * @param delta
+	 */
+	CompletionStage<Long> increment(H key, HK hashKey, long delta);
+
+	/**
+	 * Increment {@code value} of a hash {@code hashKey} by the given {@code delta}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param hashKey must not be {@literal null}.
+	 * @param delta
+	 */
+	CompletionStage<Double> increment(H key, HK hashKey, double delta);
+
+	/**
+	 * Get key set (fields) of hash at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 */
+	CompletionStage<Set<HK>> keys(H key);
+
+	/**
+	 * Get size of hash at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 */
+	CompletionStage<Long> size(H key);
+
+	/**
+	 * Set multiple hash fields to multiple values using data provided in {@code m}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param map must not be {@literal null}.
+	 */
+	CompletionStage<Boolean> putAll(H key, Map<? extends HK, ? extends HV> map);
+
+	/**
+	 * Set the {@code value} of a hash {@code hashKey}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param hashKey must not be {@literal null}.
+	 * @param value
+	 */
+	CompletionStage<Boolean> put(H key, HK hashKey, HV value);
+
+	/**
+	 * Set the {@code value} of a hash {@code hashKey} only if {@code hashKey} does not exist.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param hashKey must not be {@literal null}.
+	 * @param value
+	 */
+	CompletionStage<Boolean> putIfAbsent(H key, HK hashKey, HV value);
+
+	/**
+	 * Get entry set (values) of hash at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 */
+	CompletionStage<List<HV>> values(H key);
+
+	/**
+	 * Get entire hash stored at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 */
+	CompletionStage<Map<HK, HV>> entries(H key);
+
+	/**
+	 * Removes the given {@literal key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 */
+	CompletionStage<Boolean> delete(H key);
+}
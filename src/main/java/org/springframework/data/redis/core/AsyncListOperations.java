@@ -0,0 +1,176 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Asynchronous Redis operations for List Commands. Absent values complete with {@literal null}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ * @see ReactiveListOperations
+ */
+public interface AsyncListOperations<K, V> {
+
+	/**
+	 * Get elements between {@code begin} and {@code end} from list at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param start
+	 * @param end
+	 * @see <a href="http://redis.io/commands/lrange">Redis Documentation: LRANGE</a>
+	 */
+	CompletionStage<List<V>> range(K key, long start, long end);
+
+	/**
+	 * Trim list at {@code key} to elements between {@code start} and {@code end}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param start
+	 * @param end
+	 * @see <a href="http://redis.io/commands/ltrim">Redis Documentation: LTRIM</a>
+	 */
+	CompletionStage<Boolean> trim(K key, long start, long end);
+
+	/**
+	 * Get the size of list stored at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/llen">Redis Documentation: LLEN</a>
+	 */
+	CompletionStage<Long> size(K key);
+
+	/**
+	 * Prepend {@code value} to {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value
+	 * @see <a href="http://redis.io/commands/lpush">Redis Documentation: LPUSH</a>
+	 */
+	CompletionStage<Long> leftPush(K key, V value);
+
+	/**
+	 * Prepend {@code values} to {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param values
+	 * @see <a href="http://redis.io/commands/lpush">Redis Documentation: LPUSH</a>
+	 */
+	CompletionStage<Long> leftPushAll(K key, Collection<V> values);
+
+	/**
+	 * Append {@code value} to {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value
+	 * @see <a href="http://redis.io/commands/rpush">Redis Documentation: RPUSH</a>
+	 */
+	CompletionStage<Long> rightPush(K key, V value);
+
+	/**
+	 * Append {@code values} to {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param values
+	 * @see <a href="http://redis.io/commands/rpush">Redis Documentation: RPUSH</a>
+	 */
+	CompletionStage<Long> rightPushAll(K key, Collection<V> values);
+
+	/**
+	 * Set the {@code value} list element at {@code index}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param index
+	 * @param value
+	 * @see <a href="http://redis.io/commands/lset">Redis Documentation: LSET</a>
+	 */
+	CompletionStage<Boolean> set(K key, long index, V value);
+
+	/**
+	 * Removes the first {@code count} occurrences of {@code value} from the list stored at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param count
+	 * @param value
+	 * @see <a href="http://redis.io/commands/lrem">Redis Documentation: LREM</a>
+	 */
+	CompletionStage<Long> remove(K key, long count, Object value);
+
+	/**
+	 * Get element at {@code index} form list at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param index
+	 * @see <a href="http://redis.io/commands/lindex">Redis Documentation: LINDEX</a>
+	 */
+	CompletionStage<V> index(K key, long index);
+
+	/**
+	 * Removes and returns first element in list stored at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/lpop">Redis Documentation: LPOP</a>
+	 */
+	CompletionStage<V> leftPop(K key);
+
+	/**
+	 * Removes and returns first element from lists stored at {@code key}. The returned stage completes once an element
+	 * is available or {@code timeout} is reached without occupying a thread while waiting.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param timeout must be either {@link Duration#ZERO} or at least one second, must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/blpop">Redis Documentation: BLPOP</a>
+	 */
+	CompletionStage<V> leftPop(K key, Duration timeout);
+
+	/**
+	 * Removes and returns last element in list stored at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/rpop">Redis Documentation: RPOP</a>
+	 */
+	CompletionStage<V> rightPop(K key);
+
+	/**
+	 * Removes and returns last element from lists stored at {@code key}. The returned stage completes once an element is
+	 * available or {@code timeout} is reached without occupying a thread while waiting.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param timeout must be either {@link Duration#ZERO} or at least one second, must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/brpop">Redis Documentation: BRPOP</a>
+	 */
+	CompletionStage<V> rightPop(K key, Duration timeout);
+
+	/**
+	 * Remove the last element from list at {@code sourceKey}, append it to {@code destinationKey} and return its value.
+	 *
+	 * @param sourceKey must not be {@literal null}.
+	 * @param destinationKey must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/rpoplpush">Redis Documentation: RPOPLPUSH</a>
+	 */
+	CompletionStage<V> rightPopAndLeftPush(K sourceKey, K destinationKey);
+
+	/**
+	 * Removes the given {@literal key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 */
+	CompletionStage<Boolean> delete(K key);
+}
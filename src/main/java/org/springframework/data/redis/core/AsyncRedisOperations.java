@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+/**
+ * Interface that specifies a basic set of Redis operations returning {@link CompletionStage}. Operations are sent
+ * without blocking the calling thread and complete once the response is received. Implemented by
+ * {@link AsyncRedisTemplate}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ * @see ReactiveRedisOperations
+ */
+public interface AsyncRedisOperations<K, V> {
+
+	// -------------------------------------------------------------------------
+	// Methods dealing with Redis keys
+	// -------------------------------------------------------------------------
+
+	/**
+	 * Determine if given {@code key} exists.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return
+	 * @see <a href="http://redis.io/commands/exists">Redis Documentation: EXISTS</a>
+	 */
+	CompletionStage<Boolean> hasKey(K key);
+
+	/**
+	 * Delete given {@code keys}.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @return the number of keys that were removed.
+	 * @see <a href="http://redis.io/commands/del">Redis Documentation: DEL</a>
+	 */
+	CompletionStage<Long> delete(K... keys);
+
+	/**
+	 * Set time to live for given {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param timeout must not be {@literal null}.
+	 * @return
+	 * @see <a href="http://redis.io/commands/expire">Redis Documentation: EXPIRE</a>
+	 */
+	CompletionStage<Boolean> expire(K key, Duration timeout);
+
+	/**
+	 * Get the time to live for {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return the {@link Duration} of the associated key. {@link Duration#ZERO} if no timeout associated or
+	 *         {@literal null} if the key does not exist.
+	 * @see <a href="http://redis.io/commands/pttl">Redis Documentation: PTTL</a>
+	 */
+	CompletionStage<Duration> getExpire(K key);
+
+	// -------------------------------------------------------------------------
+	// Methods to obtain specific operations interface objects.
+	// -------------------------------------------------------------------------
+
+	/**
+	 * Returns the operations performed on simple values (or Strings in Redis terminology).
+	 *
+	 * @return value operations.
+	 */
+	AsyncValueOperations<K, V> opsForValue();
+
+	/**
+	 * Returns the operations performed on hash values.
+	 *
+	 * @param <HK> hash key (or field) type.
+	 * @param <HV> hash value type.
+	 * @return hash operations.
+	 */
+	<HK, HV> AsyncHashOperations<K, HK, HV> opsForHash();
+
+	/**
+	 * Returns the operations performed on list values.
+	 *
+	 * @return list operations.
+	 */
+	AsyncListOperations<K, V> opsForList();
+
+	/**
+	 * Returns the operations performed on set values.
+	 *
+	 * @return set operations.
+	 */
+	AsyncSetOperations<K, V> opsForSet();
+
+	/**
+	 * Returns the operations performed on zset values (also known as sorted sets).
+	 *
+	 * @return zset operations.
+	 */
+	AsyncZSetOperations<K, V> opsForZSet();
+
+	/**
+	 * @return the {@link RedisSerializationContext}.
+	 */
+	RedisSerializationContext<K, V> getSerializationContext();
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.util.Assert;
+
+/**
+ * Central abstraction for asynchronous Redis data access implementing {@link AsyncRedisOperations}. Commands are sent
+ * through the non-blocking {@link ReactiveRedisConnectionFactory reactive connection} and results are exposed as
+ * {@link CompletionStage} so that many commands can be in flight without occupying a thread each. Callbacks attached
+ * to the returned stages run on the driver's I/O threads unless an async variant with an executor is used and
+ * therefore must not block.
+ * <p>
+ * Keys and values are serialized through the {@link RedisSerializationContext} of the underlying
+ * {@link ReactiveRedisOperations}. Collection results are gathered completely before the {@link CompletionStage}
+ * completes. Use {@link ReactiveRedisTemplate} to stream large results.
+ *
+ * <pre class="code">
+ * AsyncRedisTemplate&lt;String, String&gt; template = new AsyncRedisTemplate&lt;&gt;(connectionFactory,
+ * 		RedisSerializationContext.string());
+ *
+ * template.opsForValue().set("key", "value") //
+ * 		.thenCompose(ignore -&gt; template.opsForValue().get("key")) //
+ * 		.thenAccept(System.out::println);
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ * @param <K> the Redis key type against which the template works (usually a String)
+ * @param <V> the Redis value type against which the template works
+ * @see ReactiveRedisTemplate
+ */
+public class AsyncRedisTemplate<K, V> implements AsyncRedisOperations<K, V> {
+
+	private final ReactiveRedisOperations<K, V> reactiveOperations;
+
+	private final AsyncValueOperations<K, V> valueOps;
+	private final AsyncListOperations<K, V> listOps;
+	private final AsyncSetOperations<K, V> setOps;
+	private final AsyncZSetOperations<K, V> zSetOps;
+
+	/**
+	 * Creates new {@link AsyncRedisTemplate} using given {@link ReactiveRedisConnectionFactory} and
+	 * {@link RedisSerializationContext}.
+	 *
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param serializationContext must not be {@literal null}.
+	 */
+	public AsyncRedisTemplate(ReactiveRedisConnectionFactory connectionFactory,
+			RedisSerializationContext<K, V> serializationContext) {
+		this(new ReactiveRedisTemplate<>(connectionFactory, serializationContext));
+	}
+
+	/**
+	 * Creates new {@link AsyncRedisTemplate} adapting the given {@link ReactiveRedisOperations}.
+	 *
+	 * @param reactiveOperations must not be {@literal null}.
+	 */
+	public AsyncRedisTemplate(ReactiveRedisOperations<K, V> reactiveOperations) {
+
+		Assert.notNull(reactiveOperations, "ReactiveRedisOperations must not be null!");
+
+		this.reactiveOperations = reactiveOperations;
+		this.valueOps = new DefaultAsyncValueOperations<>(reactiveOperations.opsForValue());
+		this.listOps = new DefaultAsyncListOperations<>(reactiveOperations.opsForList());
+		this.setOps = new DefaultAsyncSetOperations<>(reactiveOperations.opsForSet());
+		this.zSetOps = new DefaultAsyncZSetOperations<>(reactiveOperations.opsForZSet());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncRedisOperations#hasKey(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Boolean> hasKey(K key) {
+		return reactiveOperations.hasKey(key).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncRedisOperations#delete(java.lang.Object[])
+	 */
+	@Override
+	@SafeVarargs
+	public final CompletionStage<Long> delete(K... keys) {
+		return reactiveOperations.delete(keys).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncRedisOperations#expire(java.lang.Object, java.time.Duration)
+	 */
+	@Override
+	public CompletionStage<Boolean> expire(K key, Duration timeout) {
+		return reactiveOperations.expire(key, timeout).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncRedisOperations#getExpire(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Duration> getExpire(K key) {
+		return reactiveOperations.getExpire(key).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncRedisOperations#opsForValue()
+	 */
+	@Override
+	public AsyncValueOperations<K, V> opsForValue() {
+		return valueOps;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncRedisOperations#opsForHash()
+	 */
+	@Override
+	public <HK, HV> AsyncHashOperations<K, HK, HV> opsForHash() {
+		return new DefaultAsyncHashOperations<>(reactiveOperations.<HK, HV> opsForHash());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncRedisOperations#opsForList()
+	 */
+	@Override
+	public AsyncListOperations<K, V> opsForList() {
+		return listOps;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncRedisOperations#opsForSet()
+	 */
+	@Override
+	public AsyncSetOperations<K, V> opsForSet() {
+		return setOps;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncRedisOperations#opsForZSet()
+	 */
+	@Override
+	public AsyncZSetOperations<K, V> opsForZSet() {
+		return zSetOps;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncRedisOperations#getSerializationContext()
+	 */
+	@Override
+	public RedisSerializationContext<K, V> getSerializationContext() {
+		return reactiveOperations.getSerializationContext();
+	}
+}
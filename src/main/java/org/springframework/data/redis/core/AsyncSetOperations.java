@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Asynchronous Redis operations for Set Commands. Absent values complete with {@literal null}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ * @see ReactiveSetOperations
+ */
+public interface AsyncSetOperations<K, V> {
+
+	/**
+	 * Add given {@code values} to set at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param values
+	 * @see <a href="http://redis.io/commands/sadd">Redis Documentation: SADD</a>
+	 */
+	CompletionStage<Long> add(K key, V... values);
+
+	/**
+	 * Remove given {@code values} from set at {@code key} and return the number of removed elements.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param values
+	 * @see <a href="http://redis.io/commands/srem">Redis Documentation: SREM</a>
+	 */
+	CompletionStage<Long> remove(K key, Object... values);
+
+	/**
+	 * Remove and return a random member from set at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/spop">Redis Documentation: SPOP</a>
+	 */
+	CompletionStage<V> pop(K key);
+
+	/**
+	 * Move {@code value} from {@code key} to {@code destKey}
+	 *
+	 * @param sourceKey must not be {@literal null}.
+	 * @param value
+	 * @param destKey must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/smove">Redis Documentation: SMOVE</a>
+	 */
+	CompletionStage<Boolean> move(K sourceKey, V value, K destKey);
+
+	/**
+	 * Get size of set at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/scard">Redis Documentation: SCARD</a>
+	 */
+	CompletionStage<Long> size(K key);
+
+	/**
+	 * Check if set at {@code key} contains {@code value}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param o
+	 * @see <a href="http://redis.io/commands/sismember">Redis Documentation: SISMEMBER</a>
+	 */
+	CompletionStage<Boolean> isMember(K key, Object o);
+
+	/**
+	 * Get all elements of set at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/smembers">Redis Documentation: SMEMBERS</a>
+	 */
+	CompletionStage<Set<V>> members(K key);
+
+	/**
+	 * Returns the members intersecting all given sets at {@code key} and {@code otherKeys}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param otherKeys must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/sinter">Redis Documentation: SINTER</a>
+	 */
+	CompletionStage<Set<V>> intersect(K key, Collection<K> otherKeys);
+
+	/**
+	 * Union all sets at given {@code key} and {@code otherKeys}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param otherKeys must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/sunion">Redis Documentation: SUNION</a>
+	 */
+	CompletionStage<Set<V>> union(K key, Collection<K> otherKeys);
+
+	/**
+	 * Diff all sets for given {@code key} and {@code otherKeys}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param otherKeys must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/sdiff">Redis Documentation: SDIFF</a>
+	 */
+	CompletionStage<Set<V>> difference(K key, Collection<K> otherKeys);
+
+	/**
+	 * Get random element from set at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/srandmember">Redis Documentation: SRANDMEMBER</a>
+	 */
+	CompletionStage<V> randomMember(K key);
+
+	/**
+	 * Removes the given {@literal key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 */
+	CompletionStage<Boolean> delete(K key);
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Asynchronous Redis operations for simple (or in Redis terminology 'string') values. Absent values complete with
+ * {@literal null}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ * @see ReactiveValueOperations
+ */
+public interface AsyncValueOperations<K, V> {
+
+	/**
+	 * Set {@code value} for {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value
+	 * @see <a href="http://redis.io/commands/set">Redis Documentation: SET</a>
+	 */
+	CompletionStage<Boolean> set(K key, V value);
+
+	/**
+	 * Set the {@code value} and expiration {@code timeout} for {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value
+	 * @param timeout must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/setex">Redis Documentation: SETEX</a>
+	 */
+	CompletionStage<Boolean> set(K key, V value, Duration timeout);
+
+	/**
+	 * Set {@code key} to hold the string {@code value} if {@code key} is absent.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value
+	 * @see <a href="http://redis.io/commands/setnx">Redis Documentation: SETNX</a>
+	 */
+	CompletionStage<Boolean> setIfAbsent(K key, V value);
+
+	/**
+	 * Set {@code key} to hold the string {@code value} and expiration {@code timeout} if {@code key} is absent.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value
+	 * @param timeout must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/set">Redis Documentation: SET</a>
+	 */
+	CompletionStage<Boolean> setIfAbsent(K key, V value, Duration timeout);
+
+	/**
+	 * Set {@code key} to hold the string {@code value} if {@code key} is present.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value
+	 * @see <a href="http://redis.io/commands/set">Redis Documentation: SET</a>
+	 */
+	CompletionStage<Boolean> setIfPresent(K key, V value);
+
+	/**
+	 * Set multiple keys to multiple values using key-value pairs provided in {@code tuple}.
+	 *
+	 * @param map must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/mset">Redis Documentation: MSET</a>
+	 */
+	CompletionStage<Boolean> multiSet(Map<? extends K, ? extends V> map);
+
+	/**
+	 * Get the value of {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/get">Redis Documentation: GET</a>
+	 */
+	CompletionStage<V> get(Object key);
+
+	/**
+	 * Set {@code value} of {@code key} and return its old value.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/getset">Redis Documentation: GETSET</a>
+	 */
+	CompletionStage<V> getAndSet(K key, V value);
+
+	/**
+	 * Get multiple {@code keys}. Values are returned in the order of the requested keys.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/mget">Redis Documentation: MGET</a>
+	 */
+	CompletionStage<List<V>> multiGet(Collection<K> keys);
+
+	/**
+	 * Increments the number stored at {@code key} by one.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/incr">Redis Documentation: INCR</a>
+	 */
+	CompletionStage<Long> increment(K key);
+
+	/**
+	 * Increments the number stored at {@code key} by {@code delta}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param delta
+	 * @see <a href="http://redis.io/commands/incrby">Redis Documentation: INCRBY</a>
+	 */
+	CompletionStage<Long> increment(K key, long delta);
+
+	/**
+	 * Increment the string representing a floating point number stored at {@code key} by {@code delta}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param delta
+	 * @see <a href="http://redis.io/commands/incrbyfloat">Redis Documentation: INCRBYFLOAT</a>
+	 */
+	CompletionStage<Double> increment(K key, double delta);
+
+	/**
+	 * Decrements the number stored at {@code key} by one.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/decr">Redis Documentation: DECR</a>
+	 */
+	CompletionStage<Long> decrement(K key);
+
+	/**
+	 * Decrements the number stored at {@code key} by {@code delta}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param delta
+	 * @see <a href="http://redis.io/commands/decrby">Redis Documentation: DECRBY</a>
+	 */
+	CompletionStage<Long> decrement(K key, long delta);
+
+	/**
+	 * Append a {@code value} to {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value
+	 * @see <a href="http://redis.io/commands/append">Redis Documentation: APPEND</a>
+	 */
+	CompletionStage<Long> append(K key, String value);
+
+	/**
+	 * Get the length of the value stored at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/strlen">Redis Documentation: STRLEN</a>
+	 */
+	CompletionStage<Long> size(K key);
+
+	/**
+	 * Removes the given {@literal key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 */
+	CompletionStage<Boolean> delete(K key);
+}
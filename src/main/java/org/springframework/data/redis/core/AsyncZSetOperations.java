@@ -0,0 +1,192 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisZSetCommands.Limit;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+/**
+ * Asynchronous Redis operations for Sorted Set Commands. Range results are returned as {@link List} retaining the
+ * order of the sorted set. Absent values complete with {@literal null}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ * @see ReactiveZSetOperations
+ */
+public interface AsyncZSetOperations<K, V> {
+
+	/**
+	 * Add {@code value} to a sorted set at {@code key}, or update its {@code score} if it already exists.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value the value.
+	 * @param score the score.
+	 * @see <a href="http://redis.io/commands/zadd">Redis Documentation: ZADD</a>
+	 */
+	CompletionStage<Boolean> add(K key, V value, double score);
+
+	/**
+	 * Add {@code tuples} to a sorted set at {@code key}, or update its {@code score} if it already exists.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param tuples the score.
+	 * @see <a href="http://redis.io/commands/zadd">Redis Documentation: ZADD</a>
+	 */
+	CompletionStage<Long> addAll(K key, Collection<? extends TypedTuple<V>> tuples);
+
+	/**
+	 * Remove {@code values} from sorted set. Return number of removed elements.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param values must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/zrem">Redis Documentation: ZREM</a>
+	 */
+	CompletionStage<Long> remove(K key, Object... values);
+
+	/**
+	 * Increment the score of element with {@code value} in sorted set by {@code increment}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value the value.
+	 * @param delta the delta to add. Can be negative.
+	 * @see <a href="http://redis.io/commands/zincrby">Redis Documentation: ZINCRBY</a>
+	 */
+	CompletionStage<Double> incrementScore(K key, V value, double delta);
+
+	/**
+	 * Determine the index of element with {@code value} in a sorted set.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param o the value.
+	 * @return the rank or {@literal null} if {@code o} is not a member.
+	 * @see <a href="http://redis.io/commands/zrank">Redis Documentation: ZRANK</a>
+	 */
+	CompletionStage<Long> rank(K key, Object o);
+
+	/**
+	 * Determine the index of element with {@code value} in a sorted set when scored high to low.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param o the value.
+	 * @return the rank or {@literal null} if {@code o} is not a member.
+	 * @see <a href="http://redis.io/commands/zrevrank">Redis Documentation: ZREVRANK</a>
+	 */
+	CompletionStage<Long> reverseRank(K key, Object o);
+
+	/**
+	 * Get elements between {@code start} and {@code end} from sorted set.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param range must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/zrange">Redis Documentation: ZRANGE</a>
+	 */
+	CompletionStage<List<V>> range(K key, Range<Long> range);
+
+	/**
+	 * Get {@link TypedTuple}s between {@code start} and {@code end} from sorted set.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param range must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/zrange">Redis Documentation: ZRANGE</a>
+	 */
+	CompletionStage<List<TypedTuple<V>>> rangeWithScores(K key, Range<Long> range);
+
+	/**
+	 * Get elements where score is between {@code min} and {@code max} from sorted set.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param range must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/zrangebyscore">Redis Documentation: ZRANGEBYSCORE</a>
+	 */
+	CompletionStage<List<V>> rangeByScore(K key, Range<Double> range);
+
+	/**
+	 * Get elements in range from {@code start} to {@code end} where score is between {@code min} and {@code max} from
+	 * sorted set.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param range must not be {@literal null}.
+	 * @param limit must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/zrangebyscore">Redis Documentation: ZRANGEBYSCORE</a>
+	 */
+	CompletionStage<List<V>> rangeByScore(K key, Range<Double> range, Limit limit);
+
+	/**
+	 * Get elements in range from {@code start} to {@code end} from sorted set ordered from high to low.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param range must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/zrevrange">Redis Documentation: ZREVRANGE</a>
+	 */
+	CompletionStage<List<V>> reverseRange(K key, Range<Long> range);
+
+	/**
+	 * Count number of elements within sorted set with scores between {@code min} and {@code max}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param range must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/zcount">Redis Documentation: ZCOUNT</a>
+	 */
+	CompletionStage<Long> count(K key, Range<Double> range);
+
+	/**
+	 * Returns the number of elements of the sorted set stored with given {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/zcard">Redis Documentation: ZCARD</a>
+	 */
+	CompletionStage<Long> size(K key);
+
+	/**
+	 * Get the score of element with {@code value} from sorted set with key {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param o the value.
+	 * @return the score or {@literal null} if {@code o} is not a member.
+	 * @see <a href="http://redis.io/commands/zscore">Redis Documentation: ZSCORE</a>
+	 */
+	CompletionStage<Double> score(K key, Object o);
+
+	/**
+	 * Remove elements in range between {@code start} and {@code end} from sorted set with {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param range must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/zremrangebyrank">Redis Documentation: ZREMRANGEBYRANK</a>
+	 */
+	CompletionStage<Long> removeRange(K key, Range<Long> range);
+
+	/**
+	 * Remove elements with scores between {@code min} and {@code max} from sorted set with {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param range must not be {@literal null}.
+	 * @see <a href="http://redis.io/commands/zremrangebyscore">Redis Documentation: ZREMRANGEBYSCORE</a>
+	 */
+	CompletionStage<Long> removeRangeByScore(K key, Range<Double> range);
+
+	/**
+	 * Removes the given {@literal key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 */
+	CompletionStage<Boolean> delete(K key);
+}
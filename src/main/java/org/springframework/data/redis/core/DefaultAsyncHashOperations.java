@@ -0,0 +1,165 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Default implementation of {@link AsyncHashOperations} adapting {@link ReactiveHashOperations}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class DefaultAsyncHashOperations<H, HK, HV> implements AsyncHashOperations<H, HK, HV> {
+
+	private final @NonNull ReactiveHashOperations<H, HK, HV> delegate;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncHashOperations#remove(java.lang.Object, java.lang.Object[])
+	 */
+	@Override
+	public CompletionStage<Long> remove(H key, Object... hashKeys) {
+		return delegate.remove(key, hashKeys).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncHashOperations#hasKey(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Boolean> hasKey(H key, Object hashKey) {
+		return delegate.hasKey(key, hashKey).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncHashOperations#get(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<HV> get(H key, Object hashKey) {
+		return delegate.get(key, hashKey).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncHashOperations#multiGet(java.lang.Object, java.util.Collection)
+	 */
+	@Override
+	public CompletionStage<List<HV>> multiGet(H key, Collection<HK> hashKeys) {
+		return delegate.multiGet(key, hashKeys).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncHashOperations#increment(java.lang.Object, java.lang.Object, long)
+	 */
+	@Override
+	public CompletionStage<Long> increment(H key, HK hashKey, long delta) {
+		return delegate.increment(key, hashKey, delta).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncHashOperations#increment(java.lang.Object, java.lang.Object, double)
+	 */
+	@Override
+	public CompletionStage<Double> increment(H key, HK hashKey, double delta) {
+		return delegate.increment(key, hashKey, delta).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncHashOperations#keys(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Set<HK>> keys(H key) {
+		return delegate.keys(key).<Set<HK>> collect(LinkedHashSet::new, Set::add).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncHashOperations#size(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Long> size(H key) {
+		return delegate.size(key).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncHashOperations#putAll(java.lang.Object, java.util.Map)
+	 */
+	@Override
+	public CompletionStage<Boolean> putAll(H key, Map<? extends HK, ? extends HV> map) {
+		return delegate.putAll(key, map).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncHashOperations#put(java.lang.Object, java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Boolean> put(H key, HK hashKey, HV value) {
+		return delegate.put(key, hashKey, value).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncHashOperations#putIfAbsent(java.lang.Object, java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Boolean> putIfAbsent(H key, HK hashKey, HV value) {
+		return delegate.putIfAbsent(key, hashKey, value).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncHashOperations#values(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<List<HV>> values(H key) {
+		return delegate.values(key).collectList().toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncHashOperations#entries(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Map<HK, HV>> entries(H key) {
+		return delegate.entries(key).collectMap(Map.Entry::getKey, Map.Entry::getValue, LinkedHashMap::new).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncHashOperations#delete(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Boolean> delete(H key) {
+		return delegate.delete(key).toFuture();
+	}
+}
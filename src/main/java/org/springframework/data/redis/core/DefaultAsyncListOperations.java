@@ -0,0 +1,180 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Default implementation of {@link AsyncListOperations} adapting {@link ReactiveListOperations}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class DefaultAsyncListOperations<K, V> implements AsyncListOperations<K, V> {
+
+	private final @NonNull ReactiveListOperations<K, V> delegate;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncListOperations#range(java.lang.Object, long, long)
+	 */
+	@Override
+	public CompletionStage<List<V>> range(K key, long start, long end) {
+		return delegate.range(key, start, end).collectList().toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncListOperations#trim(java.lang.Object, long, long)
+	 */
+	@Override
+	public CompletionStage<Boolean> trim(K key, long start, long end) {
+		return delegate.trim(key, start, end).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncListOperations#size(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Long> size(K key) {
+		return delegate.size(key).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncListOperations#leftPush(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Long> leftPush(K key, V value) {
+		return delegate.leftPush(key, value).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncListOperations#leftPushAll(java.lang.Object, java.util.Collection)
+	 */
+	@Override
+	public CompletionStage<Long> leftPushAll(K key, Collection<V> values) {
+		return delegate.leftPushAll(key, values).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncListOperations#rightPush(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Long> rightPush(K key, V value) {
+		return delegate.rightPush(key, value).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncListOperations#rightPushAll(java.lang.Object, java.util.Collection)
+	 */
+	@Override
+	public CompletionStage<Long> rightPushAll(K key, Collection<V> values) {
+		return delegate.rightPushAll(key, values).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncListOperations#set(java.lang.Object, long, java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Boolean> set(K key, long index, V value) {
+		return delegate.set(key, index, value).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncListOperations#remove(java.lang.Object, long, java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Long> remove(K key, long count, Object value) {
+		return delegate.remove(key, count, value).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncListOperations#index(java.lang.Object, long)
+	 */
+	@Override
+	public CompletionStage<V> index(K key, long index) {
+		return delegate.index(key, index).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncListOperations#leftPop(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<V> leftPop(K key) {
+		return delegate.leftPop(key).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncListOperations#leftPop(java.lang.Object, java.time.Duration)
+	 */
+	@Override
+	public CompletionStage<V> leftPop(K key, Duration timeout) {
+		return delegate.leftPop(key, timeout).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncListOperations#rightPop(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<V> rightPop(K key) {
+		return delegate.rightPop(key).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncListOperations#rightPop(java.lang.Object, java.time.Duration)
+	 */
+	@Override
+	public CompletionStage<V> rightPop(K key, Duration timeout) {
+		return delegate.rightPop(key, timeout).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncListOperations#rightPopAndLeftPush(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<V> rightPopAndLeftPush(K sourceKey, K destinationKey) {
+		return delegate.rightPopAndLeftPush(sourceKey, destinationKey).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncListOperations#delete(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Boolean> delete(K key) {
+		return delegate.delete(key).toFuture();
+	}
+}
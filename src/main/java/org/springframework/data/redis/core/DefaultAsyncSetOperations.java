@@ -0,0 +1,149 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Default implementation of {@link AsyncSetOperations} adapting {@link ReactiveSetOperations}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class DefaultAsyncSetOperations<K, V> implements AsyncSetOperations<K, V> {
+
+	private final @NonNull ReactiveSetOperations<K, V> delegate;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncSetOperations#add(java.lang.Object, java.lang.Object[])
+	 */
+	@Override
+	public CompletionStage<Long> add(K key, V... values) {
+		return delegate.add(key, values).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncSetOperations#remove(java.lang.Object, java.lang.Object[])
+	 */
+	@Override
+	public CompletionStage<Long> remove(K key, Object... values) {
+		return delegate.remove(key, values).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncSetOperations#pop(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<V> pop(K key) {
+		return delegate.pop(key).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncSetOperations#move(java.lang.Object, java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Boolean> move(K sourceKey, V value, K destKey) {
+		return delegate.move(sourceKey, value, destKey).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncSetOperations#size(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Long> size(K key) {
+		return delegate.size(key).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncSetOperations#isMember(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Boolean> isMember(K key, Object o) {
+		return delegate.isMember(key, o).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncSetOperations#members(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Set<V>> members(K key) {
+		return toSet(delegate.members(key));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncSetOperations#intersect(java.lang.Object, java.util.Collection)
+	 */
+	@Override
+	public CompletionStage<Set<V>> intersect(K key, Collection<K> otherKeys) {
+		return toSet(delegate.intersect(key, otherKeys));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncSetOperations#union(java.lang.Object, java.util.Collection)
+	 */
+	@Override
+	public CompletionStage<Set<V>> union(K key, Collection<K> otherKeys) {
+		return toSet(delegate.union(key, otherKeys));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncSetOperations#difference(java.lang.Object, java.util.Collection)
+	 */
+	@Override
+	public CompletionStage<Set<V>> difference(K key, Collection<K> otherKeys) {
+		return toSet(delegate.difference(key, otherKeys));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncSetOperations#randomMember(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<V> randomMember(K key) {
+		return delegate.randomMember(key).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncSetOperations#delete(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Boolean> delete(K key) {
+		return delegate.delete(key).toFuture();
+	}
+
+	private static <T> CompletionStage<Set<T>> toSet(Flux<T> members) {
+		return members.<Set<T>> collect(LinkedHashSet::new, Set::add).toFuture();
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Default implementation of {@link AsyncValueOperations} adapting {@link ReactiveValueOperations}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class DefaultAsyncValueOperations<K, V> implements AsyncValueOperations<K, V> {
+
+	private final @NonNull ReactiveValueOperations<K, V> delegate;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncValueOperations#set(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Boolean> set(K key, V value) {
+		return delegate.set(key, value).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncValueOperations#set(java.lang.Object, java.lang.Object, java.time.Duration)
+	 */
+	@Override
+	public CompletionStage<Boolean> set(K key, V value, Duration timeout) {
+		return delegate.set(key, value, timeout).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncValueOperations#setIfAbsent(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Boolean> setIfAbsent(K key, V value) {
+		return delegate.setIfAbsent(key, value).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncValueOperations#setIfAbsent(java.lang.Object, java.lang.Object, java.time.Duration)
+	 */
+	@Override
+	public CompletionStage<Boolean> setIfAbsent(K key, V value, Duration timeout) {
+		return delegate.setIfAbsent(key, value, timeout).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncValueOperations#setIfPresent(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Boolean> setIfPresent(K key, V value) {
+		return delegate.setIfPresent(key, value).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncValueOperations#multiSet(java.util.Map)
+	 */
+	@Override
+	public CompletionStage<Boolean> multiSet(Map<? extends K, ? extends V> map) {
+		return delegate.multiSet(map).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncValueOperations#get(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<V> get(Object key) {
+		return delegate.get(key).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncValueOperations#getAndSet(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<V> getAndSet(K key, V value) {
+		return delegate.getAndSet(key, value).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncValueOperations#multiGet(java.util.Collection)
+	 */
+	@Override
+	public CompletionStage<List<V>> multiGet(Collection<K> keys) {
+		return delegate.multiGet(keys).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncValueOperations#increment(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Long> increment(K key) {
+		return delegate.increment(key).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncValueOperations#increment(java.lang.Object, long)
+	 */
+	@Override
+	public CompletionStage<Long> increment(K key, long delta) {
+		return delegate.increment(key, delta).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncValueOperations#increment(java.lang.Object, double)
+	 */
+	@Override
+	public CompletionStage<Double> increment(K key, double delta) {
+		return delegate.increment(key, delta).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncValueOperations#decrement(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Long> decrement(K key) {
+		return delegate.decrement(key).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncValueOperations#decrement(java.lang.Object, long)
+	 */
+	@Override
+	public CompletionStage<Long> decrement(K key, long delta) {
+		return delegate.decrement(key, delta).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncValueOperations#append(java.lang.Object, java.lang.String)
+	 */
+	@Override
+	public CompletionStage<Long> append(K key, String value) {
+		return delegate.append(key, value).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncValueOperations#size(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Long> size(K key) {
+		return delegate.size(key).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncValueOperations#delete(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Boolean> delete(K key) {
+		return delegate.delete(key).toFuture();
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisZSetCommands.Limit;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+/**
+ * Default implementation of {@link AsyncZSetOperations} adapting {@link ReactiveZSetOperations}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class DefaultAsyncZSetOperations<K, V> implements AsyncZSetOperations<K, V> {
+
+	private final @NonNull ReactiveZSetOperations<K, V> delegate;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncZSetOperations#add(java.lang.Object, java.lang.Object, double)
+	 */
+	@Override
+	public CompletionStage<Boolean> add(K key, V value, double score) {
+		return delegate.add(key, value, score).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncZSetOperations#addAll(java.lang.Object, java.util.Collection)
+	 */
+	@Override
+	public CompletionStage<Long> addAll(K key, Collection<? extends TypedTuple<V>> tuples) {
+		return delegate.addAll(key, tuples).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncZSetOperations#remove(java.lang.Object, java.lang.Object[])
+	 */
+	@Override
+	public CompletionStage<Long> remove(K key, Object... values) {
+		return delegate.remove(key, values).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncZSetOperations#incrementScore(java.lang.Object, java.lang.Object, double)
+	 */
+	@Override
+	public CompletionStage<Double> incrementScore(K key, V value, double delta) {
+		return delegate.incrementScore(key, value, delta).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncZSetOperations#rank(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Long> rank(K key, Object o) {
+		return delegate.rank(key, o).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncZSetOperations#reverseRank(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Long> reverseRank(K key, Object o) {
+		return delegate.reverseRank(key, o).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncZSetOperations#range(java.lang.Object, org.springframework.data.domain.Range)
+	 */
+	@Override
+	public CompletionStage<List<V>> range(K key, Range<Long> range) {
+		return delegate.range(key, range).collectList().toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncZSetOperations#rangeWithScores(java.lang.Object, org.springframework.data.domain.Range)
+	 */
+	@Override
+	public CompletionStage<List<TypedTuple<V>>> rangeWithScores(K key, Range<Long> range) {
+		return delegate.rangeWithScores(key, range).collectList().toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncZSetOperations#rangeByScore(java.lang.Object, org.springframework.data.domain.Range)
+	 */
+	@Override
+	public CompletionStage<List<V>> rangeByScore(K key, Range<Double> range) {
+		return delegate.rangeByScore(key, range).collectList().toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncZSetOperations#rangeByScore(java.lang.Object, org.springframework.data.domain.Range, org.springframework.data.redis.connection.RedisZSetCommands.Limit)
+	 */
+	@Override
+	public CompletionStage<List<V>> rangeByScore(K key, Range<Double> range, Limit limit) {
+		return delegate.rangeByScore(key, range, limit).collectList().toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncZSetOperations#reverseRange(java.lang.Object, org.springframework.data.domain.Range)
+	 */
+	@Override
+	public CompletionStage<List<V>> reverseRange(K key, Range<Long> range) {
+		return delegate.reverseRange(key, range).collectList().toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncZSetOperations#count(java.lang.Object, org.springframework.data.domain.Range)
+	 */
+	@Override
+	public CompletionStage<Long> count(K key, Range<Double> range) {
+		return delegate.count(key, range).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncZSetOperations#size(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Long> size(K key) {
+		return delegate.size(key).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncZSetOperations#score(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Double> score(K key, Object o) {
+		return delegate.score(key, o).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncZSetOperations#removeRange(java.lang.Object, org.springframework.data.domain.Range)
+	 */
+	@Override
+	public CompletionStage<Long> removeRange(K key, Range<Long> range) {
+		return delegate.removeRange(key, range).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncZSetOperations#removeRangeByScore(java.lang.Object, org.springframework.data.domain.Range)
+	 */
+	@Override
+	public CompletionStage<Long> removeRangeByScore(K key, Range<Double> range) {
+		return delegate.removeRangeByScore(key, range).toFuture();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.AsyncZSetOperations#delete(java.lang.Object)
+	 */
+	@Override
+	public CompletionStage<Boolean> delete(K key) {
+		return delegate.delete(key).toFuture();
+	}
+}
@@ -21,6 +21,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.connection.RedisConnection;
@@ -89,6 +90,46 @@ public interface RedisOperations<K, V> {
 	 */
 	List<Object> executePipelined(final RedisCallback<?> action, final RedisSerializer<?> resultSerializer);
 
+	/**
+	 * Executes the given action object on a pipelined connection that is flushed every {@code windowSize} commands.
+	 * Results are handed to {@code resultConsumer} window by window instead of being collected, so the memory required
+	 * does not depend on the total number of commands issued. Results of a transaction are delivered within a single
+	 * window. A failed command fails the flush of its window and prevents subsequent commands from being sent. Note that
+	 * the callback <b>cannot</b> return a non-null value as it gets overwritten by the pipeline. This method will use the
+	 * default serializers to deserialize results.
+	 * <p>
+	 * The default implementation delegates to {@link #executePipelined(RedisCallback, RedisSerializer, int, Consumer)}
+	 * using the {@link #getValueSerializer() value serializer}.
+	 *
+	 * @param action callback object to execute. Must not be {@literal null}.
+	 * @param windowSize number of commands after which the pipeline is flushed. Must be greater than {@literal 0}.
+	 * @param resultConsumer consumer of the results of each window. Must not be {@literal null}.
+	 * @since 2.2
+	 */
+	default void executePipelined(RedisCallback<?> action, int windowSize, Consumer<List<Object>> resultConsumer) {
+		executePipelined(action, getValueSerializer(), windowSize, resultConsumer);
+	}
+
+	/**
+	 * Executes the given action object on a pipelined connection that is flushed every {@code windowSize} commands,
+	 * handing results deserialized with a dedicated serializer to {@code resultConsumer} window by window. The default
+	 * implementation throws {@link UnsupportedOperationException}.
+	 *
+	 * @param action callback object to execute. Must not be {@literal null}.
+	 * @param resultSerializer The Serializer to use for individual values or Collections of values. If any returned
+	 *          values are hashes, this serializer will be used to deserialize both the key and value
+	 * @param windowSize number of commands after which the pipeline is flushed. Must be greater than {@literal 0}.
+	 * @param resultConsumer consumer of the results of each window. Must not be {@literal null}.
+	 * @throws UnsupportedOperationException if windowed pipelining is not supported.
+	 * @since 2.2
+	 * @see #executePipelined(RedisCallback, int, Consumer)
+	 */
+	default void executePipelined(RedisCallback<?> action, RedisSerializer<?> resultSerializer, int windowSize,
+			Consumer<List<Object>> resultConsumer) {
+		throw new UnsupportedOperationException(
+				String.format("%s does not support windowed pipelining", getClass().getName()));
+	}
+
 	/**
 	 * Executes the given Redis session on a pipelined connection. Allows transactions to be pipelined. Note that the
 	 * callback <b>cannot</b> return a non-null value as it gets overwritten by the pipeline.
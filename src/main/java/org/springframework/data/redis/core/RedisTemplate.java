@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
@@ -337,6 +338,49 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 		});
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.RedisOperations#executePipelined(org.springframework.data.redis.core.RedisCallback, int, java.util.function.Consumer)
+	 */
+	@Override
+	public void executePipelined(RedisCallback<?> action, int windowSize, Consumer<List<Object>> resultConsumer) {
+		executePipelined(action, valueSerializer, windowSize, resultConsumer);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.core.RedisOperations#executePipelined(org.springframework.data.redis.core.RedisCallback, org.springframework.data.redis.serializer.RedisSerializer, int, java.util.function.Consumer)
+	 */
+	@Override
+	public void executePipelined(RedisCallback<?> action, @Nullable RedisSerializer<?> resultSerializer, int windowSize,
+			Consumer<List<Object>> resultConsumer) {
+
+		Assert.notNull(action, "Callback object must not be null");
+		Assert.notNull(resultConsumer, "Result consumer must not be null");
+
+		execute((RedisCallback<Object>) connection -> {
+
+			WindowedPipeline pipeline = new WindowedPipeline(connection, windowSize, results -> resultConsumer
+					.accept(deserializeMixedResults(results, resultSerializer, hashKeySerializer, hashValueSerializer)));
+
+			connection.openPipeline();
+			try {
+				Object result = action.doInRedis(pipeline.getConnection());
+				if (result != null) {
+					throw new InvalidDataAccessApiUsageException(
+							"Callback cannot return a non-null value as it gets overwritten by the pipeline");
+				}
+				pipeline.close();
+			} finally {
+				if (connection.isPipelined()) {
+					connection.closePipeline();
+				}
+			}
+
+			return null;
+		});
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.core.RedisOperations#execute(org.springframework.data.redis.core.script.RedisScript, java.util.List, java.lang.Object[])
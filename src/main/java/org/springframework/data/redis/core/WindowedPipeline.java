@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Pipeline that is flushed once {@code windowSize} commands were issued. {@link #getConnection()} exposes a
+ * {@link RedisConnection} proxy counting commands. Once the window is full, the pipeline is closed, its results are
+ * handed to the result consumer and a new pipeline is opened so that the number of pending commands and buffered
+ * results is bounded by the window size. Flushing is deferred while a transaction is queued.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+class WindowedPipeline {
+
+	private static final Set<String> NON_COMMAND_METHODS = new HashSet<>(Arrays.asList("isClosed", "getNativeConnection",
+			"isQueueing", "isPipelined", "getSentinelConnection", "isSubscribed", "getSubscription", "toString"));
+
+	private final RedisConnection connection;
+	private final int windowSize;
+	private final Consumer<List<Object>> resultConsumer;
+	private final RedisConnection proxy;
+
+	private int pending;
+
+	/**
+	 * Creates a new {@link WindowedPipeline}. The pipeline must be opened on {@code connection} before issuing commands
+	 * through {@link #getConnection()}.
+	 *
+	 * @param connection must not be {@literal null}.
+	 * @param windowSize number of commands after which the pipeline is flushed. Must be greater than {@literal 0}.
+	 * @param resultConsumer consumer for the results of each window. Must not be {@literal null}.
+	 */
+	WindowedPipeline(RedisConnection connection, int windowSize, Consumer<List<Object>> resultConsumer) {
+
+		Assert.notNull(connection, "RedisConnection must not be null!");
+		Assert.isTrue(windowSize > 0, "Window size must be greater than zero!");
+		Assert.notNull(resultConsumer, "Result consumer must not be null!");
+
+		this.connection = connection;
+		this.windowSize = windowSize;
+		this.resultConsumer = resultConsumer;
+		this.proxy = createProxy(connection, RedisConnection.class);
+	}
+
+	/**
+	 * @return the {@link RedisConnection} to issue commands on.
+	 */
+	RedisConnection getConnection() {
+		return proxy;
+	}
+
+	/**
+	 * Close the pipeline and hand the results of pending commands to the result consumer.
+	 */
+	void close() {
+
+		List<Object> results = connection.closePipeline();
+
+		if (pending > 0 || !results.isEmpty()) {
+
+			pending = 0;
+			resultConsumer.accept(results);
+		}
+	}
+
+	private void commandIssued() {
+
+		pending++;
+
+		if (pending >= windowSize && !connection.isQueueing()) {
+
+			close();
+			connection.openPipeline();
+		}
+	}
+
+	private <T> T createProxy(Object target, Class<T> type) {
+
+		Class<?>[] interfaces = ClassUtils.getAllInterfacesForClass(target.getClass(), getClass().getClassLoader());
+		return type.cast(Proxy.newProxyInstance(target.getClass().getClassLoader(), interfaces,
+				new CommandCountingInvocationHandler(target)));
+	}
+
+	/**
+	 * {@link InvocationHandler} counting commands issued on a {@link RedisConnection} or one of its command interfaces.
+	 */
+	private class CommandCountingInvocationHandler implements InvocationHandler {
+
+		private final Object target;
+
+		CommandCountingInvocationHandler(Object target) {
+			this.target = target;
+		}
+
+		@Override
+		@Nullable
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+			switch (method.getName()) {
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "close":
+					return null;
+				case "openPipeline":
+				case "closePipeline":
+					throw new InvalidDataAccessApiUsageException("Pipeline is managed by the template");
+			}
+
+			Object result;
+
+			try {
+				result = method.invoke(target, args);
+			} catch (InvocationTargetException ex) {
+				throw ex.getTargetException();
+			}
+
+			if (NON_COMMAND_METHODS.contains(method.getName())) {
+				return result;
+			}
+
+			if (result != null && method.getParameterCount() == 0 && method.getName().endsWith("Commands")) {
+				return createProxy(result, method.getReturnType());
+			}
+
+			commandIssued();
+
+			return result;
+		}
+	}
+}
@@ -0,0 +1,763 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+import org.springframework.core.CollectionFactory;
+import org.springframework.data.convert.EntityInstantiator;
+import org.springframework.data.convert.EntityInstantiators;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
+import org.springframework.data.redis.core.mapping.RedisPersistentProperty;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Factory for {@link Codec}s reading and writing the positional binary layout used by
+ * {@link MappingBinaryRedisSerializer}. Codecs are created once per type from {@link RedisPersistentEntity} metadata so
+ * reading and writing values does not inspect types. Integral numbers are written as zig-zag encoded varints, lengths
+ * and sizes as unsigned varints.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+class BinaryCodecs {
+
+	private static final Map<Class<?>, Codec<?>> SIMPLE_CODECS = new HashMap<>();
+
+	static {
+
+		register(Boolean.class, "boolean", (value, out) -> out.write(value ? 1 : 0), in -> in.get() != 0);
+		register(Byte.class, "byte", (value, out) -> out.write(value), in -> in.get());
+		register(Short.class, "short", (value, out) -> writeSignedVarLong(value, out),
+				in -> (short) readSignedVarLong(in));
+		register(Integer.class, "int", (value, out) -> writeSignedVarLong(value, out), in -> (int) readSignedVarLong(in));
+		register(Long.class, "long", BinaryCodecs::writeSignedVarLong, BinaryCodecs::readSignedVarLong);
+		register(Character.class, "char", (value, out) -> writeVarLong(value, out), in -> (char) readVarLong(in));
+		register(Float.class, "float", (value, out) -> writeFixedInt(Float.floatToIntBits(value), out),
+				in -> Float.intBitsToFloat(in.getInt()));
+		register(Double.class, "double", (value, out) -> writeFixedLong(Double.doubleToLongBits(value), out),
+				in -> Double.longBitsToDouble(in.getLong()));
+		register(String.class, "string", BinaryCodecs::writeString, BinaryCodecs::readString);
+		register(byte[].class, "bytes", (value, out) -> writeBytes(value, out), BinaryCodecs::readBytes);
+		register(BigInteger.class, "biginteger", (value, out) -> writeBytes(value.toByteArray(), out),
+				in -> new BigInteger(readBytes(in)));
+		register(BigDecimal.class, "bigdecimal", (value, out) -> {
+
+			writeSignedVarLong(value.scale(), out);
+			writeBytes(value.unscaledValue().toByteArray(), out);
+		}, in -> {
+
+			int scale = (int) readSignedVarLong(in);
+			return new BigDecimal(new BigInteger(readBytes(in)), scale);
+		});
+		register(Date.class, "date", (value, out) -> writeSignedVarLong(value.getTime(), out),
+				in -> new Date(readSignedVarLong(in)));
+		register(Instant.class, "instant", (value, out) -> {
+
+			writeSignedVarLong(value.getEpochSecond(), out);
+			writeVarLong(value.getNano(), out);
+		}, in -> Instant.ofEpochSecond(readSignedVarLong(in), readVarLong(in)));
+		register(LocalDate.class, "localdate", (value, out) -> writeSignedVarLong(value.toEpochDay(), out),
+				in -> LocalDate.ofEpochDay(readSignedVarLong(in)));
+		register(LocalTime.class, "localtime", (value, out) -> writeVarLong(value.toNanoOfDay(), out),
+				in -> LocalTime.ofNanoOfDay(readVarLong(in)));
+		register(LocalDateTime.class, "localdatetime", (value, out) -> {
+
+			writeSignedVarLong(value.toLocalDate().toEpochDay(), out);
+			writeVarLong(value.toLocalTime().toNanoOfDay(), out);
+		}, in -> LocalDateTime.of(LocalDate.ofEpochDay(readSignedVarLong(in)), LocalTime.ofNanoOfDay(readVarLong(in))));
+		register(UUID.class, "uuid", (value, out) -> {
+
+			writeFixedLong(value.getMostSignificantBits(), out);
+			writeFixedLong(value.getLeastSignificantBits(), out);
+		}, in -> new UUID(in.getLong(), in.getLong()));
+	}
+
+	private final RedisMappingContext mappingContext;
+	private final EntityInstantiators instantiators = new EntityInstantiators();
+	private final Map<Class<?>, EntityCodec<?>> entityCodecs = new LinkedHashMap<>();
+
+	BinaryCodecs(RedisMappingContext mappingContext) {
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * Obtain the {@link Codec} for the entity {@code type}, creating codecs for all types reachable through its
+	 * properties.
+	 *
+	 * @param type the entity type.
+	 * @return the {@link Codec} for {@code type}.
+	 * @throws MappingException if a property type cannot be encoded.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> Codec<T> getEntityCodec(Class<T> type) {
+
+		EntityCodec<T> codec = (EntityCodec<T>) entityCodecs.get(type);
+
+		if (codec == null) {
+
+			RedisPersistentEntity<T> entity = (RedisPersistentEntity<T>) mappingContext.getRequiredPersistentEntity(type);
+			codec = new EntityCodec<>(entity, instantiators.getInstantiatorFor(entity));
+
+			// register before initializing to allow self-referencing types
+			entityCodecs.put(type, codec);
+			codec.initialize();
+		}
+
+		return codec;
+	}
+
+	/**
+	 * Compute a fingerprint of the layout of all entity codecs created so far. The fingerprint changes when properties
+	 * are added, removed, renamed or change their type.
+	 *
+	 * @return the schema fingerprint.
+	 */
+	int getSchemaVersion() {
+
+		CRC32 crc = new CRC32();
+
+		for (EntityCodec<?> codec : entityCodecs.values()) {
+			crc.update(codec.describeSchema().getBytes(StandardCharsets.UTF_8));
+		}
+
+		return (int) crc.getValue();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Codec<Object> codecFor(@Nullable TypeInformation<?> type, RedisPersistentProperty property) {
+
+		if (type == null) {
+			throw unsupported(Object.class, property);
+		}
+
+		Class<?> rawType = type.getType();
+		Codec<?> codec = SIMPLE_CODECS.get(ClassUtils.resolvePrimitiveIfNecessary(rawType));
+
+		if (codec != null) {
+			return (Codec<Object>) codec;
+		}
+
+		if (rawType.isEnum()) {
+			return new EnumCodec(rawType);
+		}
+
+		if (rawType.isArray()) {
+
+			Class<?> componentType = rawType.getComponentType();
+			Codec<Object> elementCodec = codecFor(type.getComponentType(), property);
+
+			return new ArrayCodec(componentType, componentType.isPrimitive() ? elementCodec : nullable(elementCodec));
+		}
+
+		if (Collection.class.isAssignableFrom(rawType)) {
+
+			TypeInformation<?> componentType = type.getComponentType();
+			return new CollectionCodec(rawType, componentType != null ? componentType.getType() : Object.class,
+					nullable(codecFor(componentType, property)));
+		}
+
+		if (Map.class.isAssignableFrom(rawType)) {
+
+			TypeInformation<?> keyType = type.getComponentType();
+			return new MapCodec(rawType, keyType != null ? keyType.getType() : Object.class,
+					nullable(codecFor(keyType, property)), nullable(codecFor(type.getMapValueType(), property)));
+		}
+
+		if (rawType.isInterface() || Modifier.isAbstract(rawType.getModifiers()) || rawType.getName().startsWith("java.")) {
+			throw unsupported(rawType, property);
+		}
+
+		return (Codec<Object>) getEntityCodec(rawType);
+	}
+
+	private static MappingException unsupported(Class<?> type, RedisPersistentProperty property) {
+		return new MappingException(String.format("Cannot encode %s of property %s.%s in binary format", type.getName(),
+				property.getOwner().getName(), property.getName()));
+	}
+
+	private static Codec<Object> nullable(Codec<Object> codec) {
+		return new NullableCodec(codec);
+	}
+
+	private static <T> void register(Class<T> type, String name, BiConsumer<T, ByteBufferOutputStream> writer,
+			Function<ByteBuffer, T> reader) {
+		SIMPLE_CODECS.put(type, new SimpleCodec<>(name, writer, reader));
+	}
+
+	static void writeVarLong(long value, ByteBufferOutputStream out) {
+
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+
+		out.write((int) value);
+	}
+
+	static long readVarLong(ByteBuffer in) {
+
+		long result = 0;
+
+		for (int shift = 0; shift < 64; shift += 7) {
+
+			byte b = in.get();
+			result |= (long) (b & 0x7F) << shift;
+
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+
+		throw new SerializationException("Malformed varint");
+	}
+
+	static void writeSignedVarLong(long value, ByteBufferOutputStream out) {
+		writeVarLong((value << 1) ^ (value >> 63), out);
+	}
+
+	static long readSignedVarLong(ByteBuffer in) {
+
+		long value = readVarLong(in);
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	static void writeFixedInt(int value, ByteBufferOutputStream out) {
+
+		out.write(value >>> 24);
+		out.write(value >>> 16);
+		out.write(value >>> 8);
+		out.write(value);
+	}
+
+	static void writeFixedLong(long value, ByteBufferOutputStream out) {
+
+		writeFixedInt((int) (value >>> 32), out);
+		writeFixedInt((int) value, out);
+	}
+
+	private static int readLength(ByteBuffer in) {
+
+		long length = readVarLong(in);
+
+		if (length < 0 || length > in.remaining()) {
+			throw new SerializationException(
+					String.format("Invalid length %d exceeding remaining %d bytes", length, in.remaining()));
+		}
+
+		return (int) length;
+	}
+
+	private static void writeBytes(byte[] value, ByteBufferOutputStream out) {
+
+		writeVarLong(value.length, out);
+		out.write(value, 0, value.length);
+	}
+
+	private static byte[] readBytes(ByteBuffer in) {
+
+		byte[] bytes = new byte[readLength(in)];
+		in.get(bytes);
+		return bytes;
+	}
+
+	private static void writeString(String value, ByteBufferOutputStream out) {
+		writeBytes(value.getBytes(StandardCharsets.UTF_8), out);
+	}
+
+	private static String readString(ByteBuffer in) {
+
+		if (!in.hasArray()) {
+			return new String(readBytes(in), StandardCharsets.UTF_8);
+		}
+
+		int length = readLength(in);
+		String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+		in.position(in.position() + length);
+
+		return value;
+	}
+
+	/**
+	 * Reads and writes values of a single type.
+	 *
+	 * @param <T> the value type.
+	 */
+	interface Codec<T> {
+
+		/**
+		 * Write a non-{@literal null} {@code value}.
+		 *
+		 * @param value the value to write.
+		 * @param out the target.
+		 */
+		void write(T value, ByteBufferOutputStream out);
+
+		/**
+		 * Read a value starting at the current position of {@code in}.
+		 *
+		 * @param in the source.
+		 * @return the value read.
+		 */
+		T read(ByteBuffer in);
+
+		/**
+		 * @return short description of the encoded layout used to compute the schema fingerprint.
+		 */
+		String describe();
+	}
+
+	static class SimpleCodec<T> implements Codec<T> {
+
+		private final String name;
+		private final BiConsumer<T, ByteBufferOutputStream> writer;
+		private final Function<ByteBuffer, T> reader;
+
+		SimpleCodec(String name, BiConsumer<T, ByteBufferOutputStream> writer, Function<ByteBuffer, T> reader) {
+
+			this.name = name;
+			this.writer = writer;
+			this.reader = reader;
+		}
+
+		@Override
+		public void write(T value, ByteBufferOutputStream out) {
+			writer.accept(value, out);
+		}
+
+		@Override
+		public T read(ByteBuffer in) {
+			return reader.apply(in);
+		}
+
+		@Override
+		public String describe() {
+			return name;
+		}
+	}
+
+	/**
+	 * Prefixes values with a presence flag.
+	 */
+	static class NullableCodec implements Codec<Object> {
+
+		private final Codec<Object> delegate;
+
+		NullableCodec(Codec<Object> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void write(@Nullable Object value, ByteBufferOutputStream out) {
+
+			if (value == null) {
+				out.write(0);
+				return;
+			}
+
+			out.write(1);
+			delegate.write(value, out);
+		}
+
+		@Nullable
+		@Override
+		public Object read(ByteBuffer in) {
+			return in.get() != 0 ? delegate.read(in) : null;
+		}
+
+		@Override
+		public String describe() {
+			return delegate.describe() + "?";
+		}
+	}
+
+	/**
+	 * Writes enum constants by their ordinal.
+	 */
+	static class EnumCodec implements Codec<Object> {
+
+		private final Class<?> type;
+		private final Object[] constants;
+
+		EnumCodec(Class<?> type) {
+
+			this.type = type;
+			this.constants = type.getEnumConstants();
+		}
+
+		@Override
+		public void write(Object value, ByteBufferOutputStream out) {
+			writeVarLong(((Enum<?>) value).ordinal(), out);
+		}
+
+		@Override
+		public Object read(ByteBuffer in) {
+
+			long ordinal = readVarLong(in);
+
+			if (ordinal < 0 || ordinal >= constants.length) {
+				throw new SerializationException(String.format("Invalid ordinal %d for %s", ordinal, type.getName()));
+			}
+
+			return constants[(int) ordinal];
+		}
+
+		@Override
+		public String describe() {
+
+			StringBuilder builder = new StringBuilder("enum:").append(type.getName()).append('(');
+
+			for (Object constant : constants) {
+				builder.append(((Enum<?>) constant).name()).append(',');
+			}
+
+			return builder.append(')').toString();
+		}
+	}
+
+	/**
+	 * Writes arrays as size followed by their elements.
+	 */
+	static class ArrayCodec implements Codec<Object> {
+
+		private final Class<?> componentType;
+		private final Codec<Object> elementCodec;
+
+		ArrayCodec(Class<?> componentType, Codec<Object> elementCodec) {
+
+			this.componentType = componentType;
+			this.elementCodec = elementCodec;
+		}
+
+		@Override
+		public void write(Object value, ByteBufferOutputStream out) {
+
+			int length = Array.getLength(value);
+			writeVarLong(length, out);
+
+			for (int i = 0; i < length; i++) {
+				elementCodec.write(Array.get(value, i), out);
+			}
+		}
+
+		@Override
+		public Object read(ByteBuffer in) {
+
+			int length = readLength(in);
+			Object array = Array.newInstance(componentType, length);
+
+			for (int i = 0; i < length; i++) {
+				Array.set(array, i, elementCodec.read(in));
+			}
+
+			return array;
+		}
+
+		@Override
+		public String describe() {
+			return "array<" + elementCodec.describe() + ">";
+		}
+	}
+
+	/**
+	 * Writes collections as size followed by their elements.
+	 */
+	static class CollectionCodec implements Codec<Object> {
+
+		private final Class<?> type;
+		private final Class<?> elementType;
+		private final Codec<Object> elementCodec;
+
+		CollectionCodec(Class<?> type, Class<?> elementType, Codec<Object> elementCodec) {
+
+			this.type = type;
+			this.elementType = elementType;
+			this.elementCodec = elementCodec;
+		}
+
+		@Override
+		public void write(Object value, ByteBufferOutputStream out) {
+
+			Collection<?> collection = (Collection<?>) value;
+			writeVarLong(collection.size(), out);
+
+			for (Object element : collection) {
+				elementCodec.write(element, out);
+			}
+		}
+
+		@Override
+		public Object read(ByteBuffer in) {
+
+			int size = readLength(in);
+			Collection<Object> collection = CollectionFactory.createCollection(type, elementType, size);
+
+			for (int i = 0; i < size; i++) {
+				collection.add(elementCodec.read(in));
+			}
+
+			return collection;
+		}
+
+		@Override
+		public String describe() {
+			return "collection<" + elementCodec.describe() + ">";
+		}
+	}
+
+	/**
+	 * Writes maps as size followed by alternating keys and values.
+	 */
+	static class MapCodec implements Codec<Object> {
+
+		private final Class<?> type;
+		private final Class<?> keyType;
+		private final Codec<Object> keyCodec;
+		private final Codec<Object> valueCodec;
+
+		MapCodec(Class<?> type, Class<?> keyType, Codec<Object> keyCodec, Codec<Object> valueCodec) {
+
+			this.type = type;
+			this.keyType = keyType;
+			this.keyCodec = keyCodec;
+			this.valueCodec = valueCodec;
+		}
+
+		@Override
+		public void write(Object value, ByteBufferOutputStream out) {
+
+			Map<?, ?> map = (Map<?, ?>) value;
+			writeVarLong(map.size(), out);
+
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				keyCodec.write(entry.getKey(), out);
+				valueCodec.write(entry.getValue(), out);
+			}
+		}
+
+		@Override
+		public Object read(ByteBuffer in) {
+
+			int size = readLength(in);
+			Map<Object, Object> map = CollectionFactory.createMap(type, keyType, size);
+
+			for (int i = 0; i < size; i++) {
+				map.put(keyCodec.read(in), valueCodec.read(in));
+			}
+
+			return map;
+		}
+
+		@Override
+		public String describe() {
+			return "map<" + keyCodec.describe() + "," + valueCodec.describe() + ">";
+		}
+	}
+
+	/**
+	 * Writes entities as a bitmap of present nullable properties followed by the values of all present properties in
+	 * property name order. Property names are not written.
+	 */
+	class EntityCodec<T> implements Codec<T> {
+
+		private final RedisPersistentEntity<T> entity;
+		private final EntityInstantiator instantiator;
+
+		private RedisPersistentProperty[] properties = new RedisPersistentProperty[0];
+		private Codec<Object>[] codecs;
+		private boolean[] nullable;
+		private boolean[] constructorParameter;
+		private Map<String, Integer> positions;
+		private int bitmapLength;
+
+		EntityCodec(RedisPersistentEntity<T> entity, EntityInstantiator instantiator) {
+
+			this.entity = entity;
+			this.instantiator = instantiator;
+		}
+
+		@SuppressWarnings("unchecked")
+		void initialize() {
+
+			List<RedisPersistentProperty> properties = new ArrayList<>();
+			entity.doWithProperties((PropertyHandler<RedisPersistentProperty>) properties::add);
+			properties.sort(Comparator.comparing(PersistentProperty::getName));
+
+			PreferredConstructor<T, RedisPersistentProperty> constructor = entity.getPersistenceConstructor();
+
+			this.properties = properties.toArray(new RedisPersistentProperty[0]);
+			this.codecs = new Codec[this.properties.length];
+			this.nullable = new boolean[this.properties.length];
+			this.constructorParameter = new boolean[this.properties.length];
+			this.positions = new HashMap<>(this.properties.length);
+
+			int nullableCount = 0;
+
+			for (int i = 0; i < this.properties.length; i++) {
+
+				RedisPersistentProperty property = this.properties[i];
+
+				codecs[i] = codecFor(property.getTypeInformation(), property);
+				nullable[i] = !property.getType().isPrimitive();
+				constructorParameter[i] = constructor != null && constructor.isConstructorParameter(property);
+				positions.put(property.getName(), i);
+
+				if (nullable[i]) {
+					nullableCount++;
+				}
+			}
+
+			this.bitmapLength = (nullableCount + 7) >>> 3;
+
+			if (constructor != null) {
+				for (Parameter<Object, RedisPersistentProperty> parameter : constructor.getParameters()) {
+					if (parameter.getName() == null || !positions.containsKey(parameter.getName())) {
+						throw new MappingException(String.format("Cannot map constructor parameter %s of %s to a property",
+								parameter.getName(), entity.getName()));
+					}
+				}
+			}
+		}
+
+		@Override
+		public void write(T value, ByteBufferOutputStream out) {
+
+			// properties of subclasses are unknown to the codec and would be dropped silently
+			if (value.getClass() != entity.getType()) {
+				throw new SerializationException(String.format("Cannot serialize %s as %s: Subtypes are not supported",
+						value.getClass().getName(), entity.getName()));
+			}
+
+			PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(value);
+			Object[] values = new Object[properties.length];
+			byte[] bitmap = new byte[bitmapLength];
+
+			for (int i = 0, bit = 0; i < properties.length; i++) {
+
+				values[i] = accessor.getProperty(properties[i]);
+
+				if (nullable[i]) {
+
+					if (values[i] != null) {
+						bitmap[bit >>> 3] |= 1 << (bit & 7);
+					}
+
+					bit++;
+				}
+			}
+
+			out.write(bitmap, 0, bitmap.length);
+
+			for (int i = 0; i < properties.length; i++) {
+				if (values[i] != null) {
+					codecs[i].write(values[i], out);
+				}
+			}
+		}
+
+		@Override
+		public T read(ByteBuffer in) {
+
+			byte[] bitmap = new byte[bitmapLength];
+			in.get(bitmap);
+
+			Object[] values = new Object[properties.length];
+
+			for (int i = 0, bit = 0; i < properties.length; i++) {
+
+				if (nullable[i]) {
+
+					boolean present = (bitmap[bit >>> 3] & (1 << (bit & 7))) != 0;
+					bit++;
+
+					if (!present) {
+						continue;
+					}
+				}
+
+				values[i] = codecs[i].read(in);
+			}
+
+			T instance = instantiator.createInstance(entity, new ParameterValueProvider<RedisPersistentProperty>() {
+
+				@Nullable
+				@Override
+				@SuppressWarnings("unchecked")
+				public <P> P getParameterValue(Parameter<P, RedisPersistentProperty> parameter) {
+					return (P) values[positions.get(parameter.getName())];
+				}
+			});
+
+			PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(instance);
+
+			for (int i = 0; i < properties.length; i++) {
+				if (!constructorParameter[i] && values[i] != null) {
+					accessor.setProperty(properties[i], values[i]);
+				}
+			}
+
+			return accessor.getBean();
+		}
+
+		@Override
+		public String describe() {
+			return "entity:" + entity.getName();
+		}
+
+		String describeSchema() {
+
+			StringBuilder builder = new StringBuilder(entity.getName()).append('{');
+
+			for (int i = 0; i < properties.length; i++) {
+				builder.append(properties[i].getName()).append(':').append(codecs[i].describe())
+						.append(nullable[i] ? "?" : "").append(';');
+			}
+
+			return builder.append('}').toString();
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.nio.ByteBuffer;
+
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.lang.Nullable;
+
+/**
+ * Raw {@link RedisSerializer} using {@code byte[]}. Reading a {@link ByteBuffer} that exactly wraps its backing array
+ * returns the array without copying.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+enum ByteArrayRedisSerializer implements ByteBufferRedisSerializer<byte[]> {
+
+	INSTANCE;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#serialize(java.lang.Object)
+	 */
+	@Nullable
+	@Override
+	public byte[] serialize(@Nullable byte[] bytes) throws SerializationException {
+		return bytes;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#deserialize(byte[])
+	 */
+	@Nullable
+	@Override
+	public byte[] deserialize(@Nullable byte[] bytes) throws SerializationException {
+		return bytes;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.ByteBufferRedisSerializer#serializeToBuffer(java.lang.Object)
+	 */
+	@Nullable
+	@Override
+	public ByteBuffer serializeToBuffer(@Nullable byte[] bytes) throws SerializationException {
+		return bytes == null ? null : ByteBuffer.wrap(bytes);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.ByteBufferRedisSerializer#deserializeFromBuffer(java.nio.ByteBuffer)
+	 */
+	@Override
+	public byte[] deserializeFromBuffer(ByteBuffer buffer) throws SerializationException {
+
+		if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0
+				&& buffer.remaining() == buffer.array().length) {
+			return buffer.array();
+		}
+
+		return ByteUtils.extractBytes(buffer);
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Unsynchronized {@link OutputStream} writing into a pre-sized {@code byte[]} that is exposed as {@link ByteBuffer}
+ * without copying. Keeps track of the sizes written so far to pre-size subsequent buffers through {@link SizeHint}.
+ * Serializers returning a copy of the written bytes can reuse a per-thread instance obtained from their own
+ * {@link Recycler}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+class ByteBufferOutputStream extends OutputStream {
+
+	private static final int RECYCLED_INITIAL_CAPACITY = 256;
+	private static final int RECYCLED_MAX_CAPACITY = 64 * 1024;
+
+	private byte[] buffer;
+	private int count;
+
+	private @Nullable Recycler recycler;
+	private boolean inUse;
+
+	ByteBufferOutputStream(int initialCapacity) {
+		this.buffer = new byte[Math.max(initialCapacity, 16)];
+	}
+
+	/**
+	 * Release a {@link ByteBufferOutputStream} obtained from {@link Recycler#obtain()}. Buffers that grew beyond
+	 * {@value #RECYCLED_MAX_CAPACITY} bytes are dropped to not retain memory for rare large values.
+	 */
+	void release() {
+
+		Recycler recycler = this.recycler;
+
+		if (recycler == null) {
+			return;
+		}
+
+		inUse = false;
+
+		if (buffer.length > RECYCLED_MAX_CAPACITY) {
+			recycler.streams.remove();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.OutputStream#write(int)
+	 */
+	@Override
+	public void write(int b) {
+
+		ensureCapacity(count + 1);
+		buffer[count++] = (byte) b;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.OutputStream#write(byte[], int, int)
+	 */
+	@Override
+	public void write(byte[] bytes, int offset, int length) {
+
+		ensureCapacity(count + length);
+		System.arraycopy(bytes, offset, buffer, count, length);
+		count += length;
+	}
+
+	/**
+	 * @return the number of bytes written.
+	 */
+	int size() {
+		return count;
+	}
+
+	/**
+	 * @return a {@link ByteBuffer} backed by the underlying {@code byte[]} containing the bytes written.
+	 */
+	ByteBuffer toByteBuffer() {
+		return ByteBuffer.wrap(buffer, 0, count);
+	}
+
+	/**
+	 * @return a copy of the bytes written.
+	 */
+	byte[] toByteArray() {
+		return Arrays.copyOf(buffer, count);
+	}
+
+	private void ensureCapacity(int capacity) {
+
+		if (capacity > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length << 1));
+		}
+	}
+
+	/**
+	 * Holder of per-thread {@link ByteBufferOutputStream}s. Serializers keep their own instance so recycled buffers are
+	 * released together with the serializer instead of being retained by a {@code static} {@link ThreadLocal}.
+	 */
+	static class Recycler {
+
+		private final ThreadLocal<ByteBufferOutputStream> streams = new ThreadLocal<>();
+
+		/**
+		 * Obtain the empty {@link ByteBufferOutputStream} associated with the current thread. Returns a new instance if the
+		 * recycled one is still in use, e.g. when serializing nested values. Callers must not hand out the underlying
+		 * buffer and must call {@link ByteBufferOutputStream#release()} when done.
+		 *
+		 * @return an empty {@link ByteBufferOutputStream}.
+		 */
+		ByteBufferOutputStream obtain() {
+
+			ByteBufferOutputStream stream = streams.get();
+
+			if (stream == null) {
+
+				stream = new ByteBufferOutputStream(RECYCLED_INITIAL_CAPACITY);
+				stream.recycler = this;
+				streams.set(stream);
+			}
+
+			if (stream.inUse) {
+				return new ByteBufferOutputStream(RECYCLED_INITIAL_CAPACITY);
+			}
+
+			stream.inUse = true;
+			stream.count = 0;
+
+			return stream;
+		}
+	}
+
+	/**
+	 * Moving estimate of the serialized size used to pre-size buffers. Updates are not synchronized, races are benign.
+	 */
+	static class SizeHint {
+
+		private static final int MIN_SIZE = 64;
+
+		private volatile int estimate = MIN_SIZE;
+
+		/**
+		 * @return the capacity for a new buffer including headroom above the current estimate.
+		 */
+		int capacity() {
+
+			int estimate = this.estimate;
+			return estimate + (estimate >> 2);
+		}
+
+		/**
+		 * Record the size of a serialized value.
+		 *
+		 * @param size the number of bytes written.
+		 */
+		void record(int size) {
+			estimate = (int) Math.max(MIN_SIZE, (estimate * 3L + size) >> 2);
+		}
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.nio.ByteBuffer;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link RedisSerializer} that is able to read from and write to {@link ByteBuffer}s directly without copying the
+ * binary representation into an intermediate {@code byte[]}. {@link RedisElementReader}s and
+ * {@link RedisElementWriter}s created through {@link RedisSerializationContext.SerializationPair#fromSerializer(RedisSerializer)}
+ * use the {@link ByteBuffer} methods when the given serializer implements this interface.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ * @see RedisSerializationContext.SerializationPair#fromSerializer(RedisSerializer)
+ */
+public interface ByteBufferRedisSerializer<T> extends RedisSerializer<T> {
+
+	/**
+	 * Serialize the given object into a {@link ByteBuffer}.
+	 *
+	 * @param value object to serialize. Can be {@literal null}.
+	 * @return the binary data ready to be read. Can be {@literal null}.
+	 */
+	@Nullable
+	ByteBuffer serializeToBuffer(@Nullable T value) throws SerializationException;
+
+	/**
+	 * Deserialize an object from the remaining bytes of the given {@link ByteBuffer}. Implementations must not change the
+	 * position or limit of {@code buffer}.
+	 *
+	 * @param buffer object binary representation. Must not be {@literal null}.
+	 * @return the equivalent object instance. Can be {@literal null}.
+	 */
+	@Nullable
+	T deserializeFromBuffer(ByteBuffer buffer) throws SerializationException;
+}
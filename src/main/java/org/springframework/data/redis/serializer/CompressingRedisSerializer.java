@@ -0,0 +1,424 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisSerializer} decorator compressing the binary representation created by a delegate {@link RedisSerializer}
+ * using {@link Deflater}. Only values of at least {@link #withThreshold(int) threshold} bytes are compressed, smaller
+ * values and values that do not shrink are stored as-is. Compressed values start with a magic header followed by the
+ * format version and the uncompressed length:
+ *
+ * <pre>
+ * +------+-----+-----+---------+------------------------+----------------------+
+ * | 0xD3 | 'R' | 'Z' | version | length (4, big endian) | zlib compressed data |
+ * +------+-----+-----+---------+------------------------+----------------------+
+ * </pre>
+ *
+ * Values not starting with the magic header are passed to the delegate unchanged, so that values written before
+ * compression was enabled remain readable. The magic header is not valid {@literal UTF-8}, Java serialization or JSON.
+ * <br />
+ * Values can be compressed with a {@link #withDictionary(byte[]) preset dictionary} which considerably improves the
+ * compression ratio of small, similar values. A dictionary can be {@link #trainDictionary(Iterable, int) trained}
+ * from representative samples. Values compressed with a dictionary can only be read using the same dictionary.
+ * <br />
+ * The uncompressed length stored in the header is validated against the size of the compressed data and a
+ * {@link #withMaxDecompressedSize(int) configurable maximum} before allocating memory for the decompressed value.
+ * <br />
+ * {@link Deflater} and {@link Inflater} instances hold native memory and are pooled for reuse, bounded by the number of
+ * available processors. Pooled instances are released when the serializer is {@link #destroy() destroyed}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+public class CompressingRedisSerializer<T> implements RedisSerializer<T>, DisposableBean {
+
+	/**
+	 * Default minimum size of a value to get compressed.
+	 */
+	public static final int DEFAULT_THRESHOLD = 1024;
+
+	/**
+	 * Maximum size of a dictionary, limited by the {@literal deflate} window size.
+	 */
+	public static final int MAX_DICTIONARY_SIZE = 32 * 1024;
+
+	/**
+	 * Default maximum size of a decompressed value.
+	 */
+	public static final int DEFAULT_MAX_DECOMPRESSED_SIZE = 64 * 1024 * 1024;
+
+	/**
+	 * Upper bound of the {@literal deflate} compression ratio used to detect corrupt length headers.
+	 */
+	private static final int MAX_COMPRESSION_RATIO = 1032;
+
+	private static final byte[] MAGIC = { (byte) 0xD3, 'R', 'Z' };
+	private static final byte VERSION = 1;
+	private static final int HEADER_LENGTH = MAGIC.length + 1 + 4;
+	private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+	private final RedisSerializer<T> delegate;
+	private final int threshold;
+	private final int level;
+	private final @Nullable byte[] dictionary;
+	private final int maxDecompressedSize;
+
+	private final Pool<Deflater> deflaters;
+	private final Pool<Inflater> inflaters;
+
+	/**
+	 * Creates a new {@link CompressingRedisSerializer} compressing values of at least {@link #DEFAULT_THRESHOLD} bytes
+	 * using the {@link Deflater#DEFAULT_COMPRESSION default compression level}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 */
+	public CompressingRedisSerializer(RedisSerializer<T> delegate) {
+		this(delegate, DEFAULT_THRESHOLD, Deflater.DEFAULT_COMPRESSION, null, DEFAULT_MAX_DECOMPRESSED_SIZE);
+	}
+
+	private CompressingRedisSerializer(RedisSerializer<T> delegate, int threshold, int level,
+			@Nullable byte[] dictionary, int maxDecompressedSize) {
+
+		Assert.notNull(delegate, "Delegate RedisSerializer must not be null!");
+
+		this.delegate = delegate;
+		this.threshold = threshold;
+		this.level = level;
+		this.dictionary = dictionary;
+		this.maxDecompressedSize = maxDecompressedSize;
+		this.deflaters = new Pool<>(() -> new Deflater(level), Deflater::reset, Deflater::end);
+		this.inflaters = new Pool<>(Inflater::new, Inflater::reset, Inflater::end);
+	}
+
+	/**
+	 * Compress values of at least the given size.
+	 *
+	 * @param threshold minimum size in bytes of a serialized value to get compressed. Must not be negative.
+	 * @return new {@link CompressingRedisSerializer}.
+	 */
+	public CompressingRedisSerializer<T> withThreshold(int threshold) {
+
+		Assert.isTrue(threshold >= 0, "Threshold must not be negative!");
+
+		return new CompressingRedisSerializer<>(delegate, threshold, level, dictionary, maxDecompressedSize);
+	}
+
+	/**
+	 * Compress values using the given compression level.
+	 *
+	 * @param level compression level from {@literal 0} to {@literal 9} or {@link Deflater#DEFAULT_COMPRESSION}.
+	 * @return new {@link CompressingRedisSerializer}.
+	 */
+	public CompressingRedisSerializer<T> withCompressionLevel(int level) {
+
+		Assert.isTrue((level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION)
+				|| level == Deflater.DEFAULT_COMPRESSION, "Invalid compression level!");
+
+		return new CompressingRedisSerializer<>(delegate, threshold, level, dictionary, maxDecompressedSize);
+	}
+
+	/**
+	 * Compress values using the given preset dictionary. Values compressed with a dictionary cannot be read without it.
+	 *
+	 * @param dictionary must not be {@literal null} or empty. Must not exceed {@link #MAX_DICTIONARY_SIZE} bytes.
+	 * @return new {@link CompressingRedisSerializer}.
+	 * @see #trainDictionary(Iterable, int)
+	 */
+	public CompressingRedisSerializer<T> withDictionary(byte[] dictionary) {
+
+		Assert.notNull(dictionary, "Dictionary must not be null!");
+		Assert.isTrue(dictionary.length > 0, "Dictionary must not be empty!");
+		Assert.isTrue(dictionary.length <= MAX_DICTIONARY_SIZE,
+				() -> String.format("Dictionary must not exceed %d bytes!", MAX_DICTIONARY_SIZE));
+
+		return new CompressingRedisSerializer<>(delegate, threshold, level, dictionary.clone(), maxDecompressedSize);
+	}
+
+	/**
+	 * Reject compressed values that would decompress to more than the given size.
+	 *
+	 * @param maxDecompressedSize maximum size in bytes of a decompressed value. Must be greater than zero.
+	 * @return new {@link CompressingRedisSerializer}.
+	 */
+	public CompressingRedisSerializer<T> withMaxDecompressedSize(int maxDecompressedSize) {
+
+		Assert.isTrue(maxDecompressedSize > 0, "Max decompressed size must be greater than zero!");
+
+		return new CompressingRedisSerializer<>(delegate, threshold, level, dictionary, maxDecompressedSize);
+	}
+
+	/**
+	 * Train a preset dictionary from representative serialized values. The dictionary is built from the byte sequences
+	 * shared by most samples. Training requires memory proportional to the total size of all samples and is intended to
+	 * be run once, for example at build time or on startup.
+	 *
+	 * @param samples serialized sample values. Must not be {@literal null}.
+	 * @param maxSize maximum size of the dictionary. Must be between {@literal 1} and {@link #MAX_DICTIONARY_SIZE}.
+	 * @return the trained dictionary. Empty if the samples do not share any byte sequences.
+	 */
+	public static byte[] trainDictionary(Iterable<byte[]> samples, int maxSize) {
+
+		Assert.notNull(samples, "Samples must not be null!");
+		Assert.isTrue(maxSize > 0 && maxSize <= MAX_DICTIONARY_SIZE,
+				() -> String.format("Max size must be between 1 and %d!", MAX_DICTIONARY_SIZE));
+
+		return CompressionDictionaryTrainer.train(samples, maxSize);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#serialize(java.lang.Object)
+	 */
+	@Override
+	public byte[] serialize(@Nullable T value) throws SerializationException {
+
+		byte[] bytes = delegate.serialize(value);
+
+		if (bytes == null || bytes.length < threshold || bytes.length <= HEADER_LENGTH) {
+			return bytes;
+		}
+
+		// compressed values are only stored when smaller than the uncompressed value
+		byte[] buffer = new byte[bytes.length];
+		int length = HEADER_LENGTH;
+		Deflater deflater = deflaters.acquire();
+
+		try {
+
+			if (dictionary != null) {
+				deflater.setDictionary(dictionary);
+			}
+
+			deflater.setInput(bytes);
+			deflater.finish();
+
+			while (!deflater.finished() && length < buffer.length) {
+				length += deflater.deflate(buffer, length, buffer.length - length);
+			}
+
+			if (!deflater.finished()) {
+				return bytes;
+			}
+		} finally {
+			deflaters.release(deflater);
+		}
+
+		System.arraycopy(MAGIC, 0, buffer, 0, MAGIC.length);
+		buffer[MAGIC.length] = VERSION;
+		writeInt(bytes.length, buffer, MAGIC.length + 1);
+
+		return Arrays.copyOf(buffer, length);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#deserialize(byte[])
+	 */
+	@Override
+	public T deserialize(@Nullable byte[] bytes) throws SerializationException {
+
+		if (!isCompressed(bytes)) {
+			return delegate.deserialize(bytes);
+		}
+
+		if (bytes[MAGIC.length] != VERSION) {
+			throw new SerializationException(
+					String.format("Unsupported compression format version %d", bytes[MAGIC.length]));
+		}
+
+		return delegate.deserialize(decompress(bytes, readInt(bytes, MAGIC.length + 1)));
+	}
+
+	/**
+	 * Release the native memory of pooled {@link Deflater} and {@link Inflater} instances. The serializer remains usable
+	 * but no longer pools instances afterwards.
+	 */
+	@Override
+	public void destroy() {
+
+		deflaters.dispose();
+		inflaters.dispose();
+	}
+
+	/**
+	 * @param bytes can be {@literal null}.
+	 * @return {@literal true} if {@code bytes} start with the header of a compressed value.
+	 */
+	static boolean isCompressed(@Nullable byte[] bytes) {
+
+		if (bytes == null || bytes.length < HEADER_LENGTH) {
+			return false;
+		}
+
+		for (int i = 0; i < MAGIC.length; i++) {
+			if (bytes[i] != MAGIC[i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private byte[] decompress(byte[] bytes, int length) {
+
+		int compressedLength = bytes.length - HEADER_LENGTH;
+
+		if (length < 0 || length > (long) compressedLength * MAX_COMPRESSION_RATIO) {
+			throw new SerializationException(String.format("Invalid uncompressed length %d", length));
+		}
+
+		if (length > maxDecompressedSize) {
+			throw new SerializationException(String.format(
+					"Cannot decompress value; Uncompressed length %d exceeds the maximum of %d bytes", length,
+					maxDecompressedSize));
+		}
+
+		byte[] result = new byte[length];
+		int offset = 0;
+		Inflater inflater = inflaters.acquire();
+
+		try {
+
+			inflater.setInput(bytes, HEADER_LENGTH, compressedLength);
+
+			// continue until finished to verify the trailing checksum
+			while (!inflater.finished()) {
+
+				int inflated = inflater.inflate(result, offset, length - offset);
+
+				if (inflated == 0) {
+
+					if (inflater.needsDictionary()) {
+
+						if (dictionary == null) {
+							throw new SerializationException("Cannot decompress value; Value requires a preset dictionary");
+						}
+
+						inflater.setDictionary(dictionary);
+						continue;
+					}
+
+					if (inflater.needsInput() || offset == length) {
+						break;
+					}
+				}
+
+				offset += inflated;
+			}
+
+			if (!inflater.finished() || offset != length) {
+				throw new SerializationException("Cannot decompress value; Value is truncated or corrupted");
+			}
+		} catch (DataFormatException | IllegalArgumentException e) {
+			throw new SerializationException("Cannot decompress value", e);
+		} finally {
+			inflaters.release(inflater);
+		}
+
+		return result;
+	}
+
+	private static void writeInt(int value, byte[] target, int offset) {
+
+		target[offset] = (byte) (value >>> 24);
+		target[offset + 1] = (byte) (value >>> 16);
+		target[offset + 2] = (byte) (value >>> 8);
+		target[offset + 3] = (byte) value;
+	}
+
+	private static int readInt(byte[] source, int offset) {
+
+		return ((source[offset] & 0xFF) << 24) | ((source[offset + 1] & 0xFF) << 16) | ((source[offset + 2] & 0xFF) << 8)
+				| (source[offset + 3] & 0xFF);
+	}
+
+	/**
+	 * Bounded pool of instances holding native memory. Instances are reset when returned to the pool and ended when the
+	 * pool is full or disposed.
+	 */
+	static class Pool<P> {
+
+		private final Queue<P> instances = new ArrayBlockingQueue<>(POOL_SIZE);
+		private final Supplier<P> factory;
+		private final Consumer<P> reset;
+		private final Consumer<P> end;
+		private volatile boolean disposed;
+
+		Pool(Supplier<P> factory, Consumer<P> reset, Consumer<P> end) {
+
+			this.factory = factory;
+			this.reset = reset;
+			this.end = end;
+		}
+
+		P acquire() {
+
+			P instance = instances.poll();
+			return instance != null ? instance : factory.get();
+		}
+
+		void release(P instance) {
+
+			if (disposed) {
+				end.accept(instance);
+				return;
+			}
+
+			reset.accept(instance);
+
+			if (!instances.offer(instance)) {
+				end.accept(instance);
+				return;
+			}
+
+			// dispose() may have drained the pool concurrently
+			if (disposed) {
+				drain();
+			}
+		}
+
+		void dispose() {
+
+			disposed = true;
+			drain();
+		}
+
+		int size() {
+			return instances.size();
+		}
+
+		private void drain() {
+
+			P instance;
+			while ((instance = instances.poll()) != null) {
+				end.accept(instance);
+			}
+		}
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Trains a preset dictionary for {@link CompressingRedisSerializer} by greedily selecting the sample segments covering
+ * the byte sequences ({@literal k-mers}) that occur in most samples. Each selected segment only accounts for
+ * {@literal k-mers} not already covered by previously selected segments. Segments are placed so that the most valuable
+ * segments end up at the end of the dictionary, closest to the compressed data.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+final class CompressionDictionaryTrainer {
+
+	private static final int KMER_LENGTH = 8;
+	private static final int SEGMENT_LENGTH = 64;
+	private static final int SEGMENT_STEP = SEGMENT_LENGTH / 4;
+
+	private CompressionDictionaryTrainer() {}
+
+	/**
+	 * Train a dictionary of at most {@code maxSize} bytes.
+	 *
+	 * @param samples must not be {@literal null}.
+	 * @param maxSize maximum dictionary size.
+	 * @return the dictionary. Empty if the samples do not share any byte sequences.
+	 */
+	static byte[] train(Iterable<byte[]> samples, int maxSize) {
+
+		List<byte[]> sampleList = new ArrayList<>();
+		Map<Long, Integer> frequencies = new HashMap<>();
+
+		for (byte[] sample : samples) {
+
+			sampleList.add(sample);
+
+			Set<Long> kmers = new HashSet<>();
+			for (int i = 0; i + KMER_LENGTH <= sample.length; i++) {
+				if (kmers.add(kmer(sample, i))) {
+					frequencies.merge(kmer(sample, i), 1, Integer::sum);
+				}
+			}
+		}
+
+		PriorityQueue<Segment> candidates = new PriorityQueue<>(
+				Comparator.comparingLong((Segment segment) -> segment.score).reversed());
+		Set<Long> covered = new HashSet<>();
+
+		for (byte[] sample : sampleList) {
+			for (int start = 0; start + KMER_LENGTH <= sample.length; start += SEGMENT_STEP) {
+
+				Segment segment = new Segment(sample, start, Math.min(sample.length, start + SEGMENT_LENGTH));
+				segment.score = score(segment, frequencies, covered);
+
+				if (segment.score > 0) {
+					candidates.add(segment);
+				}
+			}
+		}
+
+		List<Segment> selected = new ArrayList<>();
+		int size = 0;
+
+		while (!candidates.isEmpty() && size < maxSize) {
+
+			Segment segment = candidates.poll();
+			long score = score(segment, frequencies, covered);
+
+			if (score <= 0) {
+				continue;
+			}
+
+			// lazy greedy selection: scores only decrease, re-queue segments that lost their top rank.
+			if (!candidates.isEmpty() && score < candidates.peek().score) {
+				segment.score = score;
+				candidates.add(segment);
+				continue;
+			}
+
+			selected.add(segment);
+			size += segment.end - segment.start;
+
+			for (int i = segment.start; i + KMER_LENGTH <= segment.end; i++) {
+				covered.add(kmer(segment.sample, i));
+			}
+		}
+
+		byte[] dictionary = new byte[Math.min(size, maxSize)];
+		int position = dictionary.length;
+
+		for (Segment segment : selected) {
+
+			int length = Math.min(segment.end - segment.start, position);
+			position -= length;
+			System.arraycopy(segment.sample, segment.start, dictionary, position, length);
+
+			if (position == 0) {
+				break;
+			}
+		}
+
+		return dictionary;
+	}
+
+	/**
+	 * Score a segment by the number of samples containing each of its uncovered {@literal k-mers}. {@literal k-mers}
+	 * occurring in a single sample only do not contribute to the score.
+	 */
+	private static long score(Segment segment, Map<Long, Integer> frequencies, Set<Long> covered) {
+
+		Set<Long> kmers = new HashSet<>();
+		long score = 0;
+
+		for (int i = segment.start; i + KMER_LENGTH <= segment.end; i++) {
+
+			Long kmer = kmer(segment.sample, i);
+
+			if (covered.contains(kmer) || !kmers.add(kmer)) {
+				continue;
+			}
+
+			int frequency = frequencies.getOrDefault(kmer, 0);
+
+			if (frequency > 1) {
+				score += frequency;
+			}
+		}
+
+		return score;
+	}
+
+	private static long kmer(byte[] bytes, int offset) {
+
+		long kmer = 0;
+
+		for (int i = 0; i < KMER_LENGTH; i++) {
+			kmer = (kmer << 8) | (bytes[offset + i] & 0xFF);
+		}
+
+		return kmer;
+	}
+
+	private static class Segment {
+
+		final byte[] sample;
+		final int start;
+		final int end;
+		long score;
+
+		Segment(byte[] sample, int start, int end) {
+
+			this.sample = sample;
+			this.start = start;
+			this.end = end;
+		}
+	}
+}
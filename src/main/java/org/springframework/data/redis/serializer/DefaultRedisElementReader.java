@@ -15,8 +15,6 @@
  */
 package org.springframework.data.redis.serializer;
 
-import lombok.RequiredArgsConstructor;
-
 import java.nio.ByteBuffer;
 
 import org.springframework.data.redis.util.ByteUtils;
@@ -29,10 +27,16 @@ import org.springframework.lang.Nullable;
  * @author Christoph Strobl
  * @since 2.0
  */
-@RequiredArgsConstructor
 class DefaultRedisElementReader<T> implements RedisElementReader<T> {
 
 	private final @Nullable RedisSerializer<T> serializer;
+	private final boolean readFromBuffer;
+
+	DefaultRedisElementReader(@Nullable RedisSerializer<T> serializer) {
+
+		this.serializer = serializer;
+		this.readFromBuffer = SerializationUtils.canDeserializeFromBuffer(serializer);
+	}
 
 	/* (non-Javadoc)
 	 * @see org.springframework.data.redis.serializer.RedisElementReader#read(java.nio.ByteBuffer)
@@ -45,6 +49,10 @@ class DefaultRedisElementReader<T> implements RedisElementReader<T> {
 			return (T) buffer;
 		}
 
+		if (readFromBuffer) {
+			return ((ByteBufferRedisSerializer<T>) serializer).deserializeFromBuffer(buffer);
+		}
+
 		return serializer.deserialize(ByteUtils.extractBytes(buffer));
 	}
 
@@ -15,8 +15,6 @@
  */
 package org.springframework.data.redis.serializer;
 
-import lombok.RequiredArgsConstructor;
-
 import java.nio.ByteBuffer;
 
 import org.springframework.lang.Nullable;
@@ -28,10 +26,16 @@ import org.springframework.lang.Nullable;
  * @author Christoph Strobl
  * @since 2.0
  */
-@RequiredArgsConstructor
 class DefaultRedisElementWriter<T> implements RedisElementWriter<T> {
 
 	private final @Nullable RedisSerializer<T> serializer;
+	private final boolean writeToBuffer;
+
+	DefaultRedisElementWriter(@Nullable RedisSerializer<T> serializer) {
+
+		this.serializer = serializer;
+		this.writeToBuffer = SerializationUtils.canSerializeToBuffer(serializer);
+	}
 
 	/* (non-Javadoc)
 	 * @see org.springframework.data.redis.serializer.RedisElementWriter#write(java.lang.Object)
@@ -39,6 +43,10 @@ class DefaultRedisElementWriter<T> implements RedisElementWriter<T> {
 	@Override
 	public ByteBuffer write(T value) {
 
+		if (writeToBuffer) {
+			return ((ByteBufferRedisSerializer<T>) serializer).serializeToBuffer(value);
+		}
+
 		if (serializer != null) {
 			return ByteBuffer.wrap(serializer.serialize(value));
 		}
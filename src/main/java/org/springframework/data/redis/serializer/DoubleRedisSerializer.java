@@ -0,0 +1,159 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisSerializer} writing {@link Double} values as ASCII decimal, the representation used by Redis for floating
+ * point values such as counters modified through {@code INCRBYFLOAT}. Integral values (e.g. {@code 42.0}) are written
+ * without fraction ({@code 42}) and decimal values with up to 15 significant digits are parsed without an intermediate
+ * {@link String}. Other values fall back to {@link Double#toString(double)} and {@link Double#parseDouble(String)}.
+ * {@link #serializeDouble(double)} and {@link #deserializeDouble(byte[])} avoid boxing.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ * @see LongRedisSerializer
+ */
+public class DoubleRedisSerializer implements RedisSerializer<Double> {
+
+	/**
+	 * Shared {@link DoubleRedisSerializer} instance.
+	 */
+	public static final DoubleRedisSerializer INSTANCE = new DoubleRedisSerializer();
+
+	private static final long MAX_EXACT_INTEGRAL = 1L << 53;
+
+	private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+			1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	private DoubleRedisSerializer() {}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#serialize(java.lang.Object)
+	 */
+	@Nullable
+	@Override
+	public byte[] serialize(@Nullable Double value) throws SerializationException {
+		return value != null ? serializeDouble(value) : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#deserialize(byte[])
+	 */
+	@Nullable
+	@Override
+	public Double deserialize(@Nullable byte[] bytes) throws SerializationException {
+		return SerializationUtils.isEmpty(bytes) ? null : deserializeDouble(bytes);
+	}
+
+	/**
+	 * Serialize a {@code double} value into its ASCII decimal representation.
+	 *
+	 * @param value the value to serialize.
+	 * @return the ASCII decimal representation of {@code value}.
+	 */
+	public byte[] serializeDouble(double value) {
+
+		long integral = (long) value;
+
+		// exclude -0.0 as it would lose its sign
+		if (integral == value && integral >= -MAX_EXACT_INTEGRAL && integral <= MAX_EXACT_INTEGRAL
+				&& (integral != 0 || Double.doubleToRawLongBits(value) == 0)) {
+			return LongRedisSerializer.INSTANCE.serializeLong(integral);
+		}
+
+		return Double.toString(value).getBytes(StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Parse the ASCII decimal representation of a {@code double} value.
+	 *
+	 * @param bytes the ASCII decimal representation. Must not be {@literal null}.
+	 * @return the parsed value.
+	 * @throws SerializationException if {@code bytes} is not a valid {@code double} value.
+	 */
+	public double deserializeDouble(byte[] bytes) throws SerializationException {
+
+		Assert.notNull(bytes, "Bytes must not be null!");
+
+		int length = bytes.length;
+		int i = 0;
+		boolean negative = false;
+
+		if (length > 0 && (bytes[0] == '-' || bytes[0] == '+')) {
+			negative = bytes[0] == '-';
+			i++;
+		}
+
+		long mantissa = 0;
+		int digits = 0;
+		int fractionDigits = 0;
+		boolean fraction = false;
+
+		for (; i < length; i++) {
+
+			int digit = bytes[i] - '0';
+
+			if (digit >= 0 && digit <= 9) {
+
+				mantissa = mantissa * 10 + digit;
+				digits++;
+
+				if (fraction) {
+					fractionDigits++;
+				}
+
+				// a mantissa that is exactly representable and a representable power of ten yield a correctly rounded quotient
+				if (mantissa >= MAX_EXACT_INTEGRAL || fractionDigits >= POWERS_OF_TEN.length) {
+					return parseDouble(bytes);
+				}
+
+				continue;
+			}
+
+			if (bytes[i] == '.' && !fraction) {
+				fraction = true;
+				continue;
+			}
+
+			return parseDouble(bytes);
+		}
+
+		if (digits == 0) {
+			return parseDouble(bytes);
+		}
+
+		double value = mantissa / POWERS_OF_TEN[fractionDigits];
+		return negative ? -value : value;
+	}
+
+	private static double parseDouble(byte[] bytes) {
+
+		String value = new String(bytes, StandardCharsets.US_ASCII);
+
+		try {
+			return Double.parseDouble(value);
+		} catch (NumberFormatException e) {
+			throw new SerializationException(String.format("Cannot deserialize '%s' to double", value), e);
+		}
+	}
+}
@@ -16,6 +16,7 @@
 package org.springframework.data.redis.serializer;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.springframework.cache.support.NullValue;
 import org.springframework.lang.Nullable;
@@ -25,21 +26,23 @@ import org.springframework.util.StringUtils;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.SerializerFactory;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 /**
  * @author Christoph Strobl
  * @since 1.6
  */
-public class GenericJackson2JsonRedisSerializer implements RedisSerializer<Object> {
+public class GenericJackson2JsonRedisSerializer implements ByteBufferRedisSerializer<Object> {
 
 	private final ObjectMapper mapper;
+	private final ByteBufferOutputStream.Recycler recycler = new ByteBufferOutputStream.Recycler();
+	private final ByteBufferOutputStream.SizeHint sizeHint = new ByteBufferOutputStream.SizeHint();
 
 	/**
 	 * Creates {@link GenericJackson2JsonRedisSerializer} and configures {@link ObjectMapper} for default typing.
@@ -70,6 +73,41 @@ public class GenericJackson2JsonRedisSerializer implements RedisSerializer<Objec
 		}
 	}
 
+	/**
+	 * Creates {@link GenericJackson2JsonRedisSerializer} and configures {@link ObjectMapper} for default typing writing
+	 * type aliases obtained from the given {@link TypeAliasRegistry} instead of fully qualified class names. Values
+	 * written with class names remain readable.
+	 *
+	 * @param typeAliases must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public GenericJackson2JsonRedisSerializer(TypeAliasRegistry typeAliases) {
+		this(null, typeAliases);
+	}
+
+	/**
+	 * Creates {@link GenericJackson2JsonRedisSerializer} and configures {@link ObjectMapper} for default typing using the
+	 * given {@literal name} writing type aliases obtained from the given {@link TypeAliasRegistry} instead of fully
+	 * qualified class names. In case of an {@literal empty} or {@literal null} String the default
+	 * {@link JsonTypeInfo.Id#CLASS} property name will be used.
+	 *
+	 * @param classPropertyTypeName Name of the JSON property holding type information. Can be {@literal null}.
+	 * @param typeAliases must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public GenericJackson2JsonRedisSerializer(@Nullable String classPropertyTypeName, TypeAliasRegistry typeAliases) {
+
+		this(new ObjectMapper());
+
+		Assert.notNull(typeAliases, "TypeAliasRegistry must not be null!");
+
+		mapper.registerModule(new SimpleModule().addSerializer(new NullValueSerializer(classPropertyTypeName)));
+		mapper.setDefaultTyping(new TypeAliasingTypeResolverBuilder(DefaultTyping.NON_FINAL,
+				StringUtils.hasText(classPropertyTypeName) ? classPropertyTypeName
+						: JsonTypeInfo.Id.CLASS.getDefaultPropertyName(),
+				typeAliases));
+	}
+
 	/**
 	 * Setting a custom-configured {@link ObjectMapper} is one way to take further control of the JSON serialization
 	 * process. For example, an extended {@link SerializerFactory} can be configured that provides custom serializers for
@@ -94,10 +132,16 @@ public class GenericJackson2JsonRedisSerializer implements RedisSerializer<Objec
 			return SerializationUtils.EMPTY_ARRAY;
 		}
 
+		ByteBufferOutputStream stream = recycler.obtain();
+
 		try {
-			return mapper.writeValueAsBytes(source);
-		} catch (JsonProcessingException e) {
+
+			mapper.writeValue(stream, source);
+			return stream.toByteArray();
+		} catch (IOException e) {
 			throw new SerializationException("Could not write JSON: " + e.getMessage(), e);
+		} finally {
+			stream.release();
 		}
 	}
 
@@ -110,6 +154,53 @@ public class GenericJackson2JsonRedisSerializer implements RedisSerializer<Objec
 		return deserialize(source, Object.class);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.ByteBufferRedisSerializer#serializeToBuffer(java.lang.Object)
+	 */
+	@Override
+	public ByteBuffer serializeToBuffer(@Nullable Object source) throws SerializationException {
+
+		if (source == null) {
+			return ByteBuffer.wrap(SerializationUtils.EMPTY_ARRAY);
+		}
+
+		ByteBufferOutputStream stream = new ByteBufferOutputStream(sizeHint.capacity());
+
+		try {
+			mapper.writeValue(stream, source);
+		} catch (IOException e) {
+			throw new SerializationException("Could not write JSON: " + e.getMessage(), e);
+		}
+
+		sizeHint.record(stream.size());
+		return stream.toByteBuffer();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.ByteBufferRedisSerializer#deserializeFromBuffer(java.nio.ByteBuffer)
+	 */
+	@Override
+	public Object deserializeFromBuffer(ByteBuffer buffer) throws SerializationException {
+
+		if (!buffer.hasRemaining()) {
+			return null;
+		}
+
+		try {
+
+			if (buffer.hasArray()) {
+				return mapper.readValue(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(),
+						Object.class);
+			}
+
+			return mapper.readValue(new ByteBufferBackedInputStream(buffer.duplicate()), Object.class);
+		} catch (Exception ex) {
+			throw new SerializationException("Could not read JSON: " + ex.getMessage(), ex);
+		}
+	}
+
 	/**
 	 * @param source can be {@literal null}.
 	 * @param type must not be {@literal null}.
@@ -43,7 +43,7 @@ public class GenericToStringSerializer<T> implements RedisSerializer<T>, BeanFac
 	private final Class<T> type;
 	private final Charset charset;
 
-	private Converter converter = new Converter(new DefaultConversionService());
+	private Converter converter = new Converter(DefaultConversionService.getSharedInstance());
 
 	public GenericToStringSerializer(Class<T> type) {
 		this(type, StandardCharsets.UTF_8);
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.redis.serializer;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
@@ -25,6 +27,7 @@ import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ser.SerializerFactory;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 /**
  * {@link RedisSerializer} that can read and write JSON using
@@ -37,7 +40,7 @@ import com.fasterxml.jackson.databind.type.TypeFactory;
  * @author Thomas Darimont
  * @since 1.2
  */
-public class Jackson2JsonRedisSerializer<T> implements RedisSerializer<T> {
+public class Jackson2JsonRedisSerializer<T> implements ByteBufferRedisSerializer<T> {
 
 	public static final Charset DEFAULT_CHARSET = StandardCharsets.UTF_8;
 
@@ -45,6 +48,9 @@ public class Jackson2JsonRedisSerializer<T> implements RedisSerializer<T> {
 
 	private ObjectMapper objectMapper = new ObjectMapper();
 
+	private final ByteBufferOutputStream.Recycler recycler = new ByteBufferOutputStream.Recycler();
+	private final ByteBufferOutputStream.SizeHint sizeHint = new ByteBufferOutputStream.SizeHint();
+
 	/**
 	 * Creates a new {@link Jackson2JsonRedisSerializer} for the given target {@link Class}.
 	 *
@@ -82,10 +88,64 @@ public class Jackson2JsonRedisSerializer<T> implements RedisSerializer<T> {
 		if (t == null) {
 			return SerializationUtils.EMPTY_ARRAY;
 		}
+		ByteBufferOutputStream stream = recycler.obtain();
+
 		try {
-			return this.objectMapper.writeValueAsBytes(t);
+
+			this.objectMapper.writeValue(stream, t);
+			return stream.toByteArray();
 		} catch (Exception ex) {
 			throw new SerializationException("Could not write JSON: " + ex.getMessage(), ex);
+		} finally {
+			stream.release();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.ByteBufferRedisSerializer#serializeToBuffer(java.lang.Object)
+	 */
+	@Override
+	public ByteBuffer serializeToBuffer(@Nullable T t) throws SerializationException {
+
+		if (t == null) {
+			return ByteBuffer.wrap(SerializationUtils.EMPTY_ARRAY);
+		}
+
+		ByteBufferOutputStream stream = new ByteBufferOutputStream(sizeHint.capacity());
+
+		try {
+			this.objectMapper.writeValue(stream, t);
+		} catch (IOException ex) {
+			throw new SerializationException("Could not write JSON: " + ex.getMessage(), ex);
+		}
+
+		sizeHint.record(stream.size());
+		return stream.toByteBuffer();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.ByteBufferRedisSerializer#deserializeFromBuffer(java.nio.ByteBuffer)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T deserializeFromBuffer(ByteBuffer buffer) throws SerializationException {
+
+		if (!buffer.hasRemaining()) {
+			return null;
+		}
+
+		try {
+
+			if (buffer.hasArray()) {
+				return (T) this.objectMapper.readValue(buffer.array(), buffer.arrayOffset() + buffer.position(),
+						buffer.remaining(), javaType);
+			}
+
+			return (T) this.objectMapper.readValue(new ByteBufferBackedInputStream(buffer.duplicate()), javaType);
+		} catch (Exception ex) {
+			throw new SerializationException("Could not read JSON: " + ex.getMessage(), ex);
 		}
 	}
 
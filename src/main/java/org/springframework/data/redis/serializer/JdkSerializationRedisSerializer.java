@@ -15,10 +15,14 @@
  */
 package org.springframework.data.redis.serializer;
 
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.serializer.DefaultDeserializer;
 import org.springframework.core.serializer.DefaultSerializer;
 import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializationFailedException;
 import org.springframework.core.serializer.support.SerializingConverter;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -26,7 +30,8 @@ import org.springframework.util.Assert;
 /**
  * Java Serialization Redis serializer. Delegates to the default (Java based) {@link DefaultSerializer serializer} and
  * {@link DefaultDeserializer}. This {@link RedisSerializer serializer} can be constructed with either custom
- * {@link ClassLoader} or own {@link Converter converters}.
+ * {@link ClassLoader} or own {@link Converter converters}. Unless using custom converters, objects are serialized into a
+ * per-thread buffer owned by the serializer that is reused across invocations.
  *
  * @author Mark Pollack
  * @author Costin Leau
@@ -42,7 +47,7 @@ public class JdkSerializationRedisSerializer implements RedisSerializer<Object>
 	 * Creates a new {@link JdkSerializationRedisSerializer} using the default class loader.
 	 */
 	public JdkSerializationRedisSerializer() {
-		this(new SerializingConverter(), new DeserializingConverter());
+		this(new RecyclingSerializingConverter(), new DeserializingConverter());
 	}
 
 	/**
@@ -52,7 +57,7 @@ public class JdkSerializationRedisSerializer implements RedisSerializer<Object>
 	 * @since 1.7
 	 */
 	public JdkSerializationRedisSerializer(@Nullable ClassLoader classLoader) {
-		this(new SerializingConverter(), new DeserializingConverter(classLoader));
+		this(new RecyclingSerializingConverter(), new DeserializingConverter(classLoader));
 	}
 
 	/**
@@ -96,4 +101,41 @@ public class JdkSerializationRedisSerializer implements RedisSerializer<Object>
 			throw new SerializationException("Cannot serialize", ex);
 		}
 	}
+
+	/**
+	 * {@link SerializingConverter} variant writing into a recycled {@link ByteBufferOutputStream} instead of allocating a
+	 * new {@link java.io.ByteArrayOutputStream} for each object.
+	 */
+	private static class RecyclingSerializingConverter implements Converter<Object, byte[]> {
+
+		private final ByteBufferOutputStream.Recycler recycler = new ByteBufferOutputStream.Recycler();
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.core.convert.converter.Converter#convert(java.lang.Object)
+		 */
+		@Override
+		public byte[] convert(Object source) {
+
+			if (!(source instanceof Serializable)) {
+				throw new SerializationFailedException(
+						"Cannot serialize object of type [" + source.getClass().getName() + "]: Type does not implement Serializable");
+			}
+
+			ByteBufferOutputStream stream = recycler.obtain();
+
+			try {
+
+				ObjectOutputStream objectOutputStream = new ObjectOutputStream(stream);
+				objectOutputStream.writeObject(source);
+				objectOutputStream.flush();
+
+				return stream.toByteArray();
+			} catch (Exception ex) {
+				throw new SerializationFailedException("Failed to serialize object using " + getClass().getSimpleName(), ex);
+			} finally {
+				stream.release();
+			}
+		}
+	}
 }
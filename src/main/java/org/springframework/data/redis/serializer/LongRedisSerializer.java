@@ -0,0 +1,158 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisSerializer} writing {@link Long} values as ASCII decimal, the representation used by Redis for integer
+ * values such as counters modified through {@code INCR}. Values are formatted and parsed directly from and to
+ * {@code byte[]} without an intermediate {@link String}. {@link #serializeLong(long)} and {@link #deserializeLong(byte[])}
+ * avoid boxing.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ * @see DoubleRedisSerializer
+ */
+public class LongRedisSerializer implements RedisSerializer<Long> {
+
+	/**
+	 * Shared {@link LongRedisSerializer} instance.
+	 */
+	public static final LongRedisSerializer INSTANCE = new LongRedisSerializer();
+
+	private static final byte[] MIN_VALUE = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+	private LongRedisSerializer() {}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#serialize(java.lang.Object)
+	 */
+	@Nullable
+	@Override
+	public byte[] serialize(@Nullable Long value) throws SerializationException {
+		return value != null ? serializeLong(value) : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#deserialize(byte[])
+	 */
+	@Nullable
+	@Override
+	public Long deserialize(@Nullable byte[] bytes) throws SerializationException {
+		return SerializationUtils.isEmpty(bytes) ? null : deserializeLong(bytes);
+	}
+
+	/**
+	 * Serialize a {@code long} value into its ASCII decimal representation.
+	 *
+	 * @param value the value to serialize.
+	 * @return the ASCII decimal representation of {@code value}.
+	 */
+	public byte[] serializeLong(long value) {
+
+		if (value == Long.MIN_VALUE) {
+			return MIN_VALUE.clone();
+		}
+
+		long remaining = Math.abs(value);
+		int length = digits(remaining) + (value < 0 ? 1 : 0);
+		byte[] bytes = new byte[length];
+
+		int position = length;
+
+		do {
+			bytes[--position] = (byte) ('0' + remaining % 10);
+			remaining /= 10;
+		} while (remaining != 0);
+
+		if (value < 0) {
+			bytes[0] = '-';
+		}
+
+		return bytes;
+	}
+
+	/**
+	 * Parse the ASCII decimal representation of a {@code long} value. Accepts an optional leading sign.
+	 *
+	 * @param bytes the ASCII decimal representation. Must not be {@literal null}.
+	 * @return the parsed value.
+	 * @throws SerializationException if {@code bytes} is not a valid {@code long} value.
+	 */
+	public long deserializeLong(byte[] bytes) throws SerializationException {
+
+		Assert.notNull(bytes, "Bytes must not be null!");
+
+		int length = bytes.length;
+		int i = 0;
+		boolean negative = false;
+
+		if (length > 0 && (bytes[0] == '-' || bytes[0] == '+')) {
+			negative = bytes[0] == '-';
+			i++;
+		}
+
+		if (i == length) {
+			throw invalid(bytes);
+		}
+
+		// accumulate negatively to cover Long.MIN_VALUE
+		long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long multiplyLimit = limit / 10;
+		long result = 0;
+
+		for (; i < length; i++) {
+
+			int digit = bytes[i] - '0';
+
+			if (digit < 0 || digit > 9 || result < multiplyLimit) {
+				throw invalid(bytes);
+			}
+
+			result *= 10;
+
+			if (result < limit + digit) {
+				throw invalid(bytes);
+			}
+
+			result -= digit;
+		}
+
+		return negative ? result : -result;
+	}
+
+	private static int digits(long value) {
+
+		int digits = 1;
+
+		for (long limit = 10; digits < 19 && value >= limit; limit *= 10) {
+			digits++;
+		}
+
+		return digits;
+	}
+
+	private static SerializationException invalid(byte[] bytes) {
+		return new SerializationException(
+				String.format("Cannot deserialize '%s' to long", new String(bytes, StandardCharsets.US_ASCII)));
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.model.MappingInstantiationException;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisSerializer} writing objects in a compact positional binary format derived from
+ * {@link RedisPersistentEntity} metadata. Property values are written in property name order without property names,
+ * integral numbers and lengths are varint encoded and absent values only occupy a bit. Codecs for the type and all
+ * types reachable through its properties are created up front so that serialization does not inspect types.
+ * <p />
+ * Each value starts with a header carrying the format version and a schema version. The schema version is a fingerprint
+ * of the property layout of all involved types. Values written with a different schema version are rejected, so
+ * changing the type requires values to be rewritten. This makes the serializer a good fit for cached entities but not
+ * for long-lived data. <br />
+ * Supported property types are primitives and their wrappers, {@link String}, {@code byte[]},
+ * {@link java.math.BigInteger}, {@link java.math.BigDecimal}, {@link java.util.Date}, {@link java.time.Instant},
+ * {@link java.time.LocalDate}, {@link java.time.LocalTime}, {@link java.time.LocalDateTime}, {@link java.util.UUID},
+ * enums, arrays, collections and maps of supported types, and nested entities. Properties are written using their
+ * declared type, polymorphic properties are not supported.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ * @param <T> the entity type.
+ */
+public class MappingBinaryRedisSerializer<T> implements ByteBufferRedisSerializer<T> {
+
+	private static final byte FORMAT_VERSION = 1;
+	private static final int HEADER_LENGTH = 5;
+
+	private final Class<T> type;
+	private final BinaryCodecs.Codec<T> codec;
+	private final int schemaVersion;
+	private final ByteBufferOutputStream.Recycler recycler = new ByteBufferOutputStream.Recycler();
+	private final ByteBufferOutputStream.SizeHint sizeHint = new ByteBufferOutputStream.SizeHint();
+
+	/**
+	 * Create a new {@link MappingBinaryRedisSerializer} for the given {@code type} using a default
+	 * {@link RedisMappingContext}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @throws MappingException if a property type cannot be encoded.
+	 */
+	public MappingBinaryRedisSerializer(Class<T> type) {
+		this(type, new RedisMappingContext());
+	}
+
+	/**
+	 * Create a new {@link MappingBinaryRedisSerializer} for the given {@code type} using metadata from
+	 * {@link RedisMappingContext}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 * @throws MappingException if a property type cannot be encoded.
+	 */
+	public MappingBinaryRedisSerializer(Class<T> type, RedisMappingContext mappingContext) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(mappingContext, "RedisMappingContext must not be null!");
+
+		BinaryCodecs codecs = new BinaryCodecs(mappingContext);
+
+		this.type = type;
+		this.codec = codecs.getEntityCodec(type);
+		this.schemaVersion = codecs.getSchemaVersion();
+	}
+
+	/**
+	 * @return the fingerprint of the property layout written to the header of each value.
+	 */
+	public int getSchemaVersion() {
+		return schemaVersion;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#serialize(java.lang.Object)
+	 */
+	@Override
+	public byte[] serialize(@Nullable T value) throws SerializationException {
+
+		if (value == null) {
+			return SerializationUtils.EMPTY_ARRAY;
+		}
+
+		ByteBufferOutputStream out = recycler.obtain();
+
+		try {
+
+			write(value, out);
+			return out.toByteArray();
+		} finally {
+			out.release();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.ByteBufferRedisSerializer#serializeToBuffer(java.lang.Object)
+	 */
+	@Override
+	public ByteBuffer serializeToBuffer(@Nullable T value) throws SerializationException {
+
+		if (value == null) {
+			return ByteBuffer.wrap(SerializationUtils.EMPTY_ARRAY);
+		}
+
+		ByteBufferOutputStream out = new ByteBufferOutputStream(sizeHint.capacity());
+		write(value, out);
+
+		sizeHint.record(out.size());
+		return out.toByteBuffer();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#deserialize(byte[])
+	 */
+	@Nullable
+	@Override
+	public T deserialize(@Nullable byte[] bytes) throws SerializationException {
+
+		if (SerializationUtils.isEmpty(bytes)) {
+			return null;
+		}
+
+		return deserializeFromBuffer(ByteBuffer.wrap(bytes));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.ByteBufferRedisSerializer#deserializeFromBuffer(java.nio.ByteBuffer)
+	 */
+	@Nullable
+	@Override
+	public T deserializeFromBuffer(ByteBuffer buffer) throws SerializationException {
+
+		if (!buffer.hasRemaining()) {
+			return null;
+		}
+
+		ByteBuffer in = buffer.duplicate();
+
+		if (in.remaining() < HEADER_LENGTH || in.get() != FORMAT_VERSION) {
+			throw new SerializationException(String.format("Cannot deserialize %s: Unknown binary format", type.getName()));
+		}
+
+		int version = in.getInt();
+
+		if (version != schemaVersion) {
+			throw new SerializationException(
+					String.format("Cannot deserialize %s: Value was written with schema version %d but expected %d",
+							type.getName(), version, schemaVersion));
+		}
+
+		try {
+
+			T value = codec.read(in);
+
+			if (in.hasRemaining()) {
+				throw new SerializationException(String.format("Cannot deserialize %s: %d trailing bytes", type.getName(),
+						in.remaining()));
+			}
+
+			return value;
+		} catch (BufferUnderflowException e) {
+			throw new SerializationException(String.format("Cannot deserialize %s: Value is truncated", type.getName()), e);
+		} catch (MappingException | MappingInstantiationException e) {
+			throw new SerializationException(String.format("Cannot deserialize %s: %s", type.getName(), e.getMessage()), e);
+		}
+	}
+
+	private void write(T value, ByteBufferOutputStream out) {
+
+		out.write(FORMAT_VERSION);
+		BinaryCodecs.writeFixedInt(schemaVersion, out);
+
+		try {
+			codec.write(value, out);
+		} catch (MappingException | ClassCastException e) {
+			throw new SerializationException(String.format("Cannot serialize %s: %s", type.getName(), e.getMessage()), e);
+		}
+	}
+}
@@ -87,6 +87,17 @@ public interface RedisSerializationContext<K, V> {
 		return just(SerializationPair.raw());
 	}
 
+	/**
+	 * Creates a new {@link RedisSerializationContext} using a {@link SerializationPair#byteArray() byte[]}
+	 * serialization pair.
+	 *
+	 * @return new instance of {@link RedisSerializationContext}.
+	 * @since 2.2
+	 */
+	static RedisSerializationContext<byte[], byte[]> byteArray() {
+		return just(SerializationPair.byteArray());
+	}
+
 	/**
 	 * Creates a new {@link RedisSerializationContext} using a {@link JdkSerializationRedisSerializer}.
 	 *
@@ -211,6 +222,16 @@ public interface RedisSerializationContext<K, V> {
 			return RedisSerializerToSerializationPairAdapter.raw();
 		}
 
+		/**
+		 * Creates a {@link SerializationPair} reading and writing {@code byte[]} using {@link RedisSerializer#byteArray()}.
+		 *
+		 * @return a {@code byte[]} {@link SerializationPair}.
+		 * @since 2.2
+		 */
+		static SerializationPair<byte[]> byteArray() {
+			return fromSerializer(RedisSerializer.byteArray());
+		}
+
 		/**
 		 * @return the {@link RedisElementReader}.
 		 */
@@ -90,4 +90,14 @@ public interface RedisSerializer<T> {
 	static RedisSerializer<String> string() {
 		return StringRedisSerializer.UTF_8;
 	}
+
+	/**
+	 * Obtain a raw {@link RedisSerializer} passing {@literal byte[]} through as-is.
+	 *
+	 * @return never {@literal null}.
+	 * @since 2.2
+	 */
+	static RedisSerializer<byte[]> byteArray() {
+		return ByteArrayRedisSerializer.INSTANCE;
+	}
 }
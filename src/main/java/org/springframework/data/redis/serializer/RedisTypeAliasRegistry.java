@@ -0,0 +1,183 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link TypeAliasRegistry} assigning numeric aliases to types on first use and sharing them through a Redis hash.
+ * Assigned aliases are cached locally, so Redis is only consulted for types and aliases not seen before. Lookups of
+ * cached aliases do not lock. <br />
+ * The hash stores the sequence used to assign aliases along with the mapping from type id to alias and from alias to
+ * type id. Types are written using their class name if the alias cannot be assigned because Redis is not available.
+ * <br />
+ * <strong>NOTE</strong>: Values written with an alias can no longer be read once the hash is removed.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+public class RedisTypeAliasRegistry implements TypeAliasRegistry {
+
+	private static final Log log = LogFactory.getLog(RedisTypeAliasRegistry.class);
+
+	private static final byte[] SEQUENCE_FIELD = "~sequence".getBytes(StandardCharsets.UTF_8);
+	private static final String TYPE_FIELD_PREFIX = "type:";
+	private static final String ALIAS_FIELD_PREFIX = "alias:";
+
+	private final RedisConnectionFactory connectionFactory;
+	private final byte[] key;
+	private final Map<String, String> aliases = new ConcurrentHashMap<>();
+	private final Map<String, String> typeIds = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link RedisTypeAliasRegistry} storing aliases in the hash at {@code key}.
+	 *
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param key the Redis key of the hash holding aliases. Must not be {@literal null} or empty.
+	 */
+	public RedisTypeAliasRegistry(RedisConnectionFactory connectionFactory, String key) {
+
+		Assert.notNull(connectionFactory, "RedisConnectionFactory must not be null!");
+		Assert.hasText(key, "Key must not be null or empty!");
+
+		this.connectionFactory = connectionFactory;
+		this.key = key.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.TypeAliasRegistry#getAlias(java.lang.String)
+	 */
+	@Nullable
+	@Override
+	public String getAlias(String typeId) {
+
+		String alias = aliases.get(typeId);
+
+		if (alias != null) {
+			return alias;
+		}
+
+		try {
+			alias = execute(connection -> obtainAlias(connection, typeId));
+		} catch (DataAccessException e) {
+
+			if (log.isDebugEnabled()) {
+				log.debug(String.format("Cannot obtain alias for %s; Writing class name instead", typeId), e);
+			}
+
+			return null;
+		}
+
+		register(typeId, alias);
+		return alias;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.TypeAliasRegistry#getTypeId(java.lang.String)
+	 */
+	@Nullable
+	@Override
+	public String getTypeId(String alias) {
+
+		String typeId = typeIds.get(alias);
+
+		if (typeId != null || !isNumeric(alias)) {
+			return typeId;
+		}
+
+		byte[] value = execute(connection -> connection.hGet(key, toBytes(ALIAS_FIELD_PREFIX + alias)));
+
+		if (value == null) {
+			return null;
+		}
+
+		typeId = new String(value, StandardCharsets.UTF_8);
+		register(typeId, alias);
+
+		return typeId;
+	}
+
+	private String obtainAlias(RedisConnection connection, String typeId) {
+
+		byte[] typeField = toBytes(TYPE_FIELD_PREFIX + typeId);
+		byte[] existing = connection.hGet(key, typeField);
+
+		if (existing != null) {
+			return new String(existing, StandardCharsets.UTF_8);
+		}
+
+		String alias = Long.toString(connection.hIncrBy(key, SEQUENCE_FIELD, 1));
+
+		// publish the reverse mapping first so that readers can resolve the alias as soon as it is visible
+		connection.hSet(key, toBytes(ALIAS_FIELD_PREFIX + alias), toBytes(typeId));
+
+		if (Boolean.TRUE.equals(connection.hSetNX(key, typeField, toBytes(alias)))) {
+			return alias;
+		}
+
+		// another instance assigned an alias concurrently
+		return new String(connection.hGet(key, typeField), StandardCharsets.UTF_8);
+	}
+
+	private void register(String typeId, String alias) {
+
+		typeIds.put(alias, typeId);
+		aliases.putIfAbsent(typeId, alias);
+	}
+
+	private <T> T execute(Function<RedisConnection, T> callback) {
+
+		RedisConnection connection = connectionFactory.getConnection();
+
+		try {
+			return callback.apply(connection);
+		} finally {
+			connection.close();
+		}
+	}
+
+	private static boolean isNumeric(String alias) {
+
+		if (alias.isEmpty()) {
+			return false;
+		}
+
+		for (int i = 0; i < alias.length(); i++) {
+			if (!Character.isDigit(alias.charAt(i))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static byte[] toBytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.redis.serializer;
 
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -26,6 +28,7 @@ import java.util.Set;
 
 import org.springframework.core.CollectionFactory;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * Utility class with various serialization-related methods.
@@ -40,6 +43,49 @@ public abstract class SerializationUtils {
 		return (data == null || data.length == 0);
 	}
 
+	/**
+	 * Determine whether {@code serializer} can be written to a {@link java.nio.ByteBuffer} directly. Subclasses
+	 * overriding {@link RedisSerializer#serialize(Object)} without overriding
+	 * {@link ByteBufferRedisSerializer#serializeToBuffer(Object)} have their override honored by using the
+	 * {@code byte[]} variant.
+	 *
+	 * @param serializer can be {@literal null}.
+	 * @return {@literal true} if {@link ByteBufferRedisSerializer#serializeToBuffer(Object)} can be used.
+	 */
+	static boolean canSerializeToBuffer(@Nullable RedisSerializer<?> serializer) {
+		return serializer instanceof ByteBufferRedisSerializer && declaresBufferVariant(serializer.getClass(),
+				"serialize", Object.class, "serializeToBuffer", Object.class);
+	}
+
+	/**
+	 * Determine whether {@code serializer} can be read from a {@link java.nio.ByteBuffer} directly. Subclasses
+	 * overriding {@link RedisSerializer#deserialize(byte[])} without overriding
+	 * {@link ByteBufferRedisSerializer#deserializeFromBuffer(java.nio.ByteBuffer)} have their override honored by using
+	 * the {@code byte[]} variant.
+	 *
+	 * @param serializer can be {@literal null}.
+	 * @return {@literal true} if {@link ByteBufferRedisSerializer#deserializeFromBuffer(java.nio.ByteBuffer)} can be
+	 *         used.
+	 */
+	static boolean canDeserializeFromBuffer(@Nullable RedisSerializer<?> serializer) {
+		return serializer instanceof ByteBufferRedisSerializer && declaresBufferVariant(serializer.getClass(),
+				"deserialize", byte[].class, "deserializeFromBuffer", ByteBuffer.class);
+	}
+
+	/**
+	 * @return {@literal true} if the buffer method is declared by the class declaring the {@code byte[]} method or by one
+	 *         of its subclasses.
+	 */
+	private static boolean declaresBufferVariant(Class<?> type, String methodName, Class<?> parameterType,
+			String bufferMethodName, Class<?> bufferParameterType) {
+
+		Method method = ReflectionUtils.findMethod(type, methodName, parameterType);
+		Method bufferMethod = ReflectionUtils.findMethod(type, bufferMethodName, bufferParameterType);
+
+		return method != null && bufferMethod != null
+				&& method.getDeclaringClass().isAssignableFrom(bufferMethod.getDeclaringClass());
+	}
+
 	@SuppressWarnings("unchecked")
 	static <T extends Collection<?>> T deserializeValues(@Nullable Collection<byte[]> rawValues, Class<T> type,
 			@Nullable RedisSerializer<?> redisSerializer) {
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link TypeAliasRegistry} holding aliases registered up front. Lookups do not lock. All instances reading and writing
+ * the same data must register the same aliases.
+ *
+ * <pre class="code">
+ * SimpleTypeAliasRegistry registry = new SimpleTypeAliasRegistry().register(Person.class, "p")
+ * 		.register(Address.class, "a");
+ *
+ * RedisSerializer&lt;Object&gt; serializer = new GenericJackson2JsonRedisSerializer(registry);
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+public class SimpleTypeAliasRegistry implements TypeAliasRegistry {
+
+	private final Map<String, String> aliases = new ConcurrentHashMap<>();
+	private final Map<String, String> typeIds = new ConcurrentHashMap<>();
+
+	/**
+	 * Register an {@code alias} for the given {@code type}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param alias must not be {@literal null} or empty.
+	 * @return {@literal this} {@link SimpleTypeAliasRegistry}.
+	 * @throws IllegalArgumentException if {@code type} or {@code alias} are already registered with a different mapping.
+	 */
+	public SimpleTypeAliasRegistry register(Class<?> type, String alias) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.hasText(alias, "Alias must not be null or empty!");
+
+		String typeId = type.getName();
+
+		synchronized (this) {
+
+			String existingTypeId = typeIds.get(alias);
+			String existingAlias = aliases.get(typeId);
+
+			Assert.isTrue(existingTypeId == null || existingTypeId.equals(typeId),
+					() -> String.format("Alias %s is already registered for %s!", alias, existingTypeId));
+			Assert.isTrue(existingAlias == null || existingAlias.equals(alias),
+					() -> String.format("Type %s is already registered with alias %s!", typeId, existingAlias));
+
+			typeIds.put(alias, typeId);
+			aliases.put(typeId, alias);
+		}
+
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.TypeAliasRegistry#getAlias(java.lang.String)
+	 */
+	@Nullable
+	@Override
+	public String getAlias(String typeId) {
+		return aliases.get(typeId);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.TypeAliasRegistry#getTypeId(java.lang.String)
+	 */
+	@Nullable
+	@Override
+	public String getTypeId(String alias) {
+		return typeIds.get(alias);
+	}
+}
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.redis.serializer;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
@@ -33,7 +34,7 @@ import org.springframework.util.Assert;
  * @author Christoph Strobl
  * @author Mark Paluch
  */
-public class StringRedisSerializer implements RedisSerializer<String> {
+public class StringRedisSerializer implements ByteBufferRedisSerializer<String> {
 
 	private final Charset charset;
 
@@ -97,4 +98,27 @@ public class StringRedisSerializer implements RedisSerializer<String> {
 	public byte[] serialize(@Nullable String string) {
 		return (string == null ? null : string.getBytes(charset));
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.ByteBufferRedisSerializer#serializeToBuffer(java.lang.Object)
+	 */
+	@Override
+	public ByteBuffer serializeToBuffer(@Nullable String string) {
+		return (string == null ? null : ByteBuffer.wrap(string.getBytes(charset)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.ByteBufferRedisSerializer#deserializeFromBuffer(java.nio.ByteBuffer)
+	 */
+	@Override
+	public String deserializeFromBuffer(ByteBuffer buffer) {
+
+		if (buffer.hasArray()) {
+			return new String(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), charset);
+		}
+
+		return charset.decode(buffer.duplicate()).toString();
+	}
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Registry of compact aliases for the type ids {@link GenericJackson2JsonRedisSerializer} embeds into JSON documents.
+ * Type ids are fully qualified class names. Types without an alias are written using their type id, type ids that are
+ * not known as alias are resolved as class names. Aliases must therefore not collide with class names.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ * @see GenericJackson2JsonRedisSerializer#GenericJackson2JsonRedisSerializer(TypeAliasRegistry)
+ * @see SimpleTypeAliasRegistry
+ * @see RedisTypeAliasRegistry
+ */
+public interface TypeAliasRegistry {
+
+	/**
+	 * Obtain the alias to write instead of the given {@code typeId}.
+	 *
+	 * @param typeId the fully qualified class name. Never {@literal null}.
+	 * @return the alias or {@literal null} to write the {@code typeId} as-is.
+	 */
+	@Nullable
+	String getAlias(String typeId);
+
+	/**
+	 * Resolve the type id for an alias read from a JSON document.
+	 *
+	 * @param alias the alias or type id read from the JSON document. Never {@literal null}.
+	 * @return the type id or {@literal null} if {@code alias} is not a known alias.
+	 */
+	@Nullable
+	String getTypeId(String alias);
+}
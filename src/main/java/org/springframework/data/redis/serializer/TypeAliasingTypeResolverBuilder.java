@@ -0,0 +1,181 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.io.IOException;
+import java.util.Collection;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
+import com.fasterxml.jackson.databind.DatabindContext;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper.DefaultTypeResolverBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.jsontype.impl.AsPropertyTypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.impl.AsPropertyTypeSerializer;
+import com.fasterxml.jackson.databind.jsontype.impl.TypeIdResolverBase;
+
+/**
+ * {@link DefaultTypeResolverBuilder} embedding type information as property and translating class name based type ids
+ * through a {@link TypeAliasRegistry}. Type ids without an alias are written and resolved as class names, keeping values
+ * written without aliases readable.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+class TypeAliasingTypeResolverBuilder extends DefaultTypeResolverBuilder {
+
+	private static final long serialVersionUID = 1L;
+
+	private final TypeAliasRegistry registry;
+
+	TypeAliasingTypeResolverBuilder(DefaultTyping typing, String typeProperty, TypeAliasRegistry registry) {
+
+		super(typing);
+
+		this.registry = registry;
+
+		init(JsonTypeInfo.Id.CLASS, null);
+		inclusion(As.PROPERTY);
+		typeProperty(typeProperty);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.fasterxml.jackson.databind.ObjectMapper.DefaultTypeResolverBuilder#buildTypeSerializer(com.fasterxml.jackson.databind.SerializationConfig, com.fasterxml.jackson.databind.JavaType, java.util.Collection)
+	 */
+	@Override
+	public TypeSerializer buildTypeSerializer(SerializationConfig config, JavaType baseType,
+			Collection<NamedType> subtypes) {
+
+		TypeSerializer serializer = super.buildTypeSerializer(config, baseType, subtypes);
+
+		if (serializer == null) {
+			return null;
+		}
+
+		return new AsPropertyTypeSerializer(new AliasingTypeIdResolver(serializer.getTypeIdResolver(), baseType, config),
+				null, _typeProperty);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.fasterxml.jackson.databind.ObjectMapper.DefaultTypeResolverBuilder#buildTypeDeserializer(com.fasterxml.jackson.databind.DeserializationConfig, com.fasterxml.jackson.databind.JavaType, java.util.Collection)
+	 */
+	@Override
+	public TypeDeserializer buildTypeDeserializer(DeserializationConfig config, JavaType baseType,
+			Collection<NamedType> subtypes) {
+
+		TypeDeserializer deserializer = super.buildTypeDeserializer(config, baseType, subtypes);
+
+		if (deserializer == null) {
+			return null;
+		}
+
+		Class<?> defaultImpl = deserializer.getDefaultImpl();
+
+		return new AsPropertyTypeDeserializer(baseType,
+				new AliasingTypeIdResolver(deserializer.getTypeIdResolver(), baseType, config), _typeProperty,
+				_typeIdVisible, defaultImpl != null ? config.constructType(defaultImpl) : null);
+	}
+
+	/**
+	 * {@link TypeIdResolver} replacing type ids created by a delegate {@link TypeIdResolver} with their alias.
+	 */
+	class AliasingTypeIdResolver extends TypeIdResolverBase {
+
+		private final TypeIdResolver delegate;
+
+		AliasingTypeIdResolver(TypeIdResolver delegate, JavaType baseType, MapperConfig<?> config) {
+
+			super(baseType, config.getTypeFactory());
+			this.delegate = delegate;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.jsontype.TypeIdResolver#idFromValue(java.lang.Object)
+		 */
+		@Override
+		public String idFromValue(Object value) {
+			return toAlias(delegate.idFromValue(value));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.jsontype.TypeIdResolver#idFromValueAndType(java.lang.Object, java.lang.Class)
+		 */
+		@Override
+		public String idFromValueAndType(Object value, Class<?> suggestedType) {
+			return toAlias(delegate.idFromValueAndType(value, suggestedType));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.jsontype.impl.TypeIdResolverBase#idFromBaseType()
+		 */
+		@Override
+		public String idFromBaseType() {
+			return toAlias(delegate.idFromBaseType());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.jsontype.impl.TypeIdResolverBase#typeFromId(com.fasterxml.jackson.databind.DatabindContext, java.lang.String)
+		 */
+		@Override
+		public JavaType typeFromId(DatabindContext context, String id) throws IOException {
+
+			String typeId = registry.getTypeId(id);
+			return delegate.typeFromId(context, typeId != null ? typeId : id);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.jsontype.impl.TypeIdResolverBase#getDescForKnownTypeIds()
+		 */
+		@Override
+		public String getDescForKnownTypeIds() {
+			return delegate.getDescForKnownTypeIds();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.jsontype.TypeIdResolver#getMechanism()
+		 */
+		@Override
+		public JsonTypeInfo.Id getMechanism() {
+			return delegate.getMechanism();
+		}
+
+		private String toAlias(String typeId) {
+
+			if (typeId == null) {
+				return null;
+			}
+
+			String alias = registry.getAlias(typeId);
+			return alias != null ? alias : typeId;
+		}
+	}
+}
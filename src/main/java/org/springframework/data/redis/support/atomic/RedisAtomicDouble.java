@@ -28,7 +28,7 @@ import org.springframework.data.redis.core.BoundKeyOperations;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.DoubleRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -81,7 +81,7 @@ public class RedisAtomicDouble extends Number implements Serializable, BoundKeyO
 
 		RedisTemplate<String, Double> redisTemplate = new RedisTemplate<>();
 		redisTemplate.setKeySerializer(RedisSerializer.string());
-		redisTemplate.setValueSerializer(new GenericToStringSerializer<>(Double.class));
+		redisTemplate.setValueSerializer(DoubleRedisSerializer.INSTANCE);
 		redisTemplate.setExposeConnection(true);
 		redisTemplate.setConnectionFactory(factory);
 		redisTemplate.afterPropertiesSet();
@@ -28,7 +28,7 @@ import org.springframework.data.redis.core.BoundKeyOperations;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.LongRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.lang.Nullable;
@@ -82,7 +82,7 @@ public class RedisAtomicLong extends Number implements Serializable, BoundKeyOpe
 
 		RedisTemplate<String, Long> redisTemplate = new RedisTemplate<>();
 		redisTemplate.setKeySerializer(RedisSerializer.string());
-		redisTemplate.setValueSerializer(new GenericToStringSerializer<>(Long.class));
+		redisTemplate.setValueSerializer(LongRedisSerializer.INSTANCE);
 		redisTemplate.setExposeConnection(true);
 		redisTemplate.setConnectionFactory(factory);
 		redisTemplate.afterPropertiesSet();
@@ -118,7 +118,7 @@ public class RedisAtomicLong extends Number implements Serializable, BoundKeyOpe
 	 * <p>
 	 * As an alternative one could use the {@link #RedisAtomicLong(String, RedisConnectionFactory, Long)} constructor
 	 * which uses appropriate default serializers, in this case {@link StringRedisSerializer} for the key and
-	 * {@link GenericToStringSerializer} for the value.
+	 * {@link LongRedisSerializer} for the value.
 	 *
 	 * @param redisCounter Redis key of this counter.
 	 * @param template the template
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisNode.NodeType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+
+/**
+ * Unit tests for {@link BatchStrategies}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class BatchStrategiesUnitTests {
+
+	@Mock RedisConnection connection;
+	@Mock Cursor<byte[]> cursor;
+
+	byte[] key = "cache::key".getBytes(StandardCharsets.UTF_8);
+	byte[] pattern = "cache::*".getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	public void scanShouldFallBackToDelIfUnlinkIsUnknown() {
+
+		when(connection.scan(any(ScanOptions.class))).thenReturn(cursor);
+		when(cursor.hasNext()).thenReturn(true, false, true, false);
+		when(cursor.next()).thenReturn(key);
+		when(connection.unlink(key)).thenThrow(new InvalidDataAccessApiUsageException("ERR unknown command 'UNLINK'"));
+		when(connection.del(key)).thenReturn(1L);
+
+		BatchStrategy strategy = BatchStrategies.scan(10);
+
+		assertThat(strategy.cleanCache(connection, "cache", pattern)).isEqualTo(1);
+		assertThat(strategy.cleanCache(connection, "cache", pattern)).isEqualTo(1);
+
+		verify(connection).unlink(key);
+		verify(connection, times(2)).del(key);
+	}
+
+	@Test
+	public void scanShouldPropagateUnlinkErrors() {
+
+		when(connection.scan(any(ScanOptions.class))).thenReturn(cursor);
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(key);
+		when(connection.unlink(key)).thenThrow(new InvalidDataAccessApiUsageException("OOM command not allowed"));
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> BatchStrategies.scan(10).cleanCache(connection, "cache", pattern));
+
+		verify(connection, never()).del(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void scanShouldCleanClusterMastersInParallel() {
+
+		RedisClusterConnection clusterConnection = mock(RedisClusterConnection.class);
+		RedisClusterNode master1 = clusterNode(7379, NodeType.MASTER);
+		RedisClusterNode master2 = clusterNode(7380, NodeType.MASTER);
+		RedisClusterNode replica = clusterNode(7381, NodeType.SLAVE);
+		Cursor<byte[]> otherCursor = mock(Cursor.class);
+		CyclicBarrier barrier = new CyclicBarrier(2);
+
+		when(clusterConnection.clusterGetNodes()).thenReturn(Arrays.asList(master1, master2, replica));
+		when(clusterConnection.scan(any(RedisClusterNode.class), any(ScanOptions.class))).thenAnswer(invocation -> {
+
+			// both masters must be scanned concurrently to pass the barrier
+			barrier.await(10, TimeUnit.SECONDS);
+			return master1.equals(invocation.getArgument(0)) ? cursor : otherCursor;
+		});
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(key);
+		when(otherCursor.hasNext()).thenReturn(true, false);
+		when(otherCursor.next()).thenReturn(key);
+		when(clusterConnection.unlink(key)).thenReturn(1L);
+
+		assertThat(BatchStrategies.scan(10).cleanCache(clusterConnection, "cache", pattern)).isEqualTo(2);
+
+		verify(clusterConnection, never()).scan(eq(replica), any(ScanOptions.class));
+	}
+
+	private static RedisClusterNode clusterNode(int port, NodeType type) {
+		return RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", port).promotedAs(type).build();
+	}
+}
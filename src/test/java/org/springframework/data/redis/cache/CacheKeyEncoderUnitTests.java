@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.Test;
+import org.springframework.cache.interceptor.SimpleKey;
+
+/**
+ * Unit tests for {@link CacheKeyEncoder}.
+ *
+ * @author Mark Paluch
+ */
+public class CacheKeyEncoderUnitTests {
+
+	static final byte[] PREFIX = "cache::".getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	public void shouldEncodeStrings() {
+
+		assertEncodedAsToString("key");
+		assertEncodedAsToString("");
+		assertEncodedAsToString("k\u00e9y-\u20ac-\ud83d\ude00");
+	}
+
+	@Test
+	public void shouldEncodeNumbers() {
+
+		assertEncodedAsToString(0L);
+		assertEncodedAsToString(42);
+		assertEncodedAsToString(-7);
+		assertEncodedAsToString((short) 12);
+		assertEncodedAsToString((byte) -1);
+		assertEncodedAsToString(Long.MAX_VALUE);
+		assertEncodedAsToString(Long.MIN_VALUE);
+		assertEncodedAsToString(1.5d);
+		assertEncodedAsToString(new BigDecimal("12.50"));
+	}
+
+	@Test
+	public void shouldEncodeUuidAndSimpleKey() {
+
+		assertEncodedAsToString(UUID.randomUUID());
+		assertEncodedAsToString(new UUID(0, 1));
+		assertEncodedAsToString(new SimpleKey("a", 1));
+	}
+
+	@Test
+	public void shouldEncodeGeneration() {
+
+		assertThat(CacheKeyEncoder.encode(PREFIX, 0, 42L, 0)).isEqualTo(bytes("cache::0:42"));
+		assertThat(CacheKeyEncoder.encode(PREFIX, 1234, "key", 0)).isEqualTo(bytes("cache::1234:key"));
+		assertThat(CacheKeyEncoder.encode(new byte[0], 7, "key", 0)).isEqualTo(bytes("7:key"));
+	}
+
+	@Test
+	public void shouldHashLongKeys() {
+
+		String longKey = "composite-key-exceeding-the-threshold";
+
+		byte[] encoded = CacheKeyEncoder.encode(PREFIX, -1, longKey, 10);
+		String hashed = CacheKeyEncoder.hashIfNecessary(longKey, 10);
+
+		assertThat(hashed).hasSize(CacheKeyEncoder.DIGEST_LENGTH).isNotEqualTo(longKey);
+		assertThat(encoded).isEqualTo(bytes("cache::" + hashed));
+		assertThat(CacheKeyEncoder.encode(PREFIX, -1, "short", 10)).isEqualTo(bytes("cache::short"));
+		assertThat(CacheKeyEncoder.hashIfNecessary("short", 10)).isEqualTo("short");
+	}
+
+	@Test
+	public void shouldHashNumbersAndUuidsExceedingThreshold() {
+
+		UUID uuid = UUID.randomUUID();
+
+		assertThat(CacheKeyEncoder.encode(PREFIX, -1, uuid, 10))
+				.isEqualTo(bytes("cache::" + CacheKeyEncoder.hashIfNecessary(uuid.toString(), 10)));
+		assertThat(CacheKeyEncoder.encode(PREFIX, -1, Long.MAX_VALUE, 10))
+				.isEqualTo(bytes("cache::" + CacheKeyEncoder.hashIfNecessary(Long.toString(Long.MAX_VALUE), 10)));
+	}
+
+	@Test
+	public void shouldOnlyEncodeNonStringKeysWithDefaultConversion() {
+
+		assertThat(CacheKeyEncoder.canEncode("key", false)).isTrue();
+		assertThat(CacheKeyEncoder.canEncode(1L, false)).isFalse();
+		assertThat(CacheKeyEncoder.canEncode(1L, true)).isTrue();
+		assertThat(CacheKeyEncoder.canEncode(new Object(), true)).isFalse();
+	}
+
+	private static void assertEncodedAsToString(Object key) {
+		assertThat(CacheKeyEncoder.encode(PREFIX, -1, key, 0)).isEqualTo(bytes("cache::" + key));
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
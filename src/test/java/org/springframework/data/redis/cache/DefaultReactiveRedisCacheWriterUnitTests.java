@@ -0,0 +1,90 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.redis.connection.ReactiveKeyCommands;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.util.ByteUtils;
+
+/**
+ * Unit tests for {@link DefaultReactiveRedisCacheWriter}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultReactiveRedisCacheWriterUnitTests {
+
+	@Mock ReactiveRedisConnectionFactory connectionFactory;
+	@Mock ReactiveRedisConnection connection;
+	@Mock ReactiveKeyCommands keyCommands;
+
+	DefaultReactiveRedisCacheWriter writer;
+
+	ByteBuffer key = ByteUtils.getByteBuffer("cache::key");
+
+	@Before
+	public void setUp() {
+
+		when(connectionFactory.getReactiveConnection()).thenReturn(connection);
+		when(connection.keyCommands()).thenReturn(keyCommands);
+		when(connection.closeLater()).thenReturn(Mono.empty());
+
+		writer = new DefaultReactiveRedisCacheWriter(connectionFactory);
+	}
+
+	@Test
+	public void cleanShouldFallBackToDelIfUnlinkIsNotSupported() {
+
+		when(keyCommands.scan(any(ScanOptions.class))).thenAnswer(invocation -> Flux.just(key.duplicate()));
+		when(keyCommands.mUnlink(anyList())).thenReturn(Mono.error(new UnsupportedOperationException("UNLINK")));
+		when(keyCommands.mDel(anyList())).thenReturn(Mono.just(1L));
+
+		writer.clean("cache", ByteUtils.getByteBuffer("cache::*")).as(StepVerifier::create).verifyComplete();
+		writer.clean("cache", ByteUtils.getByteBuffer("cache::*")).as(StepVerifier::create).verifyComplete();
+
+		verify(keyCommands).mUnlink(anyList());
+		verify(keyCommands, times(2)).mDel(Collections.singletonList(key));
+	}
+
+	@Test
+	public void cleanShouldPropagateUnlinkErrors() {
+
+		when(keyCommands.scan(any(ScanOptions.class))).thenReturn(Flux.just(key));
+		when(keyCommands.mUnlink(anyList())).thenReturn(Mono.error(new IllegalStateException("down")));
+
+		writer.clean("cache", ByteUtils.getByteBuffer("cache::*")).as(StepVerifier::create)
+				.verifyError(IllegalStateException.class);
+
+		verify(keyCommands, never()).mDel(anyList());
+	}
+}
@@ -22,6 +22,9 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -150,6 +153,41 @@ public class DefaultRedisCacheWriterTests {
 		assertThat(nonLockingRedisCacheWriter(connectionFactory).get(CACHE_NAME, binaryCacheKey)).isNull();
 	}
 
+	@Test
+	public void bulkPutShouldAddExpiringEntries() {
+
+		byte[] otherCacheKey = (CACHE_NAME + "::key-2").getBytes(StandardCharsets.UTF_8);
+
+		Map<byte[], byte[]> values = new LinkedHashMap<>();
+		values.put(binaryCacheKey, binaryCacheValue);
+		values.put(otherCacheKey, "other".getBytes(StandardCharsets.UTF_8));
+
+		nonLockingRedisCacheWriter(connectionFactory).put(CACHE_NAME, values, Duration.ofSeconds(5));
+
+		doWithConnection(connection -> {
+
+			assertThat(connection.get(binaryCacheKey)).isEqualTo(binaryCacheValue);
+			assertThat(connection.get(otherCacheKey)).isEqualTo("other".getBytes(StandardCharsets.UTF_8));
+			assertThat(connection.ttl(binaryCacheKey)).isGreaterThan(3).isLessThan(6);
+			assertThat(connection.ttl(otherCacheKey)).isGreaterThan(3).isLessThan(6);
+		});
+	}
+
+	@Test
+	public void bulkGetShouldReturnValuesInOrderOfKeys() {
+
+		byte[] otherCacheKey = (CACHE_NAME + "::key-2").getBytes(StandardCharsets.UTF_8);
+
+		doWithConnection(connection -> connection.set(binaryCacheKey, binaryCacheValue));
+
+		List<byte[]> values = nonLockingRedisCacheWriter(connectionFactory).get(CACHE_NAME,
+				new byte[][] { otherCacheKey, binaryCacheKey });
+
+		assertThat(values).hasSize(2);
+		assertThat(values.get(0)).isNull();
+		assertThat(values.get(1)).isEqualTo(binaryCacheValue);
+	}
+
 	@Test // DATAREDIS-481
 	public void putIfAbsentShouldAddEternalEntryWhenKeyDoesNotExist() {
 
@@ -185,6 +223,78 @@ public class DefaultRedisCacheWriterTests {
 		});
 	}
 
+	@Test
+	public void lockingPutIfAbsentShouldNotLeaveLockKey() {
+
+		assertThat(lockingRedisCacheWriter(connectionFactory).putIfAbsent(CACHE_NAME, binaryCacheKey, binaryCacheValue,
+				Duration.ofSeconds(5))).isNull();
+		assertThat(lockingRedisCacheWriter(connectionFactory).putIfAbsent(CACHE_NAME, binaryCacheKey, "foo".getBytes(),
+				Duration.ofSeconds(5))).isEqualTo(binaryCacheValue);
+
+		doWithConnection(connection -> {
+			assertThat(connection.get(binaryCacheKey)).isEqualTo(binaryCacheValue);
+			assertThat(connection.exists((CACHE_NAME + "~lock").getBytes(StandardCharsets.UTF_8))).isFalse();
+		});
+	}
+
+	@Test
+	public void releaseLockShouldOnlyRemoveLockHeldByToken() {
+
+		RedisCacheWriter writer = nonLockingRedisCacheWriter(connectionFactory);
+		byte[] lockKey = (cacheKey + "~loading").getBytes(StandardCharsets.UTF_8);
+
+		assertThat(writer.acquireLock(CACHE_NAME, lockKey, "one".getBytes(), Duration.ofSeconds(5))).isTrue();
+		assertThat(writer.acquireLock(CACHE_NAME, lockKey, "two".getBytes(), Duration.ofSeconds(5))).isFalse();
+
+		assertThat(writer.releaseLock(CACHE_NAME, lockKey, "two".getBytes())).isFalse();
+		doWithConnection(connection -> assertThat(connection.get(lockKey)).isEqualTo("one".getBytes()));
+
+		assertThat(writer.releaseLock(CACHE_NAME, lockKey, "one".getBytes())).isTrue();
+		doWithConnection(connection -> assertThat(connection.exists(lockKey)).isFalse());
+	}
+
+	@Test
+	public void countersShouldNotBeRecordedInStatistics() {
+
+		RedisCacheWriter writer = nonLockingRedisCacheWriter(connectionFactory)
+				.withStatisticsCollector(CacheStatisticsCollector.create());
+		byte[] counterKey = (CACHE_NAME + "~generation").getBytes(StandardCharsets.UTF_8);
+
+		assertThat(writer.getCounter(CACHE_NAME, counterKey)).isZero();
+		assertThat(writer.increment(CACHE_NAME, counterKey)).isEqualTo(1);
+		assertThat(writer.getCounter(CACHE_NAME, counterKey)).isEqualTo(1);
+
+		CacheStatistics statistics = writer.getCacheStatistics(CACHE_NAME);
+
+		assertThat(statistics.getRetrievals()).isZero();
+		assertThat(statistics.getStores()).isZero();
+	}
+
+	@Test
+	public void shouldCollectStatistics() {
+
+		RedisCacheWriter writer = nonLockingRedisCacheWriter(connectionFactory)
+				.withStatisticsCollector(CacheStatisticsCollector.create());
+
+		writer.put(CACHE_NAME, binaryCacheKey, binaryCacheValue, Duration.ZERO);
+		writer.get(CACHE_NAME, binaryCacheKey);
+		writer.get(CACHE_NAME, "absent".getBytes());
+		writer.remove(CACHE_NAME, binaryCacheKey);
+
+		CacheStatistics statistics = writer.getCacheStatistics(CACHE_NAME);
+
+		assertThat(statistics.getStores()).isEqualTo(1);
+		assertThat(statistics.getRetrievals()).isEqualTo(2);
+		assertThat(statistics.getHits()).isEqualTo(1);
+		assertThat(statistics.getMisses()).isEqualTo(1);
+		assertThat(statistics.getDeletes()).isEqualTo(1);
+		assertThat(statistics.getLatency(CacheStatistics.Operation.GET).getCount()).isEqualTo(2);
+
+		writer.clearStatistics(CACHE_NAME);
+
+		assertThat(writer.getCacheStatistics(CACHE_NAME).getRetrievals()).isZero();
+	}
+
 	@Test // DATAREDIS-481
 	public void removeShouldDeleteEntry() {
 
@@ -212,6 +322,46 @@ public class DefaultRedisCacheWriterTests {
 		});
 	}
 
+	@Test
+	public void cleanWithScanShouldRemoveAllKeysByPatternInBatches() {
+
+		doWithConnection(connection -> {
+
+			for (int i = 0; i < 10; i++) {
+				connection.set((CACHE_NAME + "::key-" + i).getBytes(StandardCharsets.UTF_8), binaryCacheValue);
+			}
+			connection.set("foo".getBytes(), "bar".getBytes());
+		});
+
+		nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.scan(3)).clean(CACHE_NAME,
+				(CACHE_NAME + "::*").getBytes(StandardCharsets.UTF_8));
+
+		doWithConnection(connection -> {
+
+			for (int i = 0; i < 10; i++) {
+				assertThat(connection.exists((CACHE_NAME + "::key-" + i).getBytes(StandardCharsets.UTF_8))).isFalse();
+			}
+			assertThat(connection.exists("foo".getBytes())).isTrue();
+		});
+	}
+
+	@Test
+	public void cleanWithKeysShouldRemoveAllKeysByPattern() {
+
+		doWithConnection(connection -> {
+			connection.set(binaryCacheKey, binaryCacheValue);
+			connection.set("foo".getBytes(), "bar".getBytes());
+		});
+
+		nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.keys()).clean(CACHE_NAME,
+				(CACHE_NAME + "::*").getBytes(StandardCharsets.UTF_8));
+
+		doWithConnection(connection -> {
+			assertThat(connection.exists(binaryCacheKey)).isFalse();
+			assertThat(connection.exists("foo".getBytes())).isTrue();
+		});
+	}
+
 	@Test // DATAREDIS-481
 	public void nonLockingCacheWriterShouldIgnoreExistingLock() {
 
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.ReturnType;
+
+/**
+ * Unit tests for {@link DefaultRedisCacheWriter}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultRedisCacheWriterUnitTests {
+
+	@Mock RedisConnectionFactory connectionFactory;
+	@Mock RedisConnection connection;
+
+	DefaultRedisCacheWriter writer;
+
+	byte[] key = "key".getBytes(StandardCharsets.UTF_8);
+	byte[] value = "value".getBytes(StandardCharsets.UTF_8);
+
+	@Before
+	public void setUp() {
+
+		when(connectionFactory.getConnection()).thenReturn(connection);
+
+		writer = new DefaultRedisCacheWriter(connectionFactory);
+	}
+
+	@Test
+	public void putIfAbsentShouldPropagateScriptErrors() {
+
+		doThrow(new InvalidDataAccessApiUsageException("ERR Error running script")).when(connection)
+				.evalSha(eq(DefaultRedisCacheWriter.PUT_IF_ABSENT_SCRIPT_SHA1), eq(ReturnType.VALUE), eq(1), any(), any(),
+						any());
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> writer.putIfAbsent("cache", key, value, null));
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> writer.putIfAbsent("cache", key, value, null));
+
+		verify(connection, times(2)).evalSha(eq(DefaultRedisCacheWriter.PUT_IF_ABSENT_SCRIPT_SHA1), eq(ReturnType.VALUE),
+				eq(1), any(), any(), any());
+		verify(connection, never()).setNX(any(), any());
+	}
+
+	@Test
+	public void putIfAbsentShouldFallBackToSetNxIfScriptingIsNotSupported() {
+
+		doThrow(new InvalidDataAccessApiUsageException("EvalSha is not supported in cluster environment."))
+				.when(connection).evalSha(eq(DefaultRedisCacheWriter.PUT_IF_ABSENT_SCRIPT_SHA1), eq(ReturnType.VALUE),
+						eq(1), any(), any(), any());
+		when(connection.setNX(key, value)).thenReturn(true);
+
+		assertThat(writer.putIfAbsent("cache", key, value, null)).isNull();
+		assertThat(writer.putIfAbsent("cache", key, value, null)).isNull();
+
+		verify(connection).evalSha(eq(DefaultRedisCacheWriter.PUT_IF_ABSENT_SCRIPT_SHA1), eq(ReturnType.VALUE), eq(1),
+				any(), any(), any());
+		verify(connection, times(2)).setNX(key, value);
+	}
+
+	@Test
+	public void putIfAbsentFallbackShouldRetryIfExistingEntryDisappears() {
+
+		doThrow(new UnsupportedOperationException()).when(connection).evalSha(
+				eq(DefaultRedisCacheWriter.PUT_IF_ABSENT_SCRIPT_SHA1), eq(ReturnType.VALUE), eq(1), any(), any(), any());
+		when(connection.setNX(key, value)).thenReturn(false, true);
+
+		assertThat(writer.putIfAbsent("cache", key, value, null)).isNull();
+
+		verify(connection, times(2)).setNX(key, value);
+		verify(connection).get(key);
+	}
+}
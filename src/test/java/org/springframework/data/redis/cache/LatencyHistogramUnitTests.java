@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LatencyHistogram}.
+ *
+ * @author Mark Paluch
+ */
+public class LatencyHistogramUnitTests {
+
+	@Test
+	public void emptyHistogramShouldReportZero() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		assertThat(histogram.getCount()).isZero();
+		assertThat(histogram.getPercentile(99)).isEqualTo(Duration.ZERO);
+		assertThat(histogram.getMean()).isEqualTo(Duration.ZERO);
+	}
+
+	@Test
+	public void bucketsShouldCoverValueRangeContiguously() {
+
+		for (int index = 1; index < LatencyHistogram.bucketIndex(Long.MAX_VALUE); index++) {
+			assertThat(LatencyHistogram.bucketIndex(LatencyHistogram.bucketUpperBound(index - 1) + 1)).isEqualTo(index);
+		}
+
+		assertThat(LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(Long.MAX_VALUE)))
+				.isEqualTo(Long.MAX_VALUE);
+	}
+
+	@Test
+	public void percentilesShouldBeAccurateWithinBucketPrecision() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		for (long i = 1; i <= 1000; i++) {
+			histogram.record(i * 1000);
+		}
+
+		assertThat(histogram.getCount()).isEqualTo(1000);
+		assertThat(histogram.getMax()).isEqualTo(Duration.ofNanos(1_000_000));
+		assertThat(histogram.getMean()).isEqualTo(Duration.ofNanos(500_500));
+		assertThat(histogram.getPercentile(50).toNanos()).isBetween(500_000L, 562_500L);
+		assertThat(histogram.getPercentile(99).toNanos()).isBetween(990_000L, 1_000_000L);
+		assertThat(histogram.getPercentile(100)).isEqualTo(Duration.ofNanos(1_000_000));
+	}
+
+	@Test
+	public void snapshotShouldNotObserveLaterValues() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(10);
+
+		LatencyHistogram snapshot = histogram.snapshot();
+		histogram.record(20);
+		histogram.reset();
+
+		assertThat(snapshot.getCount()).isEqualTo(1);
+		assertThat(histogram.getCount()).isZero();
+	}
+
+	@Test
+	public void shouldMergeHistograms() {
+
+		LatencyHistogram fast = new LatencyHistogram();
+		LatencyHistogram slow = new LatencyHistogram();
+
+		for (int i = 0; i < 990; i++) {
+			fast.record(1000);
+		}
+
+		for (int i = 0; i < 10; i++) {
+			slow.record(1_000_000);
+		}
+
+		fast.add(slow);
+
+		assertThat(fast.getCount()).isEqualTo(1000);
+		assertThat(fast.getMax()).isEqualTo(Duration.ofNanos(1_000_000));
+		assertThat(fast.getPercentile(99).toNanos()).isBetween(1000L, 1125L);
+		assertThat(fast.getPercentile(99.9)).isEqualTo(Duration.ofNanos(1_000_000));
+		assertThat(slow.getCount()).isEqualTo(10);
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link NearCache}.
+ *
+ * @author Mark Paluch
+ */
+public class NearCacheUnitTests {
+
+	@Test
+	public void shouldStoreAndRemoveValues() {
+
+		NearCache nearCache = new NearCache(NearCacheConfiguration.lru(10), Duration.ZERO);
+
+		nearCache.put(key("foo"), "bar");
+
+		assertThat(nearCache.get(key("foo"))).isEqualTo("bar");
+
+		nearCache.remove(key("foo"));
+
+		assertThat(nearCache.get(key("foo"))).isNull();
+	}
+
+	@Test
+	public void shouldClearValues() {
+
+		NearCache nearCache = new NearCache(NearCacheConfiguration.lru(10), Duration.ZERO);
+
+		nearCache.put(key("foo"), "bar");
+		nearCache.put(key("bar"), "baz");
+		nearCache.clear();
+
+		assertThat(nearCache.size()).isZero();
+	}
+
+	@Test
+	public void shouldExpireValues() throws InterruptedException {
+
+		NearCache nearCache = new NearCache(NearCacheConfiguration.lru(10).entryTtl(Duration.ofMillis(10)), Duration.ZERO);
+
+		nearCache.put(key("foo"), "bar");
+
+		Thread.sleep(20);
+
+		assertThat(nearCache.get(key("foo"))).isNull();
+	}
+
+	@Test
+	public void shouldNotOutliveCacheTtl() throws InterruptedException {
+
+		NearCache nearCache = new NearCache(NearCacheConfiguration.lru(10), Duration.ofMillis(10));
+
+		nearCache.put(key("foo"), "bar");
+
+		Thread.sleep(20);
+
+		assertThat(nearCache.get(key("foo"))).isNull();
+	}
+
+	@Test
+	public void lruShouldEvictLeastRecentlyUsed() {
+
+		NearCache nearCache = new NearCache(NearCacheConfiguration.lru(2), Duration.ZERO);
+
+		nearCache.put(key("one"), 1);
+		nearCache.put(key("two"), 2);
+		nearCache.get(key("one"));
+		nearCache.put(key("three"), 3);
+
+		assertThat(nearCache.size()).isEqualTo(2);
+		assertThat(nearCache.get(key("one"))).isEqualTo(1);
+		assertThat(nearCache.get(key("two"))).isNull();
+		assertThat(nearCache.get(key("three"))).isEqualTo(3);
+	}
+
+	@Test
+	public void lfuShouldEvictLeastFrequentlyUsed() {
+
+		NearCache nearCache = new NearCache(NearCacheConfiguration.lfu(3), Duration.ZERO);
+
+		nearCache.put(key("one"), 1);
+		nearCache.put(key("two"), 2);
+		nearCache.put(key("three"), 3);
+
+		for (int i = 0; i < 5; i++) {
+			nearCache.get(key("one"));
+			nearCache.get(key("three"));
+		}
+
+		nearCache.put(key("four"), 4);
+
+		assertThat(nearCache.size()).isEqualTo(3);
+		assertThat(nearCache.get(key("one"))).isEqualTo(1);
+		assertThat(nearCache.get(key("two"))).isNull();
+		assertThat(nearCache.get(key("three"))).isEqualTo(3);
+		assertThat(nearCache.get(key("four"))).isEqualTo(4);
+	}
+
+	private static byte[] key(String key) {
+		return key.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.data.redis.SettingsUtils;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceTestClientResources;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Integration tests for {@link ReactiveRedisCache} and {@link DefaultReactiveRedisCacheWriter}.
+ *
+ * @author Mark Paluch
+ */
+public class ReactiveRedisCacheTests {
+
+	static LettuceConnectionFactory connectionFactory;
+
+	ReactiveRedisCache cache;
+	RedisCache blockingCache;
+
+	@BeforeClass
+	public static void beforeClass() {
+
+		connectionFactory = new LettuceConnectionFactory(
+				new RedisStandaloneConfiguration(SettingsUtils.getHost(), SettingsUtils.getPort()),
+				LettuceClientConfiguration.builder().clientResources(LettuceTestClientResources.getSharedClientResources())
+						.build());
+		connectionFactory.afterPropertiesSet();
+	}
+
+	@AfterClass
+	public static void afterClass() {
+		connectionFactory.destroy();
+	}
+
+	@Before
+	public void setUp() {
+
+		RedisConnection connection = connectionFactory.getConnection();
+		connection.flushAll();
+		connection.close();
+
+		RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
+				.serializeValuesWith(SerializationPair.fromSerializer(RedisSerializer.string()));
+
+		cache = new ReactiveRedisCache("cache", ReactiveRedisCacheWriter.create(connectionFactory), configuration);
+		blockingCache = new RedisCache("cache", RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory),
+				configuration);
+	}
+
+	@Test
+	public void putShouldBeVisibleToBlockingCache() {
+
+		cache.put("key", "value").as(StepVerifier::create).verifyComplete();
+
+		assertThat(blockingCache.get("key", String.class)).isEqualTo("value");
+		cache.get("key", String.class).as(StepVerifier::create).expectNext("value").verifyComplete();
+	}
+
+	@Test
+	public void getShouldCompleteEmptyForAbsentKey() {
+		cache.get("absent").as(StepVerifier::create).verifyComplete();
+	}
+
+	@Test
+	public void getWithValueLoaderShouldLoadAndStoreValue() {
+
+		cache.get("key", () -> Mono.just("loaded")).as(StepVerifier::create).expectNext("loaded").verifyComplete();
+		cache.get("key", () -> Mono.just("other")).as(StepVerifier::create).expectNext("loaded").verifyComplete();
+	}
+
+	@Test
+	public void getWithValueLoaderShouldNotReloadCachedNullValue() {
+
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.put("key", null).as(StepVerifier::create).verifyComplete();
+
+		cache.get("key", () -> Mono.fromSupplier(() -> "loaded-" + loads.incrementAndGet())).as(StepVerifier::create)
+				.verifyComplete();
+
+		assertThat(loads).hasValue(0);
+	}
+
+	@Test
+	public void getWithValueLoaderShouldStoreEmptyLoaderResultAsNullValue() {
+
+		AtomicInteger loads = new AtomicInteger();
+		Supplier<Mono<String>> valueLoader = () -> Mono.fromRunnable(loads::incrementAndGet);
+
+		cache.get("key", valueLoader).as(StepVerifier::create).verifyComplete();
+		cache.get("key", valueLoader).as(StepVerifier::create).verifyComplete();
+
+		assertThat(loads).hasValue(1);
+		cache.get("key").as(StepVerifier::create).consumeNextWith(wrapper -> assertThat(wrapper.get()).isNull())
+				.verifyComplete();
+	}
+
+	@Test
+	public void shouldShareCompactlyEncodedKeysWithBlockingCache() {
+
+		blockingCache.put(42L, "value");
+
+		cache.get(42L, String.class).as(StepVerifier::create).expectNext("value").verifyComplete();
+	}
+
+	@Test
+	public void putIfAbsentShouldReturnExistingValue() {
+
+		cache.putIfAbsent("key", "one").as(StepVerifier::create).verifyComplete();
+		cache.putIfAbsent("key", "two").as(StepVerifier::create)
+				.consumeNextWith(wrapper -> assertThat(wrapper.get()).isEqualTo("one")).verifyComplete();
+	}
+
+	@Test
+	public void putAllAndGetAllShouldUseBulkOperations() {
+
+		Map<String, String> entries = new LinkedHashMap<>();
+		entries.put("one", "1");
+		entries.put("two", "2");
+
+		cache.putAll(entries).as(StepVerifier::create).verifyComplete();
+
+		cache.getAll(Arrays.asList("one", "absent", "two")).as(StepVerifier::create).consumeNextWith(result -> {
+
+			assertThat(result).containsOnlyKeys("one", "two");
+			assertThat(result.get("two").get()).isEqualTo("2");
+		}).verifyComplete();
+	}
+
+	@Test
+	public void evictAndClearShouldRemoveEntries() {
+
+		cache.put("one", "1").then(cache.put("two", "2")).as(StepVerifier::create).verifyComplete();
+
+		cache.evict("one").as(StepVerifier::create).verifyComplete();
+		cache.get("one").as(StepVerifier::create).verifyComplete();
+
+		cache.clear().as(StepVerifier::create).verifyComplete();
+		cache.get("two").as(StepVerifier::create).verifyComplete();
+	}
+
+	@Test
+	public void putShouldApplyTtl() {
+
+		ReactiveRedisCache expiring = new ReactiveRedisCache("cache", ReactiveRedisCacheWriter.create(connectionFactory),
+				cache.getCacheConfiguration().entryTtl(Duration.ofSeconds(5)));
+
+		expiring.put("key", "value").as(StepVerifier::create).verifyComplete();
+
+		RedisConnection connection = connectionFactory.getConnection();
+		try {
+			assertThat(connection.ttl("cache::key".getBytes())).isGreaterThan(3).isLessThan(6);
+		} finally {
+			connection.close();
+		}
+	}
+}
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.*;
 
 import org.junit.Test;
 import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.core.convert.converter.ConverterRegistry;
 import org.springframework.instrument.classloading.ShadowingClassLoader;
 
 /**
@@ -43,4 +44,26 @@ public class RedisCacheConfigurationUnitTests {
 
 		assertThat(usedClassLoader).isSameAs(classLoader);
 	}
+
+	@Test
+	public void shouldDetectCustomizedKeyConversion() {
+
+		RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig();
+
+		assertThat(config.usesDefaultKeyConversion()).isTrue();
+
+		((ConverterRegistry) config.getConversionService()).addConverter(Long.class, String.class, source -> "custom");
+
+		assertThat(config.usesDefaultKeyConversion()).isFalse();
+	}
+
+	@Test
+	public void shouldConfigureKeyHashing() {
+
+		RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig().hashKeysLongerThan(64);
+
+		assertThat(config.useKeyHashing()).isTrue();
+		assertThat(config.getKeyHashingThreshold()).isEqualTo(64);
+		assertThat(config.disableKeyHashing().useKeyHashing()).isFalse();
+	}
 }
@@ -24,8 +24,25 @@ import lombok.RequiredArgsConstructor;
 
 import java.io.Serializable;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import org.junit.AfterClass;
@@ -269,6 +286,220 @@ public class RedisCacheTests {
 		});
 	}
 
+	@Test
+	public void getWithCallableShouldInvokeValueLoaderOnceForConcurrentCallers() throws InterruptedException {
+
+		AtomicInteger loaderInvocations = new AtomicInteger();
+		CountDownLatch loaderEntered = new CountDownLatch(1);
+		CountDownLatch releaseLoader = new CountDownLatch(1);
+
+		Callable<Person> valueLoader = () -> {
+
+			loaderInvocations.incrementAndGet();
+			loaderEntered.countDown();
+			releaseLoader.await();
+			return sample;
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			List<Future<Person>> results = new ArrayList<>();
+			results.add(executor.submit(() -> cache.get(key, valueLoader)));
+
+			loaderEntered.await();
+
+			for (int i = 0; i < 3; i++) {
+				results.add(executor.submit(() -> cache.get(key, valueLoader)));
+			}
+
+			releaseLoader.countDown();
+
+			for (Future<Person> result : results) {
+				assertThat(result.get()).isEqualTo(sample);
+			}
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(loaderInvocations).hasValue(1);
+	}
+
+	@Test
+	public void getWithCallableShouldLoadDifferentKeysInParallel() throws InterruptedException {
+
+		CountDownLatch bothLoadersEntered = new CountDownLatch(2);
+
+		Callable<Person> valueLoader = () -> {
+
+			bothLoadersEntered.countDown();
+			assertThat(bothLoadersEntered.await(5, TimeUnit.SECONDS)).isTrue();
+			return sample;
+		};
+
+		Thread th = new Thread(() -> cache.get("key-2", valueLoader));
+		th.start();
+
+		assertThat(cache.get(key, valueLoader)).isEqualTo(sample);
+
+		th.join();
+	}
+
+	@Test(timeout = 5000)
+	public void getWithCallableShouldLoadReentrantCallsForSameKeyDirectly() {
+
+		assertThat(cache.get(key, () -> cache.get(key, () -> sample))).isEqualTo(sample);
+	}
+
+	@Test
+	public void getWithCallableShouldPropagateErrorsToConcurrentCallers() throws Exception {
+
+		CountDownLatch loaderEntered = new CountDownLatch(1);
+		CountDownLatch releaseLoader = new CountDownLatch(1);
+
+		Callable<Person> failingLoader = () -> {
+
+			loaderEntered.countDown();
+			releaseLoader.await();
+			throw new AssertionError("loader failed");
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			Future<Person> loading = executor.submit(() -> cache.get(key, failingLoader));
+
+			loaderEntered.await();
+
+			AtomicReference<Thread> waitingThread = new AtomicReference<>();
+			Future<Person> waiting = executor.submit(() -> {
+
+				waitingThread.set(Thread.currentThread());
+				return cache.get(key, () -> sample);
+			});
+
+			// release the loader once the second caller waits for the in-flight load.
+			while (waitingThread.get() == null || waitingThread.get().getState() != Thread.State.WAITING) {
+				Thread.sleep(10);
+			}
+
+			releaseLoader.countDown();
+
+			assertThatThrownBy(() -> loading.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+			assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(cache.get(key, () -> sample)).isEqualTo(sample);
+	}
+
+	@Test
+	public void getWithCallableShouldRemoveValueLoaderLock() {
+
+		RedisCache lockingCache = new RedisCache("cache", new DefaultRedisCacheWriter(connectionFactory),
+				RedisCacheConfiguration.defaultCacheConfig().serializeValuesWith(SerializationPair.fromSerializer(serializer))
+						.lockValueLoading(Duration.ofSeconds(10)));
+
+		assertThat(lockingCache.get(key, () -> sample)).isEqualTo(sample);
+
+		doWithConnection(connection -> {
+			assertThat(connection.get(binaryCacheKey)).isEqualTo(binarySample);
+			assertThat(connection.exists((cacheKey + "~loading").getBytes(Charset.forName("UTF-8")))).isFalse();
+		});
+	}
+
+	@Test
+	public void putAllShouldAddEntries() {
+
+		Map<Object, Object> entries = new LinkedHashMap<>();
+		entries.put(key, sample);
+		entries.put("key-2", null);
+
+		cache.putAll(entries);
+
+		doWithConnection(connection -> {
+			assertThat(connection.get(binaryCacheKey)).isEqualTo(binarySample);
+			assertThat(connection.get("cache::key-2".getBytes(Charset.forName("UTF-8")))).isEqualTo(binaryNullValue);
+		});
+	}
+
+	@Test
+	public void getAllShouldRetrieveExistingEntries() {
+
+		doWithConnection(connection -> {
+			connection.set(binaryCacheKey, binarySample);
+			connection.set("cache::key-2".getBytes(Charset.forName("UTF-8")), binaryNullValue);
+		});
+
+		Map<Object, ValueWrapper> result = cache.getAll(Arrays.asList(key, "key-2", "key-3"));
+
+		assertThat(result).containsOnlyKeys(key, "key-2");
+		assertThat(result.get(key).get()).isEqualTo(sample);
+		assertThat(result.get("key-2").get()).isNull();
+	}
+
+	@Test
+	public void clearWithGenerationalKeyPrefixShouldIncrementGeneration() {
+
+		RedisCache generationalCache = new RedisCache("cache", new DefaultRedisCacheWriter(connectionFactory),
+				RedisCacheConfiguration.defaultCacheConfig().serializeValuesWith(SerializationPair.fromSerializer(serializer))
+						.entryTtl(Duration.ofMinutes(1)).enableGenerationalKeyPrefix(Duration.ofMinutes(1)));
+
+		generationalCache.put(key, sample);
+
+		doWithConnection(connection -> {
+			assertThat(connection.get("cache::0:key-1".getBytes(Charset.forName("UTF-8")))).isEqualTo(binarySample);
+		});
+
+		generationalCache.clear();
+
+		assertThat(generationalCache.get(key)).isNull();
+
+		doWithConnection(connection -> {
+			assertThat(connection.get("cache~generation".getBytes(Charset.forName("UTF-8")))).isEqualTo("1".getBytes());
+			assertThat(connection.exists("cache::0:key-1".getBytes(Charset.forName("UTF-8")))).isTrue();
+		});
+	}
+
+	@Test
+	public void putShouldApplyTtlJitter() {
+
+		RedisCache jitteringCache = new RedisCache("cache", new DefaultRedisCacheWriter(connectionFactory),
+				RedisCacheConfiguration.defaultCacheConfig().serializeValuesWith(SerializationPair.fromSerializer(serializer))
+						.entryTtl(Duration.ofSeconds(10)).entryTtlJitter(Duration.ofSeconds(5)));
+
+		jitteringCache.put(key, sample);
+
+		doWithConnection(connection -> {
+			assertThat(connection.ttl(binaryCacheKey)).isGreaterThan(8).isLessThan(16);
+		});
+	}
+
+	@Test
+	public void getWithCallableShouldRefreshEntryEarly() {
+
+		RedisCache refreshingCache = new RedisCache("cache", new DefaultRedisCacheWriter(connectionFactory),
+				RedisCacheConfiguration.defaultCacheConfig().serializeValuesWith(SerializationPair.fromSerializer(serializer))
+						.entryTtl(Duration.ofMinutes(1)).enableEarlyRefresh(1e12, Runnable::run));
+
+		AtomicInteger loaderInvocations = new AtomicInteger();
+		Callable<Person> valueLoader = () -> {
+
+			loaderInvocations.incrementAndGet();
+			return sample;
+		};
+
+		assertThat(refreshingCache.get(key, valueLoader)).isEqualTo(sample);
+		assertThat(refreshingCache.get(key, valueLoader)).isEqualTo(sample);
+
+		assertThat(loaderInvocations).hasValue(2);
+	}
+
 	@Test // DATAREDIS-715
 	public void computePrefixCreatesCacheKeyCorrectly() {
 
@@ -300,6 +531,49 @@ public class RedisCacheTests {
 		assertThat(result.get()).isEqualTo(sample);
 	}
 
+	@Test
+	public void shouldStoreCompactlyEncodedKeysAsTheirStringRepresentation() {
+
+		UUID uuid = UUID.randomUUID();
+
+		cache.put(42L, sample);
+		cache.put(uuid, sample);
+
+		doWithConnection(connection -> {
+			assertThat(connection.exists("cache::42".getBytes(StandardCharsets.UTF_8))).isTrue();
+			assertThat(connection.exists(("cache::" + uuid).getBytes(StandardCharsets.UTF_8))).isTrue();
+		});
+
+		assertThat(cache.get(42L)).isNotNull();
+		assertThat(cache.get(uuid)).isNotNull();
+	}
+
+	@Test
+	public void shouldHashLongKeys() {
+
+		RedisCache cache = new RedisCache("cache", new DefaultRedisCacheWriter(connectionFactory),
+				RedisCacheConfiguration.defaultCacheConfig().serializeValuesWith(SerializationPair.fromSerializer(serializer))
+						.hashKeysLongerThan(10));
+
+		String longKey = "composite-key-exceeding-the-threshold";
+
+		cache.put(longKey, sample);
+
+		doWithConnection(connection -> {
+			assertThat(connection.exists(("cache::" + longKey).getBytes(StandardCharsets.UTF_8))).isFalse();
+			assertThat(connection.keys("cache::*".getBytes(StandardCharsets.UTF_8))).hasSize(1)
+					.allSatisfy(storedKey -> assertThat(storedKey).hasSize(7 + CacheKeyEncoder.DIGEST_LENGTH));
+		});
+
+		assertThat(cache.get(longKey)).isNotNull();
+
+		cache.clear();
+
+		doWithConnection(connection -> {
+			assertThat(connection.keys("cache::*".getBytes(StandardCharsets.UTF_8))).isEmpty();
+		});
+	}
+
 	void doWithConnection(Consumer<RedisConnection> callback) {
 		RedisConnection connection = connectionFactory.getConnection();
 		try {
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.springframework.data.redis.cache.CacheStatistics.Operation;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * Unit tests for default methods of {@link RedisCacheWriter}.
+ *
+ * @author Mark Paluch
+ */
+public class RedisCacheWriterUnitTests {
+
+	RedisCacheWriter writer = mock(RedisCacheWriter.class, CALLS_REAL_METHODS);
+
+	byte[] key = "key".getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	public void countersShouldNotBeSupportedByDefault() {
+
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> writer.increment("cache", key))
+				.withMessageContaining("counters");
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> writer.getCounter("cache", key));
+	}
+
+	@Test
+	public void lockingShouldBeNoOpByDefault() {
+
+		byte[] token = "token".getBytes(StandardCharsets.UTF_8);
+
+		assertThat(writer.acquireLock("cache", key, token, null)).isTrue();
+		assertThat(writer.acquireLock("cache", key, token, null)).isTrue();
+		assertThat(writer.releaseLock("cache", key, token)).isTrue();
+	}
+
+	@Test
+	public void disabledStatisticsShouldBeSupportedByDefault() {
+
+		assertThat(writer.withStatisticsCollector(CacheStatisticsCollector.none())).isSameAs(writer);
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> writer.withStatisticsCollector(CacheStatisticsCollector.create()))
+				.withMessageContaining("statistics");
+	}
+
+	@Test
+	public void loadTimeShouldBeRecordedAsLoadLatency() {
+
+		RedisCacheWriter statisticsWriter = RedisCacheWriter
+				.nonLockingRedisCacheWriter(mock(RedisConnectionFactory.class))
+				.withStatisticsCollector(CacheStatisticsCollector.create());
+
+		statisticsWriter.recordLoadTime("cache", 1000);
+
+		assertThat(statisticsWriter.getCacheStatistics("cache").getLatency(Operation.LOAD).getCount()).isEqualTo(1);
+		assertThat(statisticsWriter.getCacheStatistics("cache").getLatency(Operation.GET).getCount()).isZero();
+	}
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.redis.cache.WriteBehindRedisCacheWriter.Backpressure;
+
+/**
+ * Unit tests for {@link WriteBehindRedisCacheWriter}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class WriteBehindRedisCacheWriterUnitTests {
+
+	@Mock RedisCacheWriter delegate;
+
+	WriteBehindRedisCacheWriter writer;
+
+	@After
+	public void tearDown() {
+
+		if (writer != null) {
+			writer.destroy();
+		}
+	}
+
+	@Test
+	public void withStatisticsCollectorShouldDecorateDelegateWithStatistics() {
+
+		RedisCacheWriter statisticsDelegate = mock(RedisCacheWriter.class);
+		CacheStatisticsCollector collector = CacheStatisticsCollector.create();
+		when(delegate.withStatisticsCollector(collector)).thenReturn(statisticsDelegate);
+
+		writer = writer(10, Backpressure.BLOCK);
+		writer.remove("cache", bytes("pending"));
+
+		WriteBehindRedisCacheWriter statisticsWriter = writer.withStatisticsCollector(collector);
+
+		try {
+
+			verify(delegate).remove("cache", bytes("pending"));
+
+			statisticsWriter.remove("cache", bytes("key"));
+			statisticsWriter.flush();
+
+			verify(statisticsDelegate).remove("cache", bytes("key"));
+			verify(delegate, never()).remove("cache", bytes("key"));
+		} finally {
+			statisticsWriter.destroy();
+		}
+	}
+
+	@Test
+	public void failedBatchShouldRemainPending() {
+
+		writer = writer(10, Backpressure.BLOCK);
+
+		doThrow(new IllegalStateException("down")).doNothing().when(delegate).remove("cache", bytes("key"));
+
+		writer.remove("cache", bytes("key"));
+
+		assertThatIllegalStateException().isThrownBy(writer::flush);
+		assertThat(writer.getPendingCount()).isEqualTo(1);
+
+		writer.flush();
+
+		verify(delegate, times(2)).remove("cache", bytes("key"));
+		assertThat(writer.getPendingCount()).isZero();
+	}
+
+	@Test
+	public void failedBatchShouldNotOverwriteNewerOperation() {
+
+		writer = writer(10, Backpressure.BLOCK);
+
+		doAnswer(invocation -> {
+
+			writer.put("cache", bytes("key"), bytes("value"), null);
+			throw new IllegalStateException("down");
+		}).when(delegate).remove("cache", bytes("key"));
+
+		writer.remove("cache", bytes("key"));
+
+		assertThatIllegalStateException().isThrownBy(writer::flush);
+		assertThat(writer.get("cache", bytes("key"))).isEqualTo(bytes("value"));
+		assertThat(writer.getPendingCount()).isEqualTo(1);
+
+		writer.flush();
+
+		verify(delegate).put(eq("cache"), anyMap(), isNull());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldCoalesceWritesToSameKey() {
+
+		writer = writer(10, Backpressure.BLOCK);
+
+		writer.put("cache", bytes("key"), bytes("one"), null);
+		writer.put("cache", bytes("key"), bytes("two"), null);
+
+		assertThat(writer.getPendingCount()).isEqualTo(1);
+
+		writer.flush();
+
+		ArgumentCaptor<Map<byte[], byte[]>> captor = ArgumentCaptor.forClass(Map.class);
+		verify(delegate).put(eq("cache"), captor.capture(), isNull());
+
+		assertThat(captor.getValue()).hasSize(1);
+		assertThat(captor.getValue().values()).containsExactly(bytes("two"));
+		assertThat(writer.getPendingCount()).isZero();
+	}
+
+	@Test
+	public void readsShouldObservePendingOperations() {
+
+		writer = writer(10, Backpressure.BLOCK);
+
+		writer.put("cache", bytes("key"), bytes("value"), Duration.ofMinutes(1));
+
+		assertThat(writer.get("cache", bytes("key"))).isEqualTo(bytes("value"));
+		assertThat(writer.getWithTtl("cache", bytes("key")).getRemainingTtl()).isEqualTo(Duration.ofMinutes(1));
+
+		writer.remove("cache", bytes("key"));
+
+		assertThat(writer.get("cache", bytes("key"))).isNull();
+		verify(delegate, never()).get(anyString(), any(byte[].class));
+	}
+
+	@Test
+	public void putIfAbsentShouldApplyPendingOperationFirst() {
+
+		writer = writer(10, Backpressure.BLOCK);
+
+		writer.remove("cache", bytes("key"));
+		writer.putIfAbsent("cache", bytes("key"), bytes("value"), null);
+
+		verify(delegate).remove("cache", bytes("key"));
+		verify(delegate).putIfAbsent("cache", bytes("key"), bytes("value"), null);
+		assertThat(writer.getPendingCount()).isZero();
+	}
+
+	@Test
+	public void callerRunsShouldWriteSynchronouslyWhenFull() {
+
+		writer = writer(1, Backpressure.CALLER_RUNS);
+
+		writer.put("cache", bytes("one"), bytes("value"), null);
+		writer.put("cache", bytes("two"), bytes("value"), null);
+
+		verify(delegate).put("cache", bytes("two"), bytes("value"), null);
+		assertThat(writer.getPendingCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void dropShouldDiscardPutsButNotRemovalsWhenFull() {
+
+		writer = writer(1, Backpressure.DROP);
+
+		writer.put("cache", bytes("one"), bytes("value"), null);
+		writer.put("cache", bytes("two"), bytes("value"), null);
+		writer.remove("cache", bytes("three"));
+
+		verify(delegate, never()).put(anyString(), any(byte[].class), any(byte[].class), any());
+		verify(delegate).remove("cache", bytes("three"));
+		assertThat(writer.getPendingCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void destroyShouldFlushPendingOperations() {
+
+		writer = writer(10, Backpressure.BLOCK);
+
+		writer.remove("cache", bytes("key"));
+		writer.destroy();
+
+		verify(delegate).remove("cache", bytes("key"));
+		assertThat(writer.getPendingCount()).isZero();
+	}
+
+	@Test
+	public void destroyShouldCompleteBatchBeingWritten() throws Exception {
+
+		writer = WriteBehindRedisCacheWriter.builder(delegate).batchSize(1).flushInterval(Duration.ofHours(1)).build();
+
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch proceed = new CountDownLatch(1);
+		AtomicBoolean written = new AtomicBoolean();
+
+		doAnswer(invocation -> {
+
+			writing.countDown();
+			written.set(proceed.await(10, TimeUnit.SECONDS));
+			return null;
+		}).when(delegate).remove("cache", bytes("key"));
+
+		writer.remove("cache", bytes("key"));
+		assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+
+		CompletableFuture<Void> destroy = CompletableFuture.runAsync(writer::destroy);
+
+		Thread.sleep(50);
+		proceed.countDown();
+		destroy.get(10, TimeUnit.SECONDS);
+
+		assertThat(written).isTrue();
+		verify(delegate).remove("cache", bytes("key"));
+		assertThat(writer.getPendingCount()).isZero();
+	}
+
+	@Test
+	public void cleanShouldFlushPendingOperationsFirst() {
+
+		writer = writer(10, Backpressure.BLOCK);
+
+		writer.remove("cache", bytes("key"));
+		writer.clean("cache", bytes("cache::*"));
+
+		verify(delegate).remove("cache", bytes("key"));
+		verify(delegate).clean("cache", bytes("cache::*"));
+	}
+
+	@Test
+	public void readsShouldObserveOperationsWhileBeingWritten() throws Exception {
+
+		writer = writer(10, Backpressure.BLOCK);
+
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch proceed = new CountDownLatch(1);
+
+		doAnswer(invocation -> {
+
+			writing.countDown();
+			proceed.await(10, TimeUnit.SECONDS);
+			return null;
+		}).when(delegate).put(eq("cache"), anyMap(), isNull());
+
+		writer.put("cache", bytes("key"), bytes("value"), null);
+
+		CompletableFuture<Void> flush = CompletableFuture.runAsync(writer::flush);
+
+		try {
+
+			assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(writer.getPendingCount()).isZero();
+			assertThat(writer.get("cache", bytes("key"))).isEqualTo(bytes("value"));
+		} finally {
+			proceed.countDown();
+		}
+
+		flush.get(10, TimeUnit.SECONDS);
+
+		when(delegate.get("cache", bytes("key"))).thenReturn(bytes("stored"));
+		assertThat(writer.get("cache", bytes("key"))).isEqualTo(bytes("stored"));
+	}
+
+	@Test
+	public void callerRunsShouldNotBeOverwrittenByBatchInFlight() throws Exception {
+
+		writer = writer(1, Backpressure.CALLER_RUNS);
+
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch proceed = new CountDownLatch(1);
+		List<String> writes = new CopyOnWriteArrayList<>();
+
+		doAnswer(invocation -> {
+
+			writing.countDown();
+			proceed.await(10, TimeUnit.SECONDS);
+			writes.add("batch");
+			return null;
+		}).when(delegate).put(eq("cache"), anyMap(), isNull());
+
+		doAnswer(invocation -> {
+
+			writes.add("caller");
+			return null;
+		}).when(delegate).put("cache", bytes("key"), bytes("new"), null);
+
+		writer.put("cache", bytes("key"), bytes("old"), null);
+
+		CompletableFuture<Void> flush = CompletableFuture.runAsync(writer::flush);
+		assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+
+		writer.put("cache", bytes("other"), bytes("value"), null);
+		CompletableFuture<Void> callerRuns = CompletableFuture
+				.runAsync(() -> writer.put("cache", bytes("key"), bytes("new"), null));
+
+		Thread.sleep(50);
+		assertThat(writes).isEmpty();
+
+		proceed.countDown();
+
+		flush.get(10, TimeUnit.SECONDS);
+		callerRuns.get(10, TimeUnit.SECONDS);
+
+		assertThat(writes).startsWith("batch").endsWith("caller");
+	}
+
+	private WriteBehindRedisCacheWriter writer(int capacity, Backpressure backpressure) {
+
+		return WriteBehindRedisCacheWriter.builder(delegate).capacity(capacity).batchSize(100)
+				.flushInterval(Duration.ofHours(1)).backpressure(backpressure).build();
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+/**
+ * Glob-style pattern matching as used by {@code KEYS}, {@code SCAN MATCH} and {@code PSUBSCRIBE}. Supports {@code *},
+ * {@code ?}, character classes such as {@code [a-z]} and {@code [^a]}, and escaping with {@code \}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+final class GlobPattern {
+
+	private GlobPattern() {}
+
+	/**
+	 * @param pattern the glob pattern.
+	 * @param value the value to match.
+	 * @return {@literal true} if {@code value} matches {@code pattern}.
+	 */
+	static boolean matches(byte[] pattern, byte[] value) {
+		return matches(pattern, 0, value, 0);
+	}
+
+	private static boolean matches(byte[] pattern, int patternIndex, byte[] value, int valueIndex) {
+
+		int p = patternIndex;
+		int v = valueIndex;
+
+		while (p < pattern.length) {
+
+			switch (pattern[p]) {
+
+				case '*':
+
+					while (p + 1 < pattern.length && pattern[p + 1] == '*') {
+						p++;
+					}
+
+					if (p + 1 == pattern.length) {
+						return true;
+					}
+
+					for (int i = v; i <= value.length; i++) {
+						if (matches(pattern, p + 1, value, i)) {
+							return true;
+						}
+					}
+
+					return false;
+
+				case '?':
+
+					if (v == value.length) {
+						return false;
+					}
+
+					v++;
+					break;
+
+				case '[':
+
+					if (v == value.length) {
+						return false;
+					}
+
+					p++;
+
+					boolean negate = p < pattern.length && pattern[p] == '^';
+					boolean match = false;
+
+					if (negate) {
+						p++;
+					}
+
+					while (p < pattern.length && pattern[p] != ']') {
+
+						if (pattern[p] == '\\' && p + 1 < pattern.length) {
+
+							p++;
+							match |= pattern[p] == value[v];
+						} else if (p + 2 < pattern.length && pattern[p + 1] == '-' && pattern[p + 2] != ']') {
+
+							int start = pattern[p] & 0xFF;
+							int end = pattern[p + 2] & 0xFF;
+							int c = value[v] & 0xFF;
+
+							match |= c >= Math.min(start, end) && c <= Math.max(start, end);
+							p += 2;
+						} else {
+							match |= pattern[p] == value[v];
+						}
+
+						p++;
+					}
+
+					if (match == negate) {
+						return false;
+					}
+
+					v++;
+					break;
+
+				case '\\':
+
+					if (p + 1 < pattern.length) {
+						p++;
+					}
+
+					// fall through to match the escaped character literally
+
+				default:
+
+					if (v == value.length || pattern[p] != value[v]) {
+						return false;
+					}
+
+					v++;
+			}
+
+			p++;
+		}
+
+		return v == value.length;
+	}
+}
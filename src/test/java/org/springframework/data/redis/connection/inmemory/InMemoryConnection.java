@@ -0,0 +1,673 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.data.redis.connection.AbstractRedisConnection;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.connection.RedisHyperLogLogCommands;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisListCommands;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.RedisServerCommands;
+import org.springframework.data.redis.connection.RedisSetCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.RedisSubscribedConnectionException;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.Subscription;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link org.springframework.data.redis.connection.RedisConnection} operating on the in-heap databases of an
+ * {@link InMemoryConnectionFactory}. Each command runs atomically. Pipelined commands run immediately and their
+ * results are returned by {@link #closePipeline()}. Commands issued after {@link #multi()} are queued and run
+ * exclusively on {@link #exec()}, which is aborted if a {@link #watch(byte[]...) watched} key was modified.
+ * <p />
+ * Geo and scripting commands are not supported. Instances are not thread-safe.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+public class InMemoryConnection extends AbstractRedisConnection {
+
+	private final InMemoryServer server;
+
+	private final InMemoryKeyCommands keyCommands = new InMemoryKeyCommands(this);
+	private final InMemoryStringCommands stringCommands = new InMemoryStringCommands(this);
+	private final InMemoryListCommands listCommands = new InMemoryListCommands(this);
+	private final InMemorySetCommands setCommands = new InMemorySetCommands(this);
+	private final InMemoryZSetCommands zSetCommands = new InMemoryZSetCommands(this);
+	private final InMemoryHashCommands hashCommands = new InMemoryHashCommands(this);
+	private final InMemoryGeoCommands geoCommands = new InMemoryGeoCommands();
+	private final InMemoryHyperLogLogCommands hyperLogLogCommands = new InMemoryHyperLogLogCommands(this);
+	private final InMemoryScriptingCommands scriptingCommands = new InMemoryScriptingCommands();
+	private final InMemoryServerCommands serverCommands = new InMemoryServerCommands(this);
+
+	private int dbIndex;
+	private boolean closed;
+	private @Nullable String clientName;
+
+	private @Nullable List<Object> pipelineResults;
+	private @Nullable DataAccessException pipelineFailure;
+	private @Nullable List<QueuedCommand> transaction;
+	private final Map<WatchedKey, Long> watchedKeys = new LinkedHashMap<>();
+	private volatile @Nullable InMemorySubscription subscription;
+
+	InMemoryConnection(InMemoryServer server, int dbIndex) {
+
+		this.server = server;
+		this.dbIndex = dbIndex;
+
+		server.getDatabase(dbIndex);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnection#keyCommands()
+	 */
+	@Override
+	public RedisKeyCommands keyCommands() {
+		return keyCommands;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnection#stringCommands()
+	 */
+	@Override
+	public RedisStringCommands stringCommands() {
+		return stringCommands;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnection#listCommands()
+	 */
+	@Override
+	public RedisListCommands listCommands() {
+		return listCommands;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnection#setCommands()
+	 */
+	@Override
+	public RedisSetCommands setCommands() {
+		return setCommands;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnection#zSetCommands()
+	 */
+	@Override
+	public RedisZSetCommands zSetCommands() {
+		return zSetCommands;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnection#hashCommands()
+	 */
+	@Override
+	public RedisHashCommands hashCommands() {
+		return hashCommands;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnection#geoCommands()
+	 */
+	@Override
+	public RedisGeoCommands geoCommands() {
+		return geoCommands;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnection#hyperLogLogCommands()
+	 */
+	@Override
+	public RedisHyperLogLogCommands hyperLogLogCommands() {
+		return hyperLogLogCommands;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnection#scriptingCommands()
+	 */
+	@Override
+	public RedisScriptingCommands scriptingCommands() {
+		return scriptingCommands;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnection#serverCommands()
+	 */
+	@Override
+	public RedisServerCommands serverCommands() {
+		return serverCommands;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisCommands#execute(java.lang.String, byte[][])
+	 */
+	@Override
+	public Object execute(String command, byte[]... args) {
+		throw new InvalidDataAccessApiUsageException(
+				String.format("Executing command %s is not supported by the in-memory connection", command));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.AbstractRedisConnection#close()
+	 */
+	@Override
+	public void close() throws DataAccessException {
+
+		super.close();
+
+		InMemorySubscription subscription = this.subscription;
+
+		if (subscription != null) {
+			subscription.close();
+			this.subscription = null;
+		}
+
+		closed = true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnection#isClosed()
+	 */
+	@Override
+	public boolean isClosed() {
+		return closed;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnection#getNativeConnection()
+	 */
+	@Override
+	public Object getNativeConnection() {
+		return server;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnection#isQueueing()
+	 */
+	@Override
+	public boolean isQueueing() {
+		return transaction != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnection#isPipelined()
+	 */
+	@Override
+	public boolean isPipelined() {
+		return pipelineResults != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnection#openPipeline()
+	 */
+	@Override
+	public void openPipeline() {
+
+		if (pipelineResults == null) {
+			pipelineResults = new ArrayList<>();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnection#closePipeline()
+	 */
+	@Override
+	public List<Object> closePipeline() throws RedisPipelineException {
+
+		List<Object> results = pipelineResults;
+		DataAccessException failure = pipelineFailure;
+
+		pipelineResults = null;
+		pipelineFailure = null;
+
+		if (results == null) {
+			return Collections.emptyList();
+		}
+
+		if (failure != null) {
+			throw new RedisPipelineException(failure, results);
+		}
+
+		return results;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnectionCommands#select(int)
+	 */
+	@Override
+	public void select(int dbIndex) {
+
+		server.getDatabase(dbIndex);
+
+		invokeStatus(() -> this.dbIndex = dbIndex);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnectionCommands#echo(byte[])
+	 */
+	@Override
+	public byte[] echo(byte[] message) {
+
+		Assert.notNull(message, "Message must not be null!");
+
+		return invoke(message::clone);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnectionCommands#ping()
+	 */
+	@Override
+	public String ping() {
+		return invoke(() -> "PONG");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisTxCommands#multi()
+	 */
+	@Override
+	public void multi() {
+
+		assertOpen();
+
+		if (transaction == null) {
+			transaction = new ArrayList<>();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisTxCommands#exec()
+	 */
+	@Nullable
+	@Override
+	public List<Object> exec() {
+
+		if (transaction == null) {
+			throw new InvalidDataAccessApiUsageException("No ongoing transaction. Did you forget to call multi?");
+		}
+
+		List<QueuedCommand> commands = transaction;
+		Map<WatchedKey, Long> watched = new LinkedHashMap<>(watchedKeys);
+
+		transaction = null;
+		watchedKeys.clear();
+
+		List<Object> results = new ArrayList<>(commands.size());
+		boolean[] aborted = new boolean[1];
+
+		database().exclusive(() -> {
+
+			for (Map.Entry<WatchedKey, Long> entry : watched.entrySet()) {
+				if (entry.getKey().getVersion() != entry.getValue()) {
+					aborted[0] = true;
+					return;
+				}
+			}
+
+			for (QueuedCommand command : commands) {
+
+				try {
+
+					Object result = command.command.get();
+
+					if (!command.status) {
+						results.add(result);
+					}
+				} catch (DataAccessException e) {
+					results.add(e);
+				}
+			}
+		});
+
+		List<Object> execResult = aborted[0] ? null : results;
+
+		if (isPipelined()) {
+			addPipelineResult(execResult);
+			return null;
+		}
+
+		if (execResult != null) {
+			for (Object result : execResult) {
+				if (result instanceof DataAccessException) {
+					throw (DataAccessException) result;
+				}
+			}
+		}
+
+		return execResult;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisTxCommands#discard()
+	 */
+	@Override
+	public void discard() {
+
+		if (transaction == null) {
+			throw new InvalidDataAccessApiUsageException("ERR DISCARD without MULTI");
+		}
+
+		transaction = null;
+		watchedKeys.clear();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisTxCommands#watch(byte[][])
+	 */
+	@Override
+	public void watch(byte[]... keys) {
+
+		Assert.notNull(keys, "Keys must not be null!");
+
+		if (isQueueing()) {
+			throw new InvalidDataAccessApiUsageException("ERR WATCH inside MULTI is not allowed");
+		}
+
+		assertOpen();
+
+		InMemoryDatabase database = database();
+
+		for (byte[] key : keys) {
+
+			WatchedKey watchedKey = new WatchedKey(database, key.clone());
+			watchedKeys.putIfAbsent(watchedKey, watchedKey.getVersion());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisTxCommands#unwatch()
+	 */
+	@Override
+	public void unwatch() {
+		watchedKeys.clear();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisPubSubCommands#isSubscribed()
+	 */
+	@Override
+	public boolean isSubscribed() {
+
+		InMemorySubscription subscription = this.subscription;
+		return subscription != null && subscription.isAlive();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisPubSubCommands#getSubscription()
+	 */
+	@Nullable
+	@Override
+	public Subscription getSubscription() {
+		return subscription;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisPubSubCommands#publish(byte[], byte[])
+	 */
+	@Override
+	public Long publish(byte[] channel, byte[] message) {
+
+		Assert.notNull(channel, "Channel must not be null!");
+		Assert.notNull(message, "Message must not be null!");
+
+		return invoke(() -> server.getPubSub().publish(channel, message));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisPubSubCommands#subscribe(org.springframework.data.redis.connection.MessageListener, byte[][])
+	 */
+	@Override
+	public void subscribe(MessageListener listener, byte[]... channels) {
+
+		Assert.notNull(listener, "MessageListener must not be null!");
+		Assert.notEmpty(channels, "Channels must not be empty!");
+
+		createSubscription(listener).subscribe(channels);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisPubSubCommands#pSubscribe(org.springframework.data.redis.connection.MessageListener, byte[][])
+	 */
+	@Override
+	public void pSubscribe(MessageListener listener, byte[]... patterns) {
+
+		Assert.notNull(listener, "MessageListener must not be null!");
+		Assert.notEmpty(patterns, "Patterns must not be empty!");
+
+		createSubscription(listener).pSubscribe(patterns);
+	}
+
+	private InMemorySubscription createSubscription(MessageListener listener) {
+
+		assertOpen();
+
+		if (isSubscribed()) {
+			throw new RedisSubscribedConnectionException(
+					"Connection already subscribed; use the connection Subscription to cancel or add new channels");
+		}
+
+		if (isQueueing() || isPipelined()) {
+			throw new UnsupportedOperationException("Subscribing is not supported in pipeline / transaction mode.");
+		}
+
+		InMemorySubscription subscription = new InMemorySubscription(listener, server.getPubSub());
+		this.subscription = subscription;
+
+		return subscription;
+	}
+
+	/**
+	 * @return the shared server state.
+	 */
+	InMemoryServer getServer() {
+		return server;
+	}
+
+	/**
+	 * @return the index of the currently selected database.
+	 */
+	int getDbIndex() {
+		return dbIndex;
+	}
+
+	/**
+	 * @return the currently selected database.
+	 */
+	InMemoryDatabase database() {
+		return server.getDatabase(dbIndex);
+	}
+
+	@Nullable
+	String getClientName() {
+		return clientName;
+	}
+
+	void setClientName(@Nullable String clientName) {
+		this.clientName = clientName;
+	}
+
+	/**
+	 * Run a command returning a value. Returns {@literal null} if the connection is pipelined or queueing and the result
+	 * is reported through {@link #closePipeline()} or {@link #exec()}.
+	 *
+	 * @param command the command to run.
+	 * @return the command result.
+	 */
+	@Nullable
+	<T> T invoke(Supplier<T> command) {
+		return run(command, false);
+	}
+
+	/**
+	 * Run a command without result. Status replies are not reported by {@link #closePipeline()} and {@link #exec()}.
+	 *
+	 * @param command the command to run.
+	 */
+	void invokeStatus(Runnable command) {
+
+		run(() -> {
+			command.run();
+			return null;
+		}, true);
+	}
+
+	@Nullable
+	private <T> T run(Supplier<T> command, boolean status) {
+
+		assertOpen();
+
+		if (transaction != null) {
+			transaction.add(new QueuedCommand(command, status));
+			return null;
+		}
+
+		if (pipelineResults != null) {
+
+			try {
+
+				T result = command.get();
+
+				if (!status) {
+					addPipelineResult(result);
+				}
+			} catch (DataAccessException e) {
+
+				if (pipelineFailure == null) {
+					pipelineFailure = e;
+				}
+
+				addPipelineResult(e);
+			}
+
+			return null;
+		}
+
+		return command.get();
+	}
+
+	private void addPipelineResult(@Nullable Object result) {
+
+		if (pipelineResults != null) {
+			pipelineResults.add(result);
+		}
+	}
+
+	private void assertOpen() {
+
+		if (closed) {
+			throw new InvalidDataAccessResourceUsageException("Connection is closed");
+		}
+	}
+
+	private static class QueuedCommand {
+
+		final Supplier<?> command;
+		final boolean status;
+
+		QueuedCommand(Supplier<?> command, boolean status) {
+
+			this.command = command;
+			this.status = status;
+		}
+	}
+
+	private static class WatchedKey {
+
+		final InMemoryDatabase database;
+		final ByteArrayWrapper key;
+
+		WatchedKey(InMemoryDatabase database, byte[] key) {
+
+			this.database = database;
+			this.key = new ByteArrayWrapper(key);
+		}
+
+		long getVersion() {
+			return database.version(key.getArray());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (!(obj instanceof WatchedKey)) {
+				return false;
+			}
+
+			WatchedKey other = (WatchedKey) obj;
+			return database == other.database && key.equals(other.key);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(database) + key.hashCode();
+		}
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import java.util.function.LongSupplier;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.ReactiveRedisClusterConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConnection;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisConnectionFactory} and {@link ReactiveRedisConnectionFactory} keeping all data in heap memory of the
+ * current JVM. Intended for tests and benchmarks that should run without a Redis server. All connections obtained from
+ * the same factory share the same databases and pub/sub channels.
+ * <p />
+ * The in-memory connection supports strings, keys, lists, sets, sorted sets, hashes, HyperLogLog (with exact counts),
+ * pub/sub, pipelining and {@code MULTI}/{@code EXEC}/{@code WATCH}. Expired keys are removed lazily. Geo commands,
+ * scripting, {@code BITFIELD}, {@code DUMP}/{@code RESTORE} and {@code SORT} with {@code BY}/{@code GET} patterns are
+ * not supported. Cluster and Sentinel connections are not available.
+ *
+ * <pre class="code">
+ * InMemoryConnectionFactory factory = new InMemoryConnectionFactory();
+ *
+ * RedisTemplate&lt;String, String&gt; template = new RedisTemplate&lt;&gt;();
+ * template.setConnectionFactory(factory);
+ * template.afterPropertiesSet();
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+public class InMemoryConnectionFactory implements RedisConnectionFactory, ReactiveRedisConnectionFactory {
+
+	private static final int DEFAULT_DATABASES = 16;
+
+	private final InMemoryServer server;
+	private int database;
+
+	/**
+	 * Create a new {@link InMemoryConnectionFactory} providing {@literal 16} databases.
+	 */
+	public InMemoryConnectionFactory() {
+		this(DEFAULT_DATABASES);
+	}
+
+	/**
+	 * Create a new {@link InMemoryConnectionFactory} providing {@code databases} databases.
+	 *
+	 * @param databases number of databases, must be greater than zero.
+	 */
+	public InMemoryConnectionFactory(int databases) {
+		this(databases, System::currentTimeMillis);
+	}
+
+	/**
+	 * Create a new {@link InMemoryConnectionFactory} using the given {@code clock}, e.g. to control expiry in tests.
+	 *
+	 * @param databases number of databases, must be greater than zero.
+	 * @param clock supplier of the current time in milliseconds.
+	 */
+	InMemoryConnectionFactory(int databases, LongSupplier clock) {
+
+		Assert.isTrue(databases > 0, "Number of databases must be greater than zero!");
+		Assert.notNull(clock, "Clock must not be null!");
+
+		this.server = new InMemoryServer(databases, clock);
+	}
+
+	/**
+	 * @return the index of the database selected by new connections.
+	 */
+	public int getDatabase() {
+		return database;
+	}
+
+	/**
+	 * Set the index of the database selected by new connections. Defaults to {@literal 0}.
+	 *
+	 * @param index the database index.
+	 */
+	public void setDatabase(int index) {
+
+		Assert.isTrue(index >= 0, "invalid DB index (a positive index required)");
+		Assert.isTrue(index < server.getDatabaseCount(),
+				() -> String.format("DB index %d exceeds the number of databases (%d)", index, server.getDatabaseCount()));
+
+		this.database = index;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnectionFactory#getConnection()
+	 */
+	@Override
+	public InMemoryConnection getConnection() {
+		return new InMemoryConnection(server, database);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnectionFactory#getReactiveConnection()
+	 */
+	@Override
+	public InMemoryReactiveConnection getReactiveConnection() {
+		return new InMemoryReactiveConnection(server, database);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnectionFactory#getClusterConnection()
+	 */
+	@Override
+	public RedisClusterConnection getClusterConnection() {
+		throw new InvalidDataAccessApiUsageException("Cluster is not supported by the in-memory connection");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnectionFactory#getReactiveClusterConnection()
+	 */
+	@Override
+	public ReactiveRedisClusterConnection getReactiveClusterConnection() {
+		throw new InvalidDataAccessApiUsageException("Cluster is not supported by the in-memory connection");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnectionFactory#getSentinelConnection()
+	 */
+	@Override
+	public RedisSentinelConnection getSentinelConnection() {
+		throw new InvalidDataAccessApiUsageException("Sentinel is not supported by the in-memory connection");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisConnectionFactory#getConvertPipelineAndTxResults()
+	 */
+	@Override
+	public boolean getConvertPipelineAndTxResults() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.dao.support.PersistenceExceptionTranslator#translateExceptionIfPossible(java.lang.RuntimeException)
+	 */
+	@Nullable
+	@Override
+	public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
+		return ex instanceof DataAccessException ? (DataAccessException) ex : null;
+	}
+}
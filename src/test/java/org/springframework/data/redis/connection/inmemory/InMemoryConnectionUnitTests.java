@@ -0,0 +1,353 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisZSetCommands.Range;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+
+/**
+ * Unit tests for {@link InMemoryConnection}.
+ *
+ * @author Mark Paluch
+ */
+public class InMemoryConnectionUnitTests {
+
+	AtomicLong clock = new AtomicLong(1_000_000);
+	InMemoryConnectionFactory factory = new InMemoryConnectionFactory(16, clock::get);
+	InMemoryConnection connection;
+
+	@Before
+	public void before() {
+		connection = factory.getConnection();
+	}
+
+	@After
+	public void after() {
+		connection.close();
+	}
+
+	@Test
+	public void shouldSetAndGetStrings() {
+
+		assertThat(connection.set(bytes("key"), bytes("value"))).isTrue();
+		assertThat(connection.get(bytes("key"))).isEqualTo(bytes("value"));
+		assertThat(connection.append(bytes("key"), bytes("-1"))).isEqualTo(7L);
+		assertThat(connection.getRange(bytes("key"), 0, 4)).isEqualTo(bytes("value"));
+		assertThat(connection.get(bytes("absent"))).isNull();
+		assertThat(connection.type(bytes("key"))).isEqualTo(DataType.STRING);
+	}
+
+	@Test
+	public void shouldIncrementNumbers() {
+
+		assertThat(connection.incr(bytes("counter"))).isEqualTo(1L);
+		assertThat(connection.incrBy(bytes("counter"), 41)).isEqualTo(42L);
+		assertThat(connection.incrBy(bytes("counter"), 0.5)).isEqualTo(42.5);
+		assertThat(connection.get(bytes("counter"))).isEqualTo(bytes("42.5"));
+	}
+
+	@Test
+	public void shouldRejectIncrementOfNonNumericValue() {
+
+		connection.set(bytes("key"), bytes("value"));
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> connection.incr(bytes("key")));
+	}
+
+	@Test
+	public void shouldRejectWrongType() {
+
+		connection.lPush(bytes("list"), bytes("value"));
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> connection.get(bytes("list"))).withMessageStartingWith("WRONGTYPE");
+	}
+
+	@Test
+	public void shouldApplyHashCommands() {
+
+		connection.hSet(bytes("hash"), bytes("f1"), bytes("v1"));
+		connection.hSet(bytes("hash"), bytes("f2"), bytes("v2"));
+
+		assertThat(connection.hSetNX(bytes("hash"), bytes("f1"), bytes("other"))).isFalse();
+		assertThat(connection.hGet(bytes("hash"), bytes("f1"))).isEqualTo(bytes("v1"));
+		assertThat(connection.hLen(bytes("hash"))).isEqualTo(2L);
+		assertThat(connection.hDel(bytes("hash"), bytes("f1"), bytes("f2"))).isEqualTo(2L);
+		assertThat(connection.exists(bytes("hash"))).isFalse();
+	}
+
+	@Test
+	public void shouldApplyListCommands() {
+
+		connection.rPush(bytes("list"), bytes("a"), bytes("b"), bytes("c"));
+
+		assertThat(connection.lRange(bytes("list"), 0, -1)).containsExactly(bytes("a"), bytes("b"), bytes("c"));
+		assertThat(connection.lPop(bytes("list"))).isEqualTo(bytes("a"));
+		assertThat(connection.rPopLPush(bytes("list"), bytes("other"))).isEqualTo(bytes("c"));
+		assertThat(connection.lLen(bytes("list"))).isEqualTo(1L);
+		assertThat(connection.lRange(bytes("other"), 0, -1)).containsExactly(bytes("c"));
+	}
+
+	@Test
+	public void blockingPopShouldTimeOut() {
+		assertThat(connection.bLPop(1, bytes("empty"))).isNull();
+	}
+
+	@Test
+	public void shouldApplySetCommands() {
+
+		connection.sAdd(bytes("s1"), bytes("a"), bytes("b"));
+		connection.sAdd(bytes("s2"), bytes("b"), bytes("c"));
+
+		assertThat(connection.sInter(bytes("s1"), bytes("s2"))).containsExactly(bytes("b"));
+		assertThat(connection.sUnion(bytes("s1"), bytes("s2"))).hasSize(3);
+		assertThat(connection.sDiffStore(bytes("dest"), bytes("s1"), bytes("s2"))).isEqualTo(1L);
+		assertThat(connection.sIsMember(bytes("dest"), bytes("a"))).isTrue();
+	}
+
+	@Test
+	public void shouldApplySortedSetCommands() {
+
+		connection.zAdd(bytes("zset"), 2, bytes("b"));
+		connection.zAdd(bytes("zset"), 1, bytes("a"));
+		connection.zAdd(bytes("zset"), 3, bytes("c"));
+
+		assertThat(connection.zRange(bytes("zset"), 0, -1)).containsExactly(bytes("a"), bytes("b"), bytes("c"));
+		assertThat(connection.zRevRange(bytes("zset"), 0, 0)).containsExactly(bytes("c"));
+		assertThat(connection.zRangeByScore(bytes("zset"), Range.range().gt(1).lte(3))).containsExactly(bytes("b"),
+				bytes("c"));
+		assertThat(connection.zRank(bytes("zset"), bytes("c"))).isEqualTo(2L);
+		assertThat(connection.zIncrBy(bytes("zset"), 10, bytes("a"))).isEqualTo(11D);
+		assertThat(connection.zRange(bytes("zset"), -1, -1)).containsExactly(bytes("a"));
+	}
+
+	@Test
+	public void shouldExpireKeys() {
+
+		connection.set(bytes("key"), bytes("value"));
+		connection.expire(bytes("key"), 10);
+
+		assertThat(connection.ttl(bytes("key"))).isEqualTo(10L);
+		assertThat(connection.pTtl(bytes("key"))).isEqualTo(10_000L);
+
+		clock.addAndGet(TimeUnit.SECONDS.toMillis(10));
+
+		assertThat(connection.get(bytes("key"))).isNull();
+		assertThat(connection.ttl(bytes("key"))).isEqualTo(-2L);
+		assertThat(connection.dbSize()).isZero();
+	}
+
+	@Test
+	public void setShouldRemoveExpiry() {
+
+		connection.setEx(bytes("key"), 10, bytes("value"));
+		connection.set(bytes("key"), bytes("other"));
+
+		assertThat(connection.ttl(bytes("key"))).isEqualTo(-1L);
+	}
+
+	@Test
+	public void shouldScanKeys() {
+
+		for (int i = 0; i < 100; i++) {
+			connection.set(bytes("key:" + i), bytes("value"));
+		}
+		connection.set(bytes("other"), bytes("value"));
+
+		List<byte[]> keys = new ArrayList<>();
+
+		try (Cursor<byte[]> cursor = connection.scan(ScanOptions.scanOptions().match("key:*").count(10).build())) {
+			cursor.forEachRemaining(keys::add);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+
+		assertThat(keys).hasSize(100);
+		assertThat(connection.keys(bytes("key:1?"))).hasSize(10);
+	}
+
+	@Test
+	public void shouldScanHashReturningEachFieldOnceWithCurrentValue() {
+
+		for (int i = 0; i < 50; i++) {
+			connection.hSet(bytes("hash"), bytes("field:" + i), bytes("value"));
+		}
+
+		Set<String> fields = new HashSet<>();
+
+		try (Cursor<Entry<byte[], byte[]>> cursor = connection.hScan(bytes("hash"),
+				ScanOptions.scanOptions().count(1).build())) {
+
+			fields.add(new String(cursor.next().getKey(), StandardCharsets.UTF_8));
+
+			for (int i = 0; i < 50; i++) {
+				connection.hSet(bytes("hash"), bytes("field:" + i), bytes("updated"));
+			}
+
+			while (cursor.hasNext()) {
+
+				Entry<byte[], byte[]> entry = cursor.next();
+
+				assertThat(fields.add(new String(entry.getKey(), StandardCharsets.UTF_8))).isTrue();
+				assertThat(entry.getValue()).isEqualTo(bytes("updated"));
+			}
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+
+		assertThat(fields).hasSize(50);
+	}
+
+	@Test
+	public void shouldSelectDatabase() {
+
+		connection.set(bytes("key"), bytes("value"));
+		connection.select(1);
+
+		assertThat(connection.exists(bytes("key"))).isFalse();
+
+		connection.select(0);
+
+		assertThat(connection.move(bytes("key"), 1)).isTrue();
+		assertThat(connection.exists(bytes("key"))).isFalse();
+	}
+
+	@Test
+	public void shouldShareDataBetweenConnections() {
+
+		connection.set(bytes("key"), bytes("value"));
+
+		InMemoryConnection other = factory.getConnection();
+
+		assertThat(other.get(bytes("key"))).isEqualTo(bytes("value"));
+
+		other.close();
+	}
+
+	@Test
+	public void pipelineShouldReportResults() {
+
+		connection.openPipeline();
+
+		assertThat(connection.set(bytes("key"), bytes("value"))).isNull();
+		connection.get(bytes("key"));
+		connection.setRange(bytes("key"), bytes("V"), 0);
+		connection.strLen(bytes("key"));
+
+		assertThat(connection.closePipeline()).containsExactly(true, bytes("value"), 5L);
+	}
+
+	@Test
+	public void transactionShouldApplyQueuedCommands() {
+
+		connection.multi();
+		connection.set(bytes("key"), bytes("value"));
+		connection.incr(bytes("counter"));
+
+		assertThat(connection.get(bytes("key"))).isNull();
+		assertThat(connection.exec()).containsExactly(true, 1L);
+		assertThat(connection.get(bytes("key"))).isEqualTo(bytes("value"));
+	}
+
+	@Test
+	public void transactionShouldAbortIfWatchedKeyWasModified() {
+
+		InMemoryConnection other = factory.getConnection();
+
+		connection.watch(bytes("key"));
+		connection.multi();
+		connection.set(bytes("key"), bytes("value"));
+
+		other.set(bytes("key"), bytes("other"));
+
+		assertThat(connection.exec()).isNull();
+		assertThat(connection.get(bytes("key"))).isEqualTo(bytes("other"));
+
+		other.close();
+	}
+
+	@Test
+	public void shouldDeliverMessages() {
+
+		List<Message> messages = new ArrayList<>();
+		List<byte[]> patterns = new ArrayList<>();
+
+		InMemoryConnection subscriber = factory.getConnection();
+		subscriber.pSubscribe((message, pattern) -> {
+			messages.add(message);
+			patterns.add(pattern);
+		}, bytes("news.*"));
+
+		assertThat(connection.publish(bytes("news.today"), bytes("hello"))).isEqualTo(1L);
+		assertThat(connection.publish(bytes("weather"), bytes("sunny"))).isZero();
+
+		assertThat(messages).hasSize(1);
+		assertThat(messages.get(0).getChannel()).isEqualTo(bytes("news.today"));
+		assertThat(messages.get(0).getBody()).isEqualTo(bytes("hello"));
+		assertThat(patterns).containsExactly(bytes("news.*"));
+
+		subscriber.close();
+
+		assertThat(connection.publish(bytes("news.today"), bytes("hello"))).isZero();
+	}
+
+	@Test
+	public void shouldRejectUnsupportedCommands() {
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> connection.eval(bytes("return 1"), ReturnType.INTEGER, 0));
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class).isThrownBy(factory::getClusterConnection);
+	}
+
+	@Test
+	public void flushAllShouldClearAllDatabases() {
+
+		connection.set(bytes("key"), bytes("value"));
+		connection.select(2);
+		connection.set(bytes("key"), bytes("value"));
+
+		connection.flushAll();
+
+		assertThat(connection.dbSize()).isZero();
+		connection.select(0);
+		assertThat(connection.dbSize()).isZero();
+		assertThat(connection.info("keyspace")).isEmpty();
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,472 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.lang.Nullable;
+
+/**
+ * A single logical Redis database held in a {@link ConcurrentHashMap}. Commands touching a single key run atomically
+ * while holding the lock of the key's hash bin, so commands on different keys proceed concurrently. Commands spanning
+ * multiple keys, transactions and {@code FLUSHDB} run exclusively. Expired keys are removed lazily on access and when
+ * iterating the keyspace.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+class InMemoryDatabase {
+
+	private final ConcurrentHashMap<ByteArrayWrapper, StoredValue> keyspace = new ConcurrentHashMap<>();
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final AtomicLong versions;
+	private final LongSupplier clock;
+
+	/**
+	 * @param versions shared version counter used to detect modifications of watched keys.
+	 * @param clock supplier of the current time in milliseconds.
+	 */
+	InMemoryDatabase(AtomicLong versions, LongSupplier clock) {
+
+		this.versions = versions;
+		this.clock = clock;
+	}
+
+	/**
+	 * Apply {@code function} to a single key. The function runs atomically with respect to all other commands on the same
+	 * key and must not access other keys.
+	 *
+	 * @param key the key.
+	 * @param function the function to apply.
+	 * @return the function result.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	<T> T withKey(byte[] key, Function<KeyAccess, T> function) {
+
+		KeyAccess access = new KeyAccess(new ByteArrayWrapper(key.clone()), clock.getAsLong());
+
+		lock.readLock().lock();
+
+		try {
+			keyspace.compute(access.key, (k, current) -> {
+
+				access.load(current);
+				access.result = function.apply(access);
+
+				return access.commit();
+			});
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		return (T) access.result;
+	}
+
+	/**
+	 * Apply {@code function} exclusively to the whole database. Used for commands spanning multiple keys.
+	 *
+	 * @param function the function to apply.
+	 * @return the function result.
+	 */
+	@Nullable
+	<T> T withKeys(Function<Keyspace, T> function) {
+
+		lock.writeLock().lock();
+
+		try {
+
+			Keyspace view = new Keyspace(clock.getAsLong());
+			T result = function.apply(view);
+			view.commit();
+
+			return result;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Run {@code runnable} exclusively, e.g. to execute a transaction.
+	 *
+	 * @param runnable the runnable to run.
+	 */
+	void exclusive(Runnable runnable) {
+
+		lock.writeLock().lock();
+
+		try {
+			runnable.run();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * @return a snapshot of all keys that are not expired.
+	 */
+	List<ByteArrayWrapper> keys() {
+
+		long now = clock.getAsLong();
+		List<ByteArrayWrapper> keys = new ArrayList<>(keyspace.size());
+
+		for (Map.Entry<ByteArrayWrapper, StoredValue> entry : keyspace.entrySet()) {
+
+			if (entry.getValue().isExpired(now)) {
+				keyspace.computeIfPresent(entry.getKey(), (k, v) -> v.isExpired(now) ? null : v);
+			} else {
+				keys.add(entry.getKey());
+			}
+		}
+
+		return keys;
+	}
+
+	/**
+	 * @return the number of keys that are not expired.
+	 */
+	long size() {
+		return keys().size();
+	}
+
+	/**
+	 * Remove all keys.
+	 */
+	void clear() {
+		exclusive(keyspace::clear);
+	}
+
+	/**
+	 * @param key the key.
+	 * @return the version of the value stored at {@code key} or {@literal 0} if the key does not exist.
+	 */
+	long version(byte[] key) {
+
+		Long version = withKey(key, access -> access.value != null ? access.value.version : 0L);
+		return version != null ? version : 0;
+	}
+
+	/**
+	 * Value stored at a key along with its expiry and version.
+	 */
+	static class StoredValue {
+
+		Object data;
+		long expiresAt;
+		long version;
+
+		StoredValue(Object data) {
+			this.data = data;
+		}
+
+		boolean isExpired(long now) {
+			return expiresAt != 0 && expiresAt <= now;
+		}
+
+		boolean isEmpty() {
+
+			if (data instanceof Collection) {
+				return ((Collection<?>) data).isEmpty();
+			}
+
+			if (data instanceof Map) {
+				return ((Map<?, ?>) data).isEmpty();
+			}
+
+			if (data instanceof SortedSetValue) {
+				return ((SortedSetValue) data).isEmpty();
+			}
+
+			return false;
+		}
+
+		DataType getType() {
+
+			if (data instanceof byte[] || data instanceof HyperLogLogValue) {
+				return DataType.STRING;
+			}
+
+			if (data instanceof LinkedList) {
+				return DataType.LIST;
+			}
+
+			if (data instanceof Map) {
+				return DataType.HASH;
+			}
+
+			if (data instanceof Set) {
+				return DataType.SET;
+			}
+
+			return DataType.ZSET;
+		}
+	}
+
+	/**
+	 * Elements added to a HyperLogLog. Counts are exact.
+	 */
+	static class HyperLogLogValue {
+
+		final Set<ByteArrayWrapper> elements = new HashSet<>();
+	}
+
+	/**
+	 * Access to the value stored at a single key within a command. Mutations of aggregate values happen in place and
+	 * must be followed by {@link #modified()}. Empty aggregates are removed when the command completes.
+	 */
+	class KeyAccess {
+
+		final ByteArrayWrapper key;
+		final long now;
+
+		@Nullable StoredValue value;
+		@Nullable Object result;
+
+		KeyAccess(ByteArrayWrapper key, long now) {
+
+			this.key = key;
+			this.now = now;
+		}
+
+		void load(@Nullable StoredValue current) {
+			this.value = current != null && current.isExpired(now) ? null : current;
+		}
+
+		@Nullable
+		StoredValue commit() {
+			return value != null && value.isEmpty() ? null : value;
+		}
+
+		boolean exists() {
+			return value != null;
+		}
+
+		DataType getType() {
+			return value != null ? value.getType() : DataType.NONE;
+		}
+
+		@Nullable
+		byte[] getString() {
+			return get(byte[].class);
+		}
+
+		@Nullable
+		@SuppressWarnings("unchecked")
+		LinkedList<byte[]> getList() {
+			return get(LinkedList.class);
+		}
+
+		@SuppressWarnings("unchecked")
+		LinkedList<byte[]> getOrCreateList() {
+
+			LinkedList<byte[]> list = getList();
+			return list != null ? list : create(new LinkedList<>());
+		}
+
+		@Nullable
+		@SuppressWarnings("unchecked")
+		Map<ByteArrayWrapper, byte[]> getHash() {
+			return get(HashMap.class);
+		}
+
+		Map<ByteArrayWrapper, byte[]> getOrCreateHash() {
+
+			Map<ByteArrayWrapper, byte[]> hash = getHash();
+			return hash != null ? hash : create(new HashMap<>());
+		}
+
+		@Nullable
+		@SuppressWarnings("unchecked")
+		Set<ByteArrayWrapper> getSet() {
+			return get(HashSet.class);
+		}
+
+		Set<ByteArrayWrapper> getOrCreateSet() {
+
+			Set<ByteArrayWrapper> set = getSet();
+			return set != null ? set : create(new HashSet<>());
+		}
+
+		@Nullable
+		SortedSetValue getSortedSet() {
+			return get(SortedSetValue.class);
+		}
+
+		SortedSetValue getOrCreateSortedSet() {
+
+			SortedSetValue sortedSet = getSortedSet();
+			return sortedSet != null ? sortedSet : create(new SortedSetValue());
+		}
+
+		@Nullable
+		HyperLogLogValue getHyperLogLog() {
+			return get(HyperLogLogValue.class);
+		}
+
+		HyperLogLogValue getOrCreateHyperLogLog() {
+
+			HyperLogLogValue hyperLogLog = getHyperLogLog();
+			return hyperLogLog != null ? hyperLogLog : create(new HyperLogLogValue());
+		}
+
+		/**
+		 * Replace the value and remove a previously set expiry.
+		 *
+		 * @param data the new value.
+		 */
+		void set(Object data) {
+
+			value = new StoredValue(data);
+			modified();
+		}
+
+		/**
+		 * Replace the value and retain a previously set expiry.
+		 *
+		 * @param data the new value.
+		 */
+		void update(Object data) {
+
+			if (value == null) {
+				set(data);
+				return;
+			}
+
+			value.data = data;
+			modified();
+		}
+
+		/**
+		 * Replace the stored value including its expiry, e.g. when renaming a key.
+		 *
+		 * @param other the value to store, can be {@literal null} to remove the key.
+		 */
+		void replace(@Nullable StoredValue other) {
+
+			value = other;
+			modified();
+		}
+
+		/**
+		 * @return {@literal true} if the key existed.
+		 */
+		boolean delete() {
+
+			boolean existed = value != null;
+			value = null;
+			return existed;
+		}
+
+		long getExpiresAt() {
+			return value != null ? value.expiresAt : 0;
+		}
+
+		void setExpiresAt(long expiresAt) {
+
+			if (value != null) {
+				value.expiresAt = expiresAt;
+				modified();
+			}
+		}
+
+		void modified() {
+
+			if (value != null) {
+				value.version = versions.incrementAndGet();
+			}
+		}
+
+		@Nullable
+		private <T> T get(Class<T> type) {
+
+			if (value == null) {
+				return null;
+			}
+
+			if (!type.isInstance(value.data)) {
+				throw new InvalidDataAccessApiUsageException(
+						"WRONGTYPE Operation against a key holding the wrong kind of value");
+			}
+
+			return type.cast(value.data);
+		}
+
+		private <T> T create(T data) {
+
+			set(data);
+			return data;
+		}
+	}
+
+	/**
+	 * Exclusive access to multiple keys within a command. Accessing the same key twice returns the same
+	 * {@link KeyAccess}.
+	 */
+	class Keyspace {
+
+		private final long now;
+		private final Map<ByteArrayWrapper, KeyAccess> accessed = new LinkedHashMap<>();
+
+		Keyspace(long now) {
+			this.now = now;
+		}
+
+		KeyAccess access(byte[] key) {
+
+			ByteArrayWrapper wrapper = new ByteArrayWrapper(key);
+			KeyAccess access = accessed.get(wrapper);
+
+			if (access == null) {
+
+				access = new KeyAccess(new ByteArrayWrapper(key.clone()), now);
+				access.load(keyspace.get(wrapper));
+				accessed.put(access.key, access);
+			}
+
+			return access;
+		}
+
+		void commit() {
+
+			for (KeyAccess access : accessed.values()) {
+
+				StoredValue value = access.commit();
+
+				if (value != null) {
+					keyspace.put(access.key, value);
+				} else {
+					keyspace.remove(access.key);
+				}
+			}
+		}
+	}
+}
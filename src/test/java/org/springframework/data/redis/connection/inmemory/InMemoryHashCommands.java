@@ -0,0 +1,414 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.KeyBoundCursor;
+import org.springframework.data.redis.core.ScanIteration;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.DoubleRedisSerializer;
+import org.springframework.data.redis.serializer.LongRedisSerializer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisHashCommands} for {@link InMemoryConnection}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class InMemoryHashCommands implements RedisHashCommands {
+
+	private final @NonNull InMemoryConnection connection;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHashCommands#hSet(byte[], byte[], byte[])
+	 */
+	@Override
+	public Boolean hSet(byte[] key, byte[] field, byte[] value) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(field, "Field must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			boolean created = access.getOrCreateHash().put(new ByteArrayWrapper(field.clone()), value.clone()) == null;
+			access.modified();
+
+			return created;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHashCommands#hSetNX(byte[], byte[], byte[])
+	 */
+	@Override
+	public Boolean hSetNX(byte[] key, byte[] field, byte[] value) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(field, "Field must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			Map<ByteArrayWrapper, byte[]> hash = access.getOrCreateHash();
+			ByteArrayWrapper wrapper = new ByteArrayWrapper(field.clone());
+
+			if (hash.containsKey(wrapper)) {
+				return false;
+			}
+
+			hash.put(wrapper, value.clone());
+			access.modified();
+
+			return true;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHashCommands#hGet(byte[], byte[])
+	 */
+	@Nullable
+	@Override
+	public byte[] hGet(byte[] key, byte[] field) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(field, "Field must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			Map<ByteArrayWrapper, byte[]> hash = access.getHash();
+			byte[] value = hash != null ? hash.get(new ByteArrayWrapper(field)) : null;
+
+			return value != null ? value.clone() : null;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHashCommands#hMGet(byte[], byte[][])
+	 */
+	@Override
+	public List<byte[]> hMGet(byte[] key, byte[]... fields) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notEmpty(fields, "Fields must not be empty!");
+		Assert.noNullElements(fields, "Fields must not contain null elements!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			Map<ByteArrayWrapper, byte[]> hash = access.getHash();
+			List<byte[]> values = new ArrayList<>(fields.length);
+
+			for (byte[] field : fields) {
+
+				byte[] value = hash != null ? hash.get(new ByteArrayWrapper(field)) : null;
+				values.add(value != null ? value.clone() : null);
+			}
+
+			return values;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHashCommands#hMSet(byte[], java.util.Map)
+	 */
+	@Override
+	public void hMSet(byte[] key, Map<byte[], byte[]> hashes) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notEmpty(hashes, "Hashes must not be empty!");
+
+		connection.invokeStatus(() -> connection.database().withKey(key, access -> {
+
+			Map<ByteArrayWrapper, byte[]> hash = access.getOrCreateHash();
+			hashes.forEach((field, value) -> hash.put(new ByteArrayWrapper(field.clone()), value.clone()));
+			access.modified();
+
+			return null;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHashCommands#hIncrBy(byte[], byte[], long)
+	 */
+	@Override
+	public Long hIncrBy(byte[] key, byte[] field, long delta) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(field, "Field must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			Map<ByteArrayWrapper, byte[]> hash = access.getOrCreateHash();
+			ByteArrayWrapper wrapper = new ByteArrayWrapper(field.clone());
+
+			long result = InMemoryStringCommands.increment(InMemoryStringCommands.toLong(hash.get(wrapper)), delta);
+			hash.put(wrapper, LongRedisSerializer.INSTANCE.serializeLong(result));
+			access.modified();
+
+			return result;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHashCommands#hIncrBy(byte[], byte[], double)
+	 */
+	@Override
+	public Double hIncrBy(byte[] key, byte[] field, double delta) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(field, "Field must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			Map<ByteArrayWrapper, byte[]> hash = access.getOrCreateHash();
+			ByteArrayWrapper wrapper = new ByteArrayWrapper(field.clone());
+
+			double result = InMemoryStringCommands.toDouble(hash.get(wrapper)) + delta;
+
+			if (Double.isNaN(result) || Double.isInfinite(result)) {
+				throw new InvalidDataAccessApiUsageException("ERR increment would produce NaN or Infinity");
+			}
+
+			hash.put(wrapper, DoubleRedisSerializer.INSTANCE.serializeDouble(result));
+			access.modified();
+
+			return result;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHashCommands#hExists(byte[], byte[])
+	 */
+	@Override
+	public Boolean hExists(byte[] key, byte[] field) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(field, "Field must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			Map<ByteArrayWrapper, byte[]> hash = access.getHash();
+			return hash != null && hash.containsKey(new ByteArrayWrapper(field));
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHashCommands#hDel(byte[], byte[][])
+	 */
+	@Override
+	public Long hDel(byte[] key, byte[]... fields) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notEmpty(fields, "Fields must not be empty!");
+		Assert.noNullElements(fields, "Fields must not contain null elements!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			Map<ByteArrayWrapper, byte[]> hash = access.getHash();
+			long removed = 0;
+
+			if (hash == null) {
+				return removed;
+			}
+
+			for (byte[] field : fields) {
+				if (hash.remove(new ByteArrayWrapper(field)) != null) {
+					removed++;
+				}
+			}
+
+			access.modified();
+			return removed;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHashCommands#hLen(byte[])
+	 */
+	@Override
+	public Long hLen(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			Map<ByteArrayWrapper, byte[]> hash = access.getHash();
+			return hash != null ? (long) hash.size() : 0L;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHashCommands#hKeys(byte[])
+	 */
+	@Override
+	public Set<byte[]> hKeys(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			Map<ByteArrayWrapper, byte[]> hash = access.getHash();
+			Set<byte[]> fields = new LinkedHashSet<>();
+
+			if (hash != null) {
+				hash.keySet().forEach(field -> fields.add(field.getArray().clone()));
+			}
+
+			return fields;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHashCommands#hVals(byte[])
+	 */
+	@Override
+	public List<byte[]> hVals(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			Map<ByteArrayWrapper, byte[]> hash = access.getHash();
+			List<byte[]> values = new ArrayList<>();
+
+			if (hash != null) {
+				hash.values().forEach(value -> values.add(value.clone()));
+			}
+
+			return values;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHashCommands#hGetAll(byte[])
+	 */
+	@Override
+	public Map<byte[], byte[]> hGetAll(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			Map<ByteArrayWrapper, byte[]> hash = access.getHash();
+			Map<byte[], byte[]> entries = new LinkedHashMap<>();
+
+			if (hash != null) {
+				hash.forEach((field, value) -> entries.put(field.getArray().clone(), value.clone()));
+			}
+
+			return entries;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHashCommands#hScan(byte[], org.springframework.data.redis.core.ScanOptions)
+	 */
+	@Override
+	public Cursor<Entry<byte[], byte[]>> hScan(byte[] key, ScanOptions options) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return new KeyBoundCursor<Entry<byte[], byte[]>>(key, 0, options) {
+
+			private final ScanSupport support = new ScanSupport(() -> connection.database().withKey(key, access -> {
+
+				Map<ByteArrayWrapper, byte[]> hash = access.getHash();
+				return hash != null ? new ArrayList<>(hash.keySet()) : Collections.emptyList();
+			}));
+
+			@Override
+			protected ScanIteration<Entry<byte[], byte[]>> doScan(byte[] key, long cursorId, ScanOptions options) {
+
+				if (connection.isQueueing() || connection.isPipelined()) {
+					throw new UnsupportedOperationException("'HSCAN' cannot be called in pipeline / transaction mode.");
+				}
+
+				ScanIteration<ByteArrayWrapper> iteration = support.scan(cursorId, options);
+
+				List<Entry<byte[], byte[]>> entries = connection.database().withKey(key, access -> {
+
+					Map<ByteArrayWrapper, byte[]> hash = access.getHash();
+					List<Entry<byte[], byte[]>> result = new ArrayList<>(iteration.getItems().size());
+
+					for (ByteArrayWrapper field : iteration.getItems()) {
+
+						byte[] value = hash != null ? hash.get(field) : null;
+
+						if (value != null) {
+							result.add(new SimpleImmutableEntry<>(field.getArray().clone(), value.clone()));
+						}
+					}
+
+					return result;
+				});
+
+				return new ScanIteration<>(iteration.getCursorId(), entries);
+			}
+		}.open();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHashCommands#hStrLen(byte[], byte[])
+	 */
+	@Override
+	public Long hStrLen(byte[] key, byte[] field) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(field, "Field must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			Map<ByteArrayWrapper, byte[]> hash = access.getHash();
+			byte[] value = hash != null ? hash.get(new ByteArrayWrapper(field)) : null;
+
+			return value != null ? (long) value.length : 0L;
+		}));
+	}
+}
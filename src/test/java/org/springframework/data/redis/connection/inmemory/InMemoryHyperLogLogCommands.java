@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.data.redis.connection.RedisHyperLogLogCommands;
+import org.springframework.data.redis.connection.inmemory.InMemoryDatabase.HyperLogLogValue;
+import org.springframework.data.redis.connection.inmemory.InMemoryDatabase.KeyAccess;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisHyperLogLogCommands} for {@link InMemoryConnection}. Elements are retained so counts are exact instead
+ * of approximated.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class InMemoryHyperLogLogCommands implements RedisHyperLogLogCommands {
+
+	private final @NonNull InMemoryConnection connection;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHyperLogLogCommands#pfAdd(byte[], byte[][])
+	 */
+	@Override
+	public Long pfAdd(byte[] key, byte[]... values) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(values, "Values must not be null!");
+		Assert.noNullElements(values, "Values must not contain null elements!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			boolean changed = !access.exists();
+			HyperLogLogValue hyperLogLog = access.getOrCreateHyperLogLog();
+
+			for (byte[] value : values) {
+				changed |= hyperLogLog.elements.add(new ByteArrayWrapper(value.clone()));
+			}
+
+			if (changed) {
+				access.modified();
+			}
+
+			return changed ? 1L : 0L;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHyperLogLogCommands#pfCount(byte[][])
+	 */
+	@Override
+	public Long pfCount(byte[]... keys) {
+
+		Assert.notEmpty(keys, "Keys must not be null or empty!");
+		Assert.noNullElements(keys, "Keys must not contain null elements!");
+
+		return connection.invoke(() -> {
+
+			if (keys.length == 1) {
+				return connection.database().withKey(keys[0], access -> {
+
+					HyperLogLogValue hyperLogLog = access.getHyperLogLog();
+					return hyperLogLog != null ? (long) hyperLogLog.elements.size() : 0L;
+				});
+			}
+
+			return connection.database().withKeys(keyspace -> {
+
+				Set<ByteArrayWrapper> union = new HashSet<>();
+
+				for (byte[] key : keys) {
+
+					HyperLogLogValue hyperLogLog = keyspace.access(key).getHyperLogLog();
+
+					if (hyperLogLog != null) {
+						union.addAll(hyperLogLog.elements);
+					}
+				}
+
+				return (long) union.size();
+			});
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisHyperLogLogCommands#pfMerge(byte[], byte[][])
+	 */
+	@Override
+	public void pfMerge(byte[] destinationKey, byte[]... sourceKeys) {
+
+		Assert.notNull(destinationKey, "Destination key must not be null!");
+		Assert.notNull(sourceKeys, "Source keys must not be null!");
+		Assert.noNullElements(sourceKeys, "Source keys must not contain null elements!");
+
+		connection.invokeStatus(() -> connection.database().withKeys(keyspace -> {
+
+			Set<ByteArrayWrapper> union = new HashSet<>();
+
+			for (byte[] key : sourceKeys) {
+
+				HyperLogLogValue hyperLogLog = keyspace.access(key).getHyperLogLog();
+
+				if (hyperLogLog != null) {
+					union.addAll(hyperLogLog.elements);
+				}
+			}
+
+			KeyAccess target = keyspace.access(destinationKey);
+			target.getOrCreateHyperLogLog().elements.addAll(union);
+			target.modified();
+
+			return null;
+		}));
+	}
+}
@@ -0,0 +1,618 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.SortParameters;
+import org.springframework.data.redis.connection.SortParameters.Order;
+import org.springframework.data.redis.connection.ValueEncoding;
+import org.springframework.data.redis.connection.ValueEncoding.RedisValueEncoding;
+import org.springframework.data.redis.connection.convert.Converters;
+import org.springframework.data.redis.connection.inmemory.InMemoryDatabase.KeyAccess;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanCursor;
+import org.springframework.data.redis.core.ScanIteration;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisKeyCommands} for {@link InMemoryConnection}. {@code DUMP} and {@code RESTORE} are not supported and
+ * {@code SORT} does not support {@code BY} and {@code GET} patterns.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class InMemoryKeyCommands implements RedisKeyCommands {
+
+	private final @NonNull InMemoryConnection connection;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#exists(byte[][])
+	 */
+	@Override
+	public Long exists(byte[]... keys) {
+
+		Assert.notNull(keys, "Keys must not be null!");
+		Assert.noNullElements(keys, "Keys must not contain null elements!");
+
+		return connection.invoke(() -> count(keys, KeyAccess::exists));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#del(byte[][])
+	 */
+	@Override
+	public Long del(byte[]... keys) {
+
+		Assert.notNull(keys, "Keys must not be null!");
+		Assert.noNullElements(keys, "Keys must not contain null elements!");
+
+		return connection.invoke(() -> count(keys, KeyAccess::delete));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#unlink(byte[][])
+	 */
+	@Override
+	public Long unlink(byte[]... keys) {
+		return del(keys);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#type(byte[])
+	 */
+	@Override
+	public DataType type(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, KeyAccess::getType));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#touch(byte[][])
+	 */
+	@Override
+	public Long touch(byte[]... keys) {
+		return exists(keys);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#keys(byte[])
+	 */
+	@Override
+	public Set<byte[]> keys(byte[] pattern) {
+
+		Assert.notNull(pattern, "Pattern must not be null!");
+
+		return connection.invoke(() -> connection.database().keys().stream() //
+				.map(ByteArrayWrapper::getArray) //
+				.filter(key -> GlobPattern.matches(pattern, key)) //
+				.map(byte[]::clone) //
+				.collect(Collectors.toCollection(LinkedHashSet::new)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#scan(org.springframework.data.redis.core.ScanOptions)
+	 */
+	@Override
+	public Cursor<byte[]> scan(ScanOptions options) {
+
+		return new ScanCursor<byte[]>(options != null ? options : ScanOptions.NONE) {
+
+			private final ScanSupport support = new ScanSupport(() -> connection.database().keys());
+
+			@Override
+			protected ScanIteration<byte[]> doScan(long cursorId, ScanOptions options) {
+
+				if (connection.isQueueing() || connection.isPipelined()) {
+					throw new UnsupportedOperationException("'SCAN' cannot be called in pipeline / transaction mode.");
+				}
+
+				ScanIteration<ByteArrayWrapper> iteration = support.scan(cursorId, options);
+
+				return new ScanIteration<>(iteration.getCursorId(),
+						iteration.getItems().stream().map(it -> it.getArray().clone()).collect(Collectors.toList()));
+			}
+		}.open();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#randomKey()
+	 */
+	@Nullable
+	@Override
+	public byte[] randomKey() {
+
+		return connection.invoke(() -> {
+
+			List<ByteArrayWrapper> keys = connection.database().keys();
+
+			return keys.isEmpty() ? null : keys.get(ThreadLocalRandom.current().nextInt(keys.size())).getArray().clone();
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#rename(byte[], byte[])
+	 */
+	@Override
+	public void rename(byte[] sourceKey, byte[] targetKey) {
+
+		Assert.notNull(sourceKey, "Source key must not be null!");
+		Assert.notNull(targetKey, "Target key must not be null!");
+
+		connection.invokeStatus(() -> rename(sourceKey, targetKey, true));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#renameNX(byte[], byte[])
+	 */
+	@Override
+	public Boolean renameNX(byte[] sourceKey, byte[] targetKey) {
+
+		Assert.notNull(sourceKey, "Source key must not be null!");
+		Assert.notNull(targetKey, "Target key must not be null!");
+
+		return connection.invoke(() -> rename(sourceKey, targetKey, false));
+	}
+
+	private Boolean rename(byte[] sourceKey, byte[] targetKey, boolean replace) {
+
+		return connection.database().withKeys(keyspace -> {
+
+			KeyAccess source = keyspace.access(sourceKey);
+			KeyAccess target = keyspace.access(targetKey);
+
+			if (!source.exists()) {
+				throw new InvalidDataAccessApiUsageException("ERR no such key");
+			}
+
+			if (source == target) {
+				return replace;
+			}
+
+			if (!replace && target.exists()) {
+				return false;
+			}
+
+			target.replace(source.value);
+			source.delete();
+
+			return true;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#expire(byte[], long)
+	 */
+	@Override
+	public Boolean expire(byte[] key, long seconds) {
+		return pExpire(key, TimeUnit.SECONDS.toMillis(seconds));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#pExpire(byte[], long)
+	 */
+	@Override
+	public Boolean pExpire(byte[] key, long millis) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> expireAt(access, access.now + millis)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#expireAt(byte[], long)
+	 */
+	@Override
+	public Boolean expireAt(byte[] key, long unixTime) {
+		return pExpireAt(key, TimeUnit.SECONDS.toMillis(unixTime));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#pExpireAt(byte[], long)
+	 */
+	@Override
+	public Boolean pExpireAt(byte[] key, long unixTimeInMillis) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> expireAt(access, unixTimeInMillis)));
+	}
+
+	private static boolean expireAt(KeyAccess access, long expiresAt) {
+
+		if (!access.exists()) {
+			return false;
+		}
+
+		if (expiresAt <= access.now) {
+			return access.delete();
+		}
+
+		access.setExpiresAt(expiresAt);
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#persist(byte[])
+	 */
+	@Override
+	public Boolean persist(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			if (access.getExpiresAt() == 0) {
+				return false;
+			}
+
+			access.setExpiresAt(0);
+			return true;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#move(byte[], int)
+	 */
+	@Override
+	public Boolean move(byte[] key, int dbIndex) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> {
+
+			int sourceIndex = connection.getDbIndex();
+
+			if (sourceIndex == dbIndex) {
+				throw new InvalidDataAccessApiUsageException("ERR source and destination objects are the same");
+			}
+
+			InMemoryDatabase source = connection.database();
+			InMemoryDatabase target = connection.getServer().getDatabase(dbIndex);
+
+			// lock databases in index order to avoid deadlocks
+			InMemoryDatabase first = sourceIndex < dbIndex ? source : target;
+			InMemoryDatabase second = sourceIndex < dbIndex ? target : source;
+
+			return first.withKeys(firstKeyspace -> second.withKeys(secondKeyspace -> {
+
+				KeyAccess sourceAccess = (first == source ? firstKeyspace : secondKeyspace).access(key);
+				KeyAccess targetAccess = (first == target ? firstKeyspace : secondKeyspace).access(key);
+
+				if (!sourceAccess.exists() || targetAccess.exists()) {
+					return false;
+				}
+
+				targetAccess.replace(sourceAccess.value);
+				sourceAccess.delete();
+
+				return true;
+			}));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#ttl(byte[])
+	 */
+	@Override
+	public Long ttl(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> {
+
+			long ttl = pTtl(connection.database(), key);
+			return ttl < 0 ? ttl : (ttl + 500) / 1000;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#ttl(byte[], java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public Long ttl(byte[] key, TimeUnit timeUnit) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(timeUnit, "TimeUnit must not be null!");
+
+		return connection.invoke(() -> {
+
+			long ttl = pTtl(connection.database(), key);
+			return ttl < 0 ? ttl : Converters.secondsToTimeUnit((ttl + 500) / 1000, timeUnit);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#pTtl(byte[])
+	 */
+	@Override
+	public Long pTtl(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> pTtl(connection.database(), key));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#pTtl(byte[], java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public Long pTtl(byte[] key, TimeUnit timeUnit) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(timeUnit, "TimeUnit must not be null!");
+
+		return connection.invoke(() -> Converters.millisecondsToTimeUnit(pTtl(connection.database(), key), timeUnit));
+	}
+
+	private static long pTtl(InMemoryDatabase database, byte[] key) {
+
+		Long ttl = database.withKey(key, access -> {
+
+			if (!access.exists()) {
+				return -2L;
+			}
+
+			return access.getExpiresAt() == 0 ? -1L : access.getExpiresAt() - access.now;
+		});
+
+		return ttl != null ? ttl : -2;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#sort(byte[], org.springframework.data.redis.connection.SortParameters)
+	 */
+	@Override
+	public List<byte[]> sort(byte[] key, SortParameters params) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> sort(access, params)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#sort(byte[], org.springframework.data.redis.connection.SortParameters, byte[])
+	 */
+	@Override
+	public Long sort(byte[] key, SortParameters params, byte[] storeKey) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(storeKey, "Store key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKeys(keyspace -> {
+
+			List<byte[]> sorted = sort(keyspace.access(key), params);
+			KeyAccess target = keyspace.access(storeKey);
+
+			if (sorted.isEmpty()) {
+				target.delete();
+			} else {
+				target.set(new LinkedList<>(sorted));
+			}
+
+			return (long) sorted.size();
+		}));
+	}
+
+	private static List<byte[]> sort(KeyAccess access, @Nullable SortParameters params) {
+
+		if (params != null && (params.getByPattern() != null || params.getGetPattern() != null)) {
+			throw new InvalidDataAccessApiUsageException("SORT with BY or GET patterns is not supported");
+		}
+
+		Collection<byte[]> elements = elements(access);
+		boolean alpha = params != null && Boolean.TRUE.equals(params.isAlphabetic());
+		boolean descending = params != null && params.getOrder() == Order.DESC;
+
+		Comparator<byte[]> comparator = alpha ? SortedSetValue::compare
+				: Comparator.comparingDouble(InMemoryKeyCommands::toSortScore);
+
+		List<byte[]> sorted = new ArrayList<>(elements);
+		sorted.sort(descending ? comparator.reversed() : comparator);
+
+		if (params != null && params.getLimit() != null) {
+
+			long start = Math.max(0, params.getLimit().getStart());
+			long count = params.getLimit().getCount();
+			long end = count < 0 ? sorted.size() : Math.min(sorted.size(), start + count);
+
+			sorted = start >= end ? new ArrayList<>() : sorted.subList((int) start, (int) end);
+		}
+
+		return sorted.stream().map(byte[]::clone).collect(Collectors.toList());
+	}
+
+	private static Collection<byte[]> elements(KeyAccess access) {
+
+		switch (access.getType()) {
+			case NONE:
+				return new ArrayList<>();
+			case LIST:
+				return access.getList();
+			case SET:
+				return access.getSet().stream().map(ByteArrayWrapper::getArray).collect(Collectors.toList());
+			case ZSET:
+				return access.getSortedSet().members().stream().map(it -> it.value.getArray())
+						.collect(Collectors.toList());
+			default:
+				throw new InvalidDataAccessApiUsageException(
+						"WRONGTYPE Operation against a key holding the wrong kind of value");
+		}
+	}
+
+	private static double toSortScore(byte[] value) {
+
+		try {
+			return Double.parseDouble(new String(value, StandardCharsets.UTF_8));
+		} catch (NumberFormatException e) {
+			throw new InvalidDataAccessApiUsageException("ERR One or more scores can't be converted into double");
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#dump(byte[])
+	 */
+	@Override
+	public byte[] dump(byte[] key) {
+		throw new InvalidDataAccessApiUsageException("DUMP is not supported by the in-memory connection");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#restore(byte[], long, byte[], boolean)
+	 */
+	@Override
+	public void restore(byte[] key, long ttlInMillis, byte[] serializedValue, boolean replace) {
+		throw new InvalidDataAccessApiUsageException("RESTORE is not supported by the in-memory connection");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#encodingOf(byte[])
+	 */
+	@Override
+	public ValueEncoding encodingOf(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, InMemoryKeyCommands::encodingOf));
+	}
+
+	private static ValueEncoding encodingOf(KeyAccess access) {
+
+		switch (access.getType()) {
+			case NONE:
+				return RedisValueEncoding.VACANT;
+			case STRING:
+				return access.value.data instanceof byte[] && isInteger((byte[]) access.value.data) ? RedisValueEncoding.INT
+						: RedisValueEncoding.RAW;
+			case LIST:
+				return RedisValueEncoding.LINKEDLIST;
+			case ZSET:
+				return RedisValueEncoding.SKIPLIST;
+			default:
+				return RedisValueEncoding.HASHTABLE;
+		}
+	}
+
+	private static boolean isInteger(byte[] value) {
+
+		try {
+			Long.parseLong(new String(value, StandardCharsets.US_ASCII));
+			return true;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#idletime(byte[])
+	 */
+	@Nullable
+	@Override
+	public Duration idletime(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key,
+				access -> access.exists() ? Duration.ZERO : null));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisKeyCommands#refcount(byte[])
+	 */
+	@Nullable
+	@Override
+	public Long refcount(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> access.exists() ? 1L : null));
+	}
+
+	private long count(byte[][] keys, Predicate<KeyAccess> predicate) {
+
+		if (keys.length == 1) {
+
+			Boolean result = connection.database().withKey(keys[0], predicate::test);
+			return Boolean.TRUE.equals(result) ? 1 : 0;
+		}
+
+		Long count = connection.database().withKeys(keyspace -> {
+
+			long result = 0;
+
+			for (byte[] key : keys) {
+				if (predicate.test(keyspace.access(key))) {
+					result++;
+				}
+			}
+
+			return result;
+		});
+
+		return count != null ? count : 0;
+	}
+}
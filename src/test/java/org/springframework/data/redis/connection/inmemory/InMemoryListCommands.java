@@ -0,0 +1,513 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisListCommands;
+import org.springframework.data.redis.connection.inmemory.InMemoryDatabase.KeyAccess;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisListCommands} for {@link InMemoryConnection}. Blocking commands poll the database until an element is
+ * available or the timeout expires. Within a transaction they behave like their non-blocking variants.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class InMemoryListCommands implements RedisListCommands {
+
+	private static final long POLL_INTERVAL_MILLIS = 5;
+
+	private final @NonNull InMemoryConnection connection;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisListCommands#rPush(byte[], byte[][])
+	 */
+	@Override
+	public Long rPush(byte[] key, byte[]... values) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notEmpty(values, "Values must not be empty!");
+		Assert.noNullElements(values, "Values must not contain null elements!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> push(access, values, false, true)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisListCommands#lPush(byte[], byte[][])
+	 */
+	@Override
+	public Long lPush(byte[] key, byte[]... values) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notEmpty(values, "Values must not be empty!");
+		Assert.noNullElements(values, "Values must not contain null elements!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> push(access, values, true, true)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisListCommands#rPushX(byte[], byte[])
+	 */
+	@Override
+	public Long rPushX(byte[] key, byte[] value) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		return connection
+				.invoke(() -> connection.database().withKey(key, access -> push(access, new byte[][] { value }, false, false)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisListCommands#lPushX(byte[], byte[])
+	 */
+	@Override
+	public Long lPushX(byte[] key, byte[] value) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		return connection
+				.invoke(() -> connection.database().withKey(key, access -> push(access, new byte[][] { value }, true, false)));
+	}
+
+	private static long push(KeyAccess access, byte[][] values, boolean head, boolean create) {
+
+		LinkedList<byte[]> list = create ? access.getOrCreateList() : access.getList();
+
+		if (list == null) {
+			return 0;
+		}
+
+		for (byte[] value : values) {
+			if (head) {
+				list.addFirst(value.clone());
+			} else {
+				list.addLast(value.clone());
+			}
+		}
+
+		access.modified();
+		return list.size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisListCommands#lLen(byte[])
+	 */
+	@Override
+	public Long lLen(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			List<byte[]> list = access.getList();
+			return list != null ? (long) list.size() : 0L;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisListCommands#lRange(byte[], long, long)
+	 */
+	@Override
+	public List<byte[]> lRange(byte[] key, long start, long end) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			List<byte[]> list = access.getList();
+			int[] range = list != null ? InMemoryStringCommands.normalize(start, end, list.size()) : null;
+
+			List<byte[]> result = new ArrayList<>();
+
+			if (range == null) {
+				return result;
+			}
+
+			ListIterator<byte[]> iterator = list.listIterator(range[0]);
+
+			for (int i = range[0]; i <= range[1]; i++) {
+				result.add(iterator.next().clone());
+			}
+
+			return result;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisListCommands#lTrim(byte[], long, long)
+	 */
+	@Override
+	public void lTrim(byte[] key, long start, long end) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		connection.invokeStatus(() -> connection.database().withKey(key, access -> {
+
+			LinkedList<byte[]> list = access.getList();
+
+			if (list == null) {
+				return null;
+			}
+
+			int[] range = InMemoryStringCommands.normalize(start, end, list.size());
+
+			if (range == null) {
+				list.clear();
+			} else {
+
+				int tail = list.size() - range[1] - 1;
+
+				for (int i = 0; i < tail; i++) {
+					list.removeLast();
+				}
+
+				for (int i = 0; i < range[0]; i++) {
+					list.removeFirst();
+				}
+			}
+
+			access.modified();
+			return null;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisListCommands#lIndex(byte[], long)
+	 */
+	@Nullable
+	@Override
+	public byte[] lIndex(byte[] key, long index) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			List<byte[]> list = access.getList();
+
+			if (list == null) {
+				return null;
+			}
+
+			long normalized = index < 0 ? list.size() + index : index;
+			return normalized >= 0 && normalized < list.size() ? list.get((int) normalized).clone() : null;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisListCommands#lInsert(byte[], org.springframework.data.redis.connection.RedisListCommands.Position, byte[], byte[])
+	 */
+	@Override
+	public Long lInsert(byte[] key, Position where, byte[] pivot, byte[] value) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(where, "Position must not be null!");
+		Assert.notNull(pivot, "Pivot must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			LinkedList<byte[]> list = access.getList();
+
+			if (list == null) {
+				return 0L;
+			}
+
+			ListIterator<byte[]> iterator = list.listIterator();
+
+			while (iterator.hasNext()) {
+
+				if (Arrays.equals(iterator.next(), pivot)) {
+
+					if (where == Position.BEFORE) {
+						iterator.previous();
+					}
+
+					iterator.add(value.clone());
+					access.modified();
+
+					return (long) list.size();
+				}
+			}
+
+			return -1L;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisListCommands#lSet(byte[], long, byte[])
+	 */
+	@Override
+	public void lSet(byte[] key, long index, byte[] value) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		connection.invokeStatus(() -> connection.database().withKey(key, access -> {
+
+			List<byte[]> list = access.getList();
+
+			if (list == null) {
+				throw new InvalidDataAccessApiUsageException("ERR no such key");
+			}
+
+			long normalized = index < 0 ? list.size() + index : index;
+
+			if (normalized < 0 || normalized >= list.size()) {
+				throw new InvalidDataAccessApiUsageException("ERR index out of range");
+			}
+
+			list.set((int) normalized, value.clone());
+			access.modified();
+
+			return null;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisListCommands#lRem(byte[], long, byte[])
+	 */
+	@Override
+	public Long lRem(byte[] key, long count, byte[] value) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			LinkedList<byte[]> list = access.getList();
+
+			if (list == null) {
+				return 0L;
+			}
+
+			Iterator<byte[]> iterator = count < 0 ? list.descendingIterator() : list.iterator();
+			long limit = count == 0 ? Long.MAX_VALUE : Math.abs(count);
+			long removed = 0;
+
+			while (iterator.hasNext() && removed < limit) {
+
+				if (Arrays.equals(iterator.next(), value)) {
+
+					iterator.remove();
+					removed++;
+				}
+			}
+
+			if (removed > 0) {
+				access.modified();
+			}
+
+			return removed;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisListCommands#lPop(byte[])
+	 */
+	@Nullable
+	@Override
+	public byte[] lPop(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> pop(access, true)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisListCommands#rPop(byte[])
+	 */
+	@Nullable
+	@Override
+	public byte[] rPop(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> pop(access, false)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisListCommands#bLPop(int, byte[][])
+	 */
+	@Nullable
+	@Override
+	public List<byte[]> bLPop(int timeout, byte[]... keys) {
+		return bPop(timeout, keys, true);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisListCommands#bRPop(int, byte[][])
+	 */
+	@Nullable
+	@Override
+	public List<byte[]> bRPop(int timeout, byte[]... keys) {
+		return bPop(timeout, keys, false);
+	}
+
+	@Nullable
+	private List<byte[]> bPop(int timeout, byte[][] keys, boolean head) {
+
+		Assert.notEmpty(keys, "Keys must not be null or empty!");
+		Assert.noNullElements(keys, "Keys must not contain null elements!");
+
+		boolean blocking = !connection.isQueueing();
+
+		return connection.invoke(() -> poll(timeout, blocking, () -> connection.database().withKeys(keyspace -> {
+
+			for (byte[] key : keys) {
+
+				KeyAccess access = keyspace.access(key);
+				byte[] value = pop(access, head);
+
+				if (value != null) {
+					return Arrays.asList(key.clone(), value);
+				}
+			}
+
+			return null;
+		})));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisListCommands#rPopLPush(byte[], byte[])
+	 */
+	@Nullable
+	@Override
+	public byte[] rPopLPush(byte[] srcKey, byte[] dstKey) {
+
+		Assert.notNull(srcKey, "Source key must not be null!");
+		Assert.notNull(dstKey, "Destination key must not be null!");
+
+		return connection.invoke(() -> rPopLPush(srcKey, dstKey));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisListCommands#bRPopLPush(int, byte[], byte[])
+	 */
+	@Nullable
+	@Override
+	public byte[] bRPopLPush(int timeout, byte[] srcKey, byte[] dstKey) {
+
+		Assert.notNull(srcKey, "Source key must not be null!");
+		Assert.notNull(dstKey, "Destination key must not be null!");
+
+		boolean blocking = !connection.isQueueing();
+
+		return connection.invoke(() -> poll(timeout, blocking, () -> rPopLPush(srcKey, dstKey)));
+	}
+
+	@Nullable
+	private byte[] rPopLPush(byte[] srcKey, byte[] dstKey) {
+
+		return connection.database().withKeys(keyspace -> {
+
+			KeyAccess source = keyspace.access(srcKey);
+			LinkedList<byte[]> sourceList = source.getList();
+
+			if (sourceList == null) {
+				return null;
+			}
+
+			// verify the target type before modifying the source
+			KeyAccess target = keyspace.access(dstKey);
+			target.getList();
+
+			byte[] value = sourceList.removeLast();
+			source.modified();
+
+			target.getOrCreateList().addFirst(value);
+			target.modified();
+
+			return value.clone();
+		});
+	}
+
+	@Nullable
+	private static byte[] pop(KeyAccess access, boolean head) {
+
+		LinkedList<byte[]> list = access.getList();
+
+		if (list == null || list.isEmpty()) {
+			return null;
+		}
+
+		byte[] value = head ? list.removeFirst() : list.removeLast();
+		access.modified();
+
+		return value.clone();
+	}
+
+	@Nullable
+	private static <T> T poll(int timeout, boolean blocking, Supplier<T> command) {
+
+		if (timeout < 0) {
+			throw new InvalidDataAccessApiUsageException("ERR timeout is negative");
+		}
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout);
+
+		while (true) {
+
+			T result = command.get();
+
+			if (result != null || !blocking || (timeout > 0 && System.nanoTime() - deadline >= 0)) {
+				return result;
+			}
+
+			try {
+				Thread.sleep(POLL_INTERVAL_MILLIS);
+			} catch (InterruptedException e) {
+
+				Thread.currentThread().interrupt();
+				throw new RedisSystemException("Interrupted while waiting for list elements", e);
+			}
+		}
+	}
+}
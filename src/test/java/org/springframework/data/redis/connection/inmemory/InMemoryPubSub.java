@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Message broker shared by all connections of an {@link InMemoryConnectionFactory}. Messages are delivered
+ * synchronously on the publishing thread to all subscriptions registered at the time of publishing.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+class InMemoryPubSub {
+
+	private final Set<Receiver> receivers = new CopyOnWriteArraySet<>();
+
+	void register(Receiver receiver) {
+		receivers.add(receiver);
+	}
+
+	void unregister(Receiver receiver) {
+		receivers.remove(receiver);
+	}
+
+	/**
+	 * Publish a message to all receivers subscribed to {@code channel} directly or through a pattern.
+	 *
+	 * @param channel the channel.
+	 * @param message the message body.
+	 * @return the number of receivers that received the message.
+	 */
+	long publish(byte[] channel, byte[] message) {
+
+		byte[] channelToUse = channel.clone();
+		byte[] messageToUse = message.clone();
+		long received = 0;
+
+		for (Receiver receiver : receivers) {
+			received += receiver.receive(channelToUse, messageToUse);
+		}
+
+		return received;
+	}
+
+	/**
+	 * Receiver of published messages.
+	 */
+	interface Receiver {
+
+		/**
+		 * Receive a message if subscribed to {@code channel}.
+		 *
+		 * @param channel the channel.
+		 * @param message the message body.
+		 * @return the number of subscriptions (channel and patterns) that received the message.
+		 */
+		int receive(byte[] channel, byte[] message);
+	}
+}
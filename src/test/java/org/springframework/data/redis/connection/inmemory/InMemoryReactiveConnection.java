@@ -0,0 +1,293 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.redis.connection.ReactiveGeoCommands;
+import org.springframework.data.redis.connection.ReactiveHashCommands;
+import org.springframework.data.redis.connection.ReactiveHyperLogLogCommands;
+import org.springframework.data.redis.connection.ReactiveKeyCommands;
+import org.springframework.data.redis.connection.ReactiveListCommands;
+import org.springframework.data.redis.connection.ReactiveNumberCommands;
+import org.springframework.data.redis.connection.ReactivePubSubCommands;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveScriptingCommands;
+import org.springframework.data.redis.connection.ReactiveServerCommands;
+import org.springframework.data.redis.connection.ReactiveSetCommands;
+import org.springframework.data.redis.connection.ReactiveStringCommands;
+import org.springframework.data.redis.connection.ReactiveZSetCommands;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link ReactiveRedisConnection} operating on the in-heap databases of an {@link InMemoryConnectionFactory}. Commands
+ * run on the subscribing thread through an {@link InMemoryConnection}, blocking list commands are offloaded to a
+ * separate scheduler.
+ * <p />
+ * Geo and scripting commands are not supported.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+public class InMemoryReactiveConnection implements ReactiveRedisConnection {
+
+	private final InMemoryConnection connection;
+	private final AtomicReference<InMemoryReactiveSubscription> subscription = new AtomicReference<>();
+
+	InMemoryReactiveConnection(InMemoryServer server, int dbIndex) {
+		this.connection = new InMemoryConnection(server, dbIndex);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#closeLater()
+	 */
+	@Override
+	public Mono<Void> closeLater() {
+
+		return Mono.defer(() -> {
+
+			InMemoryReactiveSubscription subscription = this.subscription.getAndSet(null);
+			return subscription != null ? subscription.cancel() : Mono.<Void> empty();
+		}).then(Mono.fromRunnable(connection::close));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#keyCommands()
+	 */
+	@Override
+	public ReactiveKeyCommands keyCommands() {
+		return new InMemoryReactiveKeyCommands(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#stringCommands()
+	 */
+	@Override
+	public ReactiveStringCommands stringCommands() {
+		return new InMemoryReactiveStringCommands(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#numberCommands()
+	 */
+	@Override
+	public ReactiveNumberCommands numberCommands() {
+		return new InMemoryReactiveNumberCommands(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#listCommands()
+	 */
+	@Override
+	public ReactiveListCommands listCommands() {
+		return new InMemoryReactiveListCommands(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#setCommands()
+	 */
+	@Override
+	public ReactiveSetCommands setCommands() {
+		return new InMemoryReactiveSetCommands(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#zSetCommands()
+	 */
+	@Override
+	public ReactiveZSetCommands zSetCommands() {
+		return new InMemoryReactiveZSetCommands(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#hashCommands()
+	 */
+	@Override
+	public ReactiveHashCommands hashCommands() {
+		return new InMemoryReactiveHashCommands(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#geoCommands()
+	 */
+	@Override
+	public ReactiveGeoCommands geoCommands() {
+		return new InMemoryReactiveGeoCommands();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#hyperLogLogCommands()
+	 */
+	@Override
+	public ReactiveHyperLogLogCommands hyperLogLogCommands() {
+		return new InMemoryReactiveHyperLogLogCommands(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#pubSubCommands()
+	 */
+	@Override
+	public ReactivePubSubCommands pubSubCommands() {
+		return new InMemoryReactivePubSubCommands(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#scriptingCommands()
+	 */
+	@Override
+	public ReactiveScriptingCommands scriptingCommands() {
+		return new InMemoryReactiveScriptingCommands();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#serverCommands()
+	 */
+	@Override
+	public ReactiveServerCommands serverCommands() {
+		return new InMemoryReactiveServerCommands(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveRedisConnection#ping()
+	 */
+	@Override
+	public Mono<String> ping() {
+		return Mono.fromSupplier(connection::ping);
+	}
+
+	/**
+	 * @return the underlying {@link InMemoryConnection}.
+	 */
+	InMemoryConnection getConnection() {
+		return connection;
+	}
+
+	/**
+	 * @return the subscription used for {@link ReactivePubSubCommands#subscribe(ByteBuffer...)} and
+	 *         {@link ReactivePubSubCommands#pSubscribe(ByteBuffer...)}, created on first use.
+	 */
+	InMemoryReactiveSubscription getSubscription() {
+
+		InMemoryReactiveSubscription current = subscription.get();
+
+		if (current != null) {
+			return current;
+		}
+
+		InMemoryReactiveSubscription created = new InMemoryReactiveSubscription(connection.getServer().getPubSub());
+
+		if (subscription.compareAndSet(null, created)) {
+			return created;
+		}
+
+		created.cancel().subscribe();
+		return subscription.get();
+	}
+
+	/**
+	 * Run {@code function} for each command emitted by {@code commands} and emit the responses in command order.
+	 *
+	 * @param commands the command stream.
+	 * @param function the function invoking the blocking command and creating the response. Returning {@literal null}
+	 *          emits no response for the command.
+	 * @return the response stream.
+	 */
+	<C, R> Flux<R> execute(Publisher<C> commands, Function<C, R> function) {
+
+		return Flux.from(commands).handle((command, sink) -> {
+
+			R response = function.apply(command);
+
+			if (response != null) {
+				sink.next(response);
+			}
+		});
+	}
+
+	/**
+	 * Like {@link #execute(Publisher, Function)} for blocking commands such as {@code BLPOP}. Commands are run on a
+	 * scheduler suitable for blocking calls.
+	 *
+	 * @param commands the command stream.
+	 * @param function the function invoking the blocking command and creating the response. Returning {@literal null},
+	 *          e.g. on timeout, emits no response for the command.
+	 * @return the response stream.
+	 */
+	<C, R> Flux<R> executeBlocking(Publisher<C> commands, Function<C, R> function) {
+		return Flux.from(commands)
+				.concatMap(command -> Mono.fromSupplier(() -> function.apply(command)).subscribeOn(Schedulers.elastic()));
+	}
+
+	/**
+	 * Run a single command. Emits no value if the command returns {@literal null}.
+	 *
+	 * @param command the command.
+	 * @return a {@link Mono} emitting the command result.
+	 */
+	<T> Mono<T> execute(Supplier<T> command) {
+		return Mono.fromSupplier(command);
+	}
+
+	static byte[] toBytes(ByteBuffer buffer) {
+		return ByteUtils.getBytes(buffer);
+	}
+
+	static byte[][] toBytes(Collection<ByteBuffer> buffers) {
+		return buffers.stream().map(ByteUtils::getBytes).toArray(byte[][]::new);
+	}
+
+	/**
+	 * Create a {@link ByteBufferResponse} for {@code value} or an {@link AbsentByteBufferResponse} if the value is
+	 * absent.
+	 */
+	static <C> ByteBufferResponse<C> toResponse(C command, @Nullable byte[] value) {
+		return value != null ? new ByteBufferResponse<>(command, toBuffer(value)) : new AbsentByteBufferResponse<>(command);
+	}
+
+	static ByteBuffer toBuffer(byte[] bytes) {
+		return ByteBuffer.wrap(bytes);
+	}
+
+	static List<ByteBuffer> toBuffers(Collection<byte[]> values) {
+		return values.stream().map(ByteBuffer::wrap).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.connection.ReactiveSubscription.Message;
+
+/**
+ * Unit tests for {@link InMemoryReactiveConnection}.
+ *
+ * @author Mark Paluch
+ */
+public class InMemoryReactiveConnectionUnitTests {
+
+	InMemoryConnectionFactory factory = new InMemoryConnectionFactory();
+	InMemoryReactiveConnection connection;
+
+	@Before
+	public void before() {
+		connection = factory.getReactiveConnection();
+	}
+
+	@After
+	public void after() {
+		connection.close();
+	}
+
+	@Test
+	public void shouldSetAndGetStrings() {
+
+		connection.stringCommands().set(buffer("key"), buffer("value")).as(StepVerifier::create) //
+				.expectNext(true) //
+				.verifyComplete();
+
+		connection.stringCommands().get(buffer("key")).as(StepVerifier::create) //
+				.expectNext(buffer("value")) //
+				.verifyComplete();
+
+		connection.stringCommands().mGet(Arrays.asList(buffer("key"), buffer("absent"))).as(StepVerifier::create) //
+				.expectNext(Arrays.asList(buffer("value"), ByteBuffer.allocate(0))) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void shouldShareDataWithBlockingConnection() {
+
+		connection.numberCommands().incrBy(buffer("counter"), 2L).as(StepVerifier::create) //
+				.expectNext(2L) //
+				.verifyComplete();
+
+		InMemoryConnection blocking = factory.getConnection();
+
+		assertThat(blocking.get("counter".getBytes(StandardCharsets.UTF_8)))
+				.isEqualTo("2".getBytes(StandardCharsets.UTF_8));
+
+		blocking.close();
+	}
+
+	@Test
+	public void scoreOfAbsentMemberShouldCompleteEmpty() {
+
+		connection.zSetCommands().zScore(buffer("zset"), buffer("member")).as(StepVerifier::create) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void blockingPopShouldCompleteEmptyOnTimeout() {
+
+		connection.listCommands().blPop(Arrays.asList(buffer("list")), Duration.ofSeconds(1)).as(StepVerifier::create) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void shouldReceiveMessages() {
+
+		InMemoryReactiveConnection subscriber = factory.getReactiveConnection();
+		ReactiveSubscription subscription = subscriber.pubSubCommands().createSubscription().block();
+		List<Message<ByteBuffer, ByteBuffer>> messages = new CopyOnWriteArrayList<>();
+
+		subscription.subscribe(buffer("channel")).block();
+		Disposable disposable = subscription.receive().subscribe(messages::add);
+
+		connection.pubSubCommands().publish(buffer("channel"), buffer("hello")).as(StepVerifier::create) //
+				.expectNext(1L) //
+				.verifyComplete();
+
+		assertThat(messages).hasSize(1);
+		assertThat(messages.get(0).getChannel()).isEqualTo(buffer("channel"));
+		assertThat(messages.get(0).getMessage()).isEqualTo(buffer("hello"));
+
+		disposable.dispose();
+		subscriber.close();
+	}
+
+	@Test
+	public void geoCommandsShouldFail() {
+
+		connection.geoCommands().geoDist(buffer("key"), buffer("a"), buffer("b")).as(StepVerifier::create) //
+				.verifyError(InvalidDataAccessApiUsageException.class);
+	}
+
+	private static ByteBuffer buffer(String value) {
+		return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import static org.springframework.data.redis.connection.inmemory.InMemoryReactiveConnection.*;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.redis.connection.ReactiveHashCommands;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.BooleanResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.CommandResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.KeyCommand;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.KeyScanCommand;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.MultiValueResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.NumericResponse;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ReactiveHashCommands} for {@link InMemoryReactiveConnection}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class InMemoryReactiveHashCommands implements ReactiveHashCommands {
+
+	private final @NonNull InMemoryReactiveConnection connection;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveHashCommands#hSet(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<HSetCommand>> hSet(Publisher<HSetCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getFieldValueMap(), "FieldValueMap must not be null!");
+
+			byte[] key = toBytes(command.getKey());
+
+			if (command.getFieldValueMap().size() == 1) {
+
+				Entry<ByteBuffer, ByteBuffer> entry = command.getFieldValueMap().entrySet().iterator().next();
+				byte[] field = toBytes(entry.getKey());
+				byte[] value = toBytes(entry.getValue());
+
+				return new BooleanResponse<>(command,
+						command.isUpsert() ? commands().hSet(key, field, value) : commands().hSetNX(key, field, value));
+			}
+
+			Map<byte[], byte[]> entries = new LinkedHashMap<>(command.getFieldValueMap().size());
+			command.getFieldValueMap().forEach((field, value) -> entries.put(toBytes(field), toBytes(value)));
+
+			commands().hMSet(key, entries);
+			return new BooleanResponse<>(command, true);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveHashCommands#hMGet(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<MultiValueResponse<HGetCommand, ByteBuffer>> hMGet(Publisher<HGetCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getFields(), "Fields must not be null!");
+
+			List<byte[]> values = commands().hMGet(toBytes(command.getKey()), toBytes(command.getFields()));
+			List<ByteBuffer> result = new ArrayList<>(values.size());
+
+			for (byte[] value : values) {
+				result.add(value != null ? toBuffer(value) : null);
+			}
+
+			return new MultiValueResponse<>(command, result);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveHashCommands#hExists(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<HExistsCommand>> hExists(Publisher<HExistsCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getField(), "Field must not be null!");
+
+			return new BooleanResponse<>(command,
+					commands().hExists(toBytes(command.getKey()), toBytes(command.getField())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveHashCommands#hDel(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<HDelCommand, Long>> hDel(Publisher<HDelCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notEmpty(command.getFields(), "Fields must not be null or empty!");
+
+			return new NumericResponse<>(command, commands().hDel(toBytes(command.getKey()), toBytes(command.getFields())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveHashCommands#hLen(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<KeyCommand, Long>> hLen(Publisher<KeyCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return new NumericResponse<>(command, commands().hLen(toBytes(command.getKey())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveHashCommands#hKeys(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<CommandResponse<KeyCommand, Flux<ByteBuffer>>> hKeys(Publisher<KeyCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return new CommandResponse<>(command,
+					Flux.fromIterable(toBuffers(commands().hKeys(toBytes(command.getKey())))));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveHashCommands#hVals(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<CommandResponse<KeyCommand, Flux<ByteBuffer>>> hVals(Publisher<KeyCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return new CommandResponse<>(command,
+					Flux.fromIterable(toBuffers(commands().hVals(toBytes(command.getKey())))));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveHashCommands#hGetAll(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<CommandResponse<KeyCommand, Flux<Entry<ByteBuffer, ByteBuffer>>>> hGetAll(
+			Publisher<KeyCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			Map<byte[], byte[]> hash = commands().hGetAll(toBytes(command.getKey()));
+
+			return new CommandResponse<>(command,
+					Flux.fromIterable(hash.entrySet()).map(InMemoryReactiveHashCommands::toEntry));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveHashCommands#hScan(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<CommandResponse<KeyCommand, Flux<Entry<ByteBuffer, ByteBuffer>>>> hScan(
+			Publisher<KeyScanCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getOptions(), "ScanOptions must not be null!");
+
+			Flux<Entry<ByteBuffer, ByteBuffer>> result = Flux.defer(() -> {
+
+				Cursor<Entry<byte[], byte[]>> cursor = commands().hScan(toBytes(command.getKey()), command.getOptions());
+				return Flux.fromIterable(() -> cursor).map(InMemoryReactiveHashCommands::toEntry);
+			});
+
+			return new CommandResponse<>(command, result);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveHashCommands#hStrLen(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<HStrLenCommand, Long>> hStrLen(Publisher<HStrLenCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getField(), "Field must not be null!");
+
+			return new NumericResponse<>(command,
+					commands().hStrLen(toBytes(command.getKey()), toBytes(command.getField())));
+		});
+	}
+
+	private RedisHashCommands commands() {
+		return connection.getConnection().hashCommands();
+	}
+
+	private static Entry<ByteBuffer, ByteBuffer> toEntry(Entry<byte[], byte[]> entry) {
+		return new SimpleImmutableEntry<>(toBuffer(entry.getKey()), toBuffer(entry.getValue()));
+	}
+}
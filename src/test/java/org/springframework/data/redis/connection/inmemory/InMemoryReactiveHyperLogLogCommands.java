@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import static org.springframework.data.redis.connection.inmemory.InMemoryReactiveConnection.*;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.redis.connection.ReactiveHyperLogLogCommands;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.BooleanResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.NumericResponse;
+import org.springframework.data.redis.connection.RedisHyperLogLogCommands;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ReactiveHyperLogLogCommands} for {@link InMemoryReactiveConnection}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class InMemoryReactiveHyperLogLogCommands implements ReactiveHyperLogLogCommands {
+
+	private final @NonNull InMemoryReactiveConnection connection;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveHyperLogLogCommands#pfAdd(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<PfAddCommand, Long>> pfAdd(Publisher<PfAddCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null for PFADD!");
+
+			return new NumericResponse<>(command, commands().pfAdd(toBytes(command.getKey()), toBytes(command.getValues())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveHyperLogLogCommands#pfCount(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<PfCountCommand, Long>> pfCount(Publisher<PfCountCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notEmpty(command.getKeys(), "Keys must not be empty for PFCOUNT.");
+
+			return new NumericResponse<>(command, commands().pfCount(toBytes(command.getKeys())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveHyperLogLogCommands#pfMerge(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<PfMergeCommand>> pfMerge(Publisher<PfMergeCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Destination key must not be null for PFMERGE.");
+			Assert.notEmpty(command.getSourceKeys(), "Source keys must not be null for PFMERGE.");
+
+			commands().pfMerge(toBytes(command.getKey()), toBytes(command.getSourceKeys()));
+			return new BooleanResponse<>(command, true);
+		});
+	}
+
+	private RedisHyperLogLogCommands commands() {
+		return connection.getConnection().hyperLogLogCommands();
+	}
+}
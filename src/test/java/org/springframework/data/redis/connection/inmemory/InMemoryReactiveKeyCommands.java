@@ -0,0 +1,402 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import static org.springframework.data.redis.connection.inmemory.InMemoryReactiveConnection.*;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.ReactiveKeyCommands;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.BooleanResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.CommandResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.KeyCommand;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.MultiValueResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.NumericResponse;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.ValueEncoding;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ReactiveKeyCommands} for {@link InMemoryReactiveConnection}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class InMemoryReactiveKeyCommands implements ReactiveKeyCommands {
+
+	private final @NonNull InMemoryReactiveConnection connection;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#exists(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<KeyCommand>> exists(Publisher<KeyCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return new BooleanResponse<>(command, commands().exists(toBytes(command.getKey())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#type(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<CommandResponse<KeyCommand, DataType>> type(Publisher<KeyCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return new CommandResponse<>(command, commands().type(toBytes(command.getKey())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#touch(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<Collection<ByteBuffer>, Long>> touch(Publisher<Collection<ByteBuffer>> keysCollection) {
+
+		return connection.execute(keysCollection, keys -> {
+
+			Assert.notEmpty(keys, "Keys must not be null!");
+
+			return new NumericResponse<>(keys, commands().touch(toBytes(keys)));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#keys(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<MultiValueResponse<ByteBuffer, ByteBuffer>> keys(Publisher<ByteBuffer> patterns) {
+
+		return connection.execute(patterns, pattern -> {
+
+			Assert.notNull(pattern, "Pattern must not be null!");
+
+			return new MultiValueResponse<>(pattern, toBuffers(commands().keys(toBytes(pattern))));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#scan(org.springframework.data.redis.core.ScanOptions)
+	 */
+	@Override
+	public Flux<ByteBuffer> scan(ScanOptions options) {
+
+		Assert.notNull(options, "ScanOptions must not be null!");
+
+		return Flux.defer(() -> {
+
+			Cursor<byte[]> cursor = commands().scan(options);
+			return Flux.fromIterable(() -> cursor).map(ByteBuffer::wrap);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#randomKey()
+	 */
+	@Override
+	public Mono<ByteBuffer> randomKey() {
+		return connection.execute(() -> commands().randomKey()).map(ByteBuffer::wrap);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#rename(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<RenameCommand>> rename(Publisher<RenameCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getNewName(), "New name must not be null!");
+
+			commands().rename(toBytes(command.getKey()), toBytes(command.getNewName()));
+			return new BooleanResponse<>(command, true);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#renameNX(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<RenameCommand>> renameNX(Publisher<RenameCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getNewName(), "New name must not be null!");
+
+			return new BooleanResponse<>(command,
+					commands().renameNX(toBytes(command.getKey()), toBytes(command.getNewName())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#del(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<KeyCommand, Long>> del(Publisher<KeyCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return new NumericResponse<>(command, commands().del(toBytes(command.getKey())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#mDel(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<List<ByteBuffer>, Long>> mDel(Publisher<List<ByteBuffer>> keysCollection) {
+
+		return connection.execute(keysCollection, keys -> {
+
+			Assert.notEmpty(keys, "Keys must not be empty or null!");
+
+			return new NumericResponse<>(keys, commands().del(toBytes(keys)));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#unlink(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<KeyCommand, Long>> unlink(Publisher<KeyCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return new NumericResponse<>(command, commands().unlink(toBytes(command.getKey())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#mUnlink(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<List<ByteBuffer>, Long>> mUnlink(Publisher<List<ByteBuffer>> keysCollection) {
+
+		return connection.execute(keysCollection, keys -> {
+
+			Assert.notEmpty(keys, "Keys must not be empty or null!");
+
+			return new NumericResponse<>(keys, commands().unlink(toBytes(keys)));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#expire(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<ExpireCommand>> expire(Publisher<ExpireCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getTimeout(), "Timeout must not be null!");
+
+			return new BooleanResponse<>(command,
+					commands().expire(toBytes(command.getKey()), command.getTimeout().getSeconds()));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#pExpire(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<ExpireCommand>> pExpire(Publisher<ExpireCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getTimeout(), "Timeout must not be null!");
+
+			return new BooleanResponse<>(command,
+					commands().pExpire(toBytes(command.getKey()), command.getTimeout().toMillis()));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#expireAt(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<ExpireAtCommand>> expireAt(Publisher<ExpireAtCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getExpireAt(), "Expire at must not be null!");
+
+			return new BooleanResponse<>(command,
+					commands().expireAt(toBytes(command.getKey()), command.getExpireAt().getEpochSecond()));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#pExpireAt(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<ExpireAtCommand>> pExpireAt(Publisher<ExpireAtCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getExpireAt(), "Expire at must not be null!");
+
+			return new BooleanResponse<>(command,
+					commands().pExpireAt(toBytes(command.getKey()), command.getExpireAt().toEpochMilli()));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#persist(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<KeyCommand>> persist(Publisher<KeyCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return new BooleanResponse<>(command, commands().persist(toBytes(command.getKey())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#ttl(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<KeyCommand, Long>> ttl(Publisher<KeyCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return new NumericResponse<>(command, commands().ttl(toBytes(command.getKey())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#pTtl(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<KeyCommand, Long>> pTtl(Publisher<KeyCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return new NumericResponse<>(command, commands().pTtl(toBytes(command.getKey())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#move(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<MoveCommand>> move(Publisher<MoveCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getDatabase(), "Database must not be null!");
+
+			return new BooleanResponse<>(command, commands().move(toBytes(command.getKey()), command.getDatabase()));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#encodingOf(java.nio.ByteBuffer)
+	 */
+	@Override
+	public Mono<ValueEncoding> encodingOf(ByteBuffer key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.execute(() -> commands().encodingOf(toBytes(key)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#idletime(java.nio.ByteBuffer)
+	 */
+	@Override
+	public Mono<Duration> idletime(ByteBuffer key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.execute(() -> commands().idletime(toBytes(key)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveKeyCommands#refcount(java.nio.ByteBuffer)
+	 */
+	@Override
+	public Mono<Long> refcount(ByteBuffer key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.execute(() -> commands().refcount(toBytes(key)));
+	}
+
+	private RedisKeyCommands commands() {
+		return connection.getConnection().keyCommands();
+	}
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import static org.springframework.data.redis.connection.inmemory.InMemoryReactiveConnection.*;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.reactivestreams.Publisher;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.ReactiveListCommands;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.BooleanResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.ByteBufferResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.CommandResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.KeyCommand;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.NumericResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.RangeCommand;
+import org.springframework.data.redis.connection.RedisListCommands;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ReactiveListCommands} for {@link InMemoryReactiveConnection}. Blocking pops wait on a scheduler suitable for
+ * blocking calls and emit no response if the timeout expires.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class InMemoryReactiveListCommands implements ReactiveListCommands {
+
+	private final @NonNull InMemoryReactiveConnection connection;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveListCommands#push(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<PushCommand, Long>> push(Publisher<PushCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notEmpty(command.getValues(), "Values must not be null or empty!");
+
+			if (!command.getUpsert() && command.getValues().size() > 1) {
+				throw new InvalidDataAccessApiUsageException(
+						String.format("%s PUSHX only allows one value!", command.getDirection()));
+			}
+
+			byte[] key = toBytes(command.getKey());
+			Long result;
+
+			if (command.getDirection() == Direction.RIGHT) {
+				result = command.getUpsert() ? commands().rPush(key, toBytes(command.getValues()))
+						: commands().rPushX(key, toBytes(command.getValues().get(0)));
+			} else {
+				result = command.getUpsert() ? commands().lPush(key, toBytes(command.getValues()))
+						: commands().lPushX(key, toBytes(command.getValues().get(0)));
+			}
+
+			return new NumericResponse<>(command, result);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveListCommands#lLen(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<KeyCommand, Long>> lLen(Publisher<KeyCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return new NumericResponse<>(command, commands().lLen(toBytes(command.getKey())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveListCommands#lRange(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<CommandResponse<RangeCommand, Flux<ByteBuffer>>> lRange(Publisher<RangeCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getRange(), "Range must not be null!");
+
+			Range<Long> range = command.getRange();
+			List<byte[]> values = commands().lRange(toBytes(command.getKey()), range.getLowerBound().getValue().orElse(0L),
+					range.getUpperBound().getValue().orElse(-1L));
+
+			return new CommandResponse<>(command, Flux.fromIterable(toBuffers(values)));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveListCommands#lTrim(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<RangeCommand>> lTrim(Publisher<RangeCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getRange(), "Range must not be null!");
+
+			Range<Long> range = command.getRange();
+			commands().lTrim(toBytes(command.getKey()), range.getLowerBound().getValue().orElse(0L),
+					range.getUpperBound().getValue().orElse(-1L));
+
+			return new BooleanResponse<>(command, true);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveListCommands#lIndex(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<ByteBufferResponse<LIndexCommand>> lIndex(Publisher<LIndexCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getIndex(), "Index value must not be null!");
+
+			return toResponse(command, commands().lIndex(toBytes(command.getKey()), command.getIndex()));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveListCommands#lInsert(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<LInsertCommand, Long>> lInsert(Publisher<LInsertCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getValue(), "Value must not be null!");
+			Assert.notNull(command.getPivot(), "Pivot must not be null!");
+			Assert.notNull(command.getPosition(), "Position must not be null!");
+
+			return new NumericResponse<>(command, commands().lInsert(toBytes(command.getKey()), command.getPosition(),
+					toBytes(command.getPivot()), toBytes(command.getValue())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveListCommands#lSet(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<LSetCommand>> lSet(Publisher<LSetCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getValue(), "Value must not be null!");
+			Assert.notNull(command.getIndex(), "Index must not be null!");
+
+			commands().lSet(toBytes(command.getKey()), command.getIndex(), toBytes(command.getValue()));
+			return new BooleanResponse<>(command, true);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveListCommands#lRem(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<LRemCommand, Long>> lRem(Publisher<LRemCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getValue(), "Value must not be null!");
+			Assert.notNull(command.getCount(), "Count must not be null!");
+
+			return new NumericResponse<>(command,
+					commands().lRem(toBytes(command.getKey()), command.getCount(), toBytes(command.getValue())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveListCommands#pop(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<ByteBufferResponse<PopCommand>> pop(Publisher<PopCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getDirection(), "Direction must not be null!");
+
+			byte[] key = toBytes(command.getKey());
+
+			return toResponse(command,
+					command.getDirection() == Direction.RIGHT ? commands().rPop(key) : commands().lPop(key));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveListCommands#bPop(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<PopResponse> bPop(Publisher<BPopCommand> commands) {
+
+		return connection.executeBlocking(commands, command -> {
+
+			Assert.notNull(command.getKeys(), "Keys must not be null!");
+			Assert.notNull(command.getDirection(), "Direction must not be null!");
+			Assert.notNull(command.getTimeout(), "Timeout must not be null!");
+
+			int timeout = (int) command.getTimeout().getSeconds();
+			byte[][] keys = toBytes(command.getKeys());
+
+			List<byte[]> result = command.getDirection() == Direction.RIGHT ? commands().bRPop(timeout, keys)
+					: commands().bLPop(timeout, keys);
+
+			return result != null ? new PopResponse(command, new PopResult(toBuffers(result))) : null;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveListCommands#rPopLPush(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<ByteBufferResponse<RPopLPushCommand>> rPopLPush(Publisher<RPopLPushCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getDestination(), "Destination key must not be null!");
+
+			return toResponse(command, commands().rPopLPush(toBytes(command.getKey()), toBytes(command.getDestination())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveListCommands#bRPopLPush(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<ByteBufferResponse<BRPopLPushCommand>> bRPopLPush(Publisher<BRPopLPushCommand> commands) {
+
+		return connection.executeBlocking(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getDestination(), "Destination key must not be null!");
+			Assert.notNull(command.getTimeout(), "Timeout must not be null!");
+
+			byte[] result = commands().bRPopLPush((int) command.getTimeout().getSeconds(), toBytes(command.getKey()),
+					toBytes(command.getDestination()));
+
+			return result != null ? new ByteBufferResponse<>(command, toBuffer(result)) : null;
+		});
+	}
+
+	private RedisListCommands commands() {
+		return connection.getConnection().listCommands();
+	}
+}
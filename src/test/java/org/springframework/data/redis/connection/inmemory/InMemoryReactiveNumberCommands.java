@@ -0,0 +1,160 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import static org.springframework.data.redis.connection.inmemory.InMemoryReactiveConnection.*;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.redis.connection.ReactiveNumberCommands;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.KeyCommand;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.NumericResponse;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.util.Assert;
+import org.springframework.util.NumberUtils;
+
+/**
+ * {@link ReactiveNumberCommands} for {@link InMemoryReactiveConnection}. {@link Double} and {@link Float} increments
+ * use the floating point variant of the command.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class InMemoryReactiveNumberCommands implements ReactiveNumberCommands {
+
+	private final @NonNull InMemoryReactiveConnection connection;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveNumberCommands#incr(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<KeyCommand, Long>> incr(Publisher<KeyCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return new NumericResponse<>(command, stringCommands().incr(toBytes(command.getKey())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveNumberCommands#incrBy(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public <T extends Number> Flux<NumericResponse<IncrByCommand<T>, T>> incrBy(Publisher<IncrByCommand<T>> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getValue(), "Value for INCRBY must not be null.");
+
+			T value = command.getValue();
+			byte[] key = toBytes(command.getKey());
+
+			Number result = isFloatingPoint(value) ? stringCommands().incrBy(key, value.doubleValue())
+					: stringCommands().incrBy(key, value.longValue());
+
+			return new NumericResponse<>(command, convert(result, value));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveNumberCommands#decr(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<KeyCommand, Long>> decr(Publisher<KeyCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return new NumericResponse<>(command, stringCommands().decr(toBytes(command.getKey())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveNumberCommands#decrBy(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public <T extends Number> Flux<NumericResponse<DecrByCommand<T>, T>> decrBy(Publisher<DecrByCommand<T>> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getValue(), "Value for DECRBY must not be null.");
+
+			T value = command.getValue();
+			byte[] key = toBytes(command.getKey());
+
+			Number result = isFloatingPoint(value) ? stringCommands().incrBy(key, -value.doubleValue())
+					: stringCommands().decrBy(key, value.longValue());
+
+			return new NumericResponse<>(command, convert(result, value));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveNumberCommands#hIncrBy(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public <T extends Number> Flux<NumericResponse<HIncrByCommand<T>, T>> hIncrBy(
+			Publisher<HIncrByCommand<T>> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getField(), "Field must not be null!");
+			Assert.notNull(command.getValue(), "Value must not be null!");
+
+			T value = command.getValue();
+			byte[] key = toBytes(command.getKey());
+			byte[] field = toBytes(command.getField());
+
+			Number result = isFloatingPoint(value) ? hashCommands().hIncrBy(key, field, value.doubleValue())
+					: hashCommands().hIncrBy(key, field, value.longValue());
+
+			return new NumericResponse<>(command, convert(result, value));
+		});
+	}
+
+	private RedisStringCommands stringCommands() {
+		return connection.getConnection().stringCommands();
+	}
+
+	private RedisHashCommands hashCommands() {
+		return connection.getConnection().hashCommands();
+	}
+
+	private static boolean isFloatingPoint(Number value) {
+		return value instanceof Double || value instanceof Float;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T extends Number> T convert(Number result, T type) {
+		return (T) NumberUtils.convertNumberToTargetClass(result, type.getClass());
+	}
+}
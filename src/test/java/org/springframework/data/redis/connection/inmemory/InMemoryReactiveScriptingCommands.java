@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.ReactiveScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+
+/**
+ * {@link ReactiveScriptingCommands} for {@link InMemoryReactiveConnection}. Scripting is not supported and emits
+ * {@link InvalidDataAccessApiUsageException}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+class InMemoryReactiveScriptingCommands implements ReactiveScriptingCommands {
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveScriptingCommands#scriptFlush()
+	 */
+	@Override
+	public Mono<String> scriptFlush() {
+		return Mono.error(unsupported());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveScriptingCommands#scriptKill()
+	 */
+	@Override
+	public Mono<String> scriptKill() {
+		return Mono.error(unsupported());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveScriptingCommands#scriptLoad(java.nio.ByteBuffer)
+	 */
+	@Override
+	public Mono<String> scriptLoad(ByteBuffer script) {
+		return Mono.error(unsupported());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveScriptingCommands#scriptExists(java.util.List)
+	 */
+	@Override
+	public Flux<Boolean> scriptExists(List<String> scriptShas) {
+		return Flux.error(unsupported());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveScriptingCommands#eval(java.nio.ByteBuffer, org.springframework.data.redis.connection.ReturnType, int, java.nio.ByteBuffer[])
+	 */
+	@Override
+	public <T> Flux<T> eval(ByteBuffer script, ReturnType returnType, int numKeys, ByteBuffer... keysAndArgs) {
+		return Flux.error(unsupported());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveScriptingCommands#evalSha(java.lang.String, org.springframework.data.redis.connection.ReturnType, int, java.nio.ByteBuffer[])
+	 */
+	@Override
+	public <T> Flux<T> evalSha(String scriptSha, ReturnType returnType, int numKeys, ByteBuffer... keysAndArgs) {
+		return Flux.error(unsupported());
+	}
+
+	private static InvalidDataAccessApiUsageException unsupported() {
+		return new InvalidDataAccessApiUsageException("Scripting is not supported by the in-memory connection");
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import org.springframework.data.redis.connection.ReactiveServerCommands;
+import org.springframework.data.redis.connection.RedisServerCommands;
+import org.springframework.data.redis.core.types.RedisClientInfo;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ReactiveServerCommands} for {@link InMemoryReactiveConnection}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class InMemoryReactiveServerCommands implements ReactiveServerCommands {
+
+	private static final String OK = "OK";
+
+	private final @NonNull InMemoryReactiveConnection connection;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveServerCommands#bgReWriteAof()
+	 */
+	@Override
+	public Mono<String> bgReWriteAof() {
+		return status(() -> commands().bgReWriteAof());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveServerCommands#bgSave()
+	 */
+	@Override
+	public Mono<String> bgSave() {
+		return status(() -> commands().bgSave());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveServerCommands#lastSave()
+	 */
+	@Override
+	public Mono<Long> lastSave() {
+		return connection.execute(() -> commands().lastSave());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveServerCommands#save()
+	 */
+	@Override
+	public Mono<String> save() {
+		return status(() -> commands().save());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveServerCommands#dbSize()
+	 */
+	@Override
+	public Mono<Long> dbSize() {
+		return connection.execute(() -> commands().dbSize());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveServerCommands#flushDb()
+	 */
+	@Override
+	public Mono<String> flushDb() {
+		return status(() -> commands().flushDb());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveServerCommands#flushAll()
+	 */
+	@Override
+	public Mono<String> flushAll() {
+		return status(() -> commands().flushAll());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveServerCommands#info()
+	 */
+	@Override
+	public Mono<Properties> info() {
+		return connection.execute(() -> commands().info());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveServerCommands#info(java.lang.String)
+	 */
+	@Override
+	public Mono<Properties> info(String section) {
+
+		Assert.hasText(section, "Section must not be null or empty!");
+
+		return connection.execute(() -> commands().info(section));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveServerCommands#getConfig(java.lang.String)
+	 */
+	@Override
+	public Mono<Properties> getConfig(String pattern) {
+
+		Assert.hasText(pattern, "Pattern must not be null or empty!");
+
+		return connection.execute(() -> commands().getConfig(pattern));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveServerCommands#setConfig(java.lang.String, java.lang.String)
+	 */
+	@Override
+	public Mono<String> setConfig(String param, String value) {
+
+		Assert.hasText(param, "Parameter must not be null or empty!");
+		Assert.hasText(value, "Value must not be null or empty!");
+
+		return status(() -> commands().setConfig(param, value));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveServerCommands#resetConfigStats()
+	 */
+	@Override
+	public Mono<String> resetConfigStats() {
+		return status(() -> commands().resetConfigStats());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveServerCommands#time()
+	 */
+	@Override
+	public Mono<Long> time() {
+		return connection.execute(() -> commands().time());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveServerCommands#killClient(java.lang.String, int)
+	 */
+	@Override
+	public Mono<String> killClient(String host, int port) {
+
+		Assert.notNull(host, "Host must not be null or empty!");
+
+		return status(() -> commands().killClient(host, port));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveServerCommands#setClientName(java.lang.String)
+	 */
+	@Override
+	public Mono<String> setClientName(String name) {
+
+		Assert.hasText(name, "Name must not be null or empty!");
+
+		return status(() -> commands().setClientName(name.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveServerCommands#getClientName()
+	 */
+	@Override
+	public Mono<String> getClientName() {
+		return connection.execute(() -> commands().getClientName());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveServerCommands#getClientList()
+	 */
+	@Override
+	public Flux<RedisClientInfo> getClientList() {
+		return connection.execute(() -> commands().getClientList()).flatMapIterable(list -> list);
+	}
+
+	private RedisServerCommands commands() {
+		return connection.getConnection().serverCommands();
+	}
+
+	private static Mono<String> status(Runnable command) {
+		return Mono.fromRunnable(command).thenReturn(OK);
+	}
+}
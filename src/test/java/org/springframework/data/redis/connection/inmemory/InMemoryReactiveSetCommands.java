@@ -0,0 +1,327 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import static org.springframework.data.redis.connection.inmemory.InMemoryReactiveConnection.*;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.BooleanResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.ByteBufferResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.CommandResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.KeyCommand;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.KeyScanCommand;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.NumericResponse;
+import org.springframework.data.redis.connection.ReactiveSetCommands;
+import org.springframework.data.redis.connection.RedisSetCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ReactiveSetCommands} for {@link InMemoryReactiveConnection}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class InMemoryReactiveSetCommands implements ReactiveSetCommands {
+
+	private final @NonNull InMemoryReactiveConnection connection;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSetCommands#sAdd(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<SAddCommand, Long>> sAdd(Publisher<SAddCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notEmpty(command.getValues(), "Values must not be null or empty!");
+
+			return new NumericResponse<>(command, commands().sAdd(toBytes(command.getKey()), toBytes(command.getValues())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSetCommands#sRem(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<SRemCommand, Long>> sRem(Publisher<SRemCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notEmpty(command.getValues(), "Values must not be null or empty!");
+
+			return new NumericResponse<>(command, commands().sRem(toBytes(command.getKey()), toBytes(command.getValues())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSetCommands#sPop(org.springframework.data.redis.connection.ReactiveSetCommands.SPopCommand)
+	 */
+	@Override
+	public Flux<ByteBuffer> sPop(SPopCommand command) {
+
+		Assert.notNull(command, "Command must not be null!");
+		Assert.notNull(command.getKey(), "Key must not be null!");
+
+		return connection.execute(() -> commands().sPop(toBytes(command.getKey()), command.getCount()))
+				.flatMapIterable(InMemoryReactiveConnection::toBuffers);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSetCommands#sPop(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<ByteBufferResponse<KeyCommand>> sPop(Publisher<KeyCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return toResponse(command, commands().sPop(toBytes(command.getKey())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSetCommands#sMove(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<SMoveCommand>> sMove(Publisher<SMoveCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getDestination(), "Destination key must not be null!");
+			Assert.notNull(command.getValue(), "Value must not be null!");
+
+			return new BooleanResponse<>(command, commands().sMove(toBytes(command.getKey()),
+					toBytes(command.getDestination()), toBytes(command.getValue())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSetCommands#sCard(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<KeyCommand, Long>> sCard(Publisher<KeyCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return new NumericResponse<>(command, commands().sCard(toBytes(command.getKey())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSetCommands#sIsMember(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<SIsMemberCommand>> sIsMember(Publisher<SIsMemberCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getValue(), "Value must not be null!");
+
+			return new BooleanResponse<>(command,
+					commands().sIsMember(toBytes(command.getKey()), toBytes(command.getValue())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSetCommands#sInter(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<CommandResponse<SInterCommand, Flux<ByteBuffer>>> sInter(Publisher<SInterCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKeys(), "Keys must not be null!");
+
+			return new CommandResponse<>(command, toFlux(commands().sInter(toBytes(command.getKeys()))));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSetCommands#sInterStore(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<SInterStoreCommand, Long>> sInterStore(Publisher<SInterStoreCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKeys(), "Keys must not be null!");
+			Assert.notNull(command.getKey(), "Destination key must not be null!");
+
+			return new NumericResponse<>(command,
+					commands().sInterStore(toBytes(command.getKey()), toBytes(command.getKeys())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSetCommands#sUnion(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<CommandResponse<SUnionCommand, Flux<ByteBuffer>>> sUnion(Publisher<SUnionCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKeys(), "Keys must not be null!");
+
+			return new CommandResponse<>(command, toFlux(commands().sUnion(toBytes(command.getKeys()))));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSetCommands#sUnionStore(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<SUnionStoreCommand, Long>> sUnionStore(Publisher<SUnionStoreCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKeys(), "Keys must not be null!");
+			Assert.notNull(command.getKey(), "Destination key must not be null!");
+
+			return new NumericResponse<>(command,
+					commands().sUnionStore(toBytes(command.getKey()), toBytes(command.getKeys())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSetCommands#sDiff(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<CommandResponse<SDiffCommand, Flux<ByteBuffer>>> sDiff(Publisher<SDiffCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKeys(), "Keys must not be null!");
+
+			return new CommandResponse<>(command, toFlux(commands().sDiff(toBytes(command.getKeys()))));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSetCommands#sDiffStore(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<SDiffStoreCommand, Long>> sDiffStore(Publisher<SDiffStoreCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKeys(), "Keys must not be null!");
+			Assert.notNull(command.getKey(), "Destination key must not be null!");
+
+			return new NumericResponse<>(command,
+					commands().sDiffStore(toBytes(command.getKey()), toBytes(command.getKeys())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSetCommands#sMembers(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<CommandResponse<KeyCommand, Flux<ByteBuffer>>> sMembers(Publisher<KeyCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return new CommandResponse<>(command, toFlux(commands().sMembers(toBytes(command.getKey()))));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSetCommands#sScan(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<CommandResponse<KeyCommand, Flux<ByteBuffer>>> sScan(Publisher<KeyScanCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getOptions(), "ScanOptions must not be null!");
+
+			Flux<ByteBuffer> result = Flux.defer(() -> {
+
+				Cursor<byte[]> cursor = commands().sScan(toBytes(command.getKey()), command.getOptions());
+				return Flux.fromIterable(() -> cursor).map(ByteBuffer::wrap);
+			});
+
+			return new CommandResponse<>(command, result);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSetCommands#sRandMember(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<CommandResponse<SRandMembersCommand, Flux<ByteBuffer>>> sRandMember(
+			Publisher<SRandMembersCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			byte[] key = toBytes(command.getKey());
+
+			if (!command.getCount().isPresent() || command.getCount().get().equals(1L)) {
+
+				byte[] member = commands().sRandMember(key);
+				return new CommandResponse<>(command,
+						toFlux(member != null ? Collections.singleton(member) : Collections.emptySet()));
+			}
+
+			return new CommandResponse<>(command, toFlux(commands().sRandMember(key, command.getCount().get())));
+		});
+	}
+
+	private RedisSetCommands commands() {
+		return connection.getConnection().setCommands();
+	}
+
+	private static Flux<ByteBuffer> toFlux(Collection<byte[]> values) {
+		return Flux.fromIterable(toBuffers(values));
+	}
+}
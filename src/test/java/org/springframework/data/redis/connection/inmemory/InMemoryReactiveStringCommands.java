@@ -0,0 +1,392 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import static org.springframework.data.redis.connection.inmemory.InMemoryReactiveConnection.*;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.BooleanResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.ByteBufferResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.KeyCommand;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.MultiValueResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.NumericResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.RangeCommand;
+import org.springframework.data.redis.connection.ReactiveStringCommands;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ReactiveStringCommands} for {@link InMemoryReactiveConnection}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class InMemoryReactiveStringCommands implements ReactiveStringCommands {
+
+	private static final ByteBuffer EMPTY_BYTE_BUFFER = ByteBuffer.wrap(new byte[0]);
+
+	private final @NonNull InMemoryReactiveConnection connection;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveStringCommands#set(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<SetCommand>> set(Publisher<SetCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getValue(), "Value must not be null!");
+
+			return new BooleanResponse<>(command,
+					commands().set(toBytes(command.getKey()), toBytes(command.getValue()),
+							command.getExpiration().orElse(Expiration.persistent()), command.getOption().orElse(SetOption.upsert())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveStringCommands#get(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<ByteBufferResponse<KeyCommand>> get(Publisher<KeyCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return toResponse(command, commands().get(toBytes(command.getKey())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveStringCommands#getSet(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<ByteBufferResponse<SetCommand>> getSet(Publisher<SetCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getValue(), "Value must not be null!");
+
+			if (command.getExpiration().isPresent() || command.getOption().isPresent()) {
+				throw new IllegalArgumentException("Command must not define expiration nor option for GETSET.");
+			}
+
+			return toResponse(command, commands().getSet(toBytes(command.getKey()), toBytes(command.getValue())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveStringCommands#mGet(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<MultiValueResponse<List<ByteBuffer>, ByteBuffer>> mGet(Publisher<List<ByteBuffer>> keysets) {
+
+		return connection.execute(keysets, keys -> {
+
+			Assert.notNull(keys, "Keys must not be null!");
+
+			List<byte[]> values = commands().mGet(toBytes(keys));
+			List<ByteBuffer> result = new ArrayList<>(values.size());
+
+			for (byte[] value : values) {
+				result.add(value != null ? toBuffer(value) : EMPTY_BYTE_BUFFER.duplicate());
+			}
+
+			return new MultiValueResponse<>(keys, result);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveStringCommands#setNX(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<SetCommand>> setNX(Publisher<SetCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getValue(), "Value must not be null!");
+
+			return new BooleanResponse<>(command, commands().setNX(toBytes(command.getKey()), toBytes(command.getValue())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveStringCommands#setEX(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<SetCommand>> setEX(Publisher<SetCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getValue(), "Value must not be null!");
+			Assert.isTrue(command.getExpiration().isPresent(), "Expiration time must not be null!");
+
+			return new BooleanResponse<>(command, commands().setEx(toBytes(command.getKey()),
+					command.getExpiration().get().getExpirationTimeInSeconds(), toBytes(command.getValue())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveStringCommands#pSetEX(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<SetCommand>> pSetEX(Publisher<SetCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getValue(), "Value must not be null!");
+			Assert.isTrue(command.getExpiration().isPresent(), "Expiration time must not be null!");
+
+			return new BooleanResponse<>(command, commands().pSetEx(toBytes(command.getKey()),
+					command.getExpiration().get().getExpirationTimeInMilliseconds(), toBytes(command.getValue())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveStringCommands#mSet(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<MSetCommand>> mSet(Publisher<MSetCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notEmpty(command.getKeyValuePairs(), "Pairs must not be null or empty!");
+
+			return new BooleanResponse<>(command, commands().mSet(toPairs(command.getKeyValuePairs())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveStringCommands#mSetNX(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<MSetCommand>> mSetNX(Publisher<MSetCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notEmpty(command.getKeyValuePairs(), "Pairs must not be null or empty!");
+
+			return new BooleanResponse<>(command, commands().mSetNX(toPairs(command.getKeyValuePairs())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveStringCommands#append(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<AppendCommand, Long>> append(Publisher<AppendCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getValue(), "Value must not be null!");
+
+			return new NumericResponse<>(command, commands().append(toBytes(command.getKey()), toBytes(command.getValue())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveStringCommands#getRange(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<ByteBufferResponse<RangeCommand>> getRange(Publisher<RangeCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getRange(), "Range must not be null!");
+
+			Range<Long> range = command.getRange();
+
+			return new ByteBufferResponse<>(command, toBuffer(commands().getRange(toBytes(command.getKey()),
+					range.getLowerBound().getValue().orElse(0L), range.getUpperBound().getValue().orElse(-1L))));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveStringCommands#setRange(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<SetRangeCommand, Long>> setRange(Publisher<SetRangeCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getValue(), "Value must not be null!");
+			Assert.notNull(command.getOffset(), "Offset must not be null!");
+
+			return new NumericResponse<>(command,
+					commands().overwrite(toBytes(command.getKey()), toBytes(command.getValue()), command.getOffset()));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveStringCommands#getBit(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<GetBitCommand>> getBit(Publisher<GetBitCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getOffset(), "Offset must not be null!");
+
+			return new BooleanResponse<>(command, commands().getBit(toBytes(command.getKey()), command.getOffset()));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveStringCommands#setBit(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<BooleanResponse<SetBitCommand>> setBit(Publisher<SetBitCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getOffset(), "Offset must not be null!");
+
+			return new BooleanResponse<>(command,
+					commands().setBit(toBytes(command.getKey()), command.getOffset(), command.getValue()));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveStringCommands#bitCount(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<BitCountCommand, Long>> bitCount(Publisher<BitCountCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			Range<Long> range = command.getRange();
+
+			return new NumericResponse<>(command, commands().bitCount(toBytes(command.getKey()),
+					range.getLowerBound().getValue().orElse(0L), range.getUpperBound().getValue().orElse(-1L)));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveStringCommands#bitField(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<MultiValueResponse<BitFieldCommand, Long>> bitField(Publisher<BitFieldCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return new MultiValueResponse<>(command,
+					commands().bitField(toBytes(command.getKey()), command.getSubCommands()));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveStringCommands#bitOp(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<BitOpCommand, Long>> bitOp(Publisher<BitOpCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getDestinationKey(), "DestinationKey must not be null!");
+			Assert.notEmpty(command.getKeys(), "Keys must not be null or empty");
+
+			return new NumericResponse<>(command, commands().bitOp(command.getBitOp(),
+					toBytes(command.getDestinationKey()), toBytes(command.getKeys())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveStringCommands#bitPos(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<BitPosCommand, Long>> bitPos(Publisher<BitPosCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return new NumericResponse<>(command,
+					commands().bitPos(toBytes(command.getKey()), command.getBit(), command.getRange()));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveStringCommands#strLen(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<KeyCommand, Long>> strLen(Publisher<KeyCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return new NumericResponse<>(command, commands().strLen(toBytes(command.getKey())));
+		});
+	}
+
+	private InMemoryStringCommands commands() {
+		return (InMemoryStringCommands) connection.getConnection().stringCommands();
+	}
+
+	private static Map<byte[], byte[]> toPairs(Map<ByteBuffer, ByteBuffer> pairs) {
+
+		Map<byte[], byte[]> result = new LinkedHashMap<>(pairs.size());
+		pairs.forEach((key, value) -> result.put(toBytes(key), toBytes(value)));
+
+		return result;
+	}
+}
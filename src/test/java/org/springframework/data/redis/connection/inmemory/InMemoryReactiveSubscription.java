@@ -0,0 +1,221 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ReactiveSubscription} registered with {@link InMemoryPubSub}. Messages are emitted on the publishing thread to
+ * all subscribers of {@link #receive()}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+class InMemoryReactiveSubscription implements ReactiveSubscription, InMemoryPubSub.Receiver {
+
+	private final InMemoryPubSub pubSub;
+	private final Set<ByteArrayWrapper> channels = ConcurrentHashMap.newKeySet();
+	private final Set<ByteArrayWrapper> patterns = ConcurrentHashMap.newKeySet();
+	private final Set<FluxSink<Message<ByteBuffer, ByteBuffer>>> sinks = new CopyOnWriteArraySet<>();
+
+	InMemoryReactiveSubscription(InMemoryPubSub pubSub) {
+
+		this.pubSub = pubSub;
+		pubSub.register(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.inmemory.InMemoryPubSub.Receiver#receive(byte[], byte[])
+	 */
+	@Override
+	public int receive(byte[] channel, byte[] message) {
+
+		int received = 0;
+
+		if (channels.contains(new ByteArrayWrapper(channel))) {
+
+			sinks.forEach(sink -> sink.next(new ChannelMessage<>(ByteBuffer.wrap(channel), ByteBuffer.wrap(message))));
+			received++;
+		}
+
+		for (ByteArrayWrapper pattern : patterns) {
+
+			if (GlobPattern.matches(pattern.getArray(), channel)) {
+
+				sinks.forEach(sink -> sink.next(new PatternMessage<>(ByteBuffer.wrap(pattern.getArray()),
+						ByteBuffer.wrap(channel), ByteBuffer.wrap(message))));
+				received++;
+			}
+		}
+
+		return received;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSubscription#subscribe(java.nio.ByteBuffer[])
+	 */
+	@Override
+	public Mono<Void> subscribe(ByteBuffer... channels) {
+
+		Assert.notNull(channels, "Channels must not be null!");
+		Assert.noNullElements(channels, "Channels must not contain null elements!");
+
+		return Mono.fromRunnable(() -> add(this.channels, channels));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSubscription#pSubscribe(java.nio.ByteBuffer[])
+	 */
+	@Override
+	public Mono<Void> pSubscribe(ByteBuffer... patterns) {
+
+		Assert.notNull(patterns, "Patterns must not be null!");
+		Assert.noNullElements(patterns, "Patterns must not contain null elements!");
+
+		return Mono.fromRunnable(() -> add(this.patterns, patterns));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSubscription#unsubscribe()
+	 */
+	@Override
+	public Mono<Void> unsubscribe() {
+		return Mono.fromRunnable(channels::clear);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSubscription#unsubscribe(java.nio.ByteBuffer[])
+	 */
+	@Override
+	public Mono<Void> unsubscribe(ByteBuffer... channels) {
+
+		Assert.notNull(channels, "Channels must not be null!");
+		Assert.noNullElements(channels, "Channels must not contain null elements!");
+
+		return Mono.fromRunnable(() -> remove(this.channels, channels));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSubscription#pUnsubscribe()
+	 */
+	@Override
+	public Mono<Void> pUnsubscribe() {
+		return Mono.fromRunnable(patterns::clear);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSubscription#pUnsubscribe(java.nio.ByteBuffer[])
+	 */
+	@Override
+	public Mono<Void> pUnsubscribe(ByteBuffer... patterns) {
+
+		Assert.notNull(patterns, "Patterns must not be null!");
+		Assert.noNullElements(patterns, "Patterns must not contain null elements!");
+
+		return Mono.fromRunnable(() -> remove(this.patterns, patterns));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSubscription#getChannels()
+	 */
+	@Override
+	public Set<ByteBuffer> getChannels() {
+		return toBuffers(channels);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSubscription#getPatterns()
+	 */
+	@Override
+	public Set<ByteBuffer> getPatterns() {
+		return toBuffers(patterns);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSubscription#receive()
+	 */
+	@Override
+	public Flux<Message<ByteBuffer, ByteBuffer>> receive() {
+
+		return Flux.create(sink -> {
+
+			sinks.add(sink);
+			sink.onDispose(() -> sinks.remove(sink));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveSubscription#cancel()
+	 */
+	@Override
+	public Mono<Void> cancel() {
+
+		return Mono.fromRunnable(() -> {
+
+			pubSub.unregister(this);
+			channels.clear();
+			patterns.clear();
+
+			sinks.forEach(FluxSink::complete);
+			sinks.clear();
+		});
+	}
+
+	private static void add(Set<ByteArrayWrapper> target, ByteBuffer... values) {
+
+		for (ByteBuffer value : values) {
+			target.add(new ByteArrayWrapper(InMemoryReactiveConnection.toBytes(value)));
+		}
+	}
+
+	private static void remove(Set<ByteArrayWrapper> target, ByteBuffer... values) {
+
+		for (ByteBuffer value : values) {
+			target.remove(new ByteArrayWrapper(InMemoryReactiveConnection.toBytes(value)));
+		}
+	}
+
+	private static Set<ByteBuffer> toBuffers(Set<ByteArrayWrapper> values) {
+
+		Set<ByteBuffer> result = new LinkedHashSet<>(values.size());
+		values.forEach(value -> result.add(ByteBuffer.wrap(value.getArray().clone())));
+
+		return result;
+	}
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import static org.springframework.data.redis.connection.inmemory.InMemoryReactiveConnection.*;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.redis.connection.DefaultTuple;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.CommandResponse;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.KeyCommand;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.KeyScanCommand;
+import org.springframework.data.redis.connection.ReactiveRedisConnection.NumericResponse;
+import org.springframework.data.redis.connection.ReactiveZSetCommands;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.RedisZSetCommands.Aggregate;
+import org.springframework.data.redis.connection.RedisZSetCommands.Limit;
+import org.springframework.data.redis.connection.RedisZSetCommands.Tuple;
+import org.springframework.data.redis.connection.RedisZSetCommands.Weights;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ReactiveZSetCommands} for {@link InMemoryReactiveConnection}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class InMemoryReactiveZSetCommands implements ReactiveZSetCommands {
+
+	private final @NonNull InMemoryReactiveConnection connection;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveZSetCommands#zAdd(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<ZAddCommand, Number>> zAdd(Publisher<ZAddCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notEmpty(command.getTuples(), "Tuples must not be empty or null!");
+
+			byte[] key = toBytes(command.getKey());
+
+			if (command.isIncr()) {
+
+				if (command.getTuples().size() > 1) {
+					throw new IllegalArgumentException("ZADD INCR must not contain more than one tuple!");
+				}
+
+				Tuple tuple = command.getTuples().iterator().next();
+				return new NumericResponse<>(command, commands().zIncrBy(key, tuple.getScore(), tuple.getValue()));
+			}
+
+			// flags are derived the same way as for Lettuce: CH without upsert implies XX
+			boolean ifAbsent = command.isUpsert();
+			boolean ifPresent = !command.isUpsert() && command.isReturnTotalChanged();
+
+			return new NumericResponse<>(command,
+					commands().zAdd(key, command.getTuples(), ifAbsent, ifPresent, command.isReturnTotalChanged()));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveZSetCommands#zRem(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<ZRemCommand, Long>> zRem(Publisher<ZRemCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notEmpty(command.getValues(), "Values must not be null or empty!");
+
+			return new NumericResponse<>(command, commands().zRem(toBytes(command.getKey()), toBytes(command.getValues())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveZSetCommands#zIncrBy(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<ZIncrByCommand, Double>> zIncrBy(Publisher<ZIncrByCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getValue(), "Member must not be null!");
+			Assert.notNull(command.getIncrement(), "Increment value must not be null!");
+
+			return new NumericResponse<>(command, commands().zIncrBy(toBytes(command.getKey()),
+					command.getIncrement().doubleValue(), toBytes(command.getValue())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveZSetCommands#zRank(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<ZRankCommand, Long>> zRank(Publisher<ZRankCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getValue(), "Value must not be null!");
+
+			byte[] key = toBytes(command.getKey());
+			byte[] value = toBytes(command.getValue());
+
+			Long rank = command.getDirection() == Direction.ASC ? commands().zRank(key, value)
+					: commands().zRevRank(key, value);
+
+			return rank != null ? new NumericResponse<>(command, rank) : null;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveZSetCommands#zRange(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<CommandResponse<ZRangeCommand, Flux<Tuple>>> zRange(Publisher<ZRangeCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getRange(), "Range must not be null!");
+
+			byte[] key = toBytes(command.getKey());
+			long start = command.getRange().getLowerBound().getValue().orElse(0L);
+			long end = command.getRange().getUpperBound().getValue().orElse(-1L);
+			boolean ascending = command.getDirection() == Direction.ASC;
+
+			if (command.isWithScores()) {
+				return new CommandResponse<>(command, Flux.fromIterable(ascending ? commands().zRangeWithScores(key, start, end)
+						: commands().zRevRangeWithScores(key, start, end)));
+			}
+
+			return new CommandResponse<>(command,
+					toTuples(ascending ? commands().zRange(key, start, end) : commands().zRevRange(key, start, end)));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveZSetCommands#zRangeByScore(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<CommandResponse<ZRangeByScoreCommand, Flux<Tuple>>> zRangeByScore(
+			Publisher<ZRangeByScoreCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getRange(), "Range must not be null!");
+
+			byte[] key = toBytes(command.getKey());
+			RedisZSetCommands.Range range = toRange(command.getRange());
+			Limit limit = command.getLimit().orElse(Limit.unlimited());
+			boolean ascending = command.getDirection() == Direction.ASC;
+
+			if (command.isWithScores()) {
+				return new CommandResponse<>(command,
+						Flux.fromIterable(ascending ? commands().zRangeByScoreWithScores(key, range, limit)
+								: commands().zRevRangeByScoreWithScores(key, range, limit)));
+			}
+
+			return new CommandResponse<>(command, toTuples(ascending ? commands().zRangeByScore(key, range, limit)
+					: commands().zRevRangeByScore(key, range, limit)));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveZSetCommands#zScan(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<CommandResponse<KeyCommand, Flux<Tuple>>> zScan(Publisher<KeyScanCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getOptions(), "ScanOptions must not be null!");
+
+			Flux<Tuple> result = Flux.defer(() -> {
+
+				Cursor<Tuple> cursor = commands().zScan(toBytes(command.getKey()), command.getOptions());
+				return Flux.fromIterable(() -> cursor);
+			});
+
+			return new CommandResponse<>(command, result);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveZSetCommands#zCount(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<ZCountCommand, Long>> zCount(Publisher<ZCountCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getRange(), "Range must not be null!");
+
+			return new NumericResponse<>(command,
+					commands().zCount(toBytes(command.getKey()), toRange(command.getRange())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveZSetCommands#zCard(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<KeyCommand, Long>> zCard(Publisher<KeyCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+
+			return new NumericResponse<>(command, commands().zCard(toBytes(command.getKey())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveZSetCommands#zScore(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<ZScoreCommand, Double>> zScore(Publisher<ZScoreCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getValue(), "Value must not be null!");
+
+			Double score = commands().zScore(toBytes(command.getKey()), toBytes(command.getValue()));
+			return score != null ? new NumericResponse<>(command, score) : null;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveZSetCommands#zRemRangeByRank(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<ZRemRangeByRankCommand, Long>> zRemRangeByRank(
+			Publisher<ZRemRangeByRankCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getRange(), "Range must not be null!");
+
+			return new NumericResponse<>(command, commands().zRemRange(toBytes(command.getKey()),
+					command.getRange().getLowerBound().getValue().orElse(0L),
+					command.getRange().getUpperBound().getValue().orElse(-1L)));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveZSetCommands#zRemRangeByScore(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<ZRemRangeByScoreCommand, Long>> zRemRangeByScore(
+			Publisher<ZRemRangeByScoreCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Key must not be null!");
+			Assert.notNull(command.getRange(), "Range must not be null!");
+
+			return new NumericResponse<>(command,
+					commands().zRemRangeByScore(toBytes(command.getKey()), toRange(command.getRange())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveZSetCommands#zUnionStore(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<ZUnionStoreCommand, Long>> zUnionStore(Publisher<ZUnionStoreCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Destination key must not be null!");
+			Assert.notEmpty(command.getSourceKeys(), "Source keys must not be null or empty!");
+
+			return new NumericResponse<>(command,
+					commands().zUnionStore(toBytes(command.getKey()), command.getAggregateFunction().orElse(Aggregate.SUM),
+							toWeights(command.getWeights(), command.getSourceKeys()), toBytes(command.getSourceKeys())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveZSetCommands#zInterStore(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<NumericResponse<ZInterStoreCommand, Long>> zInterStore(Publisher<ZInterStoreCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Destination key must not be null!");
+			Assert.notEmpty(command.getSourceKeys(), "Source keys must not be null or empty!");
+
+			return new NumericResponse<>(command,
+					commands().zInterStore(toBytes(command.getKey()), command.getAggregateFunction().orElse(Aggregate.SUM),
+							toWeights(command.getWeights(), command.getSourceKeys()), toBytes(command.getSourceKeys())));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.ReactiveZSetCommands#zRangeByLex(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Flux<CommandResponse<ZRangeByLexCommand, Flux<ByteBuffer>>> zRangeByLex(
+			Publisher<ZRangeByLexCommand> commands) {
+
+		return connection.execute(commands, command -> {
+
+			Assert.notNull(command.getKey(), "Destination key must not be null!");
+
+			return new CommandResponse<>(command, Flux.fromIterable(toBuffers(commands().zRangeByLex(
+					toBytes(command.getKey()), toRange(command.getRange()), command.getLimit(),
+					command.getDirection() == Direction.DESC))));
+		});
+	}
+
+	private InMemoryZSetCommands commands() {
+		return (InMemoryZSetCommands) connection.getConnection().zSetCommands();
+	}
+
+	private static Flux<Tuple> toTuples(Collection<byte[]> values) {
+		return Flux.fromIterable(values).map(value -> new DefaultTuple(value, Double.NaN));
+	}
+
+	private static Weights toWeights(List<Double> weights, List<ByteBuffer> sourceKeys) {
+
+		if (weights.isEmpty()) {
+			return Weights.fromSetCount(sourceKeys.size());
+		}
+
+		return Weights.of(weights.stream().mapToDouble(Double::doubleValue).toArray());
+	}
+
+	private static <T extends Comparable<T>> RedisZSetCommands.Range toRange(Range<T> range) {
+
+		RedisZSetCommands.Range result = RedisZSetCommands.Range.range();
+
+		range.getLowerBound().getValue().ifPresent(value -> {
+
+			if (range.getLowerBound().isInclusive()) {
+				result.gte(value);
+			} else {
+				result.gt(value);
+			}
+		});
+
+		range.getUpperBound().getValue().ifPresent(value -> {
+
+			if (range.getUpperBound().isInclusive()) {
+				result.lte(value);
+			} else {
+				result.lt(value);
+			}
+		});
+
+		return result;
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.util.Assert;
+
+/**
+ * State shared by all connections of an {@link InMemoryConnectionFactory}: the databases, the pub/sub broker and the
+ * server configuration.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+class InMemoryServer {
+
+	private final InMemoryDatabase[] databases;
+	private final InMemoryPubSub pubSub = new InMemoryPubSub();
+	private final Properties config = new Properties();
+	private final LongSupplier clock;
+	private final long startTime;
+
+	/**
+	 * @param databases number of databases, must be greater than zero.
+	 * @param clock supplier of the current time in milliseconds.
+	 */
+	InMemoryServer(int databases, LongSupplier clock) {
+
+		Assert.isTrue(databases > 0, "Number of databases must be greater than zero!");
+
+		AtomicLong versions = new AtomicLong();
+
+		this.databases = new InMemoryDatabase[databases];
+		this.clock = clock;
+		this.startTime = clock.getAsLong();
+
+		for (int i = 0; i < databases; i++) {
+			this.databases[i] = new InMemoryDatabase(versions, clock);
+		}
+
+		config.setProperty("databases", Integer.toString(databases));
+		config.setProperty("notify-keyspace-events", "");
+	}
+
+	/**
+	 * @param index the database index.
+	 * @return the database.
+	 * @throws InvalidDataAccessApiUsageException if {@code index} is out of range.
+	 */
+	InMemoryDatabase getDatabase(int index) {
+
+		if (index < 0 || index >= databases.length) {
+			throw new InvalidDataAccessApiUsageException("ERR DB index is out of range");
+		}
+
+		return databases[index];
+	}
+
+	int getDatabaseCount() {
+		return databases.length;
+	}
+
+	InMemoryPubSub getPubSub() {
+		return pubSub;
+	}
+
+	Properties getConfig() {
+		return config;
+	}
+
+	long currentTimeMillis() {
+		return clock.getAsLong();
+	}
+
+	long getUptimeMillis() {
+		return clock.getAsLong() - startTime;
+	}
+
+	void flushAll() {
+
+		for (InMemoryDatabase database : databases) {
+			database.clear();
+		}
+	}
+}
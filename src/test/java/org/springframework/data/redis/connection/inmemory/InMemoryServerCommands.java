@@ -0,0 +1,322 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.data.redis.connection.RedisServerCommands;
+import org.springframework.data.redis.core.types.RedisClientInfo;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisServerCommands} for {@link InMemoryConnection}. Persistence commands are accepted without effect,
+ * replication, client management, {@code MIGRATE} and {@code SHUTDOWN} are not supported.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class InMemoryServerCommands implements RedisServerCommands {
+
+	static final String VERSION = "5.0.0";
+
+	private final @NonNull InMemoryConnection connection;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#bgReWriteAof()
+	 */
+	@Override
+	public void bgReWriteAof() {
+		connection.invokeStatus(() -> {});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#bgSave()
+	 */
+	@Override
+	public void bgSave() {
+		connection.invokeStatus(() -> {});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#lastSave()
+	 */
+	@Override
+	public Long lastSave() {
+
+		InMemoryServer server = connection.getServer();
+
+		return connection
+				.invoke(() -> TimeUnit.MILLISECONDS.toSeconds(server.currentTimeMillis() - server.getUptimeMillis()));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#save()
+	 */
+	@Override
+	public void save() {
+		connection.invokeStatus(() -> {});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#dbSize()
+	 */
+	@Override
+	public Long dbSize() {
+		return connection.invoke(() -> connection.database().size());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#flushDb()
+	 */
+	@Override
+	public void flushDb() {
+		connection.invokeStatus(() -> connection.database().clear());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#flushAll()
+	 */
+	@Override
+	public void flushAll() {
+		connection.invokeStatus(() -> connection.getServer().flushAll());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#info()
+	 */
+	@Override
+	public Properties info() {
+		return connection.invoke(() -> collectInfo(null));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#info(java.lang.String)
+	 */
+	@Override
+	public Properties info(String section) {
+
+		Assert.hasText(section, "Section must not be null or empty!");
+
+		return connection.invoke(() -> collectInfo(section));
+	}
+
+	private Properties collectInfo(@Nullable String section) {
+
+		InMemoryServer server = connection.getServer();
+		Properties info = new Properties();
+
+		if (section == null || "server".equalsIgnoreCase(section)) {
+
+			info.setProperty("redis_version", VERSION);
+			info.setProperty("redis_mode", "standalone");
+			info.setProperty("uptime_in_seconds",
+					Long.toString(TimeUnit.MILLISECONDS.toSeconds(server.getUptimeMillis())));
+		}
+
+		if (section == null || "keyspace".equalsIgnoreCase(section)) {
+
+			for (int i = 0; i < server.getDatabaseCount(); i++) {
+
+				long keys = server.getDatabase(i).size();
+
+				if (keys > 0) {
+					info.setProperty("db" + i, "keys=" + keys + ",expires=0,avg_ttl=0");
+				}
+			}
+		}
+
+		return info;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#shutdown()
+	 */
+	@Override
+	public void shutdown() {
+		throw unsupported("SHUTDOWN");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#shutdown(org.springframework.data.redis.connection.RedisServerCommands.ShutdownOption)
+	 */
+	@Override
+	public void shutdown(ShutdownOption option) {
+		throw unsupported("SHUTDOWN");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#getConfig(java.lang.String)
+	 */
+	@Override
+	public Properties getConfig(String pattern) {
+
+		Assert.notNull(pattern, "Pattern must not be null!");
+
+		byte[] glob = pattern.getBytes(StandardCharsets.UTF_8);
+
+		return connection.invoke(() -> {
+
+			Properties config = connection.getServer().getConfig();
+			Properties result = new Properties();
+
+			for (String name : config.stringPropertyNames()) {
+				if (GlobPattern.matches(glob, name.getBytes(StandardCharsets.UTF_8))) {
+					result.setProperty(name, config.getProperty(name));
+				}
+			}
+
+			return result;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#setConfig(java.lang.String, java.lang.String)
+	 */
+	@Override
+	public void setConfig(String param, String value) {
+
+		Assert.hasText(param, "Parameter must not be null or empty!");
+		Assert.notNull(value, "Value must not be null!");
+
+		if ("databases".equalsIgnoreCase(param)) {
+			throw new InvalidDataAccessApiUsageException("ERR Unsupported CONFIG parameter: databases");
+		}
+
+		connection.invokeStatus(() -> connection.getServer().getConfig().setProperty(param, value));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#resetConfigStats()
+	 */
+	@Override
+	public void resetConfigStats() {
+		connection.invokeStatus(() -> {});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#time()
+	 */
+	@Override
+	public Long time() {
+		return connection.invoke(() -> connection.getServer().currentTimeMillis());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#killClient(java.lang.String, int)
+	 */
+	@Override
+	public void killClient(String host, int port) {
+		throw unsupported("CLIENT KILL");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#setClientName(byte[])
+	 */
+	@Override
+	public void setClientName(byte[] name) {
+
+		Assert.notNull(name, "Name must not be null!");
+
+		connection.invokeStatus(() -> connection.setClientName(new String(name, StandardCharsets.UTF_8)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#getClientName()
+	 */
+	@Nullable
+	@Override
+	public String getClientName() {
+		return connection.invoke(connection::getClientName);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#getClientList()
+	 */
+	@Override
+	public List<RedisClientInfo> getClientList() {
+		throw unsupported("CLIENT LIST");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#slaveOf(java.lang.String, int)
+	 */
+	@Override
+	public void slaveOf(String host, int port) {
+		throw unsupported("SLAVEOF");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#slaveOfNoOne()
+	 */
+	@Override
+	public void slaveOfNoOne() {
+		throw unsupported("SLAVEOF");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#migrate(byte[], org.springframework.data.redis.connection.RedisNode, int, org.springframework.data.redis.connection.RedisServerCommands.MigrateOption)
+	 */
+	@Override
+	public void migrate(byte[] key, RedisNode target, int dbIndex, @Nullable MigrateOption option) {
+		throw unsupported("MIGRATE");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisServerCommands#migrate(byte[], org.springframework.data.redis.connection.RedisNode, int, org.springframework.data.redis.connection.RedisServerCommands.MigrateOption, long)
+	 */
+	@Override
+	public void migrate(byte[] key, RedisNode target, int dbIndex, @Nullable MigrateOption option, long timeout) {
+		throw unsupported("MIGRATE");
+	}
+
+	private static InvalidDataAccessApiUsageException unsupported(String command) {
+		return new InvalidDataAccessApiUsageException(
+				String.format("%s is not supported by the in-memory connection", command));
+	}
+}
@@ -0,0 +1,492 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.RedisSetCommands;
+import org.springframework.data.redis.connection.inmemory.InMemoryDatabase.KeyAccess;
+import org.springframework.data.redis.connection.inmemory.InMemoryDatabase.Keyspace;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.KeyBoundCursor;
+import org.springframework.data.redis.core.ScanIteration;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisSetCommands} for {@link InMemoryConnection}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class InMemorySetCommands implements RedisSetCommands {
+
+	private final @NonNull InMemoryConnection connection;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sAdd(byte[], byte[][])
+	 */
+	@Override
+	public Long sAdd(byte[] key, byte[]... values) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notEmpty(values, "Values must not be empty!");
+		Assert.noNullElements(values, "Values must not contain null elements!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			Set<ByteArrayWrapper> set = access.getOrCreateSet();
+			long added = 0;
+
+			for (byte[] value : values) {
+				if (set.add(new ByteArrayWrapper(value.clone()))) {
+					added++;
+				}
+			}
+
+			access.modified();
+			return added;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sRem(byte[], byte[][])
+	 */
+	@Override
+	public Long sRem(byte[] key, byte[]... values) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notEmpty(values, "Values must not be empty!");
+		Assert.noNullElements(values, "Values must not contain null elements!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			Set<ByteArrayWrapper> set = access.getSet();
+			long removed = 0;
+
+			if (set == null) {
+				return removed;
+			}
+
+			for (byte[] value : values) {
+				if (set.remove(new ByteArrayWrapper(value))) {
+					removed++;
+				}
+			}
+
+			access.modified();
+			return removed;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sPop(byte[])
+	 */
+	@Nullable
+	@Override
+	public byte[] sPop(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> {
+
+			List<byte[]> result = connection.database().withKey(key, access -> pop(access, 1));
+			return result == null || result.isEmpty() ? null : result.get(0);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sPop(byte[], long)
+	 */
+	@Override
+	public List<byte[]> sPop(byte[] key, long count) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		if (count < 0) {
+			throw new InvalidDataAccessApiUsageException("ERR index out of range");
+		}
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> pop(access, count)));
+	}
+
+	private static List<byte[]> pop(KeyAccess access, long count) {
+
+		Set<ByteArrayWrapper> set = access.getSet();
+		List<byte[]> result = new ArrayList<>();
+
+		if (set == null || count == 0) {
+			return result;
+		}
+
+		List<ByteArrayWrapper> members = new ArrayList<>(set);
+		Collections.shuffle(members, ThreadLocalRandom.current());
+
+		for (int i = 0; i < count && i < members.size(); i++) {
+
+			set.remove(members.get(i));
+			result.add(members.get(i).getArray().clone());
+		}
+
+		access.modified();
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sMove(byte[], byte[], byte[])
+	 */
+	@Override
+	public Boolean sMove(byte[] srcKey, byte[] destKey, byte[] value) {
+
+		Assert.notNull(srcKey, "Source key must not be null!");
+		Assert.notNull(destKey, "Destination key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		return connection.invoke(() -> connection.database().withKeys(keyspace -> {
+
+			KeyAccess source = keyspace.access(srcKey);
+			KeyAccess target = keyspace.access(destKey);
+
+			Set<ByteArrayWrapper> sourceSet = source.getSet();
+			target.getSet();
+
+			ByteArrayWrapper member = new ByteArrayWrapper(value.clone());
+
+			if (sourceSet == null || !sourceSet.remove(member)) {
+				return false;
+			}
+
+			source.modified();
+
+			target.getOrCreateSet().add(member);
+			target.modified();
+
+			return true;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sCard(byte[])
+	 */
+	@Override
+	public Long sCard(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			Set<ByteArrayWrapper> set = access.getSet();
+			return set != null ? (long) set.size() : 0L;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sIsMember(byte[], byte[])
+	 */
+	@Override
+	public Boolean sIsMember(byte[] key, byte[] value) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			Set<ByteArrayWrapper> set = access.getSet();
+			return set != null && set.contains(new ByteArrayWrapper(value));
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sInter(byte[][])
+	 */
+	@Override
+	public Set<byte[]> sInter(byte[]... keys) {
+
+		Assert.notEmpty(keys, "Keys must not be null or empty!");
+		Assert.noNullElements(keys, "Keys must not contain null elements!");
+
+		return connection.invoke(() -> toBytes(connection.database()
+				.withKeys(keyspace -> combine(keyspace, SetOperation.INTERSECT, keys))));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sInterStore(byte[], byte[][])
+	 */
+	@Override
+	public Long sInterStore(byte[] destKey, byte[]... keys) {
+
+		Assert.notNull(destKey, "Destination key must not be null!");
+		Assert.notEmpty(keys, "Keys must not be null or empty!");
+		Assert.noNullElements(keys, "Keys must not contain null elements!");
+
+		return connection.invoke(() -> store(SetOperation.INTERSECT, destKey, keys));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sUnion(byte[][])
+	 */
+	@Override
+	public Set<byte[]> sUnion(byte[]... keys) {
+
+		Assert.notEmpty(keys, "Keys must not be null or empty!");
+		Assert.noNullElements(keys, "Keys must not contain null elements!");
+
+		return connection.invoke(() -> toBytes(connection.database()
+				.withKeys(keyspace -> combine(keyspace, SetOperation.UNION, keys))));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sUnionStore(byte[], byte[][])
+	 */
+	@Override
+	public Long sUnionStore(byte[] destKey, byte[]... keys) {
+
+		Assert.notNull(destKey, "Destination key must not be null!");
+		Assert.notEmpty(keys, "Keys must not be null or empty!");
+		Assert.noNullElements(keys, "Keys must not contain null elements!");
+
+		return connection.invoke(() -> store(SetOperation.UNION, destKey, keys));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sDiff(byte[][])
+	 */
+	@Override
+	public Set<byte[]> sDiff(byte[]... keys) {
+
+		Assert.notEmpty(keys, "Keys must not be null or empty!");
+		Assert.noNullElements(keys, "Keys must not contain null elements!");
+
+		return connection.invoke(() -> toBytes(connection.database()
+				.withKeys(keyspace -> combine(keyspace, SetOperation.DIFF, keys))));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sDiffStore(byte[], byte[][])
+	 */
+	@Override
+	public Long sDiffStore(byte[] destKey, byte[]... keys) {
+
+		Assert.notNull(destKey, "Destination key must not be null!");
+		Assert.notEmpty(keys, "Keys must not be null or empty!");
+		Assert.noNullElements(keys, "Keys must not contain null elements!");
+
+		return connection.invoke(() -> store(SetOperation.DIFF, destKey, keys));
+	}
+
+	private Long store(SetOperation operation, byte[] destKey, byte[][] keys) {
+
+		return connection.database().withKeys(keyspace -> {
+
+			Set<ByteArrayWrapper> result = combine(keyspace, operation, keys);
+			KeyAccess target = keyspace.access(destKey);
+
+			if (result.isEmpty()) {
+				target.delete();
+			} else {
+				target.set(result);
+			}
+
+			return (long) result.size();
+		});
+	}
+
+	private static Set<ByteArrayWrapper> combine(Keyspace keyspace, SetOperation operation, byte[][] keys) {
+
+		Set<ByteArrayWrapper> result = null;
+
+		for (byte[] key : keys) {
+
+			Set<ByteArrayWrapper> set = keyspace.access(key).getSet();
+			set = set != null ? set : Collections.emptySet();
+
+			if (result == null) {
+				result = new HashSet<>(set);
+				continue;
+			}
+
+			switch (operation) {
+				case INTERSECT:
+					result.retainAll(set);
+					break;
+				case UNION:
+					result.addAll(set);
+					break;
+				case DIFF:
+					result.removeAll(set);
+					break;
+			}
+		}
+
+		return result != null ? result : new HashSet<>();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sMembers(byte[])
+	 */
+	@Override
+	public Set<byte[]> sMembers(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			Set<ByteArrayWrapper> set = access.getSet();
+			return set != null ? toBytes(set) : new LinkedHashSet<>();
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sRandMember(byte[])
+	 */
+	@Nullable
+	@Override
+	public byte[] sRandMember(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> {
+
+			List<byte[]> result = connection.database().withKey(key, access -> randomMembers(access, 1));
+			return result == null || result.isEmpty() ? null : result.get(0);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sRandMember(byte[], long)
+	 */
+	@Override
+	public List<byte[]> sRandMember(byte[] key, long count) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> randomMembers(access, count)));
+	}
+
+	private static List<byte[]> randomMembers(KeyAccess access, long count) {
+
+		Set<ByteArrayWrapper> set = access.getSet();
+		List<byte[]> result = new ArrayList<>();
+
+		if (set == null || count == 0) {
+			return result;
+		}
+
+		List<ByteArrayWrapper> members = new ArrayList<>(set);
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+
+		// a negative count allows the same member to be returned multiple times
+		if (count < 0) {
+
+			for (long i = 0; i < -count; i++) {
+				result.add(members.get(random.nextInt(members.size())).getArray().clone());
+			}
+
+			return result;
+		}
+
+		Collections.shuffle(members, random);
+
+		for (int i = 0; i < count && i < members.size(); i++) {
+			result.add(members.get(i).getArray().clone());
+		}
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisSetCommands#sScan(byte[], org.springframework.data.redis.core.ScanOptions)
+	 */
+	@Override
+	public Cursor<byte[]> sScan(byte[] key, ScanOptions options) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return new KeyBoundCursor<byte[]>(key, 0, options) {
+
+			private final ScanSupport support = new ScanSupport(() -> connection.database().withKey(key, access -> {
+
+				Set<ByteArrayWrapper> set = access.getSet();
+				return set != null ? new ArrayList<>(set) : Collections.emptyList();
+			}));
+
+			@Override
+			protected ScanIteration<byte[]> doScan(byte[] key, long cursorId, ScanOptions options) {
+
+				if (connection.isQueueing() || connection.isPipelined()) {
+					throw new UnsupportedOperationException("'SSCAN' cannot be called in pipeline / transaction mode.");
+				}
+
+				ScanIteration<ByteArrayWrapper> iteration = support.scan(cursorId, options);
+
+				List<byte[]> members = connection.database().withKey(key, access -> {
+
+					Set<ByteArrayWrapper> set = access.getSet();
+					return iteration.getItems().stream().filter(it -> set != null && set.contains(it))
+							.map(it -> it.getArray().clone()).collect(Collectors.toList());
+				});
+
+				return new ScanIteration<>(iteration.getCursorId(), members);
+			}
+		}.open();
+	}
+
+	private static Set<byte[]> toBytes(Set<ByteArrayWrapper> members) {
+
+		Set<byte[]> result = new LinkedHashSet<>(members.size());
+
+		for (ByteArrayWrapper member : members) {
+			result.add(member.getArray().clone());
+		}
+
+		return result;
+	}
+
+	private enum SetOperation {
+		INTERSECT, UNION, DIFF
+	}
+}
@@ -0,0 +1,703 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.inmemory.InMemoryDatabase.KeyAccess;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.DoubleRedisSerializer;
+import org.springframework.data.redis.serializer.LongRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisStringCommands} for {@link InMemoryConnection}. {@code BITFIELD} is not supported.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class InMemoryStringCommands implements RedisStringCommands {
+
+	private static final byte[] EMPTY = new byte[0];
+
+	private final @NonNull InMemoryConnection connection;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#get(byte[])
+	 */
+	@Nullable
+	@Override
+	public byte[] get(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> copy(access.getString())));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#getSet(byte[], byte[])
+	 */
+	@Nullable
+	@Override
+	public byte[] getSet(byte[] key, byte[] value) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			byte[] previous = access.getString();
+			access.set(value.clone());
+
+			return copy(previous);
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#mGet(byte[][])
+	 */
+	@Override
+	public List<byte[]> mGet(byte[]... keys) {
+
+		Assert.notNull(keys, "Keys must not be null!");
+		Assert.noNullElements(keys, "Keys must not contain null elements!");
+
+		return connection.invoke(() -> connection.database().withKeys(keyspace -> {
+
+			List<byte[]> values = new ArrayList<>(keys.length);
+
+			for (byte[] key : keys) {
+
+				KeyAccess access = keyspace.access(key);
+
+				// MGET reports values of other types as absent
+				values.add(access.value != null && access.value.data instanceof byte[] ? copy((byte[]) access.value.data)
+						: null);
+			}
+
+			return values;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#set(byte[], byte[])
+	 */
+	@Override
+	public Boolean set(byte[] key, byte[] value) {
+		return set(key, value, Expiration.persistent(), SetOption.upsert());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#set(byte[], byte[], org.springframework.data.redis.core.types.Expiration, org.springframework.data.redis.connection.RedisStringCommands.SetOption)
+	 */
+	@Override
+	public Boolean set(byte[] key, byte[] value, Expiration expiration, SetOption option) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+		Assert.notNull(expiration, "Expiration must not be null!");
+		Assert.notNull(option, "Option must not be null!");
+
+		if (!expiration.isPersistent() && expiration.getExpirationTimeInMilliseconds() <= 0) {
+			throw new InvalidDataAccessApiUsageException("ERR invalid expire time in set");
+		}
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			if ((option == SetOption.SET_IF_ABSENT && access.exists())
+					|| (option == SetOption.SET_IF_PRESENT && !access.exists())) {
+				return false;
+			}
+
+			access.set(value.clone());
+
+			if (!expiration.isPersistent()) {
+				access.setExpiresAt(access.now + expiration.getExpirationTimeInMilliseconds());
+			}
+
+			return true;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#setNX(byte[], byte[])
+	 */
+	@Override
+	public Boolean setNX(byte[] key, byte[] value) {
+		return set(key, value, Expiration.persistent(), SetOption.ifAbsent());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#setEx(byte[], long, byte[])
+	 */
+	@Override
+	public Boolean setEx(byte[] key, long seconds, byte[] value) {
+		return set(key, value, Expiration.seconds(seconds), SetOption.upsert());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#pSetEx(byte[], long, byte[])
+	 */
+	@Override
+	public Boolean pSetEx(byte[] key, long milliseconds, byte[] value) {
+		return set(key, value, Expiration.milliseconds(milliseconds), SetOption.upsert());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#mSet(java.util.Map)
+	 */
+	@Override
+	public Boolean mSet(Map<byte[], byte[]> tuple) {
+
+		Assert.notNull(tuple, "Tuples must not be null!");
+
+		return connection.invoke(() -> mSet(tuple, false));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#mSetNX(java.util.Map)
+	 */
+	@Override
+	public Boolean mSetNX(Map<byte[], byte[]> tuple) {
+
+		Assert.notNull(tuple, "Tuples must not be null!");
+
+		return connection.invoke(() -> mSet(tuple, true));
+	}
+
+	private Boolean mSet(Map<byte[], byte[]> tuple, boolean ifAbsent) {
+
+		return connection.database().withKeys(keyspace -> {
+
+			if (ifAbsent) {
+				for (byte[] key : tuple.keySet()) {
+					if (keyspace.access(key).exists()) {
+						return false;
+					}
+				}
+			}
+
+			tuple.forEach((key, value) -> keyspace.access(key).set(value.clone()));
+
+			return true;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#incr(byte[])
+	 */
+	@Override
+	public Long incr(byte[] key) {
+		return incrBy(key, 1L);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#incrBy(byte[], long)
+	 */
+	@Override
+	public Long incrBy(byte[] key, long value) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			long result = increment(toLong(access.getString()), value);
+			access.update(LongRedisSerializer.INSTANCE.serializeLong(result));
+
+			return result;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#incrBy(byte[], double)
+	 */
+	@Override
+	public Double incrBy(byte[] key, double value) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			double result = toDouble(access.getString()) + value;
+
+			if (Double.isNaN(result) || Double.isInfinite(result)) {
+				throw new InvalidDataAccessApiUsageException("ERR increment would produce NaN or Infinity");
+			}
+
+			access.update(DoubleRedisSerializer.INSTANCE.serializeDouble(result));
+
+			return result;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#decr(byte[])
+	 */
+	@Override
+	public Long decr(byte[] key) {
+		return incrBy(key, -1L);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#decrBy(byte[], long)
+	 */
+	@Override
+	public Long decrBy(byte[] key, long value) {
+
+		if (value == Long.MIN_VALUE) {
+			throw new InvalidDataAccessApiUsageException("ERR decrement would overflow");
+		}
+
+		return incrBy(key, -value);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#append(byte[], byte[])
+	 */
+	@Override
+	public Long append(byte[] key, byte[] value) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			byte[] current = access.getString();
+			byte[] result = current != null ? concat(current, value) : value.clone();
+			access.update(result);
+
+			return (long) result.length;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#getRange(byte[], long, long)
+	 */
+	@Override
+	public byte[] getRange(byte[] key, long start, long end) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			byte[] value = access.getString();
+
+			if (value == null) {
+				return EMPTY;
+			}
+
+			int[] range = normalize(start, end, value.length);
+			return range != null ? Arrays.copyOfRange(value, range[0], range[1] + 1) : EMPTY;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#setRange(byte[], byte[], long)
+	 */
+	@Override
+	public void setRange(byte[] key, byte[] value, long offset) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		connection.invokeStatus(() -> overwrite(key, value, offset));
+	}
+
+	/**
+	 * Overwrite part of the string stored at {@code key} starting at {@code offset}.
+	 *
+	 * @param key the key.
+	 * @param value the value to write.
+	 * @param offset the zero-based offset.
+	 * @return the length of the string after it was modified as replied by {@code SETRANGE}.
+	 */
+	long overwrite(byte[] key, byte[] value, long offset) {
+
+		if (offset < 0 || offset + value.length > Integer.MAX_VALUE - 8) {
+			throw new InvalidDataAccessApiUsageException("ERR offset is out of range");
+		}
+
+		Long length = connection.database().withKey(key, access -> {
+
+			byte[] current = access.getString();
+			byte[] result = current != null ? current : EMPTY;
+
+			if (value.length == 0) {
+				return (long) result.length;
+			}
+
+			if (result.length < offset + value.length) {
+				result = Arrays.copyOf(result, (int) offset + value.length);
+			} else {
+				result = result.clone();
+			}
+
+			System.arraycopy(value, 0, result, (int) offset, value.length);
+			access.update(result);
+
+			return (long) result.length;
+		});
+
+		return length != null ? length : 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#getBit(byte[], long)
+	 */
+	@Override
+	public Boolean getBit(byte[] key, long offset) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> getBit(access.getString(), offset)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#setBit(byte[], long, boolean)
+	 */
+	@Override
+	public Boolean setBit(byte[] key, long offset, boolean value) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		if (offset < 0 || offset >= (long) Integer.MAX_VALUE * 8) {
+			throw new InvalidDataAccessApiUsageException("ERR bit offset is not an integer or out of range");
+		}
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			byte[] current = access.getString();
+			boolean previous = getBit(current, offset);
+			int index = (int) (offset >> 3);
+
+			byte[] result = current != null ? current : EMPTY;
+			result = result.length > index ? result.clone() : Arrays.copyOf(result, index + 1);
+
+			int mask = 0x80 >> (offset & 7);
+			result[index] = (byte) (value ? result[index] | mask : result[index] & ~mask);
+			access.update(result);
+
+			return previous;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#bitCount(byte[])
+	 */
+	@Override
+	public Long bitCount(byte[] key) {
+		return bitCount(key, 0, -1);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#bitCount(byte[], long, long)
+	 */
+	@Override
+	public Long bitCount(byte[] key, long start, long end) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			byte[] value = access.getString();
+			int[] range = value != null ? normalize(start, end, value.length) : null;
+
+			if (range == null) {
+				return 0L;
+			}
+
+			long count = 0;
+
+			for (int i = range[0]; i <= range[1]; i++) {
+				count += Integer.bitCount(value[i] & 0xFF);
+			}
+
+			return count;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#bitField(byte[], org.springframework.data.redis.connection.BitFieldSubCommands)
+	 */
+	@Override
+	public List<Long> bitField(byte[] key, BitFieldSubCommands subCommands) {
+		throw new InvalidDataAccessApiUsageException("BITFIELD is not supported by the in-memory connection");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#bitOp(org.springframework.data.redis.connection.RedisStringCommands.BitOperation, byte[], byte[][])
+	 */
+	@Override
+	public Long bitOp(BitOperation op, byte[] destination, byte[]... keys) {
+
+		Assert.notNull(op, "BitOperation must not be null!");
+		Assert.notNull(destination, "Destination key must not be null!");
+		Assert.notEmpty(keys, "Keys must not be null or empty!");
+
+		if (op == BitOperation.NOT && keys.length > 1) {
+			throw new InvalidDataAccessApiUsageException("ERR BITOP NOT must be called with a single source key.");
+		}
+
+		return connection.invoke(() -> connection.database().withKeys(keyspace -> {
+
+			List<byte[]> sources = new ArrayList<>(keys.length);
+			int length = 0;
+
+			for (byte[] key : keys) {
+
+				byte[] value = keyspace.access(key).getString();
+				value = value != null ? value : EMPTY;
+
+				sources.add(value);
+				length = Math.max(length, value.length);
+			}
+
+			byte[] result = new byte[length];
+
+			for (int i = 0; i < length; i++) {
+
+				int output = byteAt(sources.get(0), i);
+
+				if (op == BitOperation.NOT) {
+					output = ~output;
+				}
+
+				for (int j = 1; j < sources.size(); j++) {
+
+					int input = byteAt(sources.get(j), i);
+
+					switch (op) {
+						case AND:
+							output &= input;
+							break;
+						case OR:
+							output |= input;
+							break;
+						case XOR:
+							output ^= input;
+							break;
+						default:
+							break;
+					}
+				}
+
+				result[i] = (byte) output;
+			}
+
+			KeyAccess target = keyspace.access(destination);
+
+			if (length == 0) {
+				target.delete();
+			} else {
+				target.set(result);
+			}
+
+			return (long) length;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#bitPos(byte[], boolean, org.springframework.data.domain.Range)
+	 */
+	@Override
+	public Long bitPos(byte[] key, boolean bit, Range<Long> range) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(range, "Range must not be null! Use Range.unbounded() instead.");
+
+		long start = range.getLowerBound().getValue().orElse(0L);
+		long end = range.getUpperBound().getValue().orElse(-1L);
+		boolean endGiven = range.getUpperBound().isBounded();
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			byte[] value = access.getString();
+
+			if (value == null || value.length == 0) {
+				return bit ? -1L : 0L;
+			}
+
+			int[] bytes = normalize(start, end, value.length);
+
+			if (bytes == null) {
+				return -1L;
+			}
+
+			for (int i = bytes[0]; i <= bytes[1]; i++) {
+				for (int j = 0; j < 8; j++) {
+					if (((value[i] & (0x80 >> j)) != 0) == bit) {
+						return (long) i * 8 + j;
+					}
+				}
+			}
+
+			// a clear bit is assumed right of the string unless the range is explicitly bounded
+			return !bit && !endGiven ? (long) (bytes[1] + 1) * 8 : -1L;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisStringCommands#strLen(byte[])
+	 */
+	@Override
+	public Long strLen(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			byte[] value = access.getString();
+			return value != null ? (long) value.length : 0L;
+		}));
+	}
+
+	/**
+	 * Normalize a Redis index range that may use negative indexes to count from the end.
+	 *
+	 * @param start the start index, inclusive.
+	 * @param end the end index, inclusive.
+	 * @param length the length of the indexed value.
+	 * @return the normalized {@code [start, end]} indexes or {@literal null} if the range is empty.
+	 */
+	@Nullable
+	static int[] normalize(long start, long end, int length) {
+
+		if (start < 0) {
+			start = Math.max(0, length + start);
+		}
+
+		if (end < 0) {
+			end = length + end;
+		}
+
+		end = Math.min(end, length - 1L);
+
+		if (start > end || start >= length) {
+			return null;
+		}
+
+		return new int[] { (int) start, (int) end };
+	}
+
+	static long toLong(@Nullable byte[] value) {
+
+		if (value == null) {
+			return 0;
+		}
+
+		try {
+			return LongRedisSerializer.INSTANCE.deserializeLong(value);
+		} catch (SerializationException e) {
+			throw new InvalidDataAccessApiUsageException("ERR value is not an integer or out of range", e);
+		}
+	}
+
+	static double toDouble(@Nullable byte[] value) {
+
+		if (value == null) {
+			return 0;
+		}
+
+		try {
+
+			double result = DoubleRedisSerializer.INSTANCE.deserializeDouble(value);
+
+			if (Double.isNaN(result)) {
+				throw new InvalidDataAccessApiUsageException("ERR value is not a valid float");
+			}
+
+			return result;
+		} catch (SerializationException e) {
+			throw new InvalidDataAccessApiUsageException("ERR value is not a valid float", e);
+		}
+	}
+
+	static long increment(long value, long increment) {
+
+		try {
+			return Math.addExact(value, increment);
+		} catch (ArithmeticException e) {
+			throw new InvalidDataAccessApiUsageException("ERR increment or decrement would overflow", e);
+		}
+	}
+
+	@Nullable
+	private static byte[] copy(@Nullable byte[] value) {
+		return value != null ? value.clone() : null;
+	}
+
+	private static byte[] concat(byte[] left, byte[] right) {
+
+		byte[] result = Arrays.copyOf(left, left.length + right.length);
+		System.arraycopy(right, 0, result, left.length, right.length);
+
+		return result;
+	}
+
+	private static int byteAt(byte[] value, int index) {
+		return index < value.length ? value[index] & 0xFF : 0;
+	}
+
+	private static boolean getBit(@Nullable byte[] value, long offset) {
+
+		long index = offset >> 3;
+
+		if (value == null || index >= value.length) {
+			return false;
+		}
+
+		return (value[(int) index] & (0x80 >> (offset & 7))) != 0;
+	}
+}
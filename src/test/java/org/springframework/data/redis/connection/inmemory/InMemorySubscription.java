@@ -0,0 +1,150 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.util.AbstractSubscription;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link org.springframework.data.redis.connection.Subscription} registered with {@link InMemoryPubSub}. Subscribing
+ * does not block the calling thread, messages are delivered on the publishing thread.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+class InMemorySubscription extends AbstractSubscription implements InMemoryPubSub.Receiver {
+
+	private static final Log LOGGER = LogFactory.getLog(InMemorySubscription.class);
+
+	private final InMemoryPubSub pubSub;
+	private final Set<ByteArrayWrapper> channels = ConcurrentHashMap.newKeySet();
+	private final Set<ByteArrayWrapper> patterns = ConcurrentHashMap.newKeySet();
+
+	InMemorySubscription(MessageListener listener, InMemoryPubSub pubSub) {
+
+		super(listener);
+		this.pubSub = pubSub;
+		pubSub.register(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.inmemory.InMemoryPubSub.Receiver#receive(byte[], byte[])
+	 */
+	@Override
+	public int receive(byte[] channel, byte[] message) {
+
+		int received = 0;
+
+		if (channels.contains(new ByteArrayWrapper(channel))) {
+			received += dispatch(channel, message, null);
+		}
+
+		for (ByteArrayWrapper pattern : patterns) {
+			if (GlobPattern.matches(pattern.getArray(), channel)) {
+				received += dispatch(channel, message, pattern.getArray());
+			}
+		}
+
+		return received;
+	}
+
+	private int dispatch(byte[] channel, byte[] message, @Nullable byte[] pattern) {
+
+		try {
+			getListener().onMessage(new DefaultMessage(channel, message), pattern);
+		} catch (RuntimeException e) {
+			LOGGER.error("MessageListener failed to process message", e);
+		}
+
+		return 1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.util.AbstractSubscription#doSubscribe(byte[][])
+	 */
+	@Override
+	protected void doSubscribe(byte[]... channels) {
+		add(this.channels, channels);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.util.AbstractSubscription#doUnsubscribe(boolean, byte[][])
+	 */
+	@Override
+	protected void doUnsubscribe(boolean all, byte[]... channels) {
+		remove(this.channels, all, channels);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.util.AbstractSubscription#doPsubscribe(byte[][])
+	 */
+	@Override
+	protected void doPsubscribe(byte[]... patterns) {
+		add(this.patterns, patterns);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.util.AbstractSubscription#doPUnsubscribe(boolean, byte[][])
+	 */
+	@Override
+	protected void doPUnsubscribe(boolean all, byte[]... patterns) {
+		remove(this.patterns, all, patterns);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.util.AbstractSubscription#doClose()
+	 */
+	@Override
+	protected void doClose() {
+
+		pubSub.unregister(this);
+		channels.clear();
+		patterns.clear();
+	}
+
+	private static void add(Set<ByteArrayWrapper> target, byte[]... values) {
+
+		for (byte[] value : values) {
+			target.add(new ByteArrayWrapper(value.clone()));
+		}
+	}
+
+	private static void remove(Set<ByteArrayWrapper> target, boolean all, byte[]... values) {
+
+		if (all) {
+			target.clear();
+			return;
+		}
+
+		for (byte[] value : values) {
+			target.remove(new ByteArrayWrapper(value));
+		}
+	}
+}
@@ -0,0 +1,706 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.DefaultTuple;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.inmemory.InMemoryDatabase.KeyAccess;
+import org.springframework.data.redis.connection.inmemory.SortedSetValue.LexRange;
+import org.springframework.data.redis.connection.inmemory.SortedSetValue.Member;
+import org.springframework.data.redis.connection.inmemory.SortedSetValue.ScoreRange;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.KeyBoundCursor;
+import org.springframework.data.redis.core.ScanIteration;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisZSetCommands} for {@link InMemoryConnection}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+@RequiredArgsConstructor
+class InMemoryZSetCommands implements RedisZSetCommands {
+
+	private final @NonNull InMemoryConnection connection;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zAdd(byte[], double, byte[])
+	 */
+	@Override
+	public Boolean zAdd(byte[] key, double score, byte[] value) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			boolean added = access.getOrCreateSortedSet().add(new ByteArrayWrapper(value.clone()), score);
+			access.modified();
+
+			return added;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zAdd(byte[], java.util.Set)
+	 */
+	@Override
+	public Long zAdd(byte[] key, Set<Tuple> tuples) {
+
+		return zAdd(key, tuples, false, false, false);
+	}
+
+	/**
+	 * {@code ZADD} supporting the {@code NX}, {@code XX} and {@code CH} flags.
+	 *
+	 * @param key the key.
+	 * @param tuples the members to add.
+	 * @param ifAbsent only add new members ({@code NX}).
+	 * @param ifPresent only update existing members ({@code XX}).
+	 * @param countChanged count updated members in addition to added ones ({@code CH}).
+	 * @return the number of added (and changed) members.
+	 */
+	Long zAdd(byte[] key, Collection<Tuple> tuples, boolean ifAbsent, boolean ifPresent, boolean countChanged) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notEmpty(tuples, "Tuples must not be empty!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			if (ifPresent && access.getSortedSet() == null) {
+				return 0L;
+			}
+
+			SortedSetValue sortedSet = access.getOrCreateSortedSet();
+			long count = 0;
+
+			for (Tuple tuple : tuples) {
+
+				ByteArrayWrapper member = new ByteArrayWrapper(tuple.getValue().clone());
+				Double previous = sortedSet.score(member);
+
+				if ((ifAbsent && previous != null) || (ifPresent && previous == null)) {
+					continue;
+				}
+
+				boolean added = sortedSet.add(member, tuple.getScore());
+
+				if (added || (countChanged && previous != null && previous != tuple.getScore())) {
+					count++;
+				}
+			}
+
+			access.modified();
+			return count;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zRem(byte[], byte[][])
+	 */
+	@Override
+	public Long zRem(byte[] key, byte[]... values) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notEmpty(values, "Values must not be empty!");
+		Assert.noNullElements(values, "Values must not contain null elements!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			SortedSetValue sortedSet = access.getSortedSet();
+			long removed = 0;
+
+			if (sortedSet == null) {
+				return removed;
+			}
+
+			for (byte[] value : values) {
+				if (sortedSet.remove(new ByteArrayWrapper(value))) {
+					removed++;
+				}
+			}
+
+			access.modified();
+			return removed;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zIncrBy(byte[], double, byte[])
+	 */
+	@Override
+	public Double zIncrBy(byte[] key, double increment, byte[] value) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			double score = access.getOrCreateSortedSet().incrementBy(new ByteArrayWrapper(value.clone()), increment);
+			access.modified();
+
+			return score;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zRank(byte[], byte[])
+	 */
+	@Nullable
+	@Override
+	public Long zRank(byte[] key, byte[] value) {
+		return rank(key, value, false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zRevRank(byte[], byte[])
+	 */
+	@Nullable
+	@Override
+	public Long zRevRank(byte[] key, byte[] value) {
+		return rank(key, value, true);
+	}
+
+	@Nullable
+	private Long rank(byte[] key, byte[] value, boolean reverse) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			SortedSetValue sortedSet = access.getSortedSet();
+			return sortedSet != null ? sortedSet.rank(new ByteArrayWrapper(value), reverse) : null;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zRange(byte[], long, long)
+	 */
+	@Override
+	public Set<byte[]> zRange(byte[] key, long start, long end) {
+		return range(key, sortedSet -> sortedSet.range(start, end, false), InMemoryZSetCommands::toValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zRangeWithScores(byte[], long, long)
+	 */
+	@Override
+	public Set<Tuple> zRangeWithScores(byte[] key, long start, long end) {
+		return range(key, sortedSet -> sortedSet.range(start, end, false), InMemoryZSetCommands::toTuple);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zRangeByScoreWithScores(byte[], org.springframework.data.redis.connection.RedisZSetCommands.Range, org.springframework.data.redis.connection.RedisZSetCommands.Limit)
+	 */
+	@Override
+	public Set<Tuple> zRangeByScoreWithScores(byte[] key, Range range, Limit limit) {
+		return rangeByScore(key, toScoreRange(range), false, limit, InMemoryZSetCommands::toTuple);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zRevRange(byte[], long, long)
+	 */
+	@Override
+	public Set<byte[]> zRevRange(byte[] key, long start, long end) {
+		return range(key, sortedSet -> sortedSet.range(start, end, true), InMemoryZSetCommands::toValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zRevRangeWithScores(byte[], long, long)
+	 */
+	@Override
+	public Set<Tuple> zRevRangeWithScores(byte[] key, long start, long end) {
+		return range(key, sortedSet -> sortedSet.range(start, end, true), InMemoryZSetCommands::toTuple);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zRevRangeByScore(byte[], org.springframework.data.redis.connection.RedisZSetCommands.Range, org.springframework.data.redis.connection.RedisZSetCommands.Limit)
+	 */
+	@Override
+	public Set<byte[]> zRevRangeByScore(byte[] key, Range range, Limit limit) {
+		return rangeByScore(key, toScoreRange(range), true, limit, InMemoryZSetCommands::toValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zRevRangeByScoreWithScores(byte[], org.springframework.data.redis.connection.RedisZSetCommands.Range, org.springframework.data.redis.connection.RedisZSetCommands.Limit)
+	 */
+	@Override
+	public Set<Tuple> zRevRangeByScoreWithScores(byte[] key, Range range, Limit limit) {
+		return rangeByScore(key, toScoreRange(range), true, limit, InMemoryZSetCommands::toTuple);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zCount(byte[], org.springframework.data.redis.connection.RedisZSetCommands.Range)
+	 */
+	@Override
+	public Long zCount(byte[] key, Range range) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		ScoreRange scoreRange = toScoreRange(range);
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			SortedSetValue sortedSet = access.getSortedSet();
+			return sortedSet != null ? (long) sortedSet.rangeByScore(scoreRange, false, 0, -1).size() : 0L;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zCard(byte[])
+	 */
+	@Override
+	public Long zCard(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			SortedSetValue sortedSet = access.getSortedSet();
+			return sortedSet != null ? (long) sortedSet.size() : 0L;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zScore(byte[], byte[])
+	 */
+	@Nullable
+	@Override
+	public Double zScore(byte[] key, byte[] value) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			SortedSetValue sortedSet = access.getSortedSet();
+			return sortedSet != null ? sortedSet.score(new ByteArrayWrapper(value)) : null;
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zRemRange(byte[], long, long)
+	 */
+	@Override
+	public Long zRemRange(byte[] key, long start, long end) {
+		return remove(key, sortedSet -> sortedSet.range(start, end, false));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zRemRangeByScore(byte[], org.springframework.data.redis.connection.RedisZSetCommands.Range)
+	 */
+	@Override
+	public Long zRemRangeByScore(byte[] key, Range range) {
+
+		ScoreRange scoreRange = toScoreRange(range);
+
+		return remove(key, sortedSet -> sortedSet.rangeByScore(scoreRange, false, 0, -1));
+	}
+
+	private Long remove(byte[] key, Function<SortedSetValue, List<Member>> selector) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			SortedSetValue sortedSet = access.getSortedSet();
+
+			if (sortedSet == null) {
+				return 0L;
+			}
+
+			List<Member> members = selector.apply(sortedSet);
+			members.forEach(member -> sortedSet.remove(member.value));
+			access.modified();
+
+			return (long) members.size();
+		}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zUnionStore(byte[], byte[][])
+	 */
+	@Override
+	public Long zUnionStore(byte[] destKey, byte[]... sets) {
+
+		Assert.notNull(sets, "Source sets must not be null!");
+
+		return zUnionStore(destKey, Aggregate.SUM, Weights.fromSetCount(sets.length), sets);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zUnionStore(byte[], org.springframework.data.redis.connection.RedisZSetCommands.Aggregate, org.springframework.data.redis.connection.RedisZSetCommands.Weights, byte[][])
+	 */
+	@Override
+	public Long zUnionStore(byte[] destKey, Aggregate aggregate, Weights weights, byte[]... sets) {
+		return store(destKey, aggregate, weights, sets, false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zInterStore(byte[], byte[][])
+	 */
+	@Override
+	public Long zInterStore(byte[] destKey, byte[]... sets) {
+
+		Assert.notNull(sets, "Source sets must not be null!");
+
+		return zInterStore(destKey, Aggregate.SUM, Weights.fromSetCount(sets.length), sets);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zInterStore(byte[], org.springframework.data.redis.connection.RedisZSetCommands.Aggregate, org.springframework.data.redis.connection.RedisZSetCommands.Weights, byte[][])
+	 */
+	@Override
+	public Long zInterStore(byte[] destKey, Aggregate aggregate, Weights weights, byte[]... sets) {
+		return store(destKey, aggregate, weights, sets, true);
+	}
+
+	private Long store(byte[] destKey, Aggregate aggregate, Weights weights, byte[][] sets, boolean intersect) {
+
+		Assert.notNull(destKey, "Destination key must not be null!");
+		Assert.notNull(aggregate, "Aggregate must not be null!");
+		Assert.notNull(weights, "Weights must not be null!");
+		Assert.notEmpty(sets, "Source sets must not be null or empty!");
+		Assert.noNullElements(sets, "Source sets must not contain null elements!");
+		Assert.isTrue(weights.size() == sets.length, () -> String
+				.format("The number of weights (%d) must match the number of source sets (%d)!", weights.size(), sets.length));
+
+		return connection.invoke(() -> connection.database().withKeys(keyspace -> {
+
+			Map<ByteArrayWrapper, Double> result = null;
+
+			for (int i = 0; i < sets.length; i++) {
+
+				KeyAccess source = keyspace.access(sets[i]);
+				Map<ByteArrayWrapper, Double> scores = scores(source, weights.getWeight(i));
+
+				if (result == null) {
+					result = scores;
+					continue;
+				}
+
+				if (intersect) {
+					result.keySet().retainAll(scores.keySet());
+				}
+
+				for (Map.Entry<ByteArrayWrapper, Double> entry : scores.entrySet()) {
+
+					Double current = result.get(entry.getKey());
+
+					if (current != null) {
+						result.put(entry.getKey(), aggregate(aggregate, current, entry.getValue()));
+					} else if (!intersect) {
+						result.put(entry.getKey(), entry.getValue());
+					}
+				}
+			}
+
+			SortedSetValue sortedSet = new SortedSetValue();
+			result.forEach(sortedSet::add);
+
+			KeyAccess target = keyspace.access(destKey);
+
+			if (sortedSet.isEmpty()) {
+				target.delete();
+			} else {
+				target.set(sortedSet);
+			}
+
+			return (long) sortedSet.size();
+		}));
+	}
+
+	private static Map<ByteArrayWrapper, Double> scores(KeyAccess access, double weight) {
+
+		Map<ByteArrayWrapper, Double> scores = new HashMap<>();
+
+		// ZUNIONSTORE and ZINTERSTORE accept sets with an implicit score of 1
+		if (access.getType() == DataType.SET) {
+
+			access.getSet().forEach(member -> scores.put(member, weight));
+			return scores;
+		}
+
+		SortedSetValue sortedSet = access.getSortedSet();
+
+		if (sortedSet != null) {
+			sortedSet.members().forEach(member -> scores.put(member.value, multiply(member.score, weight)));
+		}
+
+		return scores;
+	}
+
+	private static double multiply(double score, double weight) {
+
+		// avoid NaN for 0 * inf, as Redis does
+		return score == 0 || weight == 0 ? 0 : score * weight;
+	}
+
+	private static double aggregate(Aggregate aggregate, double left, double right) {
+
+		switch (aggregate) {
+			case MIN:
+				return Math.min(left, right);
+			case MAX:
+				return Math.max(left, right);
+			default:
+
+				double sum = left + right;
+				return Double.isNaN(sum) ? 0 : sum;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zScan(byte[], org.springframework.data.redis.core.ScanOptions)
+	 */
+	@Override
+	public Cursor<Tuple> zScan(byte[] key, ScanOptions options) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return new KeyBoundCursor<Tuple>(key, 0, options) {
+
+			private final ScanSupport support = new ScanSupport(() -> connection.database().withKey(key, access -> {
+
+				SortedSetValue sortedSet = access.getSortedSet();
+				return sortedSet != null ? sortedSet.members().stream().map(member -> member.value)
+						.collect(Collectors.toList()) : Collections.emptyList();
+			}));
+
+			@Override
+			protected ScanIteration<Tuple> doScan(byte[] key, long cursorId, ScanOptions options) {
+
+				if (connection.isQueueing() || connection.isPipelined()) {
+					throw new UnsupportedOperationException("'ZSCAN' cannot be called in pipeline / transaction mode.");
+				}
+
+				ScanIteration<ByteArrayWrapper> iteration = support.scan(cursorId, options);
+
+				List<Tuple> tuples = connection.database().withKey(key, access -> {
+
+					SortedSetValue sortedSet = access.getSortedSet();
+					List<Tuple> result = new ArrayList<>(iteration.getItems().size());
+
+					for (ByteArrayWrapper member : iteration.getItems()) {
+
+						Double score = sortedSet != null ? sortedSet.score(member) : null;
+
+						if (score != null) {
+							result.add(new DefaultTuple(member.getArray().clone(), score));
+						}
+					}
+
+					return result;
+				});
+
+				return new ScanIteration<>(iteration.getCursorId(), tuples);
+			}
+		}.open();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zRangeByScore(byte[], java.lang.String, java.lang.String, long, long)
+	 */
+	@Override
+	public Set<byte[]> zRangeByScore(byte[] key, String min, String max, long offset, long count) {
+
+		Assert.notNull(min, "Min must not be null!");
+		Assert.notNull(max, "Max must not be null!");
+
+		boolean minInclusive = !min.startsWith("(");
+		boolean maxInclusive = !max.startsWith("(");
+
+		ScoreRange range = new ScoreRange(toScore(minInclusive ? min : min.substring(1), Double.NEGATIVE_INFINITY),
+				minInclusive, toScore(maxInclusive ? max : max.substring(1), Double.POSITIVE_INFINITY), maxInclusive);
+
+		return rangeByScore(key, range, false, offset, count, InMemoryZSetCommands::toValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zRangeByScore(byte[], org.springframework.data.redis.connection.RedisZSetCommands.Range, org.springframework.data.redis.connection.RedisZSetCommands.Limit)
+	 */
+	@Override
+	public Set<byte[]> zRangeByScore(byte[] key, Range range, Limit limit) {
+		return rangeByScore(key, toScoreRange(range), false, limit, InMemoryZSetCommands::toValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.RedisZSetCommands#zRangeByLex(byte[], org.springframework.data.redis.connection.RedisZSetCommands.Range, org.springframework.data.redis.connection.RedisZSetCommands.Limit)
+	 */
+	@Override
+	public Set<byte[]> zRangeByLex(byte[] key, Range range, Limit limit) {
+		return zRangeByLex(key, range, limit, false);
+	}
+
+	/**
+	 * {@code ZRANGEBYLEX} and {@code ZREVRANGEBYLEX}.
+	 *
+	 * @param key the key.
+	 * @param range the lexicographical range.
+	 * @param limit the limit.
+	 * @param reverse {@literal true} to return members in descending order.
+	 * @return the members within {@code range}.
+	 */
+	Set<byte[]> zRangeByLex(byte[] key, Range range, Limit limit, boolean reverse) {
+
+		Assert.notNull(range, "Range must not be null!");
+		Assert.notNull(limit, "Limit must not be null!");
+
+		LexRange lexRange = new LexRange(toLexBoundary(range.getMin()), range.getMin().isIncluding(),
+				toLexBoundary(range.getMax()), range.getMax().isIncluding());
+
+		return range(key, sortedSet -> sortedSet.rangeByLex(lexRange, reverse, limit.getOffset(), toCount(limit)),
+				InMemoryZSetCommands::toValue);
+	}
+
+	private <T> Set<T> rangeByScore(byte[] key, ScoreRange range, boolean reverse, Limit limit,
+			Function<Member, T> mapper) {
+
+		Assert.notNull(limit, "Limit must not be null!");
+
+		return rangeByScore(key, range, reverse, limit.getOffset(), toCount(limit), mapper);
+	}
+
+	private <T> Set<T> rangeByScore(byte[] key, ScoreRange range, boolean reverse, long offset, long count,
+			Function<Member, T> mapper) {
+		return range(key, sortedSet -> sortedSet.rangeByScore(range, reverse, offset, count), mapper);
+	}
+
+	private <T> Set<T> range(byte[] key, Function<SortedSetValue, List<Member>> selector, Function<Member, T> mapper) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		return connection.invoke(() -> connection.database().withKey(key, access -> {
+
+			SortedSetValue sortedSet = access.getSortedSet();
+			Set<T> result = new LinkedHashSet<>();
+
+			if (sortedSet != null) {
+				selector.apply(sortedSet).forEach(member -> result.add(mapper.apply(member)));
+			}
+
+			return result;
+		}));
+	}
+
+	private static long toCount(Limit limit) {
+		return limit.isUnlimited() ? -1 : limit.getCount();
+	}
+
+	private static ScoreRange toScoreRange(Range range) {
+
+		Assert.notNull(range, "Range must not be null!");
+
+		return new ScoreRange(toScore(range.getMin().getValue(), Double.NEGATIVE_INFINITY), range.getMin().isIncluding(),
+				toScore(range.getMax().getValue(), Double.POSITIVE_INFINITY), range.getMax().isIncluding());
+	}
+
+	private static double toScore(@Nullable Object value, double defaultValue) {
+
+		if (value == null) {
+			return defaultValue;
+		}
+
+		if (value instanceof Number) {
+			return ((Number) value).doubleValue();
+		}
+
+		String string = value instanceof byte[] ? new String((byte[]) value, StandardCharsets.UTF_8) : value.toString();
+
+		switch (string.toLowerCase()) {
+			case "-inf":
+				return Double.NEGATIVE_INFINITY;
+			case "inf":
+			case "+inf":
+				return Double.POSITIVE_INFINITY;
+			default:
+		}
+
+		try {
+			return Double.parseDouble(string);
+		} catch (NumberFormatException e) {
+			throw new InvalidDataAccessApiUsageException("ERR min or max is not a float", e);
+		}
+	}
+
+	@Nullable
+	private static byte[] toLexBoundary(Range.Boundary boundary) {
+
+		Object value = boundary.getValue();
+
+		if (value == null) {
+			return null;
+		}
+
+		return value instanceof byte[] ? (byte[]) value : value.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static byte[] toValue(Member member) {
+		return member.value.getArray().clone();
+	}
+
+	private static Tuple toTuple(Member member) {
+		return new DefaultTuple(member.value.getArray().clone(), member.score);
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.data.redis.core.ScanIteration;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.lang.Nullable;
+
+/**
+ * Cursor-based iteration for {@code SCAN}, {@code HSCAN}, {@code SSCAN} and {@code ZSCAN}. Each cursor owns an instance
+ * that captures the elements ordered by their hash code when the iteration starts, so subsequent steps continue from
+ * the position encoded in the cursor without sorting the elements again. Elements present during the whole iteration
+ * are returned exactly once, elements added or removed in between may or may not be returned, as with Redis. Callers
+ * resolve the current value of returned elements.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+final class ScanSupport {
+
+	private static final int DEFAULT_COUNT = 10;
+
+	private final Supplier<Collection<ByteArrayWrapper>> elements;
+
+	private @Nullable ByteArrayWrapper[] snapshot;
+	private long[] positions = new long[0];
+
+	/**
+	 * @param elements supplier of the elements to scan, called when an iteration starts.
+	 */
+	ScanSupport(Supplier<Collection<ByteArrayWrapper>> elements) {
+		this.elements = elements;
+	}
+
+	/**
+	 * Scan the elements starting at {@code cursorId}.
+	 *
+	 * @param cursorId the cursor returned by the previous iteration or {@literal 0} to start.
+	 * @param options the scan options.
+	 * @return the {@link ScanIteration} with the cursor to continue from, {@literal 0} if the iteration is complete.
+	 */
+	ScanIteration<ByteArrayWrapper> scan(long cursorId, ScanOptions options) {
+
+		ByteArrayWrapper[] snapshot = this.snapshot;
+
+		if (snapshot == null || cursorId == 0) {
+			snapshot = createSnapshot();
+		}
+
+		long start = cursorId > 0 ? cursorId - 1 : 0;
+		long count = options.getCount() != null ? Math.max(1, options.getCount()) : DEFAULT_COUNT;
+		byte[] pattern = options.getPattern() != null ? options.getPattern().getBytes(StandardCharsets.UTF_8) : null;
+
+		List<ByteArrayWrapper> items = new ArrayList<>();
+		long returned = 0;
+		long last = -1;
+
+		for (int i = indexOf(start); i < snapshot.length; i++) {
+
+			long position = positions[i];
+
+			// complete all elements sharing a hash code so the cursor does not skip or repeat elements
+			if (returned >= count && position != last) {
+				return new ScanIteration<>(position + 1, items);
+			}
+
+			returned++;
+			last = position;
+
+			if (pattern == null || GlobPattern.matches(pattern, snapshot[i].getArray())) {
+				items.add(snapshot[i]);
+			}
+		}
+
+		return new ScanIteration<>(0, items);
+	}
+
+	private ByteArrayWrapper[] createSnapshot() {
+
+		ByteArrayWrapper[] snapshot = elements.get().toArray(new ByteArrayWrapper[0]);
+		Arrays.sort(snapshot, Comparator.comparingLong(it -> position(it.hashCode())));
+
+		long[] positions = new long[snapshot.length];
+		for (int i = 0; i < snapshot.length; i++) {
+			positions[i] = position(snapshot[i].hashCode());
+		}
+
+		this.snapshot = snapshot;
+		this.positions = positions;
+
+		return snapshot;
+	}
+
+	/**
+	 * @return index of the first element at or after {@code position}.
+	 */
+	private int indexOf(long position) {
+
+		int low = 0;
+		int high = positions.length;
+
+		while (low < high) {
+
+			int mid = (low + high) >>> 1;
+
+			if (positions[mid] < position) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+
+		return low;
+	}
+
+	private static long position(int hash) {
+		return Integer.toUnsignedLong(hash);
+	}
+}
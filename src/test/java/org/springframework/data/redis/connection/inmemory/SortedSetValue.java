@@ -0,0 +1,316 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.inmemory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.lang.Nullable;
+
+/**
+ * Sorted set ordered by score and then lexicographically by member, as defined for Redis sorted sets. Members are
+ * indexed by value for score lookups and held in a {@link TreeSet} for range queries.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+class SortedSetValue {
+
+	private final Map<ByteArrayWrapper, Double> scores = new HashMap<>();
+	private final NavigableSet<Member> members = new TreeSet<>();
+
+	int size() {
+		return scores.size();
+	}
+
+	boolean isEmpty() {
+		return scores.isEmpty();
+	}
+
+	@Nullable
+	Double score(ByteArrayWrapper member) {
+		return scores.get(member);
+	}
+
+	/**
+	 * Add a member or update its score.
+	 *
+	 * @return {@literal true} if the member was added.
+	 */
+	boolean add(ByteArrayWrapper member, double score) {
+
+		if (Double.isNaN(score)) {
+			throw new InvalidDataAccessApiUsageException("ERR resulting score is not a number (NaN)");
+		}
+
+		Double previous = scores.put(member, score);
+
+		if (previous != null) {
+
+			if (previous == score) {
+				return false;
+			}
+
+			members.remove(new Member(previous, member));
+		}
+
+		members.add(new Member(score, member));
+		return previous == null;
+	}
+
+	double incrementBy(ByteArrayWrapper member, double increment) {
+
+		Double previous = scores.get(member);
+		double score = previous != null ? previous + increment : increment;
+
+		add(member, score);
+		return score;
+	}
+
+	boolean remove(ByteArrayWrapper member) {
+
+		Double score = scores.remove(member);
+
+		if (score == null) {
+			return false;
+		}
+
+		members.remove(new Member(score, member));
+		return true;
+	}
+
+	@Nullable
+	Long rank(ByteArrayWrapper member, boolean reverse) {
+
+		Double score = scores.get(member);
+
+		if (score == null) {
+			return null;
+		}
+
+		long rank = members.headSet(new Member(score, member), false).size();
+		return reverse ? size() - 1 - rank : rank;
+	}
+
+	/**
+	 * @return all members in ascending order.
+	 */
+	NavigableSet<Member> members() {
+		return members;
+	}
+
+	/**
+	 * Return members by rank. Negative indexes count from the end.
+	 */
+	List<Member> range(long start, long end, boolean reverse) {
+
+		int size = size();
+		long from = start < 0 ? Math.max(start + size, 0) : start;
+		long to = Math.min(end < 0 ? end + size : end, size - 1);
+
+		if (from > to || from >= size) {
+			return Collections.emptyList();
+		}
+
+		List<Member> result = new ArrayList<>((int) (to - from + 1));
+		Iterator<Member> iterator = reverse ? members.descendingIterator() : members.iterator();
+
+		for (long i = 0; i <= to && iterator.hasNext(); i++) {
+
+			Member member = iterator.next();
+
+			if (i >= from) {
+				result.add(member);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Return members within a score range, skipping {@code offset} members and returning at most {@code count} members
+	 * if {@code count} is not negative.
+	 */
+	List<Member> rangeByScore(ScoreRange range, boolean reverse, long offset, long count) {
+
+		List<Member> result = new ArrayList<>();
+		Iterator<Member> iterator = reverse ? members.descendingIterator() : members.iterator();
+		long skipped = 0;
+
+		while (iterator.hasNext() && (count < 0 || result.size() < count)) {
+
+			Member member = iterator.next();
+
+			if (!range.contains(member.score)) {
+
+				if (reverse ? member.score < range.min : member.score > range.max) {
+					break;
+				}
+
+				continue;
+			}
+
+			if (skipped++ < offset) {
+				continue;
+			}
+
+			result.add(member);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Return members within a lexicographical range. Assumes that all members have the same score.
+	 */
+	List<Member> rangeByLex(LexRange range, boolean reverse, long offset, long count) {
+
+		List<Member> result = new ArrayList<>();
+		Iterator<Member> iterator = reverse ? members.descendingIterator() : members.iterator();
+		long skipped = 0;
+
+		while (iterator.hasNext() && (count < 0 || result.size() < count)) {
+
+			Member member = iterator.next();
+
+			if (!range.contains(member.value.getArray()) || skipped++ < offset) {
+				continue;
+			}
+
+			result.add(member);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Compare two byte arrays lexicographically treating bytes as unsigned values.
+	 */
+	static int compare(byte[] left, byte[] right) {
+
+		int length = Math.min(left.length, right.length);
+
+		for (int i = 0; i < length; i++) {
+
+			int result = Integer.compare(left[i] & 0xFF, right[i] & 0xFF);
+
+			if (result != 0) {
+				return result;
+			}
+		}
+
+		return Integer.compare(left.length, right.length);
+	}
+
+	/**
+	 * Sorted set member along with its score.
+	 */
+	static class Member implements Comparable<Member> {
+
+		final double score;
+		final ByteArrayWrapper value;
+
+		Member(double score, ByteArrayWrapper value) {
+
+			this.score = score;
+			this.value = value;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Comparable#compareTo(java.lang.Object)
+		 */
+		@Override
+		public int compareTo(Member other) {
+
+			int result = Double.compare(score, other.score);
+			return result != 0 ? result : compare(value.getArray(), other.value.getArray());
+		}
+	}
+
+	/**
+	 * Score range with inclusive or exclusive bounds.
+	 */
+	static class ScoreRange {
+
+		final double min;
+		final boolean minInclusive;
+		final double max;
+		final boolean maxInclusive;
+
+		ScoreRange(double min, boolean minInclusive, double max, boolean maxInclusive) {
+
+			this.min = min;
+			this.minInclusive = minInclusive;
+			this.max = max;
+			this.maxInclusive = maxInclusive;
+		}
+
+		boolean contains(double score) {
+			return (minInclusive ? score >= min : score > min) && (maxInclusive ? score <= max : score < max);
+		}
+	}
+
+	/**
+	 * Lexicographical range with inclusive or exclusive bounds. {@literal null} bounds are unbounded.
+	 */
+	static class LexRange {
+
+		final @Nullable byte[] min;
+		final boolean minInclusive;
+		final @Nullable byte[] max;
+		final boolean maxInclusive;
+
+		LexRange(@Nullable byte[] min, boolean minInclusive, @Nullable byte[] max, boolean maxInclusive) {
+
+			this.min = min;
+			this.minInclusive = minInclusive;
+			this.max = max;
+			this.maxInclusive = maxInclusive;
+		}
+
+		boolean contains(byte[] value) {
+
+			if (min != null) {
+
+				int result = compare(value, min);
+
+				if (minInclusive ? result < 0 : result <= 0) {
+					return false;
+				}
+			}
+
+			if (max != null) {
+
+				int result = compare(value, max);
+
+				if (maxInclusive ? result > 0 : result >= 0) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+	}
+}
@@ -0,0 +1,6 @@
+/**
+ * In-process connection package keeping data in heap memory, for testing and benchmarking without a Redis server.
+ */
+@org.springframework.lang.NonNullApi
+@org.springframework.lang.NonNullFields
+package org.springframework.data.redis.connection.inmemory;
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.sync.RedisCommands;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration.AutoBatchingOptions;
+
+/**
+ * Unit tests for {@link CommandBatcher}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class CommandBatcherUnitTests {
+
+	@Mock StatefulRedisConnection<String, String> connection;
+	@Mock RedisCommands<String, String> sync;
+	@Mock RedisAsyncCommands<String, String> async;
+	@Mock RedisFuture<String> future;
+	@Mock ScheduledExecutorService executor;
+
+	@Before
+	public void before() throws Exception {
+
+		when(connection.sync()).thenReturn(sync);
+		when(connection.async()).thenReturn(async);
+		when(connection.getTimeout()).thenReturn(Duration.ofSeconds(1));
+		when(async.get(anyString())).thenReturn(future);
+		when(future.await(anyLong(), any())).thenReturn(true);
+		when(future.get()).thenReturn("value");
+	}
+
+	@Test
+	public void shouldDisableAutoFlush() {
+
+		StatefulRedisConnection<String, String> batching = CommandBatcher.batching(connection, executor,
+				AutoBatchingOptions.defaults());
+
+		batching.setAutoFlushCommands(true);
+
+		verify(connection).setAutoFlushCommands(false);
+		verify(connection, never()).setAutoFlushCommands(true);
+		assertThat(CommandBatcher.getTargetConnection(batching)).isSameAs(connection);
+	}
+
+	@Test
+	public void shouldFlushOnceBatchSizeIsReached() {
+
+		StatefulRedisConnection<String, String> batching = CommandBatcher.batching(connection, executor,
+				AutoBatchingOptions.of(2, Duration.ofHours(1)));
+
+		batching.async().get("key");
+
+		verify(connection, never()).flushCommands();
+		verify(executor).schedule(any(Runnable.class), eq(Duration.ofHours(1).toNanos()), eq(TimeUnit.NANOSECONDS));
+
+		batching.async().get("key");
+
+		verify(connection).flushCommands();
+	}
+
+	@Test
+	public void shouldFlushAfterFlushInterval() {
+
+		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+		try {
+
+			StatefulRedisConnection<String, String> batching = CommandBatcher.batching(connection, executor,
+					AutoBatchingOptions.of(100, Duration.ofMillis(1)));
+
+			batching.async().get("key");
+
+			verify(connection, timeout(1000)).flushCommands();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void syncApiShouldDispatchThroughAsyncApi() {
+
+		StatefulRedisConnection<String, String> batching = CommandBatcher.batching(connection, executor,
+				AutoBatchingOptions.of(1, Duration.ofHours(1)));
+
+		assertThat(batching.sync().get("key")).isEqualTo("value");
+
+		verify(async).get("key");
+		verify(sync, never()).get(anyString());
+		verify(connection).flushCommands();
+	}
+
+	@Test
+	public void detachShouldRestoreAutoFlush() {
+
+		StatefulRedisConnection<String, String> batching = CommandBatcher.batching(connection, executor,
+				AutoBatchingOptions.defaults());
+
+		assertThat(CommandBatcher.detach(batching)).isSameAs(connection);
+
+		verify(connection).setAutoFlushCommands(true);
+		verify(connection).flushCommands();
+		assertThat(CommandBatcher.detach(connection)).isSameAs(connection);
+	}
+}
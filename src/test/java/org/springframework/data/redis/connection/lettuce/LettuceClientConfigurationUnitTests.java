@@ -23,6 +23,7 @@ import io.lettuce.core.resource.ClientResources;
 import java.time.Duration;
 
 import org.junit.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration.AutoBatchingOptions;
 
 /**
  * Unit tests for {@link LettuceClientConfiguration}.
@@ -47,6 +48,7 @@ public class LettuceClientConfigurationUnitTests {
 		assertThat(configuration.getCommandTimeout()).isEqualTo(Duration.ofSeconds(60));
 		assertThat(configuration.getShutdownTimeout()).isEqualTo(Duration.ofMillis(100));
 		assertThat(configuration.getShutdownQuietPeriod()).isEqualTo(Duration.ofMillis(100));
+		assertThat(configuration.getAutoBatchingOptions()).isEmpty();
 	}
 
 	@Test // DATAREDIS-574, DATAREDIS-576, DATAREDIS-667
@@ -88,6 +90,25 @@ public class LettuceClientConfigurationUnitTests {
 		assertThat(configuration.getShutdownQuietPeriod()).isEqualTo(Duration.ofSeconds(42));
 	}
 
+	@Test
+	public void shouldConfigureAutoBatching() {
+
+		LettuceClientConfiguration configuration = LettuceClientConfiguration.builder() //
+				.autoBatching(AutoBatchingOptions.of(32, Duration.ofMillis(1))) //
+				.build();
+
+		assertThat(configuration.getAutoBatchingOptions()).hasValueSatisfying(options -> {
+
+			assertThat(options.getBatchSize()).isEqualTo(32);
+			assertThat(options.getFlushInterval()).isEqualTo(Duration.ofMillis(1));
+		});
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void autoBatchingRejectsNonPositiveFlushInterval() {
+		AutoBatchingOptions.of(32, Duration.ZERO);
+	}
+
 	@Test(expected = IllegalArgumentException.class) // DATAREDIS-576
 	public void clientConfigurationThrowsExceptionForNullClientName() {
 		LettuceClientConfiguration.builder().clientName(null);
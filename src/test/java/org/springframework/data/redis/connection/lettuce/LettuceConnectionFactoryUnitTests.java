@@ -15,6 +15,7 @@
  */
 package org.springframework.data.redis.connection.lettuce;
 
+import static org.hamcrest.core.AnyOf.*;
 import static org.hamcrest.core.Is.*;
 import static org.hamcrest.core.IsEqual.*;
 import static org.hamcrest.core.IsInstanceOf.*;
@@ -29,6 +30,7 @@ import io.lettuce.core.AbstractRedisClient;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.cluster.RedisClusterClient;
 import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
 import io.lettuce.core.codec.ByteArrayCodec;
@@ -43,6 +45,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
 import org.springframework.beans.DirectFieldAccessor;
 import org.springframework.data.redis.ConnectionFactoryTracker;
 import org.springframework.data.redis.connection.RedisClusterConfiguration;
@@ -611,6 +614,69 @@ public class LettuceConnectionFactoryUnitTests {
 		verify(clientMock).connect(ArgumentMatchers.any(RedisCodec.class));
 	}
 
+	@Test
+	public void shouldStripeSharedNativeConnections() {
+
+		RedisClient clientMock = mock(RedisClient.class);
+		StatefulRedisConnection<byte[], byte[]> first = mock(StatefulRedisConnection.class);
+		StatefulRedisConnection<byte[], byte[]> second = mock(StatefulRedisConnection.class);
+		when(clientMock.connect(ByteArrayCodec.INSTANCE)).thenReturn(first, second);
+
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(),
+				LettuceClientConfiguration.defaultConfiguration()) {
+
+			@Override
+			protected AbstractRedisClient createClient() {
+				return clientMock;
+			}
+		};
+
+		connectionFactory.setSharedConnectionCount(2);
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.initConnection();
+
+		verify(clientMock, times(2)).connect(ByteArrayCodec.INSTANCE);
+		assertThat(connectionFactory.getSharedConnection(), anyOf(is(first), is(second)));
+
+		connectionFactory.resetConnection();
+
+		verify(first).close();
+		verify(second).close();
+	}
+
+	@Test
+	public void shouldRestoreAutoFlushBeforeReturningBatchedConnectionToPool() {
+
+		RedisClient clientMock = mock(RedisClient.class);
+		StatefulRedisConnection<byte[], byte[]> connectionMock = mock(StatefulRedisConnection.class);
+		when(clientMock.connect(ByteArrayCodec.INSTANCE)).thenReturn(connectionMock);
+
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(),
+				LettucePoolingClientConfiguration.builder().autoBatching().build()) {
+
+			@Override
+			protected AbstractRedisClient createClient() {
+				return clientMock;
+			}
+		};
+
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.initConnection();
+		connectionFactory.resetConnection();
+
+		InOrder inOrder = inOrder(connectionMock);
+		inOrder.verify(connectionMock).setAutoFlushCommands(false);
+		inOrder.verify(connectionMock).setAutoFlushCommands(true);
+		inOrder.verify(connectionMock).flushCommands();
+
+		connectionFactory.destroy();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNonPositiveSharedConnectionCount() {
+		new LettuceConnectionFactory().setSharedConnectionCount(0);
+	}
+
 	@Test // DATAREDIS-842
 	public void databaseShouldBeSetCorrectlyOnSentinelClient() {
 
@@ -22,11 +22,16 @@ import io.lettuce.core.RedisConnectionException;
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
 import reactor.test.StepVerifier;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -218,4 +223,79 @@ public class LettuceReactiveRedisConnectionUnitTests {
 
 		StepVerifier.create(connection.serverCommands().bgSave()).expectNextCount(1).verifyComplete();
 	}
+
+	@Test
+	public void shouldMapCommandsSequentiallyByDefault() {
+
+		LettuceReactiveRedisConnection connection = new LettuceReactiveRedisConnection(connectionProvider);
+
+		List<MonoProcessor<String>> responses = Arrays.asList(MonoProcessor.create(), MonoProcessor.create());
+		List<Integer> sent = new CopyOnWriteArrayList<>();
+
+		connection.mapCommands(Flux.just(0, 1), command -> {
+
+			sent.add(command);
+			return responses.get(command);
+		}).as(StepVerifier::create) //
+				.then(() -> {
+
+					assertThat(sent).containsExactly(0);
+					responses.get(0).onNext("0");
+					assertThat(sent).containsExactly(0, 1);
+					responses.get(1).onNext("1");
+				}) //
+				.expectNext("0", "1") //
+				.verifyComplete();
+	}
+
+	@Test
+	public void shouldMapCommandsConcurrentlyRetainingOrder() {
+
+		LettuceReactiveRedisConnection connection = new LettuceReactiveRedisConnection(connectionProvider);
+		connection.setCommandConcurrency(4);
+
+		List<MonoProcessor<String>> responses = Arrays.asList(MonoProcessor.create(), MonoProcessor.create(),
+				MonoProcessor.create());
+		List<Integer> sent = new CopyOnWriteArrayList<>();
+
+		connection.mapCommands(Flux.just(0, 1, 2), command -> {
+
+			sent.add(command);
+			return responses.get(command);
+		}).as(StepVerifier::create) //
+				.then(() -> {
+
+					assertThat(sent).containsExactly(0, 1, 2);
+					responses.get(2).onNext("2");
+					responses.get(0).onNext("0");
+					responses.get(1).onNext("1");
+				}) //
+				.expectNext("0", "1", "2") //
+				.verifyComplete();
+	}
+
+	@Test
+	public void shouldEmitResponsesPrecedingFailedCommandWhenMappingConcurrently() {
+
+		LettuceReactiveRedisConnection connection = new LettuceReactiveRedisConnection(connectionProvider);
+		connection.setCommandConcurrency(4);
+
+		List<MonoProcessor<String>> responses = Arrays.asList(MonoProcessor.create(), MonoProcessor.create(),
+				MonoProcessor.create());
+
+		connection.mapCommands(Flux.just(0, 1, 2), responses::get).as(StepVerifier::create) //
+				.then(() -> {
+
+					responses.get(1).onError(new IllegalStateException("1"));
+					responses.get(0).onNext("0");
+					responses.get(2).onNext("2");
+				}) //
+				.expectNext("0", "2") //
+				.verifyErrorMessage("1");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNonPositiveCommandConcurrency() {
+		new LettuceReactiveRedisConnection(connectionProvider).setCommandConcurrency(0);
+	}
 }
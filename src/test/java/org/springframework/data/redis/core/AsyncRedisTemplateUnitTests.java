@@ -0,0 +1,138 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.inmemory.InMemoryConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+/**
+ * Unit tests for {@link AsyncRedisTemplate}.
+ *
+ * @author Mark Paluch
+ */
+public class AsyncRedisTemplateUnitTests {
+
+	InMemoryConnectionFactory connectionFactory = new InMemoryConnectionFactory();
+	AsyncRedisTemplate<String, String> template;
+
+	@Before
+	public void before() {
+		template = new AsyncRedisTemplate<>(connectionFactory, RedisSerializationContext.string());
+	}
+
+	@Test
+	public void shouldApplyKeyCommands() {
+
+		join(template.opsForValue().set("key", "value"));
+
+		assertThat(join(template.hasKey("key"))).isTrue();
+		assertThat(join(template.getExpire("key"))).isEqualTo(Duration.ZERO);
+		assertThat(join(template.expire("key", Duration.ofMinutes(1)))).isTrue();
+		assertThat(join(template.getExpire("key"))).isGreaterThan(Duration.ZERO);
+		assertThat(join(template.delete("key", "absent"))).isEqualTo(1L);
+		assertThat(join(template.hasKey("key"))).isFalse();
+		assertThat(join(template.getExpire("key"))).isNull();
+	}
+
+	@Test
+	public void shouldApplyValueOperations() {
+
+		AsyncValueOperations<String, String> ops = template.opsForValue();
+
+		assertThat(join(ops.get("key"))).isNull();
+		assertThat(join(ops.setIfAbsent("key", "value"))).isTrue();
+		assertThat(join(ops.setIfAbsent("key", "other"))).isFalse();
+		assertThat(join(ops.multiGet(Arrays.asList("key", "absent")))).containsExactly("value", null);
+		assertThat(join(ops.increment("counter"))).isEqualTo(1L);
+		assertThat(join(ops.increment("counter", 41))).isEqualTo(42L);
+	}
+
+	@Test
+	public void shouldApplyHashOperations() {
+
+		AsyncHashOperations<String, String, String> ops = template.opsForHash();
+
+		join(ops.put("hash", "field", "value"));
+		join(ops.putAll("hash", Collections.singletonMap("other", "value2")));
+
+		assertThat(join(ops.get("hash", "field"))).isEqualTo("value");
+		assertThat(join(ops.keys("hash"))).containsOnly("field", "other");
+		assertThat(join(ops.entries("hash"))).containsEntry("other", "value2").hasSize(2);
+	}
+
+	@Test
+	public void shouldApplyListOperations() {
+
+		AsyncListOperations<String, String> ops = template.opsForList();
+
+		assertThat(join(ops.rightPushAll("list", Arrays.asList("a", "b", "c")))).isEqualTo(3L);
+		assertThat(join(ops.range("list", 0, -1))).containsExactly("a", "b", "c");
+		assertThat(join(ops.leftPop("list"))).isEqualTo("a");
+		assertThat(join(ops.rightPop("empty"))).isNull();
+	}
+
+	@Test
+	public void shouldApplySetOperations() {
+
+		AsyncSetOperations<String, String> ops = template.opsForSet();
+
+		assertThat(join(ops.add("set", "a", "b"))).isEqualTo(2L);
+		assertThat(join(ops.isMember("set", "a"))).isTrue();
+		assertThat(join(ops.members("set"))).containsOnly("a", "b");
+	}
+
+	@Test
+	public void shouldApplyZSetOperations() {
+
+		AsyncZSetOperations<String, String> ops = template.opsForZSet();
+
+		join(ops.add("zset", "b", 2));
+		join(ops.add("zset", "a", 1));
+
+		assertThat(join(ops.range("zset", Range.closed(0L, 1L)))).containsExactly("a", "b");
+		assertThat(join(ops.rangeByScore("zset", Range.closed(1.5, 3.0)))).containsExactly("b");
+		assertThat(join(ops.score("zset", "absent"))).isNull();
+	}
+
+	@Test
+	public void shouldPipelineConcurrentCommands() {
+
+		CompletableFuture<?>[] futures = new CompletableFuture[100];
+
+		for (int i = 0; i < futures.length; i++) {
+			futures[i] = template.opsForValue().increment("counter").toCompletableFuture();
+		}
+
+		CompletableFuture.allOf(futures).join();
+
+		assertThat(join(template.opsForValue().get("counter"))).isEqualTo("100");
+	}
+
+	private static <T> T join(CompletionStage<T> stage) {
+		return stage.toCompletableFuture().join();
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.inmemory.InMemoryConnectionFactory;
+
+/**
+ * Unit tests for {@link WindowedPipeline} through {@link RedisTemplate#executePipelined(RedisCallback, int,
+ * java.util.function.Consumer)}.
+ *
+ * @author Mark Paluch
+ */
+public class WindowedPipelineUnitTests {
+
+	static final byte[] KEY = "counter".getBytes(StandardCharsets.UTF_8);
+
+	StringRedisTemplate template = new StringRedisTemplate(new InMemoryConnectionFactory());
+
+	@Test
+	public void shouldDeliverResultsPerWindow() {
+
+		List<List<Object>> windows = new ArrayList<>();
+
+		template.executePipelined((RedisCallback<Object>) connection -> {
+
+			for (int i = 0; i < 5; i++) {
+				connection.incr(KEY);
+			}
+
+			return null;
+		}, 2, windows::add);
+
+		assertThat(windows).containsExactly(list(1L, 2L), list(3L, 4L), list(5L));
+	}
+
+	@Test
+	public void shouldCountCommandsIssuedThroughCommandInterfaces() {
+
+		List<List<Object>> windows = new ArrayList<>();
+
+		template.executePipelined((RedisCallback<Object>) connection -> {
+
+			connection.stringCommands().incr(KEY);
+			connection.stringCommands().incr(KEY);
+			connection.stringCommands().decr(KEY);
+
+			return null;
+		}, 2, windows::add);
+
+		assertThat(windows).containsExactly(list(1L, 2L), list(1L));
+	}
+
+	@Test
+	public void shouldNotDeliverEmptyWindow() {
+
+		List<List<Object>> windows = new ArrayList<>();
+
+		template.executePipelined((RedisCallback<Object>) connection -> {
+
+			connection.incr(KEY);
+			connection.incr(KEY);
+
+			return null;
+		}, 2, windows::add);
+
+		assertThat(windows).containsExactly(list(1L, 2L));
+	}
+
+	@Test
+	public void shouldRejectPipelineControlWithinCallback() {
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> template.executePipelined((RedisCallback<Object>) connection -> {
+
+					connection.closePipeline();
+					return null;
+				}, 2, results -> {}));
+	}
+
+	@Test
+	public void shouldRejectNonNullCallbackResult() {
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> template.executePipelined((RedisCallback<Object>) connection -> "foo", 2, results -> {}));
+	}
+
+	@Test
+	public void shouldRejectNonPositiveWindowSize() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> template.executePipelined((RedisCallback<Object>) connection -> null, 0, results -> {}));
+	}
+
+	private static List<Object> list(Object... values) {
+
+		List<Object> list = new ArrayList<>();
+		for (Object value : values) {
+			list.add(value);
+		}
+		return list;
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.loadtest;
+
+import java.time.Duration;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisClientConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+
+/**
+ * Driver configurations compared by the {@link LoadHarness}. Pools are sized to the number of workers so that workers
+ * do not wait for connections.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+enum DriverConfiguration {
+
+	/**
+	 * Jedis using a connection pool.
+	 */
+	JEDIS_POOLED {
+
+		@Override
+		RedisConnectionFactory createConnectionFactory(RedisConfiguration configuration, int concurrency) {
+
+			JedisClientConfiguration clientConfiguration = JedisClientConfiguration.builder().readTimeout(TIMEOUT)
+					.usePooling().poolConfig(poolConfig(concurrency)).build();
+
+			JedisConnectionFactory connectionFactory = configuration instanceof RedisClusterConfiguration
+					? new JedisConnectionFactory((RedisClusterConfiguration) configuration, clientConfiguration)
+					: new JedisConnectionFactory((RedisStandaloneConfiguration) configuration, clientConfiguration);
+
+			connectionFactory.afterPropertiesSet();
+			return connectionFactory;
+		}
+	},
+
+	/**
+	 * Lettuce sharing a single native connection across all workers.
+	 */
+	LETTUCE_SHARED {
+
+		@Override
+		RedisConnectionFactory createConnectionFactory(RedisConfiguration configuration, int concurrency) {
+
+			LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(configuration,
+					LettuceClientConfiguration.builder().commandTimeout(TIMEOUT).build());
+
+			connectionFactory.afterPropertiesSet();
+			return connectionFactory;
+		}
+	},
+
+	/**
+	 * Lettuce using a connection pool without sharing the native connection.
+	 */
+	LETTUCE_POOLED {
+
+		@Override
+		RedisConnectionFactory createConnectionFactory(RedisConfiguration configuration, int concurrency) {
+
+			LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(configuration,
+					LettucePoolingClientConfiguration.builder().commandTimeout(TIMEOUT).poolConfig(poolConfig(concurrency))
+							.build());
+
+			connectionFactory.setShareNativeConnection(false);
+			connectionFactory.afterPropertiesSet();
+			return connectionFactory;
+		}
+	};
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+	/**
+	 * Create and initialize a {@link RedisConnectionFactory}.
+	 *
+	 * @param configuration either {@link RedisStandaloneConfiguration} or {@link RedisClusterConfiguration}.
+	 * @param concurrency number of workers using the connection factory concurrently.
+	 * @return the initialized {@link RedisConnectionFactory}. Must be destroyed by the caller.
+	 */
+	abstract RedisConnectionFactory createConnectionFactory(RedisConfiguration configuration, int concurrency);
+
+	private static GenericObjectPoolConfig poolConfig(int concurrency) {
+
+		GenericObjectPoolConfig poolConfig = new GenericObjectPoolConfig();
+		poolConfig.setMaxTotal(concurrency);
+		poolConfig.setMaxIdle(concurrency);
+		poolConfig.setMinIdle(concurrency);
+
+		return poolConfig;
+	}
+}
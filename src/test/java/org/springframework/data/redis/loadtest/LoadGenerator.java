@@ -0,0 +1,215 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.cache.LatencyHistogram;
+import org.springframework.data.redis.loadtest.Workload.Operation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Closed-loop load generator invoking an {@link Operation} from a fixed number of worker threads. Each worker issues
+ * the next operation as soon as the previous one completes. Latencies are recorded per worker after a warmup period
+ * and merged into a single {@link LatencyHistogram} once the measurement period is over.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+class LoadGenerator {
+
+	private final int concurrency;
+	private final Duration warmup;
+	private final Duration measurement;
+	private final String[] keys;
+
+	/**
+	 * @param concurrency number of worker threads, must be greater than zero.
+	 * @param warmup duration to run before recording latencies, must not be {@literal null}.
+	 * @param measurement duration to record latencies, must not be {@literal null}.
+	 * @param keyspace number of distinct keys to operate on, must be greater than zero.
+	 */
+	LoadGenerator(int concurrency, Duration warmup, Duration measurement, int keyspace) {
+
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero!");
+		Assert.notNull(warmup, "Warmup must not be null!");
+		Assert.notNull(measurement, "Measurement must not be null!");
+		Assert.isTrue(keyspace > 0, "Keyspace must be greater than zero!");
+
+		this.concurrency = concurrency;
+		this.warmup = warmup;
+		this.measurement = measurement;
+		this.keys = new String[keyspace];
+
+		for (int i = 0; i < keyspace; i++) {
+			keys[i] = "loadtest:" + i;
+		}
+	}
+
+	/**
+	 * Run {@code operation} for the warmup and measurement period.
+	 *
+	 * @param operation must not be {@literal null}.
+	 * @return the measured {@link LatencyHistogram} and elapsed time.
+	 * @throws InterruptedException if interrupted while waiting for workers.
+	 */
+	Measurement run(Operation operation) throws InterruptedException {
+
+		Assert.notNull(operation, "Operation must not be null!");
+
+		List<Worker> workers = new ArrayList<>(concurrency);
+
+		for (int i = 0; i < concurrency; i++) {
+
+			Worker worker = new Worker(operation);
+			workers.add(worker);
+			worker.start();
+		}
+
+		Thread.sleep(warmup.toMillis());
+
+		long start = System.nanoTime();
+		workers.forEach(it -> it.recording = true);
+
+		Thread.sleep(measurement.toMillis());
+
+		workers.forEach(it -> it.running = false);
+		long elapsed = System.nanoTime() - start;
+
+		LatencyHistogram histogram = new LatencyHistogram();
+		long errors = 0;
+		Throwable failure = null;
+
+		for (Worker worker : workers) {
+
+			worker.join();
+			histogram.add(worker.histogram);
+			errors += worker.errors;
+
+			if (failure == null) {
+				failure = worker.failure;
+			}
+		}
+
+		return new Measurement(histogram, errors, failure, elapsed);
+	}
+
+	private class Worker extends Thread {
+
+		final Operation operation;
+		final LatencyHistogram histogram = new LatencyHistogram();
+
+		volatile boolean recording;
+		volatile boolean running = true;
+		long errors;
+		Throwable failure;
+
+		Worker(Operation operation) {
+
+			super("loadtest-worker");
+			setDaemon(true);
+			this.operation = operation;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Thread#run()
+		 */
+		@Override
+		public void run() {
+
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+
+			while (running) {
+
+				String key = keys[random.nextInt(keys.length)];
+				long start = System.nanoTime();
+
+				try {
+					operation.execute(key);
+				} catch (RuntimeException e) {
+
+					if (failure == null) {
+						failure = e;
+					}
+
+					if (recording) {
+						errors++;
+					}
+
+					continue;
+				}
+
+				if (recording) {
+					histogram.record(System.nanoTime() - start);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Result of a {@link LoadGenerator#run(Operation)}.
+	 */
+	static class Measurement {
+
+		private final LatencyHistogram histogram;
+		private final long errors;
+		private final @Nullable Throwable failure;
+		private final long elapsedNanos;
+
+		Measurement(LatencyHistogram histogram, long errors, @Nullable Throwable failure, long elapsedNanos) {
+
+			this.histogram = histogram;
+			this.errors = errors;
+			this.failure = failure;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		/**
+		 * @return latencies of successful operations.
+		 */
+		LatencyHistogram getHistogram() {
+			return histogram;
+		}
+
+		/**
+		 * @return number of failed operations.
+		 */
+		long getErrors() {
+			return errors;
+		}
+
+		/**
+		 * @return the first failure observed by any worker, including the warmup period.
+		 */
+		@Nullable
+		Throwable getFailure() {
+			return failure;
+		}
+
+		/**
+		 * @return successful operations per second.
+		 */
+		double getThroughput() {
+			return histogram.getCount() / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+		}
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.loadtest;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.cache.LatencyHistogram;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.loadtest.LoadGenerator.Measurement;
+import org.springframework.data.redis.loadtest.Workload.Operation;
+import org.springframework.util.StringUtils;
+
+/**
+ * End-to-end load harness comparing {@link DriverConfiguration driver configurations} across {@link Workload
+ * workloads}, concurrency levels and value sizes against {@literal redis-server} processes spawned for the run. Reports
+ * throughput and p50/p99/p999 latencies to the console and as CSV.
+ * <p />
+ * Build Redis with {@code make work/redis/bin/redis-server} and run the harness from the project root, e.g.:
+ *
+ * <pre class="code">
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.springframework.data.redis.loadtest.LoadHarness \
+ *     -Dloadtest.drivers=JEDIS_POOLED,LETTUCE_SHARED -Dloadtest.concurrency=1,16,64
+ * </pre>
+ *
+ * Supported system properties:
+ * <ul>
+ * <li>{@code loadtest.redis-server}: path to {@literal redis-server}, defaults to {@code work/redis/bin/redis-server}.
+ * </li>
+ * <li>{@code loadtest.topologies}: {@code standalone} and/or {@code cluster}, defaults to both.</li>
+ * <li>{@code loadtest.drivers}: {@link DriverConfiguration} names, defaults to all.</li>
+ * <li>{@code loadtest.workloads}: {@link Workload} names, defaults to all.</li>
+ * <li>{@code loadtest.concurrency}: number of workers, defaults to {@code 1,16,64}.</li>
+ * <li>{@code loadtest.value-sizes}: value sizes in bytes, defaults to {@code 16,1024}.</li>
+ * <li>{@code loadtest.keyspace}: number of distinct keys, defaults to {@code 10000}.</li>
+ * <li>{@code loadtest.warmup} and {@code loadtest.duration}: seconds per run, default to {@code 5} and {@code 15}.</li>
+ * <li>{@code loadtest.port}: standalone port and first cluster port is {@code port + 1000}, defaults to {@code 6390}.</li>
+ * <li>{@code loadtest.report}: CSV report location, defaults to {@code target/loadtest-results.csv}.</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+public class LoadHarness {
+
+	private static final int CLUSTER_MASTERS = 3;
+
+	private final String executable = System.getProperty("loadtest.redis-server", "work/redis/bin/redis-server");
+	private final List<String> topologies = listProperty("loadtest.topologies", "standalone,cluster");
+	private final List<DriverConfiguration> drivers = listProperty("loadtest.drivers", join(DriverConfiguration.values()))
+			.stream().map(DriverConfiguration::valueOf).collect(Collectors.toList());
+	private final List<Workload> workloads = listProperty("loadtest.workloads", join(Workload.values())).stream()
+			.map(Workload::valueOf).collect(Collectors.toList());
+	private final List<Integer> concurrencies = intListProperty("loadtest.concurrency", "1,16,64");
+	private final List<Integer> valueSizes = intListProperty("loadtest.value-sizes", "16,1024");
+	private final int keyspace = Integer.getInteger("loadtest.keyspace", 10000);
+	private final Duration warmup = Duration.ofSeconds(Integer.getInteger("loadtest.warmup", 5));
+	private final Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.duration", 15));
+	private final int port = Integer.getInteger("loadtest.port", 6390);
+	private final Path report = Paths.get(System.getProperty("loadtest.report", "target/loadtest-results.csv"));
+
+	public static void main(String[] args) throws Exception {
+		new LoadHarness().run();
+	}
+
+	void run() throws IOException, InterruptedException {
+
+		Files.createDirectories(report.toAbsolutePath().getParent());
+
+		try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(report, StandardCharsets.UTF_8))) {
+
+			csv.println("topology,driver,workload,concurrency,value_size,ops_per_sec,errors,p50_us,p99_us,p999_us,max_us");
+			System.out.println(String.format("%-10s %-15s %-19s %5s %7s %12s %7s  %s", "topology", "driver", "workload",
+					"conc", "size", "ops/s", "errors", "latency"));
+
+			if (topologies.contains("standalone")) {
+				try (RedisServerProcess server = RedisServerProcess.standalone(executable, port)) {
+					runAll("standalone", new RedisStandaloneConfiguration("127.0.0.1", port), server::flushAll, csv);
+				}
+			}
+
+			if (topologies.contains("cluster")) {
+				try (LocalRedisCluster cluster = LocalRedisCluster.start(executable, port + 1000, CLUSTER_MASTERS)) {
+					runAll("cluster", cluster.getClusterConfiguration(), cluster::flushAll, csv);
+				}
+			}
+		}
+
+		System.out.println("Results written to " + report.toAbsolutePath());
+	}
+
+	private void runAll(String topology, RedisConfiguration configuration, Runnable flush, PrintWriter csv)
+			throws InterruptedException {
+
+		for (DriverConfiguration driver : drivers) {
+			for (Workload workload : workloads) {
+				for (int concurrency : concurrencies) {
+					for (int valueSize : valueSizes) {
+
+						flush.run();
+
+						RedisConnectionFactory connectionFactory = driver.createConnectionFactory(configuration, concurrency);
+
+						try {
+
+							if (!workload.supports(configuration, connectionFactory)) {
+								break;
+							}
+
+							Measurement measurement;
+
+							try (Operation operation = workload.prepare(connectionFactory, new byte[valueSize])) {
+								measurement = new LoadGenerator(concurrency, warmup, duration, keyspace).run(operation);
+							}
+
+							report(topology, driver, workload, concurrency, valueSize, measurement, csv);
+						} finally {
+							destroy(connectionFactory);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private static void report(String topology, DriverConfiguration driver, Workload workload, int concurrency,
+			int valueSize, Measurement measurement, PrintWriter csv) {
+
+		LatencyHistogram histogram = measurement.getHistogram();
+
+		System.out.println(String.format(Locale.ROOT, "%-10s %-15s %-19s %5d %7d %12.0f %7d  %s", topology, driver,
+				workload, concurrency, valueSize, measurement.getThroughput(), measurement.getErrors(),
+				summary(histogram)));
+
+		if (measurement.getFailure() != null) {
+			System.out.println("  first failure: " + measurement.getFailure());
+		}
+
+		csv.println(String.format(Locale.ROOT, "%s,%s,%s,%d,%d,%.1f,%d,%.1f,%.1f,%.1f,%.1f", topology, driver, workload,
+				concurrency, valueSize, measurement.getThroughput(), measurement.getErrors(),
+				micros(histogram.getPercentile(50)), micros(histogram.getPercentile(99)),
+				micros(histogram.getPercentile(99.9)), micros(histogram.getMax())));
+		csv.flush();
+	}
+
+	private static String summary(LatencyHistogram histogram) {
+
+		return String.format(Locale.ROOT, "p50=%.1f p99=%.1f p999=%.1f max=%.1f mean=%.1f [microseconds]", //
+				micros(histogram.getPercentile(50)), //
+				micros(histogram.getPercentile(99)), //
+				micros(histogram.getPercentile(99.9)), //
+				micros(histogram.getMax()), //
+				micros(histogram.getMean()));
+	}
+
+	private static double micros(Duration duration) {
+		return duration.toNanos() / 1000d;
+	}
+
+	private static void destroy(RedisConnectionFactory connectionFactory) {
+
+		if (connectionFactory instanceof DisposableBean) {
+			try {
+				((DisposableBean) connectionFactory).destroy();
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	private static String join(Enum<?>[] values) {
+		return Arrays.stream(values).map(Enum::name).collect(Collectors.joining(","));
+	}
+
+	private static List<String> listProperty(String name, String defaultValue) {
+		return Arrays.asList(StringUtils.commaDelimitedListToStringArray(System.getProperty(name, defaultValue))).stream()
+				.map(String::trim).filter(StringUtils::hasText).collect(Collectors.toList());
+	}
+
+	private static List<Integer> intListProperty(String name, String defaultValue) {
+		return listProperty(name, defaultValue).stream().map(Integer::valueOf).collect(Collectors.toList());
+	}
+}
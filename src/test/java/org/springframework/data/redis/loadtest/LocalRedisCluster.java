@@ -0,0 +1,154 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.loadtest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.springframework.data.redis.SpinBarrier;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.util.Assert;
+
+import redis.clients.jedis.Jedis;
+
+/**
+ * Local Redis Cluster consisting of {@literal redis-server} processes on consecutive ports. Each node is a master
+ * serving an equally sized slot range.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+class LocalRedisCluster implements Closeable {
+
+	private static final int SLOT_COUNT = 16384;
+	private static final long STARTUP_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+	private final List<RedisServerProcess> nodes;
+
+	private LocalRedisCluster(List<RedisServerProcess> nodes) {
+		this.nodes = nodes;
+	}
+
+	/**
+	 * Start a local cluster.
+	 *
+	 * @param executable path to the {@literal redis-server} executable, must not be {@literal null}.
+	 * @param basePort the port of the first node.
+	 * @param masters number of master nodes, must be at least {@literal 1}.
+	 * @return the running {@link LocalRedisCluster}.
+	 * @throws IOException if a node cannot be started.
+	 * @throws IllegalStateException if the cluster does not reach state {@literal ok} within 30 seconds.
+	 */
+	static LocalRedisCluster start(String executable, int basePort, int masters) throws IOException {
+
+		Assert.isTrue(masters > 0, "Number of masters must be greater than zero!");
+
+		List<RedisServerProcess> nodes = new ArrayList<>(masters);
+		LocalRedisCluster cluster = new LocalRedisCluster(nodes);
+
+		try {
+
+			for (int i = 0; i < masters; i++) {
+				nodes.add(RedisServerProcess.clusterNode(executable, basePort + i));
+			}
+
+			cluster.assignSlots();
+
+			if (!SpinBarrier.waitFor(cluster::isHealthy, STARTUP_TIMEOUT)) {
+				throw new IllegalStateException(String.format("Cluster on ports %d-%d did not reach state ok", basePort,
+						basePort + masters - 1));
+			}
+		} catch (IOException | RuntimeException e) {
+
+			cluster.close();
+			throw e;
+		}
+
+		return cluster;
+	}
+
+	/**
+	 * @return {@link RedisClusterConfiguration} pointing to all nodes of this cluster.
+	 */
+	RedisClusterConfiguration getClusterConfiguration() {
+
+		RedisClusterConfiguration configuration = new RedisClusterConfiguration();
+		nodes.forEach(it -> configuration.clusterNode("127.0.0.1", it.getPort()));
+
+		return configuration;
+	}
+
+	/**
+	 * Remove all keys from all nodes.
+	 */
+	void flushAll() {
+		nodes.forEach(RedisServerProcess::flushAll);
+	}
+
+	private void assignSlots() {
+
+		int masters = nodes.size();
+		int first = nodes.get(0).getPort();
+
+		for (int i = 0; i < masters; i++) {
+
+			int from = SLOT_COUNT * i / masters;
+			int to = SLOT_COUNT * (i + 1) / masters;
+
+			try (Jedis jedis = new Jedis("127.0.0.1", nodes.get(i).getPort())) {
+
+				if (i > 0) {
+					jedis.clusterMeet("127.0.0.1", first);
+				}
+
+				jedis.clusterAddSlots(IntStream.range(from, to).toArray());
+			}
+		}
+	}
+
+	private boolean isHealthy() {
+
+		for (RedisServerProcess node : nodes) {
+
+			try (Jedis jedis = new Jedis("127.0.0.1", node.getPort())) {
+
+				String info = jedis.clusterInfo();
+
+				if (!info.contains("cluster_state:ok") || !info.contains("cluster_known_nodes:" + nodes.size() + "\r")) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+
+		for (RedisServerProcess node : nodes) {
+			node.close();
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.loadtest;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.SpinBarrier;
+import org.springframework.util.Assert;
+import org.springframework.util.FileSystemUtils;
+
+import redis.clients.jedis.Jedis;
+
+/**
+ * A {@literal redis-server} process spawned on a local port with persistence disabled. The process is started with a
+ * temporary working directory that is removed on {@link #close()}.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+class RedisServerProcess implements Closeable {
+
+	private static final long STARTUP_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+
+	private final int port;
+	private final Path workingDirectory;
+	private final Process process;
+
+	private RedisServerProcess(int port, Path workingDirectory, Process process) {
+
+		this.port = port;
+		this.workingDirectory = workingDirectory;
+		this.process = process;
+	}
+
+	/**
+	 * Start a standalone {@literal redis-server}.
+	 *
+	 * @param executable path to the {@literal redis-server} executable, must not be {@literal null}.
+	 * @param port the port to listen on.
+	 * @return the running {@link RedisServerProcess}.
+	 * @throws IOException if the process cannot be started.
+	 * @throws IllegalStateException if the server does not accept connections within 10 seconds.
+	 */
+	static RedisServerProcess standalone(String executable, int port) throws IOException {
+		return start(executable, port);
+	}
+
+	/**
+	 * Start a {@literal redis-server} with cluster mode enabled. The node does not serve slots until it is assigned
+	 * slots.
+	 *
+	 * @param executable path to the {@literal redis-server} executable, must not be {@literal null}.
+	 * @param port the port to listen on.
+	 * @return the running {@link RedisServerProcess}.
+	 * @throws IOException if the process cannot be started.
+	 * @throws IllegalStateException if the server does not accept connections within 10 seconds.
+	 */
+	static RedisServerProcess clusterNode(String executable, int port) throws IOException {
+		return start(executable, port, "--cluster-enabled", "yes", "--cluster-config-file", "nodes-" + port + ".conf",
+				"--cluster-node-timeout", "5000");
+	}
+
+	private static RedisServerProcess start(String executable, int port, String... options) throws IOException {
+
+		Assert.hasText(executable, "Executable must not be empty!");
+
+		Path workingDirectory = Files.createTempDirectory("redis-" + port);
+
+		List<String> command = new ArrayList<>();
+		command.add(new File(executable).getAbsolutePath());
+		command.addAll(Arrays.asList("--port", Integer.toString(port), "--bind", "127.0.0.1", "--save", "",
+				"--appendonly", "no", "--daemonize", "no"));
+		command.addAll(Arrays.asList(options));
+
+		Process process = new ProcessBuilder(command).directory(workingDirectory.toFile())
+				.redirectErrorStream(true).redirectOutput(workingDirectory.resolve("redis.log").toFile()).start();
+
+		RedisServerProcess server = new RedisServerProcess(port, workingDirectory, process);
+
+		if (!SpinBarrier.waitFor(server::isRunning, STARTUP_TIMEOUT)) {
+
+			server.close();
+			throw new IllegalStateException(String.format("redis-server on port %d did not start, see %s", port,
+					workingDirectory.resolve("redis.log")));
+		}
+
+		return server;
+	}
+
+	/**
+	 * @return the port the server listens on.
+	 */
+	int getPort() {
+		return port;
+	}
+
+	/**
+	 * Remove all keys from the server.
+	 */
+	void flushAll() {
+
+		try (Jedis jedis = new Jedis("127.0.0.1", port)) {
+			jedis.flushAll();
+		}
+	}
+
+	private boolean isRunning() {
+
+		if (!process.isAlive()) {
+			return false;
+		}
+
+		try (Jedis jedis = new Jedis("127.0.0.1", port)) {
+			return "PONG".equals(jedis.ping());
+		} catch (RuntimeException e) {
+			return false;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+
+		process.destroy();
+
+		try {
+			if (!process.waitFor(5, TimeUnit.SECONDS)) {
+				process.destroyForcibly().waitFor();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		FileSystemUtils.deleteRecursively(workingDirectory);
+	}
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.loadtest;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisKeyValueAdapter;
+import org.springframework.data.redis.core.RedisKeyValueTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.repository.support.RedisRepositoryFactory;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Workloads executed by the {@link LoadHarness}. Each {@link Operation} writes a value to a key and reads it back so
+ * that the measured latency covers a write and a read round trip.
+ *
+ * @author Mark Paluch
+ * @since 2.2
+ */
+enum Workload {
+
+	/**
+	 * {@code SET} and {@code GET} through {@link RedisTemplate}.
+	 */
+	TEMPLATE {
+
+		@Override
+		Operation prepare(RedisConnectionFactory connectionFactory, byte[] payload) {
+
+			RedisTemplate<String, byte[]> template = createTemplate(connectionFactory);
+
+			return key -> {
+				template.opsForValue().set(key, payload);
+				template.opsForValue().get(key);
+			};
+		}
+	},
+
+	/**
+	 * {@value #PIPELINE_SIZE} {@code SET} and {@code GET} commands in a single pipeline through
+	 * {@link RedisTemplate#executePipelined(org.springframework.data.redis.core.RedisCallback)}. Not supported with Redis
+	 * Cluster.
+	 */
+	TEMPLATE_PIPELINED {
+
+		@Override
+		boolean supports(RedisConfiguration configuration, RedisConnectionFactory connectionFactory) {
+			return !(configuration instanceof RedisClusterConfiguration);
+		}
+
+		@Override
+		Operation prepare(RedisConnectionFactory connectionFactory, byte[] payload) {
+
+			RedisTemplate<String, byte[]> template = createTemplate(connectionFactory);
+
+			return key -> template.executePipelined((RedisConnection connection) -> {
+
+				for (int i = 0; i < PIPELINE_SIZE; i++) {
+
+					byte[] rawKey = (key + ":" + i).getBytes(StandardCharsets.UTF_8);
+
+					connection.set(rawKey, payload);
+					connection.get(rawKey);
+				}
+
+				return null;
+			});
+		}
+	},
+
+	/**
+	 * {@code SET} and {@code GET} through {@link ReactiveRedisTemplate}, awaiting each result. Requires a
+	 * {@link ReactiveRedisConnectionFactory}.
+	 */
+	REACTIVE_TEMPLATE {
+
+		@Override
+		boolean supports(RedisConfiguration configuration, RedisConnectionFactory connectionFactory) {
+			return connectionFactory instanceof ReactiveRedisConnectionFactory;
+		}
+
+		@Override
+		Operation prepare(RedisConnectionFactory connectionFactory, byte[] payload) {
+
+			RedisSerializationContext<String, byte[]> serializationContext = RedisSerializationContext
+					.<String, byte[]> newSerializationContext(RedisSerializer.string()).value(RedisSerializer.byteArray())
+					.build();
+
+			ReactiveRedisTemplate<String, byte[]> template = new ReactiveRedisTemplate<>(
+					(ReactiveRedisConnectionFactory) connectionFactory, serializationContext);
+
+			return key -> template.opsForValue().set(key, payload).then(template.opsForValue().get(key)).block();
+		}
+	},
+
+	/**
+	 * {@link Cache#put(Object, Object)} and {@link Cache#get(Object)} through a {@link RedisCacheManager} with default
+	 * configuration.
+	 */
+	CACHE {
+
+		@Override
+		Operation prepare(RedisConnectionFactory connectionFactory, byte[] payload) {
+
+			Cache cache = RedisCacheManager.create(connectionFactory).getCache("loadtest");
+
+			return key -> {
+				cache.put(key, payload);
+				cache.get(key);
+			};
+		}
+	},
+
+	/**
+	 * {@code save} and {@code findById} through a {@link LoadTestRepository}.
+	 */
+	REPOSITORY {
+
+		@Override
+		Operation prepare(RedisConnectionFactory connectionFactory, byte[] payload) {
+
+			RedisTemplate<byte[], byte[]> template = new RedisTemplate<>();
+			template.setConnectionFactory(connectionFactory);
+			template.afterPropertiesSet();
+
+			RedisMappingContext mappingContext = new RedisMappingContext();
+			RedisKeyValueAdapter adapter = new RedisKeyValueAdapter(template, mappingContext);
+			adapter.afterPropertiesSet();
+
+			LoadTestRepository repository = new RedisRepositoryFactory(new RedisKeyValueTemplate(adapter, mappingContext))
+					.getRepository(LoadTestRepository.class);
+
+			return new Operation() {
+
+				@Override
+				public void execute(String key) {
+
+					repository.save(new LoadTestEntity(key, "load-test", key.length(), payload));
+					repository.findById(key);
+				}
+
+				@Override
+				public void close() {
+
+					try {
+						adapter.destroy();
+					} catch (Exception e) {
+						throw new IllegalStateException(e);
+					}
+				}
+			};
+		}
+	};
+
+	static final int PIPELINE_SIZE = 16;
+
+	/**
+	 * @param configuration the configuration of the Redis endpoint.
+	 * @param connectionFactory the connection factory to use.
+	 * @return {@literal true} if this workload can run against {@code configuration} using {@code connectionFactory}.
+	 */
+	boolean supports(RedisConfiguration configuration, RedisConnectionFactory connectionFactory) {
+		return true;
+	}
+
+	/**
+	 * Prepare an {@link Operation} that is invoked concurrently by all workers.
+	 *
+	 * @param connectionFactory the initialized connection factory.
+	 * @param payload the value to write.
+	 * @return the thread-safe {@link Operation}.
+	 */
+	abstract Operation prepare(RedisConnectionFactory connectionFactory, byte[] payload);
+
+	private static RedisTemplate<String, byte[]> createTemplate(RedisConnectionFactory connectionFactory) {
+
+		RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+		template.setConnectionFactory(connectionFactory);
+		template.setKeySerializer(RedisSerializer.string());
+		template.setValueSerializer(RedisSerializer.byteArray());
+		template.afterPropertiesSet();
+
+		return template;
+	}
+
+	/**
+	 * A single unit of work that is measured as one latency sample.
+	 */
+	interface Operation extends AutoCloseable {
+
+		/**
+		 * Execute the operation.
+		 *
+		 * @param key the key to operate on.
+		 */
+		void execute(String key);
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.AutoCloseable#close()
+		 */
+		@Override
+		default void close() {}
+	}
+}
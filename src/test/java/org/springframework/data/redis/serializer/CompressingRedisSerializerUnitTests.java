@@ -0,0 +1,219 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CompressingRedisSerializer}.
+ *
+ * @author Mark Paluch
+ */
+public class CompressingRedisSerializerUnitTests {
+
+	CompressingRedisSerializer<String> serializer = new CompressingRedisSerializer<>(StringRedisSerializer.UTF_8)
+			.withThreshold(64);
+
+	@Test
+	public void shouldCompressValuesExceedingThreshold() {
+
+		String value = json(1, 20);
+
+		byte[] compressed = serializer.serialize(value);
+
+		assertThat(CompressingRedisSerializer.isCompressed(compressed)).isTrue();
+		assertThat(compressed.length).isLessThan(value.length());
+		assertThat(serializer.deserialize(compressed)).isEqualTo(value);
+	}
+
+	@Test
+	public void shouldNotCompressSmallValues() {
+
+		assertThat(serializer.serialize("small")).isEqualTo("small".getBytes(StandardCharsets.UTF_8));
+		assertThat(serializer.serialize(null)).isNull();
+		assertThat(serializer.deserialize(null)).isNull();
+	}
+
+	@Test
+	public void shouldNotCompressIncompressibleValues() {
+
+		String value = "aZ3kQ9xL0pW2mN7vB5cR8tY1uI4oE6sD";
+
+		byte[] serialized = serializer.withThreshold(0).serialize(value);
+
+		assertThat(serialized).isEqualTo(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void shouldReadUncompressedLegacyValues() {
+
+		String value = json(1, 20);
+
+		assertThat(serializer.deserialize(value.getBytes(StandardCharsets.UTF_8))).isEqualTo(value);
+	}
+
+	@Test
+	public void shouldCompressUsingTrainedDictionary() {
+
+		List<byte[]> samples = new ArrayList<>();
+
+		for (int i = 0; i < 100; i++) {
+			samples.add(json(i, 1).getBytes(StandardCharsets.UTF_8));
+		}
+
+		byte[] dictionary = CompressingRedisSerializer.trainDictionary(samples, 1024);
+		CompressingRedisSerializer<String> withDictionary = serializer.withDictionary(dictionary);
+
+		String value = json(4711, 1);
+
+		byte[] compressed = withDictionary.serialize(value);
+
+		assertThat(dictionary).isNotEmpty().hasSizeLessThanOrEqualTo(1024);
+		assertThat(compressed.length).isLessThan(serializer.serialize(value).length);
+		assertThat(withDictionary.deserialize(compressed)).isEqualTo(value);
+	}
+
+	@Test
+	public void shouldRejectValuesCompressedWithUnknownDictionary() {
+
+		String value = json(1, 20);
+		byte[] compressed = serializer.withDictionary(value.getBytes(StandardCharsets.UTF_8)).serialize(value);
+
+		assertThatExceptionOfType(SerializationException.class).isThrownBy(() -> serializer.deserialize(compressed));
+		assertThatExceptionOfType(SerializationException.class).isThrownBy(
+				() -> serializer.withDictionary("other".getBytes(StandardCharsets.UTF_8)).deserialize(compressed));
+	}
+
+	@Test
+	public void shouldRejectTruncatedValues() {
+
+		byte[] compressed = serializer.serialize(json(1, 20));
+		byte[] truncated = new byte[compressed.length - 4];
+		System.arraycopy(compressed, 0, truncated, 0, truncated.length);
+
+		assertThatExceptionOfType(SerializationException.class).isThrownBy(() -> serializer.deserialize(truncated));
+	}
+
+	@Test
+	public void shouldRejectCorruptUncompressedLength() {
+
+		byte[] compressed = serializer.serialize(json(1, 20));
+		compressed[4] = 0x7F;
+
+		assertThatExceptionOfType(SerializationException.class).isThrownBy(() -> serializer.deserialize(compressed))
+				.withMessageContaining("Invalid uncompressed length");
+	}
+
+	@Test
+	public void shouldRejectValuesExceedingMaxDecompressedSize() {
+
+		String value = json(1, 20);
+		byte[] compressed = serializer.serialize(value);
+
+		assertThatExceptionOfType(SerializationException.class)
+				.isThrownBy(() -> serializer.withMaxDecompressedSize(64).deserialize(compressed))
+				.withMessageContaining("exceeds the maximum");
+		assertThat(serializer.withMaxDecompressedSize(64 * 1024).deserialize(compressed)).isEqualTo(value);
+	}
+
+	@Test
+	public void shouldDecorateSerializationPair() {
+
+		RedisSerializationContext.SerializationPair<Object> pair = RedisSerializationContext.SerializationPair
+				.fromSerializer(new CompressingRedisSerializer<>(RedisSerializer.json()).withThreshold(0));
+
+		List<String> value = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			value.add(json(i, 1));
+		}
+
+		assertThat(pair.read(pair.write(value))).isEqualTo(value);
+	}
+
+	@Test
+	public void shouldReusePooledInstancesAfterFailures() {
+
+		String value = json(1, 20);
+		CompressingRedisSerializer<String> withDictionary = serializer
+				.withDictionary(json(2, 1).getBytes(StandardCharsets.UTF_8));
+
+		byte[] compressed = withDictionary.serialize(value);
+		byte[] truncated = new byte[compressed.length - 4];
+		System.arraycopy(compressed, 0, truncated, 0, truncated.length);
+
+		for (int i = 0; i < 3; i++) {
+
+			assertThatExceptionOfType(SerializationException.class).isThrownBy(() -> withDictionary.deserialize(truncated));
+			assertThat(withDictionary.serialize(value)).isEqualTo(compressed);
+			assertThat(withDictionary.deserialize(compressed)).isEqualTo(value);
+		}
+	}
+
+	@Test
+	public void shouldKeepWorkingAfterDestroy() {
+
+		String value = json(1, 20);
+		byte[] compressed = serializer.serialize(value);
+
+		serializer.destroy();
+
+		assertThat(serializer.serialize(value)).isEqualTo(compressed);
+		assertThat(serializer.deserialize(compressed)).isEqualTo(value);
+	}
+
+	@Test
+	public void poolShouldResetReturnedInstancesAndEndInstancesOnceDisposed() {
+
+		List<String> events = new ArrayList<>();
+		CompressingRedisSerializer.Pool<Object> pool = new CompressingRedisSerializer.Pool<>(Object::new,
+				it -> events.add("reset"), it -> events.add("end"));
+
+		Object instance = pool.acquire();
+		pool.release(instance);
+
+		assertThat(pool.acquire()).isSameAs(instance);
+
+		pool.release(instance);
+		pool.dispose();
+		pool.release(pool.acquire());
+
+		assertThat(pool.size()).isZero();
+		assertThat(events).containsExactly("reset", "reset", "end", "end");
+	}
+
+	private static String json(int id, int repetitions) {
+
+		StringBuilder builder = new StringBuilder("[");
+
+		for (int i = 0; i < repetitions; i++) {
+
+			if (i > 0) {
+				builder.append(',');
+			}
+
+			builder.append("{\"id\":").append(id + i).append(",\"name\":\"user-").append(id + i)
+					.append("\",\"email\":\"someone@example.com\",\"roles\":[\"ADMIN\",\"USER\"],\"active\":true}");
+		}
+
+		return builder.append(']').toString();
+	}
+}
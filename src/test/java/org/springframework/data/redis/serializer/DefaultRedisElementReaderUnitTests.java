@@ -55,4 +55,57 @@ public class DefaultRedisElementReaderUnitTests {
 
 		assertThat(result, is(equalTo(input)));
 	}
+
+	@Test
+	public void shouldDecodeDirectByteBufferWithoutChangingPosition() {
+
+		String input = "123ü?™";
+		byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+		buffer.put(bytes).flip();
+
+		DefaultRedisElementReader<String> reader = new DefaultRedisElementReader<>(StringRedisSerializer.UTF_8);
+
+		assertThat(reader.read(buffer), is(equalTo(input)));
+		assertThat(buffer.remaining(), is(bytes.length));
+	}
+
+	@Test
+	public void shouldDecodeSlicedHeapByteBuffer() {
+
+		ByteBuffer buffer = ByteBuffer.wrap("xx\"foo\"yy".getBytes(StandardCharsets.UTF_8), 2, 5).slice();
+
+		DefaultRedisElementReader<String> stringReader = new DefaultRedisElementReader<>(StringRedisSerializer.UTF_8);
+		DefaultRedisElementReader<String> jsonReader = new DefaultRedisElementReader<>(
+				new Jackson2JsonRedisSerializer<>(String.class));
+
+		assertThat(stringReader.read(buffer), is(equalTo("\"foo\"")));
+		assertThat(jsonReader.read(buffer), is(equalTo("foo")));
+	}
+
+	@Test
+	public void shouldHonorDeserializeOverrideOfSubclass() {
+
+		DefaultRedisElementReader<String> reader = new DefaultRedisElementReader<>(new StringRedisSerializer() {
+
+			@Override
+			public String deserialize(byte[] bytes) {
+				return super.deserialize(bytes).substring("prefix:".length());
+			}
+		});
+
+		assertThat(reader.read(ByteBuffer.wrap("prefix:key".getBytes(StandardCharsets.UTF_8))), is(equalTo("key")));
+	}
+
+	@Test
+	public void shouldReturnBackingArrayForByteArraySerializer() {
+
+		byte[] bytes = { 1, 2, 3 };
+
+		DefaultRedisElementReader<byte[]> reader = new DefaultRedisElementReader<>(RedisSerializer.byteArray());
+
+		assertThat(reader.read(ByteBuffer.wrap(bytes)), is(sameInstance(bytes)));
+		assertThat(reader.read(ByteBuffer.wrap(bytes, 1, 2)), is(equalTo(new byte[] { 2, 3 })));
+	}
 }
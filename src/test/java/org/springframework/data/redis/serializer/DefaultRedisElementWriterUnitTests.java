@@ -73,4 +73,63 @@ public class DefaultRedisElementWriterUnitTests {
 
 		writer.write(new Object());
 	}
+
+	@Test
+	public void shouldSerializeJsonIntoByteBuffer() {
+
+		DefaultRedisElementWriter<Object> writer = new DefaultRedisElementWriter<>(new GenericJackson2JsonRedisSerializer());
+		DefaultRedisElementReader<Object> reader = new DefaultRedisElementReader<>(new GenericJackson2JsonRedisSerializer());
+
+		for (int i = 0; i < 3; i++) {
+
+			SimpleObject input = new SimpleObject(i, "value-" + i);
+			ByteBuffer result = writer.write(input);
+
+			assertThat(result.remaining(), is(new GenericJackson2JsonRedisSerializer().serialize(input).length));
+			assertThat(reader.read(result), is(equalTo(input)));
+		}
+	}
+
+	@Test
+	public void shouldHonorSerializeOverrideOfSubclass() {
+
+		DefaultRedisElementWriter<String> writer = new DefaultRedisElementWriter<>(new StringRedisSerializer() {
+
+			@Override
+			public byte[] serialize(String value) {
+				return super.serialize("prefix:" + value);
+			}
+		});
+
+		assertThat(writer.write("key").array(), is(equalTo("prefix:key".getBytes(StandardCharsets.UTF_8))));
+	}
+
+	static class SimpleObject {
+
+		public int id;
+		public String name;
+
+		SimpleObject() {}
+
+		SimpleObject(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (!(o instanceof SimpleObject)) {
+				return false;
+			}
+
+			SimpleObject that = (SimpleObject) o;
+			return id == that.id && name.equals(that.name);
+		}
+
+		@Override
+		public int hashCode() {
+			return id;
+		}
+	}
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link DoubleRedisSerializer}.
+ *
+ * @author Mark Paluch
+ */
+public class DoubleRedisSerializerUnitTests {
+
+	DoubleRedisSerializer serializer = DoubleRedisSerializer.INSTANCE;
+
+	@Test
+	public void shouldWriteIntegralValuesWithoutFraction() {
+
+		assertThat(serializer.serializeDouble(42.0)).isEqualTo(ascii("42"));
+		assertThat(serializer.serializeDouble(-1.0)).isEqualTo(ascii("-1"));
+		assertThat(serializer.serialize(0.0)).isEqualTo(ascii("0"));
+		assertThat(serializer.serializeDouble(-0.0)).isEqualTo(ascii("-0.0"));
+	}
+
+	@Test
+	public void shouldWriteDecimalValues() {
+
+		assertThat(serializer.serializeDouble(5.6)).isEqualTo(ascii("5.6"));
+		assertThat(serializer.serializeDouble(1e300)).isEqualTo(ascii("1.0E300"));
+		assertThat(serializer.serializeDouble(Double.NaN)).isEqualTo(ascii("NaN"));
+	}
+
+	@Test
+	public void shouldRoundtripValues() {
+
+		for (double value : new double[] { 0.0, -0.0, 1.0, 5.6, -10.5, 0.1, 1e22, 1e23, 1e-5, 0.30000000000000004,
+				Double.MIN_VALUE, Double.MAX_VALUE, Double.POSITIVE_INFINITY, 9007199254740993.0 }) {
+			assertThat(serializer.deserializeDouble(serializer.serializeDouble(value))).isEqualTo(value);
+		}
+	}
+
+	@Test
+	public void shouldReadRedisAndJavaRepresentations() {
+
+		for (String value : new String[] { "10.5", "3", "3.0", "3.", "-0.25", "+1.5", "1.0E10", "1e5", "123456789012345.6",
+				"0.30000000000000004", "Infinity" }) {
+			assertThat(serializer.deserializeDouble(ascii(value))).isEqualTo(Double.parseDouble(value));
+		}
+	}
+
+	@Test
+	public void shouldHandleNullValues() {
+
+		assertThat(serializer.serialize(null)).isNull();
+		assertThat(serializer.deserialize(null)).isNull();
+		assertThat(serializer.deserialize(new byte[0])).isNull();
+	}
+
+	@Test
+	public void shouldRejectInvalidValues() {
+
+		for (String value : new String[] { "-", ".", "1.2.3", "abc" }) {
+			assertThatExceptionOfType(SerializationException.class)
+					.isThrownBy(() -> serializer.deserializeDouble(ascii(value)));
+		}
+	}
+
+	private static byte[] ascii(String value) {
+		return value.getBytes(StandardCharsets.US_ASCII);
+	}
+}
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.redis.serializer;
 
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.core.Is.*;
 import static org.hamcrest.core.IsInstanceOf.*;
 import static org.hamcrest.core.IsNull.*;
@@ -24,6 +26,7 @@ import static org.springframework.test.util.ReflectionTestUtils.*;
 import static org.springframework.util.ObjectUtils.*;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -142,6 +145,50 @@ public class GenericJackson2JsonRedisSerializerUnitTests {
 		return mapper.getSerializationConfig().getDefaultTyper(TypeFactory.defaultInstance().constructType(Object.class));
 	}
 
+	@Test
+	public void shouldWriteTypeAliasesInsteadOfClassNames() {
+
+		SimpleTypeAliasRegistry registry = new SimpleTypeAliasRegistry().register(ComplexObject.class, "c")
+				.register(SimpleObject.class, "s");
+		GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(registry);
+
+		byte[] bytes = serializer.serialize(COMPLEX_OBJECT);
+		String json = new String(bytes, StandardCharsets.UTF_8);
+
+		assertThat(json, containsString("\"@class\":\"c\""));
+		assertThat(json, containsString("\"@class\":\"s\""));
+		assertThat(json, not(containsString(ComplexObject.class.getName())));
+		assertThat(serializer.deserialize(bytes), is((Object) COMPLEX_OBJECT));
+	}
+
+	@Test
+	public void shouldReadClassNamesWhenUsingTypeAliases() {
+
+		GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(
+				new SimpleTypeAliasRegistry().register(SimpleObject.class, "s"));
+
+		byte[] bytes = new GenericJackson2JsonRedisSerializer().serialize(COMPLEX_OBJECT);
+
+		assertThat(serializer.deserialize(bytes), is((Object) COMPLEX_OBJECT));
+	}
+
+	@Test
+	public void shouldUseCustomTypePropertyWithTypeAliases() {
+
+		GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer("_t",
+				new SimpleTypeAliasRegistry().register(SimpleObject.class, "s"));
+
+		byte[] bytes = serializer.serialize(SIMPLE_OBJECT);
+
+		assertThat(new String(bytes, StandardCharsets.UTF_8), containsString("\"_t\":\"s\""));
+		assertThat(serializer.deserialize(bytes), is((Object) SIMPLE_OBJECT));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectConflictingTypeAliases() {
+		new SimpleTypeAliasRegistry().register(SimpleObject.class, "s").register(ComplexObject.class, "s");
+	}
+
 	static class ComplexObject {
 
 		public String stringValue;
@@ -17,6 +17,7 @@ package org.springframework.data.redis.serializer;
 
 import static org.junit.Assert.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 import org.hamcrest.core.Is;
@@ -26,6 +27,9 @@ import org.junit.Test;
 import org.springframework.data.redis.Person;
 import org.springframework.data.redis.PersonObjectFactory;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
 /**
  * @author Thomas Darimont
  * @author Christoph Strobl
@@ -71,4 +75,22 @@ public class Jackson2JsonRedisSerializerTests {
 		serializer.setObjectMapper(null);
 	}
 
+	@Test
+	public void shouldApplyObjectMapperConfigurationChangedAfterFirstUse() {
+
+		ObjectMapper mapper = new ObjectMapper();
+		serializer.setObjectMapper(mapper);
+
+		Person person = new PersonObjectFactory().instance();
+		String compact = new String(serializer.serialize(person), StandardCharsets.UTF_8);
+
+		mapper.enable(SerializationFeature.INDENT_OUTPUT);
+
+		String indented = new String(serializer.serialize(person), StandardCharsets.UTF_8);
+
+		assertFalse(compact.contains("\n"));
+		assertTrue(indented.contains("\n"));
+		assertEquals(person, serializer.deserialize(indented.getBytes(StandardCharsets.UTF_8)));
+	}
+
 }
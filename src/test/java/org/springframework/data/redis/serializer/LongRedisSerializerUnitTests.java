@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LongRedisSerializer}.
+ *
+ * @author Mark Paluch
+ */
+public class LongRedisSerializerUnitTests {
+
+	LongRedisSerializer serializer = LongRedisSerializer.INSTANCE;
+
+	@Test
+	public void shouldSerializeAsciiDecimal() {
+
+		for (long value : new long[] { 0, 1, -1, 9, 10, -10, 4711, Long.MAX_VALUE, Long.MIN_VALUE }) {
+			assertThat(serializer.serializeLong(value)).isEqualTo(ascii(Long.toString(value)));
+			assertThat(serializer.serialize(value)).isEqualTo(ascii(Long.toString(value)));
+		}
+	}
+
+	@Test
+	public void shouldDeserializeAsciiDecimal() {
+
+		for (long value : new long[] { 0, 1, -1, 9, 10, -10, 4711, Long.MAX_VALUE, Long.MIN_VALUE }) {
+			assertThat(serializer.deserializeLong(ascii(Long.toString(value)))).isEqualTo(value);
+			assertThat(serializer.deserialize(ascii(Long.toString(value)))).isEqualTo(value);
+		}
+
+		assertThat(serializer.deserializeLong(ascii("+42"))).isEqualTo(42);
+	}
+
+	@Test
+	public void shouldHandleNullValues() {
+
+		assertThat(serializer.serialize(null)).isNull();
+		assertThat(serializer.deserialize(null)).isNull();
+		assertThat(serializer.deserialize(new byte[0])).isNull();
+	}
+
+	@Test
+	public void shouldRejectInvalidValues() {
+
+		for (String value : new String[] { "", "-", "4.2", "1e3", " 1", "9223372036854775808", "-9223372036854775809" }) {
+			assertThatExceptionOfType(SerializationException.class).isThrownBy(() -> serializer.deserializeLong(ascii(value)));
+		}
+	}
+
+	private static byte[] ascii(String value) {
+		return value.getBytes(StandardCharsets.US_ASCII);
+	}
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mapping.MappingException;
+
+/**
+ * Unit tests for {@link MappingBinaryRedisSerializer}.
+ *
+ * @author Mark Paluch
+ */
+public class MappingBinaryRedisSerializerUnitTests {
+
+	MappingBinaryRedisSerializer<Person> serializer = new MappingBinaryRedisSerializer<>(Person.class);
+
+	@Test
+	public void shouldRoundtripEntity() {
+
+		Person person = createPerson();
+
+		assertThat(serializer.deserialize(serializer.serialize(person))).isEqualTo(person);
+	}
+
+	@Test
+	public void shouldRoundtripAbsentValues() {
+
+		Person person = new Person();
+		person.setAge(42);
+
+		assertThat(serializer.deserialize(serializer.serialize(person))).isEqualTo(person);
+	}
+
+	@Test
+	public void shouldRoundtripImmutableEntity() {
+
+		MappingBinaryRedisSerializer<Coordinates> serializer = new MappingBinaryRedisSerializer<>(Coordinates.class);
+		Coordinates coordinates = new Coordinates("home", 52.52, -13.4, new int[] { 1, 2, 3 });
+
+		Coordinates result = serializer.deserialize(serializer.serialize(coordinates));
+
+		assertThat(result.getName()).isEqualTo("home");
+		assertThat(result.getLatitude()).isEqualTo(52.52);
+		assertThat(result.getLongitude()).isEqualTo(-13.4);
+		assertThat(result.getZoomLevels()).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	public void shouldRoundtripSelfReferencingEntity() {
+
+		MappingBinaryRedisSerializer<Node> serializer = new MappingBinaryRedisSerializer<>(Node.class);
+
+		Node node = new Node();
+		node.setName("root");
+		node.setNext(new Node());
+		node.getNext().setName("leaf");
+
+		assertThat(serializer.deserialize(serializer.serialize(node))).isEqualTo(node);
+	}
+
+	@Test
+	public void shouldWriteValuesMoreCompactThanJson() {
+
+		Person person = createPerson();
+
+		byte[] binary = serializer.serialize(person);
+		byte[] json = new GenericJackson2JsonRedisSerializer().serialize(person);
+
+		assertThat(binary.length * 3).isLessThan(json.length);
+	}
+
+	@Test
+	public void shouldReadFromBufferWithoutChangingPosition() {
+
+		Person person = createPerson();
+		ByteBuffer buffer = serializer.serializeToBuffer(person);
+		int position = buffer.position();
+
+		assertThat(serializer.deserializeFromBuffer(buffer)).isEqualTo(person);
+		assertThat(buffer.position()).isEqualTo(position);
+	}
+
+	@Test
+	public void shouldHandleNullValues() {
+
+		assertThat(serializer.serialize(null)).isEmpty();
+		assertThat(serializer.deserialize(null)).isNull();
+		assertThat(serializer.deserialize(new byte[0])).isNull();
+	}
+
+	@Test
+	public void shouldRejectValuesWrittenWithDifferentSchema() {
+
+		MappingBinaryRedisSerializer<Node> other = new MappingBinaryRedisSerializer<>(Node.class);
+
+		Node node = new Node();
+		node.setName("root");
+
+		assertThat(other.getSchemaVersion()).isNotEqualTo(serializer.getSchemaVersion());
+		assertThatExceptionOfType(SerializationException.class)
+				.isThrownBy(() -> serializer.deserialize(other.serialize(node)));
+	}
+
+	@Test
+	public void shouldRejectTruncatedValues() {
+
+		byte[] serialized = serializer.serialize(createPerson());
+
+		assertThatExceptionOfType(SerializationException.class)
+				.isThrownBy(() -> serializer.deserialize(Arrays.copyOf(serialized, serialized.length - 3)));
+	}
+
+	@Test
+	public void shouldRejectUnsupportedPropertyTypes() {
+
+		assertThatExceptionOfType(MappingException.class)
+				.isThrownBy(() -> new MappingBinaryRedisSerializer<>(WithUnsupportedProperty.class))
+				.withMessageContaining("value");
+	}
+
+	@Test
+	public void shouldRejectSubtypes() {
+
+		Employee employee = new Employee();
+		employee.setCompany("Gray Matter");
+
+		Person person = createPerson();
+		person.setAddress(new PostalAddress());
+
+		assertThatExceptionOfType(SerializationException.class).isThrownBy(() -> serializer.serialize(employee))
+				.withMessageContaining(Employee.class.getName());
+		assertThatExceptionOfType(SerializationException.class).isThrownBy(() -> serializer.serialize(person))
+				.withMessageContaining(PostalAddress.class.getName());
+	}
+
+	private static Person createPerson() {
+
+		Address address = new Address();
+		address.setCity("Berlin");
+		address.setZip("10179");
+
+		Map<String, Integer> scores = new LinkedHashMap<>();
+		scores.put("chess", 1800);
+		scores.put("go", null);
+
+		Person person = new Person();
+		person.setId(UUID.fromString("3f0d1e4c-5b6a-4f8e-9d2c-1a7b6c5d4e3f"));
+		person.setFirstname("Walter");
+		person.setLastname("White");
+		person.setAge(50);
+		person.setBalance(-1250L);
+		person.setActive(true);
+		person.setGender(Gender.MALE);
+		person.setBirthdate(LocalDate.of(1958, 9, 7));
+		person.setLastLogin(Instant.ofEpochSecond(1546300800L, 42));
+		person.setAddress(address);
+		person.setNicknames(Arrays.asList("Heisenberg", null, "Mr. White"));
+		person.setRoles(Collections.singleton(Gender.FEMALE));
+		person.setScores(scores);
+
+		return person;
+	}
+
+	enum Gender {
+		MALE, FEMALE
+	}
+
+	@Data
+	static class Person {
+
+		@Id UUID id;
+		String firstname;
+		String lastname;
+		int age;
+		Long balance;
+		boolean active;
+		Gender gender;
+		LocalDate birthdate;
+		Instant lastLogin;
+		Address address;
+		List<String> nicknames;
+		Set<Gender> roles;
+		Map<String, Integer> scores;
+	}
+
+	@Data
+	static class Address {
+
+		String city;
+		String zip;
+	}
+
+	@Data
+	@EqualsAndHashCode(callSuper = true)
+	static class Employee extends Person {
+
+		String company;
+	}
+
+	static class PostalAddress extends Address {
+
+		String poBox;
+	}
+
+	@Value
+	static class Coordinates {
+
+		String name;
+		double latitude;
+		double longitude;
+		int[] zoomLevels;
+	}
+
+	@Data
+	static class Node {
+
+		String name;
+		Node next;
+	}
+
+	@Data
+	static class WithUnsupportedProperty {
+
+		Object value;
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * Unit tests for {@link RedisTypeAliasRegistry}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class RedisTypeAliasRegistryUnitTests {
+
+	static final byte[] KEY = bytes("aliases");
+
+	@Mock RedisConnectionFactory connectionFactory;
+	@Mock RedisConnection connection;
+
+	RedisTypeAliasRegistry registry;
+
+	@Before
+	public void setUp() {
+
+		when(connectionFactory.getConnection()).thenReturn(connection);
+
+		registry = new RedisTypeAliasRegistry(connectionFactory, "aliases");
+	}
+
+	@Test
+	public void shouldAssignAliasOnce() {
+
+		when(connection.hIncrBy(KEY, bytes("~sequence"), 1)).thenReturn(7L);
+		when(connection.hSetNX(KEY, bytes("type:java.lang.Object"), bytes("7"))).thenReturn(true);
+
+		assertThat(registry.getAlias("java.lang.Object")).isEqualTo("7");
+		assertThat(registry.getAlias("java.lang.Object")).isEqualTo("7");
+		assertThat(registry.getTypeId("7")).isEqualTo("java.lang.Object");
+
+		verify(connection).hSet(KEY, bytes("alias:7"), bytes("java.lang.Object"));
+		verify(connection).hIncrBy(KEY, bytes("~sequence"), 1);
+		verify(connection).close();
+	}
+
+	@Test
+	public void shouldUseConcurrentlyAssignedAlias() {
+
+		when(connection.hGet(KEY, bytes("type:java.lang.Object"))).thenReturn(null, bytes("3"));
+		when(connection.hIncrBy(KEY, bytes("~sequence"), 1)).thenReturn(7L);
+		when(connection.hSetNX(KEY, bytes("type:java.lang.Object"), bytes("7"))).thenReturn(false);
+
+		assertThat(registry.getAlias("java.lang.Object")).isEqualTo("3");
+	}
+
+	@Test
+	public void shouldResolveAliasFromRedis() {
+
+		when(connection.hGet(KEY, bytes("alias:3"))).thenReturn(bytes("java.lang.Object"));
+
+		assertThat(registry.getTypeId("3")).isEqualTo("java.lang.Object");
+		assertThat(registry.getTypeId("3")).isEqualTo("java.lang.Object");
+		assertThat(registry.getAlias("java.lang.Object")).isEqualTo("3");
+
+		verify(connectionFactory).getConnection();
+	}
+
+	@Test
+	public void shouldNotLookUpClassNames() {
+
+		assertThat(registry.getTypeId("java.lang.Object")).isNull();
+
+		verifyZeroInteractions(connectionFactory);
+	}
+
+	@Test
+	public void shouldFallBackToClassNameIfRedisIsNotAvailable() {
+
+		when(connection.hGet(any(), any())).thenThrow(new RedisConnectionFailureException("down"));
+
+		assertThat(registry.getAlias("java.lang.Object")).isNull();
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -18,6 +18,9 @@ package org.springframework.data.redis.serializer;
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.UUID;
 
@@ -99,6 +102,28 @@ public class SimpleRedisSerializerTests {
 		}
 	}
 
+	private static class C implements Serializable {
+
+		private transient String value;
+		private byte[] nested;
+
+		C(String value) {
+			this.value = value;
+		}
+
+		private void writeObject(ObjectOutputStream out) throws IOException {
+
+			nested = new JdkSerializationRedisSerializer().serialize(value);
+			out.defaultWriteObject();
+		}
+
+		private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+
+			in.defaultReadObject();
+			value = (String) new JdkSerializationRedisSerializer().deserialize(nested);
+		}
+	}
+
 	private RedisSerializer serializer;
 
 	@Before
@@ -123,6 +148,22 @@ public class SimpleRedisSerializerTests {
 		}
 	}
 
+	@Test
+	public void jdkSerializerShouldSerializeNestedValues() {
+
+		String value = UUID.randomUUID().toString();
+
+		C deserialized = (C) serializer.deserialize(serializer.serialize(new C(value)));
+
+		assertThat(deserialized.value, is(equalTo(value)));
+		assertEquals(value, serializer.deserialize(serializer.serialize(value)));
+	}
+
+	@Test(expected = SerializationException.class)
+	public void jdkSerializerShouldRejectNonSerializableObjects() {
+		serializer.serialize(new Object());
+	}
+
 	@Test // DATAREDIS-427
 	public void jdkSerializerShouldUseCustomClassLoader() throws ClassNotFoundException {
 